@@ -43,6 +43,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -202,7 +203,8 @@ class GrizzlyConnector implements Connector {
         final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(request.getHeaders(), connectorRequest);
 
         final SettableFuture<ClientResponse> responseFuture = SettableFuture.create();
-        final ByteBufferInputStream entityStream = new ByteBufferInputStream();
+        final EntityStreamDemand demand = new EntityStreamDemand();
+        final ByteBufferInputStream entityStream = createEntityStream(request, demand);
         final AtomicBoolean futureSet = new AtomicBoolean(false);
 
         try {
@@ -231,6 +233,7 @@ class GrizzlyConnector implements Connector {
                 @Override
                 public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
                     entityStream.put(bodyPart.getBodyByteBuffer());
+                    demand.awaitDemand();
                     return STATE.CONTINUE;
                 }
 
@@ -266,7 +269,8 @@ class GrizzlyConnector implements Connector {
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
         final Request connectorRequest = translate(request);
         final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(request.getHeaders(), connectorRequest);
-        final ByteBufferInputStream entityStream = new ByteBufferInputStream();
+        final EntityStreamDemand demand = new EntityStreamDemand();
+        final ByteBufferInputStream entityStream = createEntityStream(request, demand);
         final AtomicBoolean callbackInvoked = new AtomicBoolean(false);
 
         Throwable failure;
@@ -296,6 +300,7 @@ class GrizzlyConnector implements Connector {
                 @Override
                 public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
                     entityStream.put(bodyPart.getBodyByteBuffer());
+                    demand.awaitDemand();
                     return STATE.CONTINUE;
                 }
 
@@ -334,6 +339,54 @@ class GrizzlyConnector implements Connector {
         grizzlyClient.close();
     }
 
+    private static ByteBufferInputStream createEntityStream(final ClientRequest request, final EntityStreamDemand demand) {
+        final int highWatermark = request.resolveProperty(ClientProperties.RESPONSE_BUFFER_HIGH_WATERMARK, 0);
+        final int lowWatermark = request.resolveProperty(ClientProperties.RESPONSE_BUFFER_LOW_WATERMARK, highWatermark / 2);
+        return new ByteBufferInputStream(demand, highWatermark, Math.max(0, Math.min(lowWatermark, highWatermark)));
+    }
+
+    /**
+     * Response entity stream demand callback.
+     * <p>
+     * The async HTTP client does not provide any means to suspend reading on the underlying connection, hence
+     * the connection is paused by blocking the thread that delivers the response body parts in {@link #awaitDemand()}
+     * once a body part has been queued, until the demand is resumed. The callback methods themselves never block.
+     * Note that the blocked thread cannot serve other connections while the reader does not consume the content.
+     * The body part buffers are owned by the async HTTP client and are not pooled by the connector.
+     * </p>
+     */
+    private static final class EntityStreamDemand implements ByteBufferInputStream.DemandCallback {
+
+        private boolean suspended = false;
+
+        @Override
+        public synchronized void suspend() {
+            suspended = true;
+        }
+
+        @Override
+        public synchronized void resume() {
+            suspended = false;
+            notifyAll();
+        }
+
+        @Override
+        public void release(final ByteBuffer buffer) {
+            // nothing to do, buffers are not pooled
+        }
+
+        /**
+         * Block the calling thread while the demand is suspended.
+         *
+         * @throws InterruptedException in case the waiting thread has been interrupted.
+         */
+        synchronized void awaitDemand() throws InterruptedException {
+            while (suspended) {
+                wait();
+            }
+        }
+    }
+
     private ClientResponse translate(final ClientRequest requestContext,
                                      final HttpResponseStatus status,
                                      final HttpResponseHeaders headers,
@@ -39,11 +39,9 @@
  */
 package org.glassfish.jersey.jetty.connector;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.CookieStore;
 import java.net.URI;
@@ -52,12 +50,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
@@ -70,6 +68,7 @@ import org.glassfish.jersey.SslConfigurator;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
@@ -84,16 +83,18 @@ import org.eclipse.jetty.client.HttpProxy;
 import org.eclipse.jetty.client.ProxyConfiguration;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.ContentProvider;
-import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BasicAuthentication;
 import org.eclipse.jetty.client.util.BytesContentProvider;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
 import org.eclipse.jetty.client.util.OutputStreamContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.io.ByteBufferPool;
+import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.HttpCookieStore;
 import org.eclipse.jetty.util.Jetty;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
@@ -144,8 +145,13 @@ import jersey.repackaged.com.google.common.util.concurrent.SettableFuture;
  * }
  * </pre>
  * <p>
- * This connector supports only {@link org.glassfish.jersey.client.RequestEntityProcessing#BUFFERED entity buffering}.
- * Defining the property {@link ClientProperties#REQUEST_ENTITY_PROCESSING} has no effect on this connector.
+ * Synchronous requests stream both the request and the response entity. The request entity is sent using
+ * the chunked transfer encoding unless {@link org.glassfish.jersey.client.RequestEntityProcessing#BUFFERED entity
+ * buffering} is configured via the {@link ClientProperties#REQUEST_ENTITY_PROCESSING} property. The response entity
+ * can be read as soon as the response headers are received. Asynchronous requests always buffer the request entity.
+ * The amount of response entity data queued by asynchronous requests can be limited using the
+ * {@link ClientProperties#RESPONSE_BUFFER_HIGH_WATERMARK} and {@link ClientProperties#RESPONSE_BUFFER_LOW_WATERMARK}
+ * properties.
  * </p>
  *
  * @author Arul Dhesiaseelan (aruld at acm.org)
@@ -153,8 +159,6 @@ import jersey.repackaged.com.google.common.util.concurrent.SettableFuture;
  */
 class JettyConnector implements Connector {
 
-    private static final Logger LOGGER = Logger.getLogger(JettyConnector.class.getName());
-
     private final HttpClient client;
     private final CookieStore cookieStore;
 
@@ -254,14 +258,23 @@ class JettyConnector implements Connector {
     @Override
     public ClientResponse apply(final ClientRequest jerseyRequest) throws ProcessingException {
         final Request jettyRequest = translateRequest(jerseyRequest);
-        final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(jerseyRequest.getHeaders(), jettyRequest);
-        final ContentProvider entity = getBytesProvider(jerseyRequest);
-        if (entity != null) {
-            jettyRequest.content(entity);
+        final StreamingResponseListener responseListener = new StreamingResponseListener();
+        final Map<String, String> clientHeadersSnapshot;
+
+        if (!jerseyRequest.hasEntity()) {
+            clientHeadersSnapshot = writeOutBoundHeaders(jerseyRequest.getHeaders(), jettyRequest);
+            jettyRequest.send(responseListener);
+        } else if (jerseyRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.class)
+                == RequestEntityProcessing.BUFFERED) {
+            jettyRequest.content(getBytesProvider(jerseyRequest));
+            clientHeadersSnapshot = writeOutBoundHeaders(jerseyRequest.getHeaders(), jettyRequest);
+            jettyRequest.send(responseListener);
+        } else {
+            clientHeadersSnapshot = sendStreamedEntity(jerseyRequest, jettyRequest, responseListener);
         }
 
         try {
-            final ContentResponse jettyResponse = jettyRequest.send();
+            final Response jettyResponse = responseListener.get(getTimeout(jettyRequest), TimeUnit.MILLISECONDS);
             HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, jerseyRequest.getHeaders(),
                     JettyConnector.this.getClass().getName());
 
@@ -271,16 +284,61 @@ class JettyConnector implements Connector {
 
             final ClientResponse jerseyResponse = new ClientResponse(status, jerseyRequest);
             processResponseHeaders(jettyResponse.getHeaders(), jerseyResponse);
-            try {
-                jerseyResponse.setEntityStream(new HttpClientResponseInputStream(jettyResponse));
-            } catch (final IOException e) {
-                LOGGER.log(Level.SEVERE, null, e);
-            }
+            jerseyResponse.setEntityStream(new HttpClientResponseInputStream(jettyRequest, responseListener));
 
             return jerseyResponse;
-        } catch (final Exception e) {
+        } catch (final TimeoutException e) {
+            jettyRequest.abort(e);
             throw new ProcessingException(e);
+        } catch (final ExecutionException e) {
+            // request timeout enforced by Jetty itself is reported the same way as the response timeout
+            throw new ProcessingException(e.getCause() instanceof TimeoutException ? e.getCause() : e);
+        } catch (final InterruptedException e) {
+            jettyRequest.abort(e);
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        }
+    }
+
+    /**
+     * Send the request and stream the request entity to it.
+     * <p>
+     * The request is sent once the entity stream is committed, so that the headers modified by the entity
+     * providers are sent too. The entity is then written directly to the connection.
+     * </p>
+     *
+     * @return snapshot of the sent request headers.
+     */
+    private Map<String, String> sendStreamedEntity(final ClientRequest jerseyRequest, final Request jettyRequest,
+                                                   final Response.Listener responseListener) {
+        final OutputStreamContentProvider streamContentProvider = new OutputStreamContentProvider();
+        jettyRequest.content(streamContentProvider);
+
+        final AtomicReference<Map<String, String>> clientHeadersSnapshot = new AtomicReference<Map<String, String>>();
+        jerseyRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
+            @Override
+            public OutputStream getOutputStream(final int contentLength) throws IOException {
+                clientHeadersSnapshot.set(writeOutBoundHeaders(jerseyRequest.getHeaders(), jettyRequest));
+                jettyRequest.send(responseListener);
+                return streamContentProvider.getOutputStream();
+            }
+        });
+
+        try {
+            jerseyRequest.writeEntity();
+        } catch (final IOException e) {
+            jettyRequest.abort(e);
+            throw new ProcessingException("Failed to write request entity.", e);
+        } catch (final RuntimeException e) {
+            jettyRequest.abort(e);
+            throw e;
         }
+        return clientHeadersSnapshot.get();
+    }
+
+    private static long getTimeout(final Request jettyRequest) {
+        // Request#send() waits without limit too if the request timeout is not set
+        return jettyRequest.getTimeout() > 0 ? jettyRequest.getTimeout() : Long.MAX_VALUE;
     }
 
     private static void processResponseHeaders(final HttpFields respHeaders, final ClientResponse jerseyResponse) {
@@ -296,13 +354,44 @@ class JettyConnector implements Connector {
         }
     }
 
+    /**
+     * Response listener that makes the response entity available as an input stream as soon as the response
+     * headers are received.
+     */
+    private static final class StreamingResponseListener extends InputStreamResponseListener {
+
+        private volatile boolean complete = false;
+
+        @Override
+        public void onComplete(final Result result) {
+            complete = true;
+            super.onComplete(result);
+        }
+    }
+
+    /**
+     * Response entity stream that aborts the exchange if closed before the whole response has been received.
+     */
     private static final class HttpClientResponseInputStream extends FilterInputStream {
-        HttpClientResponseInputStream(final ContentResponse jettyResponse) throws IOException {
-            super(getInputStream(jettyResponse));
+
+        private final Request jettyRequest;
+        private final StreamingResponseListener responseListener;
+
+        HttpClientResponseInputStream(final Request jettyRequest, final StreamingResponseListener responseListener) {
+            super(responseListener.getInputStream());
+            this.jettyRequest = jettyRequest;
+            this.responseListener = responseListener;
         }
 
-        private static InputStream getInputStream(final ContentResponse response) {
-            return new ByteArrayInputStream(response.getContent());
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!responseListener.complete) {
+                    jettyRequest.abort(new IOException(LocalizationMessages.RESPONSE_STREAM_CLOSED()));
+                }
+            }
         }
     }
 
@@ -404,7 +493,8 @@ class JettyConnector implements Connector {
                 }
             });
             final AtomicReference<ClientResponse> jerseyResponse = new AtomicReference<ClientResponse>();
-            final ByteBufferInputStream entityStream = new ByteBufferInputStream();
+            final EntityStreamDemand demand = new EntityStreamDemand(client.getByteBufferPool());
+            final ByteBufferInputStream entityStream = createEntityStream(jerseyRequest, demand);
             jettyRequest.send(new Response.Listener.Adapter() {
 
                 @Override
@@ -424,7 +514,20 @@ class JettyConnector implements Connector {
                 @Override
                 public void onContent(final Response jettyResponse, final ByteBuffer content) {
                     try {
-                        entityStream.put(content);
+                        // the content buffer is only valid during this callback, hence a pooled copy is queued
+                        final ByteBuffer copy = demand.copy(content);
+                        boolean queued = false;
+                        try {
+                            queued = entityStream.put(copy);
+                        } finally {
+                            if (!queued) {
+                                // the stream has been closed (or the put interrupted), nobody is going to release the copy
+                                demand.release(copy);
+                            }
+                        }
+                        if (queued) {
+                            demand.awaitDemand();
+                        }
                     } catch (final InterruptedException ex) {
                         final ProcessingException pe = new ProcessingException(ex);
                         entityStream.closeQueue(pe);
@@ -462,6 +565,73 @@ class JettyConnector implements Connector {
         return Futures.immediateFailedFuture(failure);
     }
 
+    private static ByteBufferInputStream createEntityStream(final ClientRequest request, final EntityStreamDemand demand) {
+        final int highWatermark = request.resolveProperty(ClientProperties.RESPONSE_BUFFER_HIGH_WATERMARK, 0);
+        final int lowWatermark = request.resolveProperty(ClientProperties.RESPONSE_BUFFER_LOW_WATERMARK, highWatermark / 2);
+        return new ByteBufferInputStream(demand, highWatermark, Math.max(0, Math.min(lowWatermark, highWatermark)));
+    }
+
+    /**
+     * Response entity stream demand callback.
+     * <p>
+     * Jetty HTTP client delivers the response content from the thread that reads the connection and provides no means
+     * to pause reading, hence the connection is paused by blocking that thread in {@link #awaitDemand()} once the content
+     * has been queued, until the demand is resumed. The callback methods themselves never block. Note that the blocked
+     * thread cannot serve other connections while the reader does not consume the content. The queued content is copied
+     * into buffers acquired from the client {@link ByteBufferPool buffer pool}; consumed buffers are returned to the pool.
+     * </p>
+     */
+    private static final class EntityStreamDemand implements ByteBufferInputStream.DemandCallback {
+
+        private final ByteBufferPool bufferPool;
+        private boolean suspended = false;
+
+        private EntityStreamDemand(final ByteBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+        }
+
+        @Override
+        public synchronized void suspend() {
+            suspended = true;
+        }
+
+        @Override
+        public synchronized void resume() {
+            suspended = false;
+            notifyAll();
+        }
+
+        @Override
+        public void release(final ByteBuffer buffer) {
+            bufferPool.release(buffer);
+        }
+
+        /**
+         * Copy the content into a buffer acquired from the pool.
+         *
+         * @param content content to be copied.
+         * @return pooled buffer containing the content, ready to be read.
+         */
+        ByteBuffer copy(final ByteBuffer content) {
+            final ByteBuffer buffer = bufferPool.acquire(content.remaining(), false);
+            final int position = BufferUtil.flipToFill(buffer);
+            buffer.put(content);
+            BufferUtil.flipToFlush(buffer, position);
+            return buffer;
+        }
+
+        /**
+         * Block the calling thread while the demand is suspended.
+         *
+         * @throws InterruptedException in case the waiting thread has been interrupted.
+         */
+        synchronized void awaitDemand() throws InterruptedException {
+            while (suspended) {
+                wait();
+            }
+        }
+    }
+
     private static ClientResponse translateResponse(final ClientRequest jerseyRequest,
                                                     final org.eclipse.jetty.client.api.Response jettyResponse,
                                                     final NonBlockingInputStream entityStream) {
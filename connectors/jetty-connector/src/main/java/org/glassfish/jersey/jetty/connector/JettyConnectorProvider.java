@@ -92,10 +92,11 @@ import org.eclipse.jetty.client.HttpClient;
  * }
  * </pre>
  * <p>
- * Connector instances created via Jetty HTTP Client-based connector provider support only
- * {@link org.glassfish.jersey.client.RequestEntityProcessing#BUFFERED entity buffering}.
- * Defining the property {@link org.glassfish.jersey.client.ClientProperties#REQUEST_ENTITY_PROCESSING} has no
- * effect on Jetty HTTP Client-based connectors.
+ * Connector instances created via Jetty HTTP Client-based connector provider stream the request entity of synchronous
+ * requests using the chunked transfer encoding by default. This can be overridden by setting the
+ * {@link org.glassfish.jersey.client.ClientProperties#REQUEST_ENTITY_PROCESSING} property to
+ * {@link org.glassfish.jersey.client.RequestEntityProcessing#BUFFERED}. Request entities of asynchronous requests
+ * are always buffered. Response entities are streamed in both cases.
  * </p>
  *
  * @author Arul Dhesiaseelan (aruld at acm.org)
@@ -0,0 +1,192 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.jetty.connector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests streaming of request and response entities by the synchronous Jetty connector.
+ */
+public class StreamingTest extends JerseyTest {
+
+    private static final int ENTITY_SIZE = 32 * 1024 * 1024;
+
+    private static final CountDownLatch HEADERS_RECEIVED = new CountDownLatch(1);
+
+    @Path("/streaming")
+    public static class StreamingResource {
+
+        @GET
+        @Path("large")
+        public StreamingOutput getLarge() {
+            return new StreamingOutput() {
+                @Override
+                public void write(final OutputStream output) throws IOException, WebApplicationException {
+                    final byte[] buffer = new byte[8192];
+                    Arrays.fill(buffer, (byte) 'a');
+                    for (int written = 0; written < ENTITY_SIZE; written += buffer.length) {
+                        output.write(buffer);
+                    }
+                }
+            };
+        }
+
+        @GET
+        @Path("incremental")
+        public StreamingOutput getIncremental() {
+            return new StreamingOutput() {
+                @Override
+                public void write(final OutputStream output) throws IOException, WebApplicationException {
+                    output.write("first".getBytes());
+                    output.flush();
+                    try {
+                        output.write(HEADERS_RECEIVED.await(10, TimeUnit.SECONDS) ? "second".getBytes() : "timeout".getBytes());
+                    } catch (final InterruptedException e) {
+                        throw new WebApplicationException(e);
+                    }
+                }
+            };
+        }
+
+        @POST
+        @Path("count")
+        public String count(final InputStream entity) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long count = 0;
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                count += read;
+            }
+            return Long.toString(count);
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(StreamingResource.class);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.connectorProvider(new JettyConnectorProvider());
+    }
+
+    @Test
+    public void testLargeResponse() throws IOException {
+        final Response response = target("streaming/large").request().get();
+        assertEquals(200, response.getStatus());
+
+        final InputStream entity = response.readEntity(InputStream.class);
+        final byte[] buffer = new byte[8192];
+        long count = 0;
+        int read;
+        while ((read = entity.read(buffer)) != -1) {
+            count += read;
+        }
+        entity.close();
+
+        assertEquals(ENTITY_SIZE, count);
+    }
+
+    @Test
+    public void testResponseReadableBeforeCompleted() {
+        final Response response = target("streaming/incremental").request().get();
+        assertEquals(200, response.getStatus());
+        HEADERS_RECEIVED.countDown();
+
+        assertEquals("firstsecond", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testLargeRequest() {
+        final Response response = target("streaming/count").request()
+                .post(Entity.entity(new LargeOutput(), MediaType.APPLICATION_OCTET_STREAM_TYPE));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(Integer.toString(ENTITY_SIZE), response.readEntity(String.class));
+    }
+
+    @Test
+    public void testBufferedRequest() {
+        final Response response = target("streaming/count")
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED)
+                .request()
+                .post(Entity.entity(new byte[1000], MediaType.APPLICATION_OCTET_STREAM_TYPE));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("1000", response.readEntity(String.class));
+    }
+
+    private static class LargeOutput implements StreamingOutput {
+
+        @Override
+        public void write(final OutputStream output) throws IOException, WebApplicationException {
+            final byte[] buffer = new byte[8192];
+            for (int written = 0; written < ENTITY_SIZE; written += buffer.length) {
+                output.write(buffer);
+            }
+        }
+    }
+}
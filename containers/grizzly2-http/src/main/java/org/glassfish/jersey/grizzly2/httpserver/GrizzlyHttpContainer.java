@@ -39,22 +39,21 @@
  */
 package org.glassfish.jersey.grizzly2.httpserver;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.SecurityContext;
-import javax.ws.rs.core.UriBuilder;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -63,6 +62,7 @@ import org.glassfish.jersey.grizzly2.httpserver.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.message.internal.ReadThroughHeaders;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
@@ -75,17 +75,26 @@ import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.server.spi.FileRegionWriter;
 import org.glassfish.jersey.server.spi.RequestScopedInitializer;
+import org.glassfish.jersey.uri.UriComponent;
 
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.api.TypeLiteral;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 
 import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.FileTransfer;
+import org.glassfish.grizzly.WriteResult;
+import org.glassfish.grizzly.http.HttpResponsePacket;
 import org.glassfish.grizzly.http.server.HttpHandler;
 import org.glassfish.grizzly.http.server.Request;
 import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.utils.Charsets;
+import org.glassfish.grizzly.utils.Futures;
+
+import jersey.repackaged.com.google.common.collect.Lists;
 
 /**
  * Jersey {@code Container} implementation based on Grizzly {@link org.glassfish.grizzly.http.server.HttpHandler}.
@@ -178,7 +187,7 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
         }
     };
 
-    private static final class ResponseWriter implements ContainerResponseWriter {
+    private static final class ResponseWriter implements ContainerResponseWriter, FileRegionWriter {
 
         private final String name;
         private final Response grizzlyResponse;
@@ -273,6 +282,36 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
             }
         }
 
+        @Override
+        public boolean writeFileRegion(final File file, final long position, final long count) throws IOException {
+            try {
+                final HttpResponsePacket response = grizzlyResponse.getResponse();
+                // the file transfer bypasses the HTTP codec - it can't be used for chunked, compressed or SSL encrypted
+                // responses
+                if (!response.isCommitted() || response.isChunked() || !response.getContentEncodings().isEmpty()
+                        || grizzlyResponse.getRequest().isSecure()) {
+                    return false;
+                }
+
+                // the region is transferred from the file to the connection using sendfile (if supported by the OS)
+                final FutureImpl<WriteResult> future = Futures.createSafeFuture();
+                grizzlyResponse.getRequest().getContext().write(
+                        new FileTransfer(file, position, count), Futures.toCompletionHandler(future));
+                try {
+                    future.get();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                }
+                return true;
+            } finally {
+                logger.debugLog("{0} - writeFileRegion(...) called", name);
+            }
+        }
+
         @Override
         @SuppressWarnings("MagicNumber")
         public void failure(final Throwable error) {
@@ -357,14 +396,23 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
         final ResponseWriter responseWriter = new ResponseWriter(response, configSetStatusOverSendError);
         try {
             logger.debugLog("GrizzlyHttpContainer.service(...) started");
-            final URI baseUri = getBaseUri(request);
-            final ContainerRequest requestContext = new ContainerRequest(baseUri,
-                    getRequestUri(baseUri, request), request.getMethod().getMethodString(),
-                    getSecurityContext(request), new GrizzlyRequestPropertiesDelegate(request));
+            final ContainerRequest requestContext = new ContainerRequest(getBaseUri(request),
+                    getRequestPath(request), ContainerUtils.encodeUnsafeCharacters(request.getQueryString()),
+                    request.getMethod().getMethodString(), getSecurityContext(request),
+                    new GrizzlyRequestPropertiesDelegate(request));
             requestContext.setEntityStream(request.getInputStream());
-            for (final String headerName : request.getHeaderNames()) {
-                requestContext.headers(headerName, request.getHeaders(headerName));
-            }
+            requestContext.headers(new ReadThroughHeaders.Source() {
+
+                @Override
+                public Iterable<String> getNames() {
+                    return request.getHeaderNames();
+                }
+
+                @Override
+                public List<String> getValues(final String name) {
+                    return Lists.newArrayList(request.getHeaders(name));
+                }
+            });
             requestContext.setWriter(responseWriter);
 
             requestContext.setRequestScopedInitializer(new RequestScopedInitializer() {
@@ -438,13 +486,9 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
         };
     }
 
-    private URI getBaseUri(final Request request) {
-        try {
-            return new URI(request.getScheme(), null, request.getServerName(),
-                    request.getServerPort(), getBasePath(request), null, null);
-        } catch (final URISyntaxException ex) {
-            throw new IllegalArgumentException(ex);
-        }
+    private String getBaseUri(final Request request) {
+        return ContainerUtils.getAbsoluteUri(request.getScheme(), request.getServerName(),
+                request.getServerPort(), getBasePath(request));
     }
 
     private String getBasePath(final Request request) {
@@ -459,18 +503,10 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
         }
     }
 
-    private URI getRequestUri(final URI baseUri, final Request grizzlyRequest) {
-        // TODO: this is terrible, there must be a way to obtain the original request URI!
-        String originalUri = UriBuilder.fromPath(
-                grizzlyRequest.getRequest().getRequestURIRef().getOriginalRequestURIBC().toString(Charsets.ASCII_CHARSET)
-        ).build().toString();
-
-        final String queryString = grizzlyRequest.getQueryString();
-        if (queryString != null) {
-            originalUri = originalUri + "?" + ContainerUtils.encodeUnsafeCharacters(queryString);
-        }
-
-        return baseUri.resolve(originalUri);
+    private String getRequestPath(final Request grizzlyRequest) {
+        return UriComponent.contextualEncode(
+                grizzlyRequest.getRequest().getRequestURIRef().getOriginalRequestURIBC().toString(Charsets.ASCII_CHARSET),
+                UriComponent.Type.PATH);
     }
 
     /**
@@ -44,10 +44,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
@@ -60,15 +60,20 @@ import javax.ws.rs.core.UriBuilder;
 
 import org.glassfish.jersey.internal.MapPropertiesDelegate;
 import org.glassfish.jersey.jdkhttp.internal.LocalizationMessages;
+import org.glassfish.jersey.message.internal.ReadThroughHeaders;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.internal.ConfigHelper;
+import org.glassfish.jersey.server.internal.ContainerUtils;
+import org.glassfish.jersey.server.internal.JerseyRequestTimeoutHandler;
+import org.glassfish.jersey.server.internal.RuntimeExecutorsBinder;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.uri.UriComponent;
 
 import org.glassfish.hk2.api.ServiceLocator;
 
@@ -89,6 +94,7 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
 
     private volatile ApplicationHandler appHandler;
     private volatile ContainerLifecycleListener containerListener;
+    private volatile ScheduledExecutorService backgroundScheduler;
 
     /**
      * Create new lightweight Java SE HTTP server container.
@@ -98,6 +104,7 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
     JdkHttpHandlerContainer(final Application application) {
         this.appHandler = new ApplicationHandler(application);
         this.containerListener = ConfigHelper.getContainerLifecycleListener(appHandler);
+        this.backgroundScheduler = getBackgroundScheduler(appHandler);
     }
 
     /**
@@ -108,6 +115,7 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
     JdkHttpHandlerContainer(final Application application, final ServiceLocator parentLocator) {
         this.appHandler = new ApplicationHandler(application, null, parentLocator);
         this.containerListener = ConfigHelper.getContainerLifecycleListener(appHandler);
+        this.backgroundScheduler = getBackgroundScheduler(appHandler);
     }
 
     @Override
@@ -149,38 +157,51 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
         final boolean isSecure = exchange instanceof HttpsExchange;
         final String scheme = isSecure ? "https" : "http";
 
-        final URI baseUri;
-        try {
-            final List<String> hostHeader = exchange.getRequestHeaders().get("Host");
-            if (hostHeader != null) {
-                baseUri = new URI(scheme + "://" + hostHeader.get(0) + decodedBasePath);
-            } else {
-                final InetSocketAddress addr = exchange.getLocalAddress();
-                baseUri = new URI(scheme, null, addr.getHostName(), addr.getPort(),
-                        decodedBasePath, null, null);
-            }
-        } catch (final URISyntaxException ex) {
-            throw new IllegalArgumentException(ex);
+        final String baseUri;
+        final Headers requestHeaders = exchange.getRequestHeaders();
+        final List<String> hostHeader = requestHeaders.get("Host");
+        if (hostHeader != null) {
+            baseUri = scheme + "://" + hostHeader.get(0) + UriComponent.contextualEncode(decodedBasePath, UriComponent.Type.PATH);
+        } else {
+            final InetSocketAddress addr = exchange.getLocalAddress();
+            baseUri = ContainerUtils.getAbsoluteUri(scheme, addr.getHostName(), addr.getPort(), decodedBasePath);
         }
 
-        final URI requestUri = baseUri.resolve(exchangeUri);
-
-        final ResponseWriter responseWriter = new ResponseWriter(exchange);
-        final ContainerRequest requestContext = new ContainerRequest(baseUri, requestUri,
+        final ResponseWriter responseWriter = new ResponseWriter(exchange, backgroundScheduler);
+        final ContainerRequest requestContext = new ContainerRequest(baseUri,
+                exchangeUri.getRawPath(), exchangeUri.getRawQuery(),
                 exchange.getRequestMethod(), getSecurityContext(exchange.getPrincipal(), isSecure),
                 new MapPropertiesDelegate());
         requestContext.setEntityStream(exchange.getRequestBody());
-        requestContext.getHeaders().putAll(exchange.getRequestHeaders());
+        requestContext.headers(new ReadThroughHeaders.Source() {
+
+            @Override
+            public Iterable<String> getNames() {
+                return requestHeaders.keySet();
+            }
+
+            @Override
+            public List<String> getValues(final String name) {
+                return requestHeaders.get(name);
+            }
+        });
         requestContext.setWriter(responseWriter);
         try {
             appHandler.handle(requestContext);
         } finally {
-            // if the response was not committed yet by the JerseyApplication
-            // then commit it and log warning
-            responseWriter.closeAndLogWarning();
+            // if the response was not committed yet by the JerseyApplication and the processing
+            // has not been suspended then commit it and log warning
+            if (!responseWriter.isSuspended()) {
+                responseWriter.closeAndLogWarning();
+            }
         }
     }
 
+    private static ScheduledExecutorService getBackgroundScheduler(final ApplicationHandler appHandler) {
+        return appHandler.getServiceLocator()
+                .getService(ScheduledExecutorService.class, new RuntimeExecutorsBinder.BackgroundSchedulerLiteral());
+    }
+
     private SecurityContext getSecurityContext(final Principal principal, final boolean isSecure) {
         return new SecurityContext() {
 
@@ -221,6 +242,7 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
         containerListener.onShutdown(this);
         appHandler = new ApplicationHandler(configuration);
         containerListener = ConfigHelper.getContainerLifecycleListener(appHandler);
+        backgroundScheduler = getBackgroundScheduler(appHandler);
         containerListener.onReload(this);
         containerListener.onStartup(this);
     }
@@ -252,15 +274,19 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
 
         private final HttpExchange exchange;
         private final AtomicBoolean closed;
+        private final JerseyRequestTimeoutHandler requestTimeoutHandler;
+        private volatile boolean suspended;
 
         /**
          * Creates a new ResponseWriter for given {@link HttpExchange HTTP Exchange}.
          *
-         * @param exchange Exchange of the {@link HttpServer JDK Http Server}
+         * @param exchange            Exchange of the {@link HttpServer JDK Http Server}
+         * @param timeoutTaskExecutor Jersey runtime executor used for background execution of timeout handling tasks.
          */
-        ResponseWriter(final HttpExchange exchange) {
+        ResponseWriter(final HttpExchange exchange, final ScheduledExecutorService timeoutTaskExecutor) {
             this.exchange = exchange;
             this.closed = new AtomicBoolean(false);
+            this.requestTimeoutHandler = new JerseyRequestTimeoutHandler(this, timeoutTaskExecutor);
         }
 
         @Override
@@ -302,12 +328,25 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
 
         @Override
         public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
-            throw new UnsupportedOperationException("Method suspend is not supported by the container.");
+            if (requestTimeoutHandler.suspend(timeOut, timeUnit, timeoutHandler)) {
+                suspended = true;
+                return true;
+            }
+            return false;
         }
 
         @Override
         public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) throws IllegalStateException {
-            throw new UnsupportedOperationException("Method setSuspendTimeout is not supported by the container.");
+            requestTimeoutHandler.setSuspendTimeout(timeOut, timeUnit);
+        }
+
+        /**
+         * Check whether the request processing has been suspended.
+         *
+         * @return {@code true} if the response is going to be written asynchronously.
+         */
+        private boolean isSuspended() {
+            return suspended;
         }
 
         @Override
@@ -330,6 +369,7 @@ public class JdkHttpHandlerContainer implements HttpHandler, Container {
         @Override
         public void commit() {
             if (closed.compareAndSet(false, true)) {
+                requestTimeoutHandler.close();
                 exchange.close();
             }
         }
@@ -43,13 +43,21 @@ package org.glassfish.jersey.jdkhttp;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.ProcessingException;
 
 import org.glassfish.jersey.jdkhttp.internal.LocalizationMessages;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.ConfigHelper;
 
 import org.glassfish.hk2.api.ServiceLocator;
@@ -60,8 +68,15 @@ import com.sun.net.httpserver.HttpServer;
 import com.sun.net.httpserver.HttpsConfigurator;
 import com.sun.net.httpserver.HttpsServer;
 
+import jersey.repackaged.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 /**
  * Factory for creating {@link HttpServer JDK HttpServer} instances to run Jersey applications.
+ * <p>
+ * Requests are processed by a worker thread pool created for each server. By default, the pool creates new threads
+ * as needed and reuses idle ones. The pool can be limited to a fixed maximum number of threads using the
+ * {@link JdkHttpServerProperties#MAX_THREADS} application property. The pool is shut down when the server is stopped.
+ * </p>
  *
  * @author Miroslav Fuksa
  * @author Marek Potociar (marek.potociar at oracle.com)
@@ -160,12 +175,13 @@ public final class JdkHttpServerFactory {
             throw new ProcessingException(LocalizationMessages.ERROR_CONTAINER_EXCEPTION_IO(), ioe);
         }
 
-        server.setExecutor(Executors.newCachedThreadPool());
+        final ExecutorService executor = createExecutor(handler.getConfiguration().getProperties());
+        server.setExecutor(executor);
         server.createContext(path, handler);
 
         final HttpServer wrapper = isHttp
-                ? createHttpServerWrapper(server, handler)
-                : createHttpsServerWrapper((HttpsServer) server, handler);
+                ? createHttpServerWrapper(server, handler, executor)
+                : createHttpsServerWrapper((HttpsServer) server, handler, executor);
 
         if (start) {
             wrapper.start();
@@ -174,7 +190,51 @@ public final class JdkHttpServerFactory {
         return wrapper;
     }
 
-    private static HttpServer createHttpsServerWrapper(final HttpsServer delegate, final JdkHttpHandlerContainer handler) {
+    /**
+     * Create a worker thread pool configured by the {@link JdkHttpServerProperties} found in the application
+     * configuration. Unless the {@link JdkHttpServerProperties#MAX_THREADS maximum number of threads} is configured,
+     * an unbounded cached thread pool is created.
+     *
+     * @param properties application configuration properties.
+     * @return new server worker thread pool.
+     */
+    private static ExecutorService createExecutor(final Map<String, Object> properties) {
+        final Integer maxThreads = ServerProperties.getValue(properties, JdkHttpServerProperties.MAX_THREADS, Integer.class);
+        if (maxThreads == null) {
+            return Executors.newCachedThreadPool();
+        }
+        final int queueSize = ServerProperties.getValue(properties, JdkHttpServerProperties.WORK_QUEUE_SIZE, 0, Integer.class);
+
+        if (maxThreads <= 0) {
+            throw new IllegalArgumentException(LocalizationMessages.ERROR_SERVER_MAX_THREADS_INVALID(maxThreads));
+        }
+
+        final BlockingQueue<Runnable> queue = queueSize > 0
+                ? new ArrayBlockingQueue<Runnable>(queueSize)
+                : new LinkedBlockingQueue<Runnable>();
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS, queue,
+                new ThreadFactoryBuilder().setNameFormat("jersey-jdk-http-server-%d").build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    /**
+     * Stop the server and shut down the worker thread pool created for it, unless it has been replaced
+     * by a custom executor in the meantime.
+     */
+    private static void stop(final HttpServer delegate, final int delay, final ExecutorService executor) {
+        final Executor current = delegate.getExecutor();
+        delegate.stop(delay);
+        if (current == executor) {
+            executor.shutdown();
+        }
+    }
+
+    private static HttpServer createHttpsServerWrapper(final HttpsServer delegate, final JdkHttpHandlerContainer handler,
+                                                       final ExecutorService executor) {
         return new HttpsServer() {
 
             @Override
@@ -211,7 +271,7 @@ public final class JdkHttpServerFactory {
             @Override
             public void stop(final int i) {
                 handler.onServerStop();
-                delegate.stop(i);
+                JdkHttpServerFactory.stop(delegate, i, executor);
             }
 
             @Override
@@ -241,7 +301,8 @@ public final class JdkHttpServerFactory {
         };
     }
 
-    private static HttpServer createHttpServerWrapper(final HttpServer delegate, final JdkHttpHandlerContainer handler) {
+    private static HttpServer createHttpServerWrapper(final HttpServer delegate, final JdkHttpHandlerContainer handler,
+                                                      final ExecutorService executor) {
         return new HttpServer() {
 
             @Override
@@ -268,7 +329,7 @@ public final class JdkHttpServerFactory {
             @Override
             public void stop(final int i) {
                 handler.onServerStop();
-                delegate.stop(i);
+                JdkHttpServerFactory.stop(delegate, i, executor);
             }
 
             @Override
@@ -0,0 +1,101 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.jdkhttp;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the {@link JdkHttpServerFactory JDK HTTP server} created by Jersey.
+ * <p>
+ * The properties are read from the configuration of the deployed application when the server is created.
+ * </p>
+ *
+ * @since 2.17
+ */
+@PropertiesClass
+public final class JdkHttpServerProperties {
+
+    /**
+     * Maximum number of worker threads used by the {@link com.sun.net.httpserver.HttpServer JDK HTTP server}
+     * to process requests. If set, the server uses a bounded worker thread pool; idle worker threads are released
+     * after a minute of inactivity.
+     * <p>
+     * Requests processed {@link javax.ws.rs.container.AsyncResponse asynchronously} release their worker thread
+     * as soon as they are suspended, so a bounded pool does not limit the number of pending long-polling
+     * or streaming requests.
+     * </p>
+     * <p>
+     * The value MUST be a positive {@link Integer}.
+     * </p>
+     * <p>
+     * The property is not set by default, i.e. the server uses a cached thread pool that creates new worker
+     * threads as needed (see {@link java.util.concurrent.Executors#newCachedThreadPool()}).
+     * </p>
+     * <p>
+     * The name of the configuration property is <code>{@value}</code>.
+     * </p>
+     */
+    public static final String MAX_THREADS = "jersey.config.jdkhttp.server.maxThreads";
+
+    /**
+     * Maximum number of requests waiting for a free worker thread. When the queue is full, the request is
+     * processed directly by the server dispatcher thread, which stops accepting new connections until
+     * the request processing is finished or suspended.
+     * <p>
+     * The property is used only if the {@link #MAX_THREADS maximum number of worker threads} is set.
+     * </p>
+     * <p>
+     * The value MUST be an {@link Integer}. A value less than or equal to zero means the queue is unbounded.
+     * </p>
+     * <p>
+     * The default value is {@code 0}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <code>{@value}</code>.
+     * </p>
+     */
+    public static final String WORK_QUEUE_SIZE = "jersey.config.jdkhttp.server.workQueueSize";
+
+    /**
+     * Prevents instantiation.
+     */
+    private JdkHttpServerProperties() {
+    }
+}
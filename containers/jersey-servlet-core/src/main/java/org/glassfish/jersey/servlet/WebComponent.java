@@ -84,6 +84,7 @@ import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.internal.HeaderValueException;
 import org.glassfish.jersey.message.internal.MediaTypes;
+import org.glassfish.jersey.message.internal.ReadThroughHeaders;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerRequest;
@@ -527,18 +528,31 @@ public class WebComponent {
      */
     @SuppressWarnings("unchecked")
     private void addRequestHeaders(final HttpServletRequest request, final ContainerRequest requestContext) {
-        final Enumeration<String> names = request.getHeaderNames();
-        while (names.hasMoreElements()) {
-            final String name = names.nextElement();
+        requestContext.headers(new ReadThroughHeaders.Source() {
 
-            final Enumeration<String> values = request.getHeaders(name);
-            while (values.hasMoreElements()) {
-                final String value = values.nextElement();
-                if (value != null) { // filter out null values
-                    requestContext.header(name, value);
+            @Override
+            public Iterable<String> getNames() {
+                final Enumeration<String> names = request.getHeaderNames();
+                return names == null ? Collections.<String>emptyList() : Collections.list(names);
+            }
+
+            @Override
+            public List<String> getValues(final String name) {
+                final Enumeration<String> values = request.getHeaders(name);
+                if (values == null) {
+                    return null;
                 }
+
+                final List<String> result = new ArrayList<>(1);
+                while (values.hasMoreElements()) {
+                    final String value = values.nextElement();
+                    if (value != null) { // filter out null values
+                        result.add(value);
+                    }
+                }
+                return result;
             }
-        }
+        });
     }
 
     /**
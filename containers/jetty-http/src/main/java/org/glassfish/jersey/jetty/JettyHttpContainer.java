@@ -39,13 +39,14 @@
  */
 package org.glassfish.jersey.jetty;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.lang.reflect.Type;
-import java.net.URI;
-import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
 import java.security.Principal;
-import java.util.Enumeration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -66,6 +67,7 @@ import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.jetty.internal.LocalizationMessages;
+import org.glassfish.jersey.message.internal.ReadThroughHeaders;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
@@ -78,7 +80,9 @@ import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.server.spi.FileRegionWriter;
 import org.glassfish.jersey.server.spi.RequestScopedInitializer;
+import org.glassfish.jersey.uri.UriComponent;
 
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.api.TypeLiteral;
@@ -87,6 +91,7 @@ import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.eclipse.jetty.continuation.Continuation;
 import org.eclipse.jetty.continuation.ContinuationListener;
 import org.eclipse.jetty.continuation.ContinuationSupport;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.Response;
@@ -168,26 +173,28 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
 
         final Response response = Response.getResponse(httpServletResponse);
         final ResponseWriter responseWriter = new ResponseWriter(request, response, configSetStatusOverSendError);
-        final URI baseUri = getBaseUri(request);
-
-        final String originalQuery = request.getUri().getQuery();
-        final String encodedQuery = ContainerUtils.encodeUnsafeCharacters(originalQuery);
-        final String uriString = (originalQuery == null || originalQuery.isEmpty() || originalQuery.equals(encodedQuery))
-                ? request.getUri().toString() : request.getUri().toString().replace(originalQuery, encodedQuery);
-        final URI requestUri = baseUri.resolve(uriString);
         try {
             final ContainerRequest requestContext = new ContainerRequest(
-                    baseUri,
-                    requestUri,
+                    getBaseUri(request),
+                    UriComponent.contextualEncode(request.getRequestURI(), UriComponent.Type.PATH),
+                    ContainerUtils.encodeUnsafeCharacters(request.getUri().getQuery()),
                     request.getMethod(),
                     getSecurityContext(request),
                     new MapPropertiesDelegate());
             requestContext.setEntityStream(request.getInputStream());
-            final Enumeration<String> headerNames = request.getHeaderNames();
-            while (headerNames.hasMoreElements()) {
-                final String headerName = headerNames.nextElement();
-                requestContext.headers(headerName, request.getHeader(headerName));
-            }
+            requestContext.headers(new ReadThroughHeaders.Source() {
+
+                @Override
+                public Iterable<String> getNames() {
+                    return Collections.list(request.getHeaderNames());
+                }
+
+                @Override
+                public List<String> getValues(final String name) {
+                    // all the values of a repeated header are exposed, as in the other containers
+                    return Collections.list(request.getHeaders(name));
+                }
+            });
             requestContext.setWriter(responseWriter);
             requestContext.setRequestScopedInitializer(new RequestScopedInitializer() {
                 @Override
@@ -232,13 +239,9 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
     }
 
 
-    private URI getBaseUri(final Request request) {
-        try {
-            return new URI(request.getScheme(), null, request.getServerName(),
-                    request.getServerPort(), getBasePath(request), null, null);
-        } catch (final URISyntaxException ex) {
-            throw new IllegalArgumentException(ex);
-        }
+    private String getBaseUri(final Request request) {
+        return ContainerUtils.getAbsoluteUri(request.getScheme(), request.getServerName(),
+                request.getServerPort(), getBasePath(request));
     }
 
     private String getBasePath(final Request request) {
@@ -253,7 +256,7 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
         }
     }
 
-    private static final class ResponseWriter implements ContainerResponseWriter {
+    private static final class ResponseWriter implements ContainerResponseWriter, FileRegionWriter {
 
         private final Response response;
         private final Continuation continuation;
@@ -293,6 +296,23 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
             }
         }
 
+        @Override
+        public boolean writeFileRegion(final File file, final long position, final long count) throws IOException {
+            // handlers that encode the content (e.g. gzip) must not be bypassed
+            if (count > Integer.MAX_VALUE || response.getHeader(HttpHeader.CONTENT_ENCODING.asString()) != null) {
+                return false;
+            }
+            // Jetty writes the memory mapped region to the connection without copying it to the Java heap; the mapping
+            // remains valid after the channel is closed and is released once the buffer is garbage collected
+            final FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+            try {
+                response.getHttpOutput().sendContent(channel.map(FileChannel.MapMode.READ_ONLY, position, count));
+            } finally {
+                channel.close();
+            }
+            return true;
+        }
+
         @Override
         public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
             try {
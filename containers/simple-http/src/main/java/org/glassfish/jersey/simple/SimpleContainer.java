@@ -45,8 +45,10 @@ import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.Principal;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -61,6 +63,7 @@ import org.glassfish.jersey.internal.MapPropertiesDelegate;
 import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.message.internal.ReadThroughHeaders;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
@@ -69,6 +72,8 @@ import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.internal.ConfigHelper;
 import org.glassfish.jersey.server.internal.ContainerUtils;
+import org.glassfish.jersey.server.internal.JerseyRequestTimeoutHandler;
+import org.glassfish.jersey.server.internal.RuntimeExecutorsBinder;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
@@ -142,12 +147,16 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
 
     private volatile ApplicationHandler appHandler;
     private volatile ContainerLifecycleListener containerListener;
+    private volatile ScheduledExecutorService backgroundScheduler;
 
     private static final class Writer implements ContainerResponseWriter {
         private final Response response;
+        private final JerseyRequestTimeoutHandler requestTimeoutHandler;
+        private volatile boolean suspended;
 
-        Writer(final Response response) {
+        Writer(final Response response, final ScheduledExecutorService timeoutTaskExecutor) {
             this.response = response;
+            this.requestTimeoutHandler = new JerseyRequestTimeoutHandler(this, timeoutTaskExecutor);
         }
 
         @Override
@@ -175,16 +184,30 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
 
         @Override
         public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
-            throw new UnsupportedOperationException("Method suspend is not supported by the container.");
+            if (requestTimeoutHandler.suspend(timeOut, timeUnit, timeoutHandler)) {
+                suspended = true;
+                return true;
+            }
+            return false;
         }
 
         @Override
         public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) throws IllegalStateException {
-            throw new UnsupportedOperationException("Method suspend is not supported by the container.");
+            requestTimeoutHandler.setSuspendTimeout(timeOut, timeUnit);
+        }
+
+        /**
+         * Check whether the request processing has been suspended.
+         *
+         * @return {@code true} if the response is going to be written asynchronously.
+         */
+        boolean isSuspended() {
+            return suspended;
         }
 
         @Override
         public void commit() {
+            requestTimeoutHandler.close();
             try {
                 response.close();
             } catch (final IOException e) {
@@ -231,7 +254,7 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
 
     @Override
     public void handle(final Request request, final Response response) {
-        final Writer responseWriter = new Writer(response);
+        final Writer responseWriter = new Writer(response, backgroundScheduler);
         final URI baseUri = getBaseUri(request);
         final URI requestUri = baseUri.resolve(ContainerUtils.encodeUnsafeCharacters(request.getTarget()));
 
@@ -243,9 +266,19 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
                     getSecurityContext(request),
                     new MapPropertiesDelegate());
             requestContext.setEntityStream(request.getInputStream());
-            for (final String headerName : request.getNames()) {
-                requestContext.headers(headerName, request.getValue(headerName));
-            }
+            requestContext.headers(new ReadThroughHeaders.Source() {
+
+                @Override
+                public Iterable<String> getNames() {
+                    return request.getNames();
+                }
+
+                @Override
+                public List<String> getValues(final String name) {
+                    final String value = request.getValue(name);
+                    return value == null ? null : Collections.singletonList(value);
+                }
+            });
             requestContext.setWriter(responseWriter);
             requestContext.setRequestScopedInitializer(new RequestScopedInitializer() {
                 @Override
@@ -259,7 +292,10 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
         } catch (final Exception ex) {
             throw new RuntimeException(ex);
         } finally {
-            close(response);
+            // suspended response is closed once it is resumed or timed out
+            if (!responseWriter.isSuspended()) {
+                close(response);
+            }
         }
     }
 
@@ -328,10 +364,16 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
         containerListener.onShutdown(this);
         appHandler = new ApplicationHandler(configuration.register(new SimpleBinder()));
         containerListener = ConfigHelper.getContainerLifecycleListener(appHandler);
+        backgroundScheduler = getBackgroundScheduler(appHandler);
         containerListener.onReload(this);
         containerListener.onStartup(this);
     }
 
+    private static ScheduledExecutorService getBackgroundScheduler(final ApplicationHandler appHandler) {
+        return appHandler.getServiceLocator()
+                .getService(ScheduledExecutorService.class, new RuntimeExecutorsBinder.BackgroundSchedulerLiteral());
+    }
+
     @Override
     public ApplicationHandler getApplicationHandler() {
         return appHandler;
@@ -363,6 +405,7 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
     SimpleContainer(final Application application, final ServiceLocator parentLocator) {
         this.appHandler = new ApplicationHandler(application, new SimpleBinder(), parentLocator);
         this.containerListener = ConfigHelper.getContainerLifecycleListener(appHandler);
+        this.backgroundScheduler = getBackgroundScheduler(appHandler);
     }
 
     /**
@@ -373,5 +416,6 @@ public final class SimpleContainer implements org.simpleframework.http.core.Cont
     SimpleContainer(final Application application) {
         this.appHandler = new ApplicationHandler(application, new SimpleBinder());
         this.containerListener = ConfigHelper.getContainerLifecycleListener(appHandler);
+        this.backgroundScheduler = getBackgroundScheduler(appHandler);
     }
 }
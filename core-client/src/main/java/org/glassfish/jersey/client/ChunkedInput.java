@@ -39,6 +39,7 @@
  */
 package org.glassfish.jersey.client;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
@@ -107,7 +108,17 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         return new FixedBoundaryParser(boundary);
     }
 
+    /**
+     * Chunk parser that splits the input stream on a fixed boundary.
+     * <p>
+     * The parser is stateless and may be shared among multiple chunked inputs. If the input stream supports
+     * {@link InputStream#mark(int) marking}, the data are read in bulk and any data read beyond the end of the chunk are
+     * returned back to the stream. Otherwise the stream is read byte by byte.
+     * </p>
+     */
     private static class FixedBoundaryParser implements ChunkParser {
+        private static final int MIN_BUFFER_SIZE = 128;
+
         private final byte[] delimiter;
 
         public FixedBoundaryParser(final byte[] boundary) {
@@ -116,6 +127,73 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
 
         @Override
         public byte[] readChunk(final InputStream in) throws IOException {
+            return in.markSupported() ? readChunkInBulk(in) : readChunkByteByByte(in);
+        }
+
+        private byte[] readChunkInBulk(final InputStream in) throws IOException {
+            byte[] buffer = new byte[Math.max(in.available(), MIN_BUFFER_SIZE)];
+            int length = 0;
+
+            while (true) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+
+                in.mark(buffer.length - length);
+                final int read = in.read(buffer, length, buffer.length - length);
+                if (read == -1) {
+                    return length > 0 ? Arrays.copyOf(buffer, length) : null;
+                }
+
+                // the delimiter may start in the previously read data
+                final int delimiterStart = indexOf(buffer, Math.max(0, length - delimiter.length + 1), length + read);
+                if (delimiterStart == -1) {
+                    length += read;
+                    continue;
+                }
+
+                // return the data following the delimiter back to the stream
+                in.reset();
+                skipFully(in, delimiterStart + delimiter.length - length);
+
+                if (delimiterStart > 0) {
+                    return Arrays.copyOf(buffer, delimiterStart);
+                }
+                // skip empty chunks
+                length = 0;
+            }
+        }
+
+        private int indexOf(final byte[] data, final int from, final int to) {
+            final int last = to - delimiter.length;
+            outer:
+            for (int i = from; i <= last; i++) {
+                for (int j = 0; j < delimiter.length; j++) {
+                    if (data[i + j] != delimiter[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+
+        private static void skipFully(final InputStream in, long count) throws IOException {
+            while (count > 0) {
+                final long skipped = in.skip(count);
+                if (skipped <= 0) {
+                    // skip is not guaranteed to make progress - fall back to reading
+                    if (in.read() == -1) {
+                        return;
+                    }
+                    count--;
+                } else {
+                    count -= skipped;
+                }
+            }
+        }
+
+        private byte[] readChunkByteByByte(final InputStream in) throws IOException {
             final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
             final byte[] delimiterBuffer = new byte[delimiter.length];
 
@@ -168,7 +246,9 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
             final PropertiesDelegate propertiesDelegate) {
         super(chunkType);
 
-        this.inputStream = inputStream;
+        // buffer the stream so that the chunk parser can read the data in bulk
+        this.inputStream = inputStream == null || inputStream.markSupported()
+                ? inputStream : new BufferedInputStream(inputStream);
         this.annotations = annotations;
         this.mediaType = mediaType;
         this.headers = headers;
@@ -41,6 +41,8 @@
 package org.glassfish.jersey.client;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -60,6 +62,7 @@ import org.glassfish.jersey.internal.inject.ProviderBinder;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
+import org.glassfish.jersey.model.ContractProvider;
 import org.glassfish.jersey.model.internal.CommonConfig;
 import org.glassfish.jersey.model.internal.ComponentBag;
 
@@ -379,6 +382,20 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
              */
             markAsShared();
 
+            if (client == null) {
+                return createRuntime();
+            }
+
+            // the runtime is acquired on behalf of this configuration state, the reference is held until the client is closed
+            return client.getRuntime(new RuntimeKey(this), new Value<ClientRuntime>() {
+                @Override
+                public ClientRuntime get() {
+                    return createRuntime();
+                }
+            });
+        }
+
+        private ClientRuntime createRuntime() {
             final State runtimeCfgState = this.copy();
             runtimeCfgState.markAsShared();
 
@@ -449,6 +466,66 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         }
     }
 
+    /**
+     * Structural key of a shared configuration state used to share client runtimes among equal states.
+     * <p>
+     * Component models are compared by identity, which holds for states copied from a common ancestor.
+     * </p>
+     */
+    private static final class RuntimeKey {
+
+        private final Map<String, Object> properties;
+        private final Set<Class<?>> classes;
+        private final Set<Object> instances;
+        private final Map<Class<?>, ContractProvider> models;
+        private final ConnectorProvider connectorProvider;
+        private final int hashCode;
+
+        private RuntimeKey(final State state) {
+            final ComponentBag componentBag = state.getComponentBag();
+
+            this.properties = new HashMap<String, Object>(state.getProperties());
+            this.classes = new HashSet<Class<?>>(componentBag.getClasses());
+            this.instances = new HashSet<Object>(componentBag.getInstances());
+            this.models = new HashMap<Class<?>, ContractProvider>();
+            for (final Class<?> registration : componentBag.getRegistrations()) {
+                models.put(registration, componentBag.getModel(registration));
+            }
+            this.connectorProvider = state.connectorProvider;
+
+            int result = properties.hashCode();
+            result = 31 * result + classes.hashCode();
+            result = 31 * result + instances.hashCode();
+            result = 31 * result + models.hashCode();
+            result = 31 * result + (connectorProvider != null ? connectorProvider.hashCode() : 0);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RuntimeKey)) {
+                return false;
+            }
+
+            final RuntimeKey other = (RuntimeKey) o;
+            return hashCode == other.hashCode
+                    && properties.equals(other.properties)
+                    && classes.equals(other.classes)
+                    && instances.equals(other.instances)
+                    && models.equals(other.models)
+                    && (connectorProvider == null ? other.connectorProvider == null
+                    : connectorProvider.equals(other.connectorProvider));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     /**
      * Construct a new Jersey configuration instance with the default features
      * and property values.
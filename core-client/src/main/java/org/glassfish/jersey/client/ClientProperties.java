@@ -317,6 +317,83 @@ public final class ClientProperties {
      */
     public static final String DIGESTAUTH_URI_CACHE_SIZELIMIT = "jersey.config.client.digestAuthUriCacheSizeLimit";
 
+    /**
+     * The property defines the maximum number of client runtimes cached by a {@link JerseyClient client} instance.
+     * <p>
+     * Changing the configuration of a {@link javax.ws.rs.client.WebTarget web target} creates a new configuration
+     * state that needs its own client runtime (injection manager, providers and a connector). Configuration states
+     * with structurally equal properties, registered components and connector provider share a single cached
+     * runtime instead. Least recently used runtimes are evicted from the cache once the limit is exceeded.
+     * Each runtime is reference-counted: it is referenced by the cache and by every configuration state that obtained
+     * it. An evicted runtime is closed as soon as its last reference is released. As configuration states keep their
+     * references until the client is {@link javax.ws.rs.client.Client#close() closed}, a runtime evicted from the cache
+     * typically remains open (and keeps its connector resources) until the client is closed.
+     * </p>
+     * <p>
+     * Note that setting a property on a {@link javax.ws.rs.client.WebTarget web target} changes its configuration
+     * state. Setting target properties with a different value for each call therefore creates a new client runtime
+     * per call, which is not closed before the client is closed. Request-specific properties should be set via
+     * {@link javax.ws.rs.client.Invocation.Builder#property(String, Object)} instead; these do not change
+     * the configuration state and never require a new client runtime.
+     * </p>
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Integer}. A value lower than {@code 1} disables the sharing
+     * of client runtimes.
+     * </p>
+     * <p>
+     * The default value is {@code 16}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.17
+     */
+    public static final String RUNTIME_CACHE_SIZELIMIT = "jersey.config.client.runtimeCacheSizeLimit";
+
+    /**
+     * The maximum number of response entity bytes an asynchronous connector buffers in memory before it stops
+     * reading from the underlying connection.
+     * <p>
+     * Connectors that receive the response entity asynchronously queue the received data until it is read from
+     * the response entity stream. Once the number of queued bytes exceeds the high watermark, reading from the
+     * connection is paused until the application drains the queue down to the
+     * {@link #RESPONSE_BUFFER_LOW_WATERMARK low watermark} or closes the response.
+     * Note that a paused response that is neither read nor closed holds the connection (and possibly
+     * a connector thread) until it is closed.
+     * </p>
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Integer}. A value lower than {@code 1} means the amount
+     * of buffered data is not limited.
+     * </p>
+     * <p>
+     * The default value is {@code 0}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.17
+     */
+    public static final String RESPONSE_BUFFER_HIGH_WATERMARK = "jersey.config.client.responseBuffer.highWatermark";
+
+    /**
+     * The number of buffered response entity bytes at which an asynchronous connector paused by reaching
+     * the {@link #RESPONSE_BUFFER_HIGH_WATERMARK high watermark} resumes reading from the underlying connection.
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Integer} between {@code 0} and the high watermark.
+     * </p>
+     * <p>
+     * The default value is one half of the high watermark.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.17
+     */
+    public static final String RESPONSE_BUFFER_LOW_WATERMARK = "jersey.config.client.responseBuffer.lowWatermark";
+
     // TODO Need to implement support for PROXY-* properties in other connectors
     /**
      * The property defines a URI of a HTTP proxy the client connector should use.
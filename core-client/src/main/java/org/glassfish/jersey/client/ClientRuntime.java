@@ -40,9 +40,11 @@
 package org.glassfish.jersey.client;
 
 import java.util.Arrays;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -64,8 +66,6 @@ import org.glassfish.jersey.process.internal.Stages;
 
 import org.glassfish.hk2.api.ServiceLocator;
 
-import jersey.repackaged.com.google.common.util.concurrent.SettableFuture;
-
 /**
  * Client-side request processing runtime.
  *
@@ -87,6 +87,11 @@ class ClientRuntime implements JerseyClient.ShutdownHook {
     private final ServiceLocator locator;
     private final Iterable<ClientLifecycleListener> lifecycleListeners;
 
+    /**
+     * Number of the references to the runtime; {@code -1} once the last reference has been released.
+     */
+    private final AtomicInteger references = new AtomicInteger(0);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
 
     /**
      * Create new client request processing runtime.
@@ -134,12 +139,21 @@ class ClientRuntime implements JerseyClient.ShutdownHook {
      * Both, the request processing as well as response callback invocation will be executed
      * in a context of an active {@link RequestScope.Instance request scope instance}.
      * </p>
+     * <p>
+     * The asynchronous executor thread that processes the request is not blocked while the connector
+     * waits for the response. Instead, the response processing is resumed from the
+     * {@link AsyncConnectorCallback connector callback}. If the connector invokes the callback synchronously,
+     * the response is processed directly on the requesting thread, otherwise the response processing is
+     * submitted back to the asynchronous executor, so that the connector transport threads are never used
+     * to run the response filters or the user response callbacks.
+     * </p>
      *
      * @param request  client request to be sent.
      * @param callback asynchronous response callback.
      */
     public void submit(final ClientRequest request, final ResponseCallback callback) {
-        submit(asyncExecutorsFactory.getExecutor(), new Runnable() {
+        final ExecutorService executor = asyncExecutorsFactory.getExecutor();
+        submit(executor, new Runnable() {
 
             @Override
             public void run() {
@@ -152,32 +166,102 @@ class ClientRuntime implements JerseyClient.ShutdownHook {
                     return;
                 }
 
+                final ResponseContinuation continuation =
+                        new ResponseContinuation(executor, requestScope.referenceCurrent(), callback);
                 try {
-                    final SettableFuture<ClientResponse> responseFuture = SettableFuture.create();
-                    final AsyncConnectorCallback connectorCallback = new AsyncConnectorCallback() {
-
-                        @Override
-                        public void response(final ClientResponse response) {
-                            responseFuture.set(response);
-                        }
-
-                        @Override
-                        public void failure(final Throwable failure) {
-                            responseFuture.setException(failure);
-                        }
-                    };
-                    connector.apply(processedRequest, connectorCallback);
-
-                    processResponse(responseFuture.get(), callback);
-                } catch (final ExecutionException e) {
-                    processFailure(e.getCause(), callback);
+                    connector.apply(processedRequest, continuation);
                 } catch (final Throwable throwable) {
-                    processFailure(throwable, callback);
+                    continuation.failure(throwable);
+                } finally {
+                    continuation.requestSent();
                 }
             }
         });
     }
 
+    /**
+     * Asynchronous connector callback that resumes the response processing in the request scope of the
+     * original request.
+     */
+    private final class ResponseContinuation implements AsyncConnectorCallback {
+
+        private final ExecutorService executor;
+        private final RequestScope.Instance scopeInstance;
+        private final ResponseCallback callback;
+        private final Thread requestingThread = Thread.currentThread();
+        private final AtomicBoolean resumed = new AtomicBoolean(false);
+        private volatile boolean sending = true;
+
+        private ResponseContinuation(final ExecutorService executor,
+                                     final RequestScope.Instance scopeInstance,
+                                     final ResponseCallback callback) {
+            this.executor = executor;
+            this.scopeInstance = scopeInstance;
+            this.callback = callback;
+        }
+
+        @Override
+        public void response(final ClientResponse response) {
+            resume(new Runnable() {
+                @Override
+                public void run() {
+                    processResponse(response, callback);
+                }
+            });
+        }
+
+        @Override
+        public void failure(final Throwable failure) {
+            resume(new Runnable() {
+                @Override
+                public void run() {
+                    processFailure(failure, callback);
+                }
+            });
+        }
+
+        /**
+         * Mark the connector request invocation as finished on the requesting thread.
+         */
+        private void requestSent() {
+            sending = false;
+        }
+
+        private void resume(final Runnable task) {
+            if (!resumed.compareAndSet(false, true)) {
+                // response or failure already processed
+                return;
+            }
+
+            if (sending && Thread.currentThread() == requestingThread) {
+                // synchronous connector - we are still running in the request scope
+                try {
+                    task.run();
+                } finally {
+                    scopeInstance.release();
+                }
+                return;
+            }
+
+            final Runnable scopedTask = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        requestScope.runInScope(scopeInstance, task);
+                    } finally {
+                        scopeInstance.release();
+                    }
+                }
+            };
+            try {
+                executor.execute(scopedTask);
+            } catch (final RejectedExecutionException ex) {
+                // executor has been shut down - complete the request in the connector thread
+                scopedTask.run();
+            }
+        }
+    }
+
     private void processResponse(final ClientResponse response, final ResponseCallback callback) {
         final ClientResponse processedResponse;
         try {
@@ -274,8 +358,58 @@ class ClientRuntime implements JerseyClient.ShutdownHook {
         return config;
     }
 
+    /**
+     * Acquire a reference to the runtime.
+     * <p>
+     * A runtime shared by multiple configuration states is referenced by each of the states as well as by the client
+     * runtime cache. The runtime is closed once all the references have been {@link #release() released} or once
+     * the client is closed.
+     * </p>
+     *
+     * @return {@code true} if the reference has been acquired, {@code false} if the runtime has already been released
+     * by all its holders and closed.
+     */
+    boolean acquire() {
+        int count;
+        do {
+            count = references.get();
+            if (count < 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Release a reference to the runtime. The runtime is {@link #close() closed} once the last reference is released.
+     *
+     * @return {@code true} if the runtime has been closed, {@code false} otherwise.
+     */
+    boolean release() {
+        if (references.decrementAndGet() == 0 && references.compareAndSet(0, -1)) {
+            close();
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void onShutdown() {
+        // the client has been closed - all the references are released
+        references.set(-1);
+        close();
+    }
+
+    /**
+     * Close the client runtime: notify the registered {@link ClientLifecycleListener lifecycle listeners},
+     * close the connector and release the async executors and the service locator. Subsequent invocations
+     * of the method have no effect.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
         try {
             for (final ClientLifecycleListener listener : lifecycleListeners) {
                 try {
@@ -40,6 +40,10 @@
 package org.glassfish.jersey.client;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -55,7 +59,9 @@ import javax.net.ssl.SSLContext;
 
 import org.glassfish.jersey.SslConfigurator;
 import org.glassfish.jersey.client.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.UnsafeValue;
+import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 
 import static jersey.repackaged.com.google.common.base.Preconditions.checkNotNull;
@@ -75,6 +81,13 @@ public class JerseyClient implements javax.ws.rs.client.Client, Initializable<Je
     private final HostnameVerifier hostnameVerifier;
     private final UnsafeValue<SSLContext, IllegalStateException> sslContext;
     private final LinkedBlockingDeque<ShutdownHook> shutdownHooks = new LinkedBlockingDeque<ShutdownHook>();
+    /**
+     * Client runtimes shared by structurally equal configuration states, in the least recently used order.
+     */
+    private final LinkedHashMap<Object, LazyValue<ClientRuntime>> runtimes =
+            new LinkedHashMap<Object, LazyValue<ClientRuntime>>(16, 0.75f, true);
+
+    private static final int DEFAULT_RUNTIME_CACHE_SIZE_LIMIT = 16;
 
     /**
      * Client instance shutdown hook.
@@ -138,6 +151,10 @@ public class JerseyClient implements javax.ws.rs.client.Client, Initializable<Je
     }
 
     private void release() {
+        synchronized (runtimes) {
+            runtimes.clear();
+        }
+
         ShutdownHook listener;
         while ((listener = shutdownHooks.pollFirst()) != null) {
             try {
@@ -158,6 +175,82 @@ public class JerseyClient implements javax.ws.rs.client.Client, Initializable<Je
         shutdownHooks.push(shutdownHook);
     }
 
+    /**
+     * Get and {@link ClientRuntime#acquire() acquire} a client runtime for a configuration state. The runtime is shared
+     * by all the configuration states of this client with an equal key, as long as it is kept in the bounded runtime
+     * cache (see {@link ClientProperties#RUNTIME_CACHE_SIZELIMIT}).
+     * <p>
+     * The runtime cache holds a reference to each of the cached runtimes. The reference is released once the runtime
+     * is evicted from the cache, so that the runtime gets closed as soon as no configuration state holds a reference
+     * to it. All the runtimes are closed when the client is closed.
+     * </p>
+     *
+     * @param key     structural key of the configuration state.
+     * @param factory factory creating a new client runtime for the configuration state.
+     * @return shared or newly created client runtime, acquired on behalf of the configuration state.
+     */
+    ClientRuntime getRuntime(final Object key, final Value<ClientRuntime> factory) {
+        final int limit = ClientProperties.getValue(config.getProperties(), ClientProperties.RUNTIME_CACHE_SIZELIMIT,
+                DEFAULT_RUNTIME_CACHE_SIZE_LIMIT, Integer.class);
+        if (limit < 1) {
+            final ClientRuntime runtime = factory.get();
+            runtime.acquire();
+            return runtime;
+        }
+
+        while (true) {
+            final LazyValue<ClientRuntime> runtime;
+            final List<LazyValue<ClientRuntime>> evicted = new ArrayList<LazyValue<ClientRuntime>>();
+            synchronized (runtimes) {
+                LazyValue<ClientRuntime> cached = runtimes.get(key);
+                if (cached == null) {
+                    cached = Values.lazy(new Value<ClientRuntime>() {
+                        @Override
+                        public ClientRuntime get() {
+                            final ClientRuntime created = factory.get();
+                            // reference held by the runtime cache
+                            created.acquire();
+                            return created;
+                        }
+                    });
+                    runtimes.put(key, cached);
+
+                    final Iterator<LazyValue<ClientRuntime>> iterator = runtimes.values().iterator();
+                    while (runtimes.size() > limit) {
+                        evicted.add(iterator.next());
+                        iterator.remove();
+                    }
+                }
+                runtime = cached;
+            }
+
+            for (final LazyValue<ClientRuntime> evictedRuntime : evicted) {
+                // a runtime that is still being created keeps the cache reference until the client is closed
+                if (evictedRuntime.isInitialized()) {
+                    releaseRuntime(evictedRuntime.get());
+                }
+            }
+
+            // create the runtime outside of the lock - it may take a while
+            final ClientRuntime clientRuntime = runtime.get();
+            if (clientRuntime.acquire()) {
+                return clientRuntime;
+            }
+            // the runtime has been evicted and closed in the meantime - try again
+        }
+    }
+
+    /**
+     * Release a reference to a client runtime and forget the runtime if it has been closed as a result.
+     *
+     * @param runtime client runtime to be released.
+     */
+    private void releaseRuntime(final ClientRuntime runtime) {
+        if (runtime.release()) {
+            shutdownHooks.remove(runtime);
+        }
+    }
+
     /**
      * Check client state.
      *
@@ -0,0 +1,174 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that asynchronous requests do not block the client asynchronous executor threads
+ * while waiting for the connector response.
+ */
+public class AsyncConnectorCallbackTest {
+
+    private static final int REQUEST_COUNT = 50;
+
+    /**
+     * Connector that completes the asynchronous requests only when told to.
+     */
+    public static class DeferredConnector implements Connector, ConnectorProvider {
+
+        private final BlockingQueue<Pending> pending = new LinkedBlockingQueue<>();
+        private final CountDownLatch applied = new CountDownLatch(REQUEST_COUNT);
+
+        private static class Pending {
+
+            private final ClientRequest request;
+            private final AsyncConnectorCallback callback;
+
+            private Pending(final ClientRequest request, final AsyncConnectorCallback callback) {
+                this.request = request;
+                this.callback = callback;
+            }
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            pending.add(new Pending(request, callback));
+            applied.countDown();
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return "deferred";
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+    }
+
+    @Test
+    public void testExecutorThreadNotBlocked() throws Exception {
+        final DeferredConnector connector = new DeferredConnector();
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(connector)
+                .property(ClientProperties.ASYNC_THREADPOOL_SIZE, 1));
+
+        final List<Future<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            responses.add(client.target("http://localhost/" + i).request().async().get());
+        }
+
+        // a single executor thread is able to send all the requests before any response arrives
+        assertTrue(connector.applied.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final DeferredConnector.Pending pending = connector.pending.take();
+            final ClientResponse response = new ClientResponse(Response.Status.OK, pending.request);
+            response.setEntityStream(new ByteArrayInputStream(pending.request.getUri().getPath().getBytes()));
+            pending.callback.response(response);
+        }
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final Response response = responses.get(i).get(10, TimeUnit.SECONDS);
+            assertEquals(200, response.getStatus());
+            assertEquals("/" + i, response.readEntity(String.class));
+        }
+
+        client.close();
+    }
+
+    @Test
+    public void testConnectorFailure() throws Exception {
+        final DeferredConnector connector = new DeferredConnector();
+        final Client client = ClientBuilder.newClient(new ClientConfig().connectorProvider(connector));
+
+        final Future<Response> response = client.target("http://localhost/").request().async().get();
+        final DeferredConnector.Pending pending = connector.pending.poll(10, TimeUnit.SECONDS);
+        pending.callback.failure(new IllegalStateException("failure"));
+        // subsequent callback invocations are ignored
+        pending.callback.response(new ClientResponse(Response.Status.OK, pending.request));
+
+        try {
+            response.get(10, TimeUnit.SECONDS);
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof ProcessingException);
+            assertEquals(IllegalStateException.class, ex.getCause().getCause().getClass());
+            return;
+        } finally {
+            client.close();
+        }
+        throw new AssertionError("ExecutionException expected.");
+    }
+}
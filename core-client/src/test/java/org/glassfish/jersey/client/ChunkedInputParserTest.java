@@ -0,0 +1,130 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.client;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the fixed boundary {@link ChunkParser chunk parser} created by {@link ChunkedInput#createParser(String)}.
+ */
+public class ChunkedInputParserTest {
+
+    private static final String DATA = "\n\nfirst\n\nsecond\nline\n\n\n\nthird\n\nlast";
+    private static final List<String> CHUNKS = Arrays.asList("first", "second\nline", "third", "last");
+
+    /**
+     * Input stream returning at most a few bytes per read and not supporting marking.
+     */
+    private static class TrickleInputStream extends FilterInputStream {
+
+        private final int maxRead;
+
+        TrickleInputStream(final byte[] data, final int maxRead) {
+            super(new ByteArrayInputStream(data));
+            this.maxRead = maxRead;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return super.read(b, off, Math.min(len, maxRead));
+        }
+
+        @Override
+        public int available() throws IOException {
+            return 0;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    private static List<String> readChunks(final InputStream in) throws IOException {
+        final ChunkParser parser = ChunkedInput.createParser("\n\n");
+        final List<String> chunks = new ArrayList<String>();
+        byte[] chunk;
+        while ((chunk = parser.readChunk(in)) != null) {
+            chunks.add(new String(chunk, "UTF-8"));
+        }
+        return chunks;
+    }
+
+    @Test
+    public void testBulkRead() throws IOException {
+        assertEquals(CHUNKS, readChunks(new ByteArrayInputStream(DATA.getBytes("UTF-8"))));
+    }
+
+    @Test
+    public void testBulkReadFragmented() throws IOException {
+        for (int maxRead = 1; maxRead < 8; maxRead++) {
+            assertEquals("Max read: " + maxRead, CHUNKS,
+                    readChunks(new BufferedInputStream(new TrickleInputStream(DATA.getBytes("UTF-8"), maxRead))));
+        }
+    }
+
+    @Test
+    public void testByteByByteRead() throws IOException {
+        assertEquals(CHUNKS, readChunks(new TrickleInputStream(DATA.getBytes("UTF-8"), 1)));
+    }
+
+    @Test
+    public void testLargeChunk() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append(i % 10);
+        }
+        final String large = sb.toString();
+        final byte[] data = (large + "\n\nsmall\n\n").getBytes("UTF-8");
+
+        assertEquals(Arrays.asList(large, "small"), readChunks(new ByteArrayInputStream(data)));
+        assertEquals(Arrays.asList(large, "small"), readChunks(new BufferedInputStream(new TrickleInputStream(data, 7))));
+    }
+}
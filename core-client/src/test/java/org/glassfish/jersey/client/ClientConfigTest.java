@@ -41,6 +41,7 @@ package org.glassfish.jersey.client;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Feature;
@@ -62,6 +63,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -248,4 +250,103 @@ public class ClientConfigTest {
         assertEquals(1, instance.getProperties().size());
         assertEquals("value", instance.getProperty("name"));
     }
+
+    @Test
+    public void testRuntimeSharedByEqualConfigurations() {
+        final JerseyClient client = JerseyClientBuilder.createClient();
+        try {
+            final ClientRuntime runtime1 = client.target("http://localhost/a").property("timeout", 1000)
+                    .getConfiguration().getRuntime();
+            final ClientRuntime runtime2 = client.target("http://localhost/b").property("timeout", 1000)
+                    .getConfiguration().getRuntime();
+            final ClientRuntime runtime3 = client.target("http://localhost/c").property("timeout", 2000)
+                    .getConfiguration().getRuntime();
+
+            assertSame(runtime1, runtime2);
+            assertNotSame(runtime1, runtime3);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testRuntimeSharingDisabled() {
+        final JerseyClient client = JerseyClientBuilder.createClient()
+                .property(ClientProperties.RUNTIME_CACHE_SIZELIMIT, 0);
+        try {
+            final ClientRuntime runtime1 = client.target("http://localhost/a").property("timeout", 1000)
+                    .getConfiguration().getRuntime();
+            final ClientRuntime runtime2 = client.target("http://localhost/b").property("timeout", 1000)
+                    .getConfiguration().getRuntime();
+
+            assertNotSame(runtime1, runtime2);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testEvictedRuntimeClosedWithClient() {
+        final AtomicInteger closed = new AtomicInteger();
+        final JerseyClient client = JerseyClientBuilder.createClient()
+                .property(ClientProperties.RUNTIME_CACHE_SIZELIMIT, 1)
+                .register(new CountingLifecycleListener(closed));
+
+        final ClientRuntime runtime1 = client.target("http://localhost/a").property("timeout", 1000)
+                .getConfiguration().getRuntime();
+        final ClientRuntime runtime2 = client.target("http://localhost/b").property("timeout", 2000)
+                .getConfiguration().getRuntime();
+        assertNotSame(runtime1, runtime2);
+
+        // the evicted runtime is still referenced by the configuration state of the first target
+        assertEquals(0, closed.get());
+
+        client.close();
+        assertEquals(2, closed.get());
+    }
+
+    @Test
+    public void testReleasedRuntimeClosedOnEviction() {
+        final AtomicInteger closed = new AtomicInteger();
+        final JerseyClient client = JerseyClientBuilder.createClient()
+                .property(ClientProperties.RUNTIME_CACHE_SIZELIMIT, 1)
+                .register(new CountingLifecycleListener(closed));
+        try {
+            final ClientRuntime runtime = client.target("http://localhost/a").property("timeout", 1000)
+                    .getConfiguration().getRuntime();
+            // release the reference held by the configuration state - the cache keeps the runtime open
+            assertFalse(runtime.release());
+            assertEquals(0, closed.get());
+
+            client.target("http://localhost/b").property("timeout", 2000).getConfiguration().getRuntime();
+            assertEquals(1, closed.get());
+            assertFalse(runtime.acquire());
+
+            // a closed runtime is not shared anymore
+            final ClientRuntime recreated = client.target("http://localhost/c").property("timeout", 1000)
+                    .getConfiguration().getRuntime();
+            assertNotSame(runtime, recreated);
+        } finally {
+            client.close();
+        }
+        assertEquals(3, closed.get());
+    }
+
+    private static class CountingLifecycleListener implements ClientLifecycleListener {
+
+        private final AtomicInteger closed;
+
+        private CountingLifecycleListener(final AtomicInteger closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public void onInit() {
+        }
+
+        @Override
+        public void onClose() {
+            closed.incrementAndGet();
+        }
+    }
 }
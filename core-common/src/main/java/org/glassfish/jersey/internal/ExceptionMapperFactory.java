@@ -44,7 +44,9 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -55,6 +57,8 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.inject.Inject;
@@ -109,6 +113,9 @@ public class ExceptionMapperFactory implements ExceptionMappers {
 
     private Set<ExceptionMapperType> exceptionMapperTypes = new LinkedHashSet<ExceptionMapperType>();
 
+    private final ConcurrentMap<Class<? extends Throwable>, List<ServiceHandle<ExceptionMapper>>> candidateCache =
+            new ConcurrentHashMap<Class<? extends Throwable>, List<ServiceHandle<ExceptionMapper>>>();
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Throwable> ExceptionMapper<T> findMapping(final T exceptionInstance) {
@@ -124,21 +131,15 @@ public class ExceptionMapperFactory implements ExceptionMappers {
     @SuppressWarnings("unchecked")
     private <T extends Throwable> ExceptionMapper<T> find(final Class<T> type, final T exceptionInstance) {
 
-        final Map<Integer, ExceptionMapper<T>> orderedMappers = new TreeMap<Integer, ExceptionMapper<T>>();
-
-        for (final ExceptionMapperType mapperType : exceptionMapperTypes) {
-            final int d = distance(type, mapperType.exceptionType);
-            if (d >= 0) {
-                orderedMappers.put(d, mapperType.mapper.getService());
-            }
-        }
+        final List<ServiceHandle<ExceptionMapper>> candidates = getCandidates(type);
 
-        if (orderedMappers.size() == 0) {
+        if (candidates.isEmpty()) {
             return null;
         }
 
         if (exceptionInstance != null) {
-            for (final ExceptionMapper<T> mapper : orderedMappers.values()) {
+            for (final ServiceHandle<ExceptionMapper> candidate : candidates) {
+                final ExceptionMapper<T> mapper = candidate.getService();
                 if (mapper instanceof ExtendedExceptionMapper) {
                     final boolean mappable = ((ExtendedExceptionMapper<T>) mapper).isMappable(exceptionInstance);
                     if (mappable) {
@@ -150,10 +151,42 @@ public class ExceptionMapperFactory implements ExceptionMappers {
             }
             return null;
         } else {
-            return orderedMappers.values().iterator().next();
+            return candidates.get(0).getService();
         }
     }
 
+    /**
+     * Get the mappers applicable to the exception type, ordered by the distance between the exception type and
+     * the type supported by the mapper. The result depends only on the exception type and the set of registered
+     * mappers which is fixed for the lifetime of this factory, so it is computed once per exception type.
+     *
+     * @param type exception type.
+     * @return ordered list of applicable mappers, possibly empty.
+     */
+    private List<ServiceHandle<ExceptionMapper>> getCandidates(final Class<? extends Throwable> type) {
+        List<ServiceHandle<ExceptionMapper>> candidates = candidateCache.get(type);
+        if (candidates == null) {
+            final Map<Integer, ServiceHandle<ExceptionMapper>> orderedMappers =
+                    new TreeMap<Integer, ServiceHandle<ExceptionMapper>>();
+
+            for (final ExceptionMapperType mapperType : exceptionMapperTypes) {
+                final int d = distance(type, mapperType.exceptionType);
+                if (d >= 0) {
+                    orderedMappers.put(d, mapperType.mapper);
+                }
+            }
+
+            candidates = orderedMappers.isEmpty()
+                    ? Collections.<ServiceHandle<ExceptionMapper>>emptyList()
+                    : Collections.unmodifiableList(new ArrayList<ServiceHandle<ExceptionMapper>>(orderedMappers.values()));
+
+            final List<ServiceHandle<ExceptionMapper>> previous = candidateCache.putIfAbsent(type, candidates);
+            if (previous != null) {
+                candidates = previous;
+            }
+        }
+        return candidates;
+    }
 
     /**
      * Create new exception mapper factory initialized with {@link ServiceLocator
@@ -41,8 +41,10 @@ package org.glassfish.jersey.internal.util.collection;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Iterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
@@ -55,6 +57,13 @@ import org.glassfish.jersey.internal.LocalizationMessages;
  * and an underlying non-blocking I/O layer. In addition to the blocking {@code InputStream.read} operations,
  * this input stream provides the non-blocking {@code tryRead} counterparts.
  * </p>
+ * <p>
+ * The stream may be created with a {@link DemandCallback demand callback} and a pair of high and low watermarks.
+ * Once the number of queued bytes exceeds the high watermark, the underlying I/O layer is asked to
+ * {@link DemandCallback#suspend() suspend} reading; it is {@link DemandCallback#resume() resumed} once the reader
+ * drains the queue down to the low watermark (or the stream is closed). Consumed byte buffers are handed back
+ * to the I/O layer via {@link DemandCallback#release(java.nio.ByteBuffer)} so that they can be reused.
+ * </p>
  *
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
@@ -69,9 +78,14 @@ public final class ByteBufferInputStream extends NonBlockingInputStream {
      */
     private boolean eof = false;
     /**
-     * Currently read byte buffer.
+     * Currently read byte buffer. Only accessed from the reader thread.
      */
     private ByteBuffer current;
+    /**
+     * The thread that fetched the {@link #current} buffer. A pooled buffer must not be released by another thread
+     * while the reader may still be accessing it.
+     */
+    private volatile Thread reader;
     /**
      * Queue of byte buffers to be read.
      */
@@ -86,14 +100,102 @@ public final class ByteBufferInputStream extends NonBlockingInputStream {
      * Closed flag.
      */
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    /**
+     * Callback notified about the demand changes and consumed buffers, may be {@code null}.
+     */
+    private final DemandCallback demand;
+    /**
+     * Number of queued bytes above which the underlying I/O layer is suspended, non-positive if unbounded.
+     */
+    private final long highWatermark;
+    /**
+     * Number of queued bytes at which the suspended underlying I/O layer is resumed.
+     */
+    private final long lowWatermark;
+    /**
+     * Number of bytes in the queued byte buffers.
+     */
+    private final AtomicLong queuedBytes = new AtomicLong(0);
+    /**
+     * Guards the demand state transitions.
+     */
+    private final Object demandLock = new Object();
+    /**
+     * {@code true} if the underlying I/O layer has been suspended; modified only while holding the demand lock.
+     */
+    private volatile boolean suspended = false;
+
+    /**
+     * Callback used by the stream to control reading on the underlying I/O layer that supplies the byte buffers.
+     * <p>
+     * The {@link #suspend()} and {@link #resume()} invocations are serialized and always alternate, starting
+     * with {@code suspend()}. The methods may be invoked from the thread that {@link #put(java.nio.ByteBuffer) puts}
+     * the buffers as well as from the reader thread while the stream holds its internal demand lock, hence the callback
+     * methods themselves must return promptly. How the underlying I/O layer stops supplying data is up to
+     * the implementation: an I/O layer that cannot pause reading on its own may block the thread that supplies
+     * the buffers once {@code put} returns, until the demand is resumed. Note that such a blocked thread is not
+     * available for any other I/O processing while the reader is not consuming the data.
+     * </p>
+     * <p>
+     * {@link #release(java.nio.ByteBuffer)} is invoked either from the reader thread or, for the buffers
+     * that have not been read yet, from the thread that closes the stream.
+     * </p>
+     *
+     * @since 2.17
+     */
+    public static interface DemandCallback {
+
+        /**
+         * Invoked when the number of queued bytes exceeded the high watermark. The underlying I/O layer
+         * should stop supplying more data until {@link #resume()} is invoked.
+         */
+        public void suspend();
+
+        /**
+         * Invoked when the number of queued bytes dropped to the low watermark or the stream has been closed.
+         * The underlying I/O layer may continue supplying data.
+         */
+        public void resume();
+
+        /**
+         * Invoked when a byte buffer previously {@link #put(java.nio.ByteBuffer) put} into the stream has been
+         * consumed (or discarded) and will not be accessed by the stream anymore.
+         *
+         * @param buffer consumed byte buffer.
+         */
+        public void release(ByteBuffer buffer);
+    }
 
     /**
      * Create a new input stream that is backed by a a queue of {@link java.nio.ByteBuffer byte buffers}
      * to be read.
      */
     public ByteBufferInputStream() {
+        this(null, 0, 0);
+    }
+
+    /**
+     * Create a new input stream that is backed by a a queue of {@link java.nio.ByteBuffer byte buffers}
+     * to be read and that notifies the supplied callback about the demand for more data.
+     *
+     * @param demand        callback used to control reading on the underlying I/O layer and to release
+     *                      the consumed byte buffers.
+     * @param highWatermark number of queued bytes above which the underlying I/O layer is suspended.
+     *                      A non-positive value means the queue is unbounded and the I/O layer is never suspended.
+     * @param lowWatermark  number of queued bytes at which the suspended I/O layer is resumed. Must not be greater
+     *                      than the high watermark.
+     * @since 2.17
+     */
+    public ByteBufferInputStream(final DemandCallback demand, final long highWatermark, final long lowWatermark) {
+        if (highWatermark > 0 && (lowWatermark < 0 || lowWatermark > highWatermark)) {
+            throw new IllegalArgumentException(
+                    "Low watermark (" + lowWatermark + ") must be between 0 and the high watermark (" + highWatermark + ").");
+        }
         this.buffers = DataStructures.createLinkedTransferQueue();
         this.current = null;
+        this.demand = demand;
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
     }
 
     private boolean fetchChunk(final boolean block) throws InterruptedException {
@@ -103,13 +205,21 @@ public final class ByteBufferInputStream extends NonBlockingInputStream {
 
         // Read until no buffers available (poll returned null)
         // or until a non-empty buffer or EOF is reached.
+        reader = Thread.currentThread();
         do {
+            // current buffer (if any) has been fully read at this point
+            release(current);
+            current = null;
+
             if (closed.get()) {
                 current = EOF;
                 break;
             }
 
             current = (block) ? buffers.take() : buffers.poll();
+            if (current != null && current != EOF) {
+                dequeued(current.remaining());
+            }
         } while (current != null && current != EOF && !current.hasRemaining());
 
         eof = current == EOF;
@@ -118,6 +228,8 @@ public final class ByteBufferInputStream extends NonBlockingInputStream {
 
     private void checkNotClosed() throws IOException {
         if (closed.get()) {
+            // invoked from the reader thread - the partially read buffer can be released safely
+            releaseCurrent();
             throw new IOException(LocalizationMessages.INPUT_STREAM_CLOSED());
         }
     }
@@ -262,11 +374,89 @@ public final class ByteBufferInputStream extends NonBlockingInputStream {
             closeQueue();
             // we can now safely clear the queue - any blocking read waiting for a buffer
             // has been resumed by the EOF buffer
-            buffers.clear();
+            ByteBuffer buffer;
+            while ((buffer = buffers.poll()) != null) {
+                release(buffer);
+            }
+            if (reader == Thread.currentThread()) {
+                // closed by the reader - the partially read buffer is not coming back to the fetch loop anymore;
+                // otherwise the reader releases it once it observes the closed stream
+                releaseCurrent();
+            }
+            if (demand != null) {
+                queuedBytes.set(0);
+                updateDemand();
+            }
         }
         checkThrowable();
     }
 
+    /**
+     * Remove the given buffer instance from the read queue. Byte buffers compare by content,
+     * hence the identity check.
+     */
+    private boolean removeQueued(final ByteBuffer buffer) {
+        final Iterator<ByteBuffer> iterator = buffers.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == buffer) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void releaseCurrent() {
+        release(current);
+        current = EOF;
+    }
+
+    private void release(final ByteBuffer buffer) {
+        if (demand != null && buffer != null && buffer != EOF) {
+            demand.release(buffer);
+        }
+    }
+
+    private void queued(final int size) {
+        if (queuedBytes.addAndGet(size) > highWatermark && highWatermark > 0 && !suspended) {
+            updateDemand();
+        }
+    }
+
+    private void dequeued(final int size) {
+        if (demand != null && queuedBytes.addAndGet(-size) <= lowWatermark && suspended) {
+            updateDemand();
+        }
+    }
+
+    /**
+     * Suspend or resume the underlying I/O layer based on the current number of queued bytes.
+     * <p>
+     * The reader decrements the queued bytes count and then checks the {@code suspended} flag without holding
+     * the lock. The suspending side therefore publishes the flag first and only then re-checks the count: either
+     * the re-check observes the drained queue and the suspension is abandoned, or the reader observes the flag and
+     * resumes the I/O layer once the lock is released.
+     * </p>
+     */
+    private void updateDemand() {
+        synchronized (demandLock) {
+            if (suspended) {
+                if (queuedBytes.get() <= lowWatermark || closed.get()) {
+                    suspended = false;
+                    demand.resume();
+                }
+            } else if (highWatermark > 0 && queuedBytes.get() > highWatermark && !closed.get()) {
+                suspended = true;
+                if (queuedBytes.get() <= lowWatermark || closed.get()) {
+                    // the reader has drained the queue before it could see the flag
+                    suspended = false;
+                } else {
+                    demand.suspend();
+                }
+            }
+        }
+    }
+
     /**
      * Put the {@code ByteBuffer} to the internal queue to be available for reading from the stream.
      *
@@ -277,15 +467,28 @@ public final class ByteBufferInputStream extends NonBlockingInputStream {
      * {@link #closeQueue() closed} already, the method simply returns {@code false} without registering
      * the buffer in the closed queue.
      * </p>
+     * <p>
+     * If the stream has been created with a {@link DemandCallback demand callback}, the callback may be asked
+     * to {@link DemandCallback#suspend() suspend} the underlying I/O layer once the buffer has been queued.
+     * </p>
      *
      * @param src the source buffer to be registered in the byte buffer read queue.
      * @return {@code true} if the byte buffer has been successfully put in the read queue,
-     *         {@code false} if the read queue has been closed.
+     *         {@code false} if the read queue or the stream has been closed, in which case the buffer
+     *         has not been released and remains owned by the caller.
      * @throws InterruptedException in case the put operation has been interrupted.
      */
     public boolean put(ByteBuffer src) throws InterruptedException {
         if (queueStatus.get() == null) {
+            final int size = src.remaining();
             buffers.put(src);
+            if (closed.get() && removeQueued(src)) {
+                // the stream has been closed and drained concurrently, the caller keeps the ownership of the buffer
+                return false;
+            }
+            if (demand != null) {
+                queued(size);
+            }
             return true;
         }
         return false;
@@ -44,24 +44,23 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
 import javax.annotation.Priority;
 import javax.ws.rs.Priorities;
 import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.MediaType;
 
 import javax.inject.Inject;
 
+import org.glassfish.jersey.message.internal.ZipCodecPool;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
  * Deflate encoding support. Interceptor that encodes the output or decodes the input if
  * {@link javax.ws.rs.core.HttpHeaders#CONTENT_ENCODING Content-Encoding header} value equals to {@code deflate}.
  * The default behavior of this interceptor can be tweaked using {@link MessageProperties#DEFLATE_WITHOUT_ZLIB}
- * property.
+ * property. The compression level and strategy can be configured per media type using
+ * {@link MessageProperties#ENCODING_LEVEL} and {@link MessageProperties#ENCODING_STRATEGY} properties.
  *
  * @author Martin Matula
  */
@@ -98,16 +97,22 @@ public class DeflateEncoder extends ContentEncoder {
         // that should never be the case if no zlib wrapper
         if ((firstByte & 15) == 8) {
             // ok, zlib wrapped stream
-            return new InflaterInputStream(markSupportingStream);
+            return ZipCodecPool.inflate(markSupportingStream, false);
         } else {
             // no zlib wrapper
-            return new InflaterInputStream(markSupportingStream, new Inflater(true));
+            return ZipCodecPool.inflate(markSupportingStream, true);
         }
     }
 
     @Override
     public OutputStream encode(String contentEncoding, OutputStream entityStream)
             throws IOException {
+        return encode(contentEncoding, null, entityStream);
+    }
+
+    @Override
+    protected OutputStream encode(String contentEncoding, MediaType mediaType, OutputStream entityStream)
+            throws IOException {
         // some implementations don't support the correct deflate
         // so we have a property to configure the incorrect deflate (no zlib wrapper) should be used
         // let's check that
@@ -121,8 +126,7 @@ public class DeflateEncoder extends ContentEncoder {
             deflateWithoutZLib = false;
         }
 
-        return deflateWithoutZLib ?
-                new DeflaterOutputStream(entityStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true)) :
-                new DeflaterOutputStream(entityStream);
+        return ZipCodecPool.deflate(entityStream,
+                getCompressionLevel(mediaType), getCompressionStrategy(mediaType), deflateWithoutZLib);
     }
 }
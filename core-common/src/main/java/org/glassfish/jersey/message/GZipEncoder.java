@@ -43,18 +43,20 @@ package org.glassfish.jersey.message;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.Priority;
 import javax.ws.rs.Priorities;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 
+import org.glassfish.jersey.message.internal.ZipCodecPool;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
  * GZIP encoding support. Interceptor that encodes the output or decodes the input if
  * {@link HttpHeaders#CONTENT_ENCODING Content-Encoding header} value equals to {@code gzip} or {@code x-gzip}.
+ * The compression level and strategy can be configured per media type using {@link MessageProperties#ENCODING_LEVEL}
+ * and {@link MessageProperties#ENCODING_STRATEGY} properties.
  *
  * @author Martin Matula
  */
@@ -70,12 +72,18 @@ public class GZipEncoder extends ContentEncoder {
     @Override
     public InputStream decode(String contentEncoding, InputStream encodedStream)
             throws IOException {
-        return new GZIPInputStream(encodedStream);
+        return ZipCodecPool.gunzip(encodedStream);
     }
 
     @Override
     public OutputStream encode(String contentEncoding, OutputStream entityStream)
             throws IOException {
-        return new GZIPOutputStream(entityStream);
+        return encode(contentEncoding, null, entityStream);
+    }
+
+    @Override
+    protected OutputStream encode(String contentEncoding, MediaType mediaType, OutputStream entityStream)
+            throws IOException {
+        return ZipCodecPool.gzip(entityStream, getCompressionLevel(mediaType), getCompressionStrategy(mediaType));
     }
 }
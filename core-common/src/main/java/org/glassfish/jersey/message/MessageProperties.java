@@ -85,6 +85,24 @@ public final class MessageProperties {
      */
     public static final String XML_FORMAT_OUTPUT = "jersey.config.xml.formatOutput";
 
+    /**
+     * Maximum number of idle {@link javax.xml.bind.Marshaller marshallers} and {@link javax.xml.bind.Unmarshaller
+     * unmarshallers} that JAXB-based message body providers keep pooled per {@link javax.xml.bind.JAXBContext}.
+     * The property value is expected to be a non-negative integer.
+     * <p />
+     * Only instances created by the providers themselves are pooled; instances supplied by a
+     * {@link javax.ws.rs.ext.ContextResolver} are never reused. Pooled instances are reset to their initial
+     * configuration before they are returned to the pool.
+     * <p />
+     * The default value is {@code 0}, which disables the pooling and a new instance is created for every
+     * processed entity.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.17
+     */
+    public static final String JAXB_MARSHALLER_POOL_SIZE = "jersey.config.jaxb.marshallerPoolSize";
+
     /**
      * Value of the property indicates the buffer size to be used for I/O operations
      * on byte and character streams. The property value is expected to be a positive
@@ -113,6 +131,53 @@ public final class MessageProperties {
      */
     public static final String DEFLATE_WITHOUT_ZLIB = "jersey.config.deflate.nozlib";
 
+    /**
+     * Minimal size (in bytes) of an entity to be compressed by the {@link org.glassfish.jersey.spi.ContentEncoder content
+     * encoders}. Entities that are smaller are sent without any {@code Content-Encoding}. The size is determined by
+     * buffering the beginning of the serialized entity, hence the encoding decision does not require a known entity
+     * length. The property value is expected to be a non-negative integer.
+     * <p />
+     * The property may also be set as a request property (with an {@link Integer} value) to override the configured
+     * value for a single message.
+     * <p />
+     * The default value is {@code 0}, i.e. all entities are compressed.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.17
+     */
+    public static final String ENCODING_MIN_SIZE = "jersey.config.encoding.minSize";
+
+    /**
+     * Compression level used by the {@link GZipEncoder gzip} and {@link DeflateEncoder deflate} encoders.
+     * <p />
+     * The property value is either a single integer level ({@code -1} - {@code 9}) applied to all entities, or
+     * a comma-separated list of {@code media-range=level} pairs (e.g. {@code "text/*=9, image/*=0, 6"}).
+     * The most specific media range matching the entity media type is used; a level without a media range applies
+     * to all media types.
+     * <p />
+     * The default value is {@code -1} (zlib default compression level).
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.17
+     */
+    public static final String ENCODING_LEVEL = "jersey.config.encoding.level";
+
+    /**
+     * Compression strategy used by the {@link GZipEncoder gzip} and {@link DeflateEncoder deflate} encoders.
+     * <p />
+     * The property value has the same format as the value of {@link #ENCODING_LEVEL}. Supported strategies are
+     * {@code default}, {@code filtered} and {@code huffman} (or the respective {@link java.util.zip.Deflater} constants).
+     * <p />
+     * The default value is {@code default}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.17
+     */
+    public static final String ENCODING_STRATEGY = "jersey.config.encoding.strategy";
+
     /**
      * If set to {@code true}, {@link javax.ws.rs.ext.MessageBodyReader MessageBodyReaders} and
      * {@link javax.ws.rs.ext.MessageBodyWriter MessageBodyWriters} will be ordered by rules from JAX-RS 1.x, where custom
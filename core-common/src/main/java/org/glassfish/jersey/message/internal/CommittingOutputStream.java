@@ -41,6 +41,7 @@
 package org.glassfish.jersey.message.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.logging.Level;
@@ -74,12 +75,16 @@ import jersey.repackaged.com.google.common.base.Preconditions;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * File regions {@link #transferFrom(java.io.File, long, long) transferred} into a committing output
+ * stream are passed to the adapted output stream if it is a {@link FileRegionOutput}.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar (marek.potociar at oracle.com)
  * @author Miroslav Fuksa
  */
-final class CommittingOutputStream extends OutputStream {
+final class CommittingOutputStream extends OutputStream implements FileRegionOutput {
 
     private static final Logger LOGGER = Logger.getLogger(CommittingOutputStream.class.getName());
     /**
@@ -253,6 +258,24 @@ final class CommittingOutputStream extends OutputStream {
         }
     }
 
+    @Override
+    public boolean transferFrom(final File file, final long position, final long count) throws IOException {
+        if (!isCommitted && !directWrite && buffer.size() == 0) {
+            // the region forms the whole entity, hence the entity size is known
+            commitStream(count <= Integer.MAX_VALUE ? (int) count : -1);
+        } else {
+            flushBuffer(false);
+            commitStream();
+        }
+
+        if (adaptedOutput instanceof NullOutputStream) {
+            // nothing to be written (e.g. response to a HEAD request)
+            return true;
+        }
+        return adaptedOutput instanceof FileRegionOutput
+                && ((FileRegionOutput) adaptedOutput).transferFrom(file, position, count);
+    }
+
     /**
      * Commit the output stream.
      *
@@ -0,0 +1,255 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.message.MessageProperties;
+
+/**
+ * Compression settings of the content encoders.
+ * <p>
+ * The settings are read from the {@link MessageProperties#ENCODING_MIN_SIZE},
+ * {@link MessageProperties#ENCODING_LEVEL} and {@link MessageProperties#ENCODING_STRATEGY} properties.
+ * </p>
+ *
+ * @since 2.17
+ */
+public final class CompressionSettings {
+
+    private static final Logger LOGGER = Logger.getLogger(CompressionSettings.class.getName());
+
+    /**
+     * Default settings: every entity is compressed using the default compression level and strategy.
+     */
+    public static final CompressionSettings DEFAULT = new CompressionSettings(0,
+            Collections.<Rule>emptyList(), Collections.<Rule>emptyList());
+
+    private final int minSize;
+    private final List<Rule> levels;
+    private final List<Rule> strategies;
+
+    private CompressionSettings(final int minSize, final List<Rule> levels, final List<Rule> strategies) {
+        this.minSize = minSize;
+        this.levels = levels;
+        this.strategies = strategies;
+    }
+
+    /**
+     * Read the compression settings from the configuration.
+     *
+     * @param config configuration to read the settings from, may be {@code null}.
+     * @return compression settings.
+     */
+    public static CompressionSettings from(final Configuration config) {
+        if (config == null) {
+            return DEFAULT;
+        }
+
+        final Object minSize = config.getProperty(MessageProperties.ENCODING_MIN_SIZE);
+        final Object level = config.getProperty(MessageProperties.ENCODING_LEVEL);
+        final Object strategy = config.getProperty(MessageProperties.ENCODING_STRATEGY);
+        if (minSize == null && level == null && strategy == null) {
+            return DEFAULT;
+        }
+
+        return new CompressionSettings(
+                parseMinSize(minSize),
+                parseRules(MessageProperties.ENCODING_LEVEL, level),
+                parseRules(MessageProperties.ENCODING_STRATEGY, strategy));
+    }
+
+    /**
+     * Get the minimal size (in bytes) of an entity to be compressed. Smaller entities are sent without any
+     * content encoding.
+     *
+     * @return minimal size of an entity to be compressed.
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Get the compression level to be used for an entity of the given media type.
+     *
+     * @param mediaType media type of the entity, may be {@code null}.
+     * @return compression level.
+     */
+    public int getLevel(final MediaType mediaType) {
+        return resolve(levels, mediaType, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Get the compression strategy to be used for an entity of the given media type.
+     *
+     * @param mediaType media type of the entity, may be {@code null}.
+     * @return compression strategy.
+     */
+    public int getStrategy(final MediaType mediaType) {
+        return resolve(strategies, mediaType, Deflater.DEFAULT_STRATEGY);
+    }
+
+    private static int resolve(final List<Rule> rules, final MediaType mediaType, final int defaultValue) {
+        int value = defaultValue;
+        int specificity = -1;
+        for (final Rule rule : rules) {
+            final int ruleSpecificity = rule.specificity();
+            if (ruleSpecificity > specificity
+                    && (mediaType == null ? ruleSpecificity == 0 : rule.range.isCompatible(mediaType))) {
+                value = rule.value;
+                specificity = ruleSpecificity;
+            }
+        }
+        return value;
+    }
+
+    private static int parseMinSize(final Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            final int minSize = value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString().trim());
+            if (minSize >= 0) {
+                return minSize;
+            }
+        } catch (final NumberFormatException e) {
+            // logged below
+        }
+        logIgnored(MessageProperties.ENCODING_MIN_SIZE, value);
+        return 0;
+    }
+
+    private static List<Rule> parseRules(final String property, final Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof Number) {
+            final Integer parsed = parseValue(property, value.toString());
+            return parsed == null
+                    ? Collections.<Rule>emptyList() : Collections.singletonList(new Rule(MediaType.WILDCARD_TYPE, parsed));
+        }
+
+        final List<Rule> rules = new ArrayList<>();
+        for (final String entry : value.toString().split(",")) {
+            final String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            final int separator = trimmed.indexOf('=');
+            try {
+                final MediaType range = separator == -1
+                        ? MediaType.WILDCARD_TYPE : MediaType.valueOf(trimmed.substring(0, separator).trim());
+                final Integer parsed = parseValue(property, trimmed.substring(separator + 1).trim());
+                if (parsed != null) {
+                    rules.add(new Rule(range, parsed));
+                }
+            } catch (final IllegalArgumentException e) {
+                logIgnored(property, trimmed);
+            }
+        }
+        return rules;
+    }
+
+    private static Integer parseValue(final String property, final String value) {
+        if (MessageProperties.ENCODING_STRATEGY.equals(property)) {
+            switch (value.toLowerCase(Locale.ROOT)) {
+                case "default":
+                    return Deflater.DEFAULT_STRATEGY;
+                case "filtered":
+                    return Deflater.FILTERED;
+                case "huffman":
+                case "huffman_only":
+                    return Deflater.HUFFMAN_ONLY;
+                default:
+                    break;
+            }
+        }
+
+        try {
+            final int parsed = Integer.parseInt(value);
+            final boolean valid = MessageProperties.ENCODING_STRATEGY.equals(property)
+                    ? parsed == Deflater.DEFAULT_STRATEGY || parsed == Deflater.FILTERED || parsed == Deflater.HUFFMAN_ONLY
+                    : parsed >= Deflater.DEFAULT_COMPRESSION && parsed <= Deflater.BEST_COMPRESSION;
+            if (valid) {
+                return parsed;
+            }
+        } catch (final NumberFormatException e) {
+            // logged below
+        }
+        logIgnored(property, value);
+        return null;
+    }
+
+    private static void logIgnored(final String property, final Object value) {
+        LOGGER.log(Level.WARNING, "Value [" + value + "] of " + property + " property is not valid and will be ignored.");
+    }
+
+    /**
+     * Setting value bound to a media range.
+     */
+    private static final class Rule {
+
+        private final MediaType range;
+        private final int value;
+
+        private Rule(final MediaType range, final int value) {
+            this.range = range;
+            this.value = value;
+        }
+
+        private int specificity() {
+            if (range.isWildcardType()) {
+                return 0;
+            }
+            return range.isWildcardSubtype() ? 1 : 2;
+        }
+    }
+}
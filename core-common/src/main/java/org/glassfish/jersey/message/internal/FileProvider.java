@@ -39,7 +39,6 @@
  */
 package org.glassfish.jersey.message.internal;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -49,18 +48,31 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
+import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.glassfish.hk2.api.Optional;
+
 
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link File} instance.
+ * <p>
+ * The file content is written using
+ * {@link ReaderWriter#writeTo(java.io.File, java.nio.channels.FileChannel, long, long, OutputStream)},
+ * i.e. it is transferred directly to the underlying transport if the entity stream supports it. If the headers of
+ * a server response contain a {@code Content-Range} header, only the specified byte range of the file is written.
+ * The header is not interpreted in client requests.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar (marek.potociar at oracle.com)
@@ -70,6 +82,38 @@ import javax.inject.Singleton;
 @Singleton
 public final class FileProvider extends AbstractMessageReaderWriterProvider<File> {
 
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    private final boolean server;
+
+    /**
+     * Create new file provider that does not interpret the {@code Content-Range} header.
+     */
+    public FileProvider() {
+        this(null);
+    }
+
+    /**
+     * Create new file provider for the given runtime configuration.
+     *
+     * @param configuration runtime configuration, may be {@code null}.
+     */
+    @Inject
+    public FileProvider(@Optional final Configuration configuration) {
+        this.server = isServer(configuration);
+    }
+
+    /**
+     * Check whether the configuration belongs to the server runtime, i.e. whether the written entities are
+     * response entities.
+     *
+     * @param configuration runtime configuration, may be {@code null}.
+     * @return {@code true} in case of a server-side configuration.
+     */
+    static boolean isServer(final Configuration configuration) {
+        return configuration != null && configuration.getRuntimeType() == RuntimeType.SERVER;
+    }
+
     @Override
     public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         return File.class == type;
@@ -107,11 +151,65 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
             MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
-        InputStream in = new BufferedInputStream(new FileInputStream(t), ReaderWriter.BUFFER_SIZE);
+        final FileChannel channel = new FileInputStream(t).getChannel();
         try {
-            writeTo(in, entityStream);
+            writeTo(t, channel, server ? httpHeaders : null, entityStream);
         } finally {
-            in.close();
+            channel.close();
+        }
+    }
+
+    /**
+     * Write the file channel content, or its byte range specified by the {@code Content-Range} header,
+     * to the entity stream.
+     *
+     * @param file         file the channel has been opened for, may be {@code null}.
+     * @param channel      file channel to be written.
+     * @param httpHeaders  response headers, {@code null} if the {@code Content-Range} header must not be interpreted.
+     * @param entityStream entity stream to write to.
+     * @throws IOException in case of an I/O error.
+     */
+    static void writeTo(final File file,
+                        final FileChannel channel,
+                        final MultivaluedMap<String, Object> httpHeaders,
+                        final OutputStream entityStream) throws IOException {
+        final long size = channel.size();
+        final long[] range = httpHeaders == null ? null : getContentRange(httpHeaders, size);
+        if (range == null) {
+            ReaderWriter.writeTo(file, channel, 0, size, entityStream);
+        } else {
+            ReaderWriter.writeTo(file, channel, range[0], range[1] - range[0] + 1, entityStream);
+        }
+    }
+
+    /**
+     * Get the first and the last byte position of a satisfiable {@code bytes} range specified by the {@code Content-Range}
+     * header.
+     *
+     * @param httpHeaders message headers.
+     * @param size        size of the complete representation.
+     * @return first and last byte position or {@code null} if the header is not present or does not specify a byte range
+     *         within the complete representation.
+     */
+    private static long[] getContentRange(final MultivaluedMap<String, Object> httpHeaders, final long size) {
+        final Object header = httpHeaders.getFirst(CONTENT_RANGE);
+        if (header == null) {
+            return null;
+        }
+
+        // bytes first-last/size
+        final String value = header.toString().trim();
+        final int dash = value.indexOf('-');
+        final int slash = value.indexOf('/');
+        if (!value.startsWith("bytes ") || dash < 0 || slash < dash) {
+            return null;
+        }
+        try {
+            final long first = Long.parseLong(value.substring("bytes ".length(), dash).trim());
+            final long last = Long.parseLong(value.substring(dash + 1, slash).trim());
+            return first <= last && last < size ? new long[] {first, last} : null;
+        } catch (final NumberFormatException e) {
+            return null;
         }
     }
 
@@ -0,0 +1,71 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.message.internal;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Entity output stream capability of writing a region of a {@link File file} directly to the underlying transport,
+ * without copying the region content through intermediate byte arrays.
+ * <p>
+ * {@link javax.ws.rs.ext.MessageBodyWriter Message body writers} receive an entity stream implementing this
+ * interface only if the stream has not been wrapped by a {@link javax.ws.rs.ext.WriterInterceptor writer interceptor}.
+ * </p>
+ *
+ * @see ReaderWriter#writeTo(java.io.File, java.nio.channels.FileChannel, long, long, java.io.OutputStream)
+ * @since 2.17
+ */
+public interface FileRegionOutput {
+
+    /**
+     * Write the region of the file as the remaining part of the entity. No more data are expected
+     * to be written into the stream once the region has been transferred.
+     *
+     * @param file     file to transfer the region from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes in the region.
+     * @return {@code true} if the region has been transferred, {@code false} if the region can not be transferred
+     *         directly. In such case no entity bytes have been written and the caller is expected to write the region
+     *         content using the standard {@link java.io.OutputStream} methods.
+     * @throws IOException in case of an I/O error.
+     */
+    public boolean transferFrom(File file, long position, long count) throws IOException;
+}
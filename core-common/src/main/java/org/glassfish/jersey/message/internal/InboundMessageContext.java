@@ -110,12 +110,49 @@ public abstract class InboundMessageContext {
     private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
     private static final List<AcceptableMediaType> WILDCARD_ACCEPTABLE_TYPE_SINGLETON_LIST =
             Collections.singletonList(MediaTypes.WILDCARD_ACCEPTABLE_TYPE);
+    private static final List<AcceptableLanguageTag> WILDCARD_ACCEPTABLE_LANGUAGE_SINGLETON_LIST =
+            Collections.singletonList(new AcceptableLanguageTag("*", null));
 
-    private final MultivaluedMap<String, String> headers;
+    private static final ParsedHeaderCache<List<AcceptableMediaType>> ACCEPT_CACHE = new ParsedHeaderCache<>();
+    private static final ParsedHeaderCache<List<AcceptableLanguageTag>> ACCEPT_LANGUAGE_CACHE = new ParsedHeaderCache<>();
+    private static final ParsedHeaderCache<MediaType> CONTENT_TYPE_CACHE = new ParsedHeaderCache<>();
+
+    private MultivaluedMap<String, String> headers;
     private final EntityContent entityContent;
     private final boolean translateNce;
     private MessageBodyWorkers workers;
 
+    // Parsed header values memoized for the lifetime of this message.
+    private ParsedHeader<List<AcceptableMediaType>> acceptMemo;
+    private ParsedHeader<List<AcceptableLanguageTag>> acceptLanguageMemo;
+    private ParsedHeader<MediaType> contentTypeMemo;
+    private ParsedHeader<Set<MatchingEntityTag>> ifMatchMemo;
+    private ParsedHeader<Set<MatchingEntityTag>> ifNoneMatchMemo;
+
+    /**
+     * Parsed header value memoized together with the raw header value it has been parsed from.
+     * <p>
+     * Headers are exposed as a mutable map, so the memoized value is only reused as long as the current raw header value
+     * equals the one the memoized value has been parsed from. Any modification of the header thus invalidates the memo.
+     * </p>
+     *
+     * @param <T> parsed header value type.
+     */
+    private static final class ParsedHeader<T> {
+
+        private final String value;
+        private final T parsed;
+
+        ParsedHeader(final String value, final T parsed) {
+            this.value = value;
+            this.parsed = parsed;
+        }
+
+        boolean isParsedFrom(final String value) {
+            return this.value == value || this.value.equals(value);
+        }
+    }
+
     /**
      * Input stream and its state. State is represented by the {@link Type Type enum} and
      * is used to control the execution of interceptors.
@@ -242,6 +279,44 @@ public abstract class InboundMessageContext {
         return this;
     }
 
+    /**
+     * Back the message headers by a container-native header source.
+     * <p>
+     * Headers are read from the source on demand and are copied into a mutable header map only
+     * once they are modified or iterated over, or when the headers are {@link #detachHeaders() detached}.
+     * See {@link ReadThroughHeaders} for details.
+     * Headers added to this context before the method is invoked are retained.
+     * </p>
+     *
+     * @param source container-native header source.
+     * @return updated context.
+     * @since 2.17
+     */
+    public InboundMessageContext headers(ReadThroughHeaders.Source source) {
+        final MultivaluedMap<String, String> previous = this.headers;
+        this.headers = new ReadThroughHeaders(source);
+        if (!previous.isEmpty()) {
+            headers(previous);
+        }
+        return this;
+    }
+
+    /**
+     * Copy the headers read through to a container-native header source, if any, into this context.
+     * <p>
+     * Once the method returns, the message headers no longer depend on the header source. The method
+     * has no effect if the headers are not backed by a header source or have been copied already.
+     * </p>
+     *
+     * @see #headers(ReadThroughHeaders.Source)
+     * @since 2.17
+     */
+    public void detachHeaders() {
+        if (headers instanceof ReadThroughHeaders) {
+            ((ReadThroughHeaders) headers).detach();
+        }
+    }
+
     /**
      * Remove a header.
      *
@@ -288,6 +363,10 @@ public abstract class InboundMessageContext {
         if (values.isEmpty()) {
             return "";
         }
+        if (values.size() == 1) {
+            final String value = values.get(0);
+            return value == null ? "" : value;
+        }
 
         final Iterator<String> valuesIterator = values.iterator();
         StringBuilder buffer = new StringBuilder(valuesIterator.next());
@@ -373,8 +452,15 @@ public abstract class InboundMessageContext {
         if (ifMatch == null || ifMatch.isEmpty()) {
             return null;
         }
+
+        final ParsedHeader<Set<MatchingEntityTag>> memo = ifMatchMemo;
+        if (memo != null && memo.isParsedFrom(ifMatch)) {
+            return memo.parsed;
+        }
         try {
-            return HttpHeaderReader.readMatchingEntityTag(ifMatch);
+            final Set<MatchingEntityTag> parsed = HttpHeaderReader.readMatchingEntityTag(ifMatch);
+            ifMatchMemo = new ParsedHeader<>(ifMatch, parsed);
+            return parsed;
         } catch (java.text.ParseException e) {
             throw exception(HttpHeaders.IF_MATCH, ifMatch, e);
         }
@@ -390,8 +476,15 @@ public abstract class InboundMessageContext {
         if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
             return null;
         }
+
+        final ParsedHeader<Set<MatchingEntityTag>> memo = ifNoneMatchMemo;
+        if (memo != null && memo.isParsedFrom(ifNoneMatch)) {
+            return memo.parsed;
+        }
         try {
-            return HttpHeaderReader.readMatchingEntityTag(ifNoneMatch);
+            final Set<MatchingEntityTag> parsed = HttpHeaderReader.readMatchingEntityTag(ifNoneMatch);
+            ifNoneMatchMemo = new ParsedHeader<>(ifNoneMatch, parsed);
+            return parsed;
         } catch (java.text.ParseException e) {
             throw exception(HttpHeaders.IF_NONE_MATCH, ifNoneMatch, e);
         }
@@ -444,11 +537,22 @@ public abstract class InboundMessageContext {
         return singleHeader(HttpHeaders.CONTENT_TYPE, new Function<String, MediaType>() {
             @Override
             public MediaType apply(String input) {
-                try {
-                    return MediaType.valueOf(input);
-                } catch (IllegalArgumentException iae) {
-                    throw new ProcessingException(iae);
+                final ParsedHeader<MediaType> memo = contentTypeMemo;
+                if (memo != null && memo.isParsedFrom(input)) {
+                    return memo.parsed;
                 }
+
+                MediaType mediaType = CONTENT_TYPE_CACHE.get(input);
+                if (mediaType == null) {
+                    try {
+                        mediaType = MediaType.valueOf(input);
+                    } catch (IllegalArgumentException iae) {
+                        throw new ProcessingException(iae);
+                    }
+                    CONTENT_TYPE_CACHE.put(input, mediaType);
+                }
+                contentTypeMemo = new ParsedHeader<>(input, mediaType);
+                return mediaType;
             }
         }, false);
     }
@@ -466,11 +570,22 @@ public abstract class InboundMessageContext {
             return WILDCARD_ACCEPTABLE_TYPE_SINGLETON_LIST;
         }
 
-        try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(value));
-        } catch (ParseException e) {
-            throw exception(HttpHeaders.ACCEPT, value, e);
+        final ParsedHeader<List<AcceptableMediaType>> memo = acceptMemo;
+        if (memo != null && memo.isParsedFrom(value)) {
+            return memo.parsed;
+        }
+
+        List<AcceptableMediaType> mediaTypes = ACCEPT_CACHE.get(value);
+        if (mediaTypes == null) {
+            try {
+                mediaTypes = Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(value));
+            } catch (ParseException e) {
+                throw exception(HttpHeaders.ACCEPT, value, e);
+            }
+            ACCEPT_CACHE.put(value, mediaTypes);
         }
+        acceptMemo = new ParsedHeader<>(value, mediaTypes);
+        return mediaTypes;
     }
 
     /**
@@ -483,14 +598,25 @@ public abstract class InboundMessageContext {
         final String value = getHeaderString(HttpHeaders.ACCEPT_LANGUAGE);
 
         if (value == null || value.isEmpty()) {
-            return Collections.singletonList(new AcceptableLanguageTag("*", null));
+            return WILDCARD_ACCEPTABLE_LANGUAGE_SINGLETON_LIST;
         }
 
-        try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(value));
-        } catch (ParseException e) {
-            throw exception(HttpHeaders.ACCEPT_LANGUAGE, value, e);
+        final ParsedHeader<List<AcceptableLanguageTag>> memo = acceptLanguageMemo;
+        if (memo != null && memo.isParsedFrom(value)) {
+            return memo.parsed;
+        }
+
+        List<AcceptableLanguageTag> languageTags = ACCEPT_LANGUAGE_CACHE.get(value);
+        if (languageTags == null) {
+            try {
+                languageTags = Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(value));
+            } catch (ParseException e) {
+                throw exception(HttpHeaders.ACCEPT_LANGUAGE, value, e);
+            }
+            ACCEPT_LANGUAGE_CACHE.put(value, languageTags);
         }
+        acceptLanguageMemo = new ParsedHeader<>(value, languageTags);
+        return languageTags;
     }
 
     /**
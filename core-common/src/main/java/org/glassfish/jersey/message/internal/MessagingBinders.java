@@ -97,6 +97,7 @@ public final class MessagingBinders {
             bindSingletonWorker(FormMultivaluedMapProvider.class);
             bindSingletonWorker(FormProvider.class);
             bindSingletonWorker(InputStreamProvider.class);
+            bindSingletonWorker(PathProvider.class);
             bindSingletonWorker(BasicTypesMessageProvider.class);
             bindSingletonWorker(ReaderProvider.class);
             bindSingletonWorker(RenderedImageProvider.class);
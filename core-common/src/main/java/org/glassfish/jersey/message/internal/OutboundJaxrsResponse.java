@@ -65,6 +65,8 @@ import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Variant;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.internal.util.collection.Values;
 
 import jersey.repackaged.com.google.common.base.Objects;
 
@@ -326,7 +328,7 @@ public class OutboundJaxrsResponse extends javax.ws.rs.core.Response {
         private final OutboundMessageContext context;
 
         /* thread-local storage for request baseUri for use in the response headers */
-        private static final InheritableThreadLocal<URI> baseUriThreadLocal = new InheritableThreadLocal<URI>();
+        private static final InheritableThreadLocal<Value<URI>> baseUriThreadLocal = new InheritableThreadLocal<Value<URI>>();
 
         /**
          * Set the {@code baseUri} of the actual request into the {@link InheritableThreadLocal}.
@@ -345,6 +347,21 @@ public class OutboundJaxrsResponse extends javax.ws.rs.core.Response {
          * @since 2.4
          */
         public static void setBaseUri(URI baseUri) {
+            baseUriThreadLocal.set(Values.of(baseUri));
+        }
+
+        /**
+         * Set a lazily computed {@code baseUri} of the actual request into the {@link InheritableThreadLocal}.
+         * <p>
+         * The value is retrieved only if a relative location URI needs to be absolutized, so the request
+         * base URI does not need to be computed for responses without a relative location.
+         * </p>
+         *
+         * @param baseUri - baseUri of the actual request
+         * @see #setBaseUri(java.net.URI)
+         * @since 2.17
+         */
+        public static void setBaseUri(Value<URI> baseUri) {
             baseUriThreadLocal.set(baseUri);
         }
 
@@ -359,7 +376,8 @@ public class OutboundJaxrsResponse extends javax.ws.rs.core.Response {
          * @since 2.4
          */
         private static URI getBaseUri() {
-            return baseUriThreadLocal.get();
+            final Value<URI> baseUri = baseUriThreadLocal.get();
+            return baseUri == null ? null : baseUri.get();
         }
 
         /**
@@ -0,0 +1,116 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.message.internal;
+
+import jersey.repackaged.com.google.common.cache.Cache;
+import jersey.repackaged.com.google.common.cache.CacheBuilder;
+
+/**
+ * Global bounded cache of parsed header values keyed by the raw header string.
+ * <p>
+ * Most clients send byte-identical values of headers such as {@code Accept} or {@code Content-Type}, so the cache lets
+ * the majority of requests skip header parsing altogether. Cached values are shared across requests and threads and must
+ * therefore be immutable. Once the cache is full, the least recently used values are evicted, so that a burst of unusual
+ * (or deliberately varied) header values cannot permanently displace the common ones; overly long header values are never
+ * cached.
+ * </p>
+ *
+ * @param <T> parsed header value type.
+ */
+final class ParsedHeaderCache<T> {
+
+    /**
+     * Default maximum number of cached header values.
+     */
+    static final int DEFAULT_SIZE_LIMIT = 512;
+    /**
+     * Maximum length of a header value that is eligible for caching.
+     */
+    static final int MAX_VALUE_LENGTH = 1024;
+
+    private final Cache<String, T> cache;
+
+    /**
+     * Create new parsed header cache with the {@link #DEFAULT_SIZE_LIMIT default size limit}.
+     */
+    ParsedHeaderCache() {
+        this(DEFAULT_SIZE_LIMIT);
+    }
+
+    /**
+     * Create new parsed header cache.
+     *
+     * @param sizeLimit maximum number of cached header values.
+     */
+    ParsedHeaderCache(final int sizeLimit) {
+        this.cache = CacheBuilder.newBuilder().maximumSize(sizeLimit).build();
+    }
+
+    /**
+     * Get the cached parsed value of the raw header value.
+     *
+     * @param value raw header value.
+     * @return parsed header value or {@code null} if the value has not been cached.
+     */
+    T get(final String value) {
+        return cache.getIfPresent(value);
+    }
+
+    /**
+     * Cache the parsed (immutable) representation of the raw header value.
+     *
+     * @param value  raw header value.
+     * @param parsed parsed header value.
+     */
+    void put(final String value, final T parsed) {
+        if (value.length() <= MAX_VALUE_LENGTH) {
+            cache.put(value, parsed);
+        }
+    }
+
+    /**
+     * Get the number of cached header values.
+     *
+     * @return number of cached header values.
+     */
+    int size() {
+        return (int) cache.size();
+    }
+}
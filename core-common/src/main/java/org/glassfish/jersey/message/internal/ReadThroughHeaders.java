@@ -0,0 +1,280 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.message.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.core.AbstractMultivaluedMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.internal.util.collection.KeyComparatorHashMap;
+import org.glassfish.jersey.internal.util.collection.StringIgnoreCaseKeyComparator;
+
+/**
+ * Read-through view of inbound message headers backed by a container-native {@link Source header source}.
+ * <p>
+ * Single header lookups ({@link #get(Object)}, {@link #getFirst(Object)}, {@link #containsKey(Object)}) are
+ * served directly from the source and memoized, so a request that only inspects a few headers never copies
+ * the rest of them. Any modification or bulk access (iteration, size, equality) copies all the source headers
+ * into a regular case-insensitive inbound header map first; the view then behaves as that map.
+ * </p>
+ * <p>
+ * Value lists returned from the view are the same instances that end up in the copied map, so a change made
+ * through a previously returned list is retained.
+ * </p>
+ * <p>
+ * The view must be {@link #detach() detached} before the container-native headers become invalid.
+ * </p>
+ *
+ * @since 2.17
+ */
+public final class ReadThroughHeaders implements MultivaluedMap<String, String> {
+
+    /**
+     * Container-native storage of inbound message headers.
+     */
+    public static interface Source {
+
+        /**
+         * Get names of all headers available in the source.
+         *
+         * @return header names.
+         */
+        public Iterable<String> getNames();
+
+        /**
+         * Get all values of a header.
+         *
+         * @param name header name, compared case-insensitively.
+         * @return header values, or {@code null} or an empty list if the header is not present.
+         */
+        public List<String> getValues(String name);
+    }
+
+    private Source source;
+    // memoized source lookups, null until the first lookup; absent headers are stored as null values
+    private Map<String, List<String>> lookups;
+    // mutable copy of the headers, null until the view is materialized
+    private AbstractMultivaluedMap<String, String> copy;
+
+    /**
+     * Create new read-through view of the headers provided by the given source.
+     *
+     * @param source container-native header source.
+     */
+    public ReadThroughHeaders(final Source source) {
+        this.source = source;
+    }
+
+    private List<String> lookup(final String name) {
+        if (lookups == null) {
+            lookups = new KeyComparatorHashMap<String, List<String>>(8, StringIgnoreCaseKeyComparator.SINGLETON);
+        } else if (lookups.containsKey(name)) {
+            return lookups.get(name);
+        }
+
+        final List<String> values = source.getValues(name);
+        final List<String> result = values == null || values.isEmpty() ? null : new ArrayList<String>(values);
+        lookups.put(name, result);
+        return result;
+    }
+
+    private MultivaluedMap<String, String> materialize() {
+        if (copy == null) {
+            copy = HeaderUtils.createInbound();
+            for (final String name : source.getNames()) {
+                if (!copy.containsKey(name)) {
+                    final List<String> values = lookup(name);
+                    if (values != null) {
+                        copy.put(name, values);
+                    }
+                }
+            }
+            source = null;
+            lookups = null;
+        }
+        return copy;
+    }
+
+    /**
+     * Copy all the headers from the source and stop reading through to it.
+     * <p>
+     * Containers typically recycle their native request objects once the response has been committed,
+     * hence the method must be invoked before that happens if the headers may still be accessed afterwards.
+     * Invoking the method on an already detached view has no effect.
+     * </p>
+     */
+    public void detach() {
+        materialize();
+    }
+
+    /**
+     * Check whether the source headers have already been copied.
+     *
+     * @return {@code true} if the view no longer reads through to the header source.
+     */
+    boolean isMaterialized() {
+        return copy != null;
+    }
+
+    @Override
+    public List<String> get(final Object key) {
+        if (copy != null) {
+            return copy.get(key);
+        }
+        return key instanceof String ? lookup((String) key) : null;
+    }
+
+    @Override
+    public String getFirst(final String key) {
+        if (copy != null) {
+            return copy.getFirst(key);
+        }
+        final List<String> values = lookup(key);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (copy != null) {
+            return copy.containsKey(key);
+        }
+        return key instanceof String && lookup((String) key) != null;
+    }
+
+    @Override
+    public void putSingle(final String key, final String value) {
+        materialize().putSingle(key, value);
+    }
+
+    @Override
+    public void add(final String key, final String value) {
+        materialize().add(key, value);
+    }
+
+    @Override
+    public void addAll(final String key, final String... newValues) {
+        materialize().addAll(key, newValues);
+    }
+
+    @Override
+    public void addAll(final String key, final List<String> valueList) {
+        materialize().addAll(key, valueList);
+    }
+
+    @Override
+    public void addFirst(final String key, final String value) {
+        materialize().addFirst(key, value);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(final MultivaluedMap<String, String> otherMap) {
+        return materialize().equalsIgnoreValueOrder(otherMap);
+    }
+
+    @Override
+    public int size() {
+        return materialize().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return materialize().isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return materialize().containsValue(value);
+    }
+
+    @Override
+    public List<String> put(final String key, final List<String> value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public List<String> remove(final Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends List<String>> m) {
+        materialize().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return materialize().keySet();
+    }
+
+    @Override
+    public Collection<List<String>> values() {
+        return materialize().values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o == this || materialize().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return materialize().toString();
+    }
+}
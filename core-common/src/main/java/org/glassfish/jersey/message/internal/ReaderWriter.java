@@ -39,6 +39,7 @@
  */
 package org.glassfish.jersey.message.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -46,6 +47,8 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.security.AccessController;
 import java.util.logging.Level;
@@ -114,6 +117,46 @@ public final class ReaderWriter {
         }
     }
 
+    /**
+     * Write a region of a file to an output stream.
+     * <p>
+     * If the file is known and the output stream is capable of {@link FileRegionOutput transferring file regions},
+     * the region is handed over to the stream directly. Otherwise (or if the stream declines the transfer) the region
+     * content is read from the channel and written to the output stream. No more data are expected to be written into
+     * a {@code FileRegionOutput} stream once the region has been written.
+     * </p>
+     *
+     * @param file     the file the channel has been opened for, or {@code null} if the channel is not backed
+     *                 by a {@link File}.
+     * @param channel  the file channel to read from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes in the region.
+     * @param out      the output stream to write to.
+     * @throws IOException if there is an error reading or writing bytes.
+     * @since 2.17
+     */
+    public static void writeTo(File file, FileChannel channel, long position, long count, OutputStream out)
+            throws IOException {
+        if (file != null && out instanceof FileRegionOutput && ((FileRegionOutput) out).transferFrom(file, position, count)) {
+            return;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long remaining = count;
+        while (remaining > 0) {
+            buffer.clear();
+            if (remaining < buffer.capacity()) {
+                buffer.limit((int) remaining);
+            }
+            final int read = channel.read(buffer, position + count - remaining);
+            if (read == -1) {
+                break;
+            }
+            out.write(buffer.array(), 0, read);
+            remaining -= read;
+        }
+    }
+
     /**
      * Read characters from an input stream and write them to an output stream.
      *
@@ -39,6 +39,7 @@
  */
 package org.glassfish.jersey.message.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -259,7 +260,10 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
                 throws WebApplicationException, IOException {
             final TracingLogger tracingLogger = getTracingLogger();
             final long timestamp = tracingLogger.timestamp(MsgTraceEvent.MBW_WRITE_TO);
-            final UnCloseableOutputStream entityStream = new UnCloseableOutputStream(context.getOutputStream(), writer);
+            final OutputStream output = context.getOutputStream();
+            final UnCloseableOutputStream entityStream = output instanceof FileRegionOutput
+                    ? new UnCloseableFileRegionOutputStream(output, writer)
+                    : new UnCloseableOutputStream(output, writer);
 
             try {
                 writer.writeTo(context.getEntity(), context.getType(), context.getGenericType(), context.getAnnotations(),
@@ -311,4 +315,23 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             }
         }
     }
+
+    /**
+     * Un-closeable output stream that exposes the {@link FileRegionOutput file region transfer} capability of the original
+     * output stream.
+     */
+    private static class UnCloseableFileRegionOutputStream extends UnCloseableOutputStream implements FileRegionOutput {
+
+        private final FileRegionOutput original;
+
+        private UnCloseableFileRegionOutputStream(final OutputStream original, final MessageBodyWriter writer) {
+            super(original, writer);
+            this.original = (FileRegionOutput) original;
+        }
+
+        @Override
+        public boolean transferFrom(final File file, final long position, final long count) throws IOException {
+            return original.transferFrom(file, position, count);
+        }
+    }
 }
@@ -0,0 +1,482 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Pool of native zlib {@link Deflater compressors} and {@link Inflater decompressors} and factory of the deflate
+ * and GZIP streams that use them.
+ * <p>
+ * Every {@code Deflater} and {@code Inflater} holds native zlib state that is otherwise released only when the
+ * instance is finalized. Streams created by this class return their compressor or decompressor to the pool when
+ * they are closed; instances that do not fit into the pool are released immediately. Streams that are not closed
+ * leave their instance to the garbage collector, same as the JDK streams do.
+ * </p>
+ *
+ * @since 2.17
+ */
+public final class ZipCodecPool {
+
+    /**
+     * Maximum number of idle instances kept in each of the pools.
+     */
+    static final int POOL_SIZE_LIMIT = 64;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] GZIP_HEADER = {
+            (byte) GZIP_MAGIC,          // magic number (short)
+            (byte) (GZIP_MAGIC >> 8),   // magic number (short)
+            Deflater.DEFLATED,          // compression method
+            0,                          // flags
+            0, 0, 0, 0,                 // modification time
+            0,                          // extra flags
+            0                           // operating system
+    };
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final Pool<Deflater> ZLIB_DEFLATERS = new Pool<>();
+    private static final Pool<Deflater> RAW_DEFLATERS = new Pool<>();
+    private static final Pool<Inflater> ZLIB_INFLATERS = new Pool<>();
+    private static final Pool<Inflater> RAW_INFLATERS = new Pool<>();
+
+    /**
+     * Prevents instantiation.
+     */
+    private ZipCodecPool() {
+    }
+
+    /**
+     * Create a stream compressing the written data using the deflate compression.
+     *
+     * @param out      stream the compressed data are written to.
+     * @param level    compression level ({@code -1} - {@code 9}).
+     * @param strategy compression strategy.
+     * @param nowrap   if {@code true} the zlib header and checksum are omitted.
+     * @return compressing output stream.
+     */
+    public static OutputStream deflate(final OutputStream out, final int level, final int strategy, final boolean nowrap) {
+        final Pool<Deflater> pool = nowrap ? RAW_DEFLATERS : ZLIB_DEFLATERS;
+        return new PooledDeflaterOutputStream(out, acquireDeflater(pool, level, strategy, nowrap), pool);
+    }
+
+    /**
+     * Create a stream compressing the written data using the GZIP format.
+     *
+     * @param out      stream the compressed data are written to.
+     * @param level    compression level ({@code -1} - {@code 9}).
+     * @param strategy compression strategy.
+     * @return compressing output stream.
+     * @throws IOException in case the GZIP header cannot be written.
+     */
+    public static OutputStream gzip(final OutputStream out, final int level, final int strategy) throws IOException {
+        final Deflater deflater = acquireDeflater(RAW_DEFLATERS, level, strategy, true);
+        try {
+            return new PooledGZipOutputStream(out, deflater, RAW_DEFLATERS);
+        } catch (final IOException e) {
+            release(RAW_DEFLATERS, deflater);
+            throw e;
+        }
+    }
+
+    /**
+     * Create a stream decompressing data compressed using the deflate compression.
+     *
+     * @param in     stream of the compressed data.
+     * @param nowrap if {@code true} the compressed data are not expected to contain the zlib header and checksum.
+     * @return decompressing input stream.
+     */
+    public static InputStream inflate(final InputStream in, final boolean nowrap) {
+        final Pool<Inflater> pool = nowrap ? RAW_INFLATERS : ZLIB_INFLATERS;
+        return new PooledInflaterInputStream(in, acquireInflater(pool, nowrap), pool);
+    }
+
+    /**
+     * Create a stream decompressing data in the GZIP format.
+     *
+     * @param in stream of the compressed data.
+     * @return decompressing input stream.
+     * @throws IOException in case the GZIP header cannot be read or is not valid.
+     */
+    public static InputStream gunzip(final InputStream in) throws IOException {
+        final Inflater inflater = acquireInflater(RAW_INFLATERS, true);
+        try {
+            return new PooledGZipInputStream(in, inflater, RAW_INFLATERS);
+        } catch (final IOException e) {
+            release(RAW_INFLATERS, inflater);
+            throw e;
+        }
+    }
+
+    private static Deflater acquireDeflater(final Pool<Deflater> pool, final int level, final int strategy,
+                                            final boolean nowrap) {
+        Deflater deflater = pool.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level, nowrap);
+        } else {
+            deflater.setLevel(level);
+        }
+        deflater.setStrategy(strategy);
+        return deflater;
+    }
+
+    private static Inflater acquireInflater(final Pool<Inflater> pool, final boolean nowrap) {
+        final Inflater inflater = pool.poll();
+        return inflater == null ? new Inflater(nowrap) : inflater;
+    }
+
+    private static void release(final Pool<Deflater> pool, final Deflater deflater) {
+        deflater.reset();
+        if (!pool.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private static void release(final Pool<Inflater> pool, final Inflater inflater) {
+        inflater.reset();
+        if (!pool.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    private static void writeInt(final OutputStream out, final long value) throws IOException {
+        out.write((int) (value & 0xff));
+        out.write((int) ((value >> 8) & 0xff));
+        out.write((int) ((value >> 16) & 0xff));
+        out.write((int) ((value >> 24) & 0xff));
+    }
+
+    private static int readUByte(final InputStream in) throws IOException {
+        final int b = in.read();
+        if (b == -1) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    private static int readUShort(final InputStream in) throws IOException {
+        return readUByte(in) | (readUByte(in) << 8);
+    }
+
+    private static long readUInt(final InputStream in) throws IOException {
+        return readUShort(in) | ((long) readUShort(in) << 16);
+    }
+
+    private static int skipBytes(final InputStream in, final int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readUByte(in);
+        }
+        return count;
+    }
+
+    private static int skipZeroTerminated(final InputStream in) throws IOException {
+        int count = 1;
+        while (readUByte(in) != 0) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Read the GZIP member header.
+     *
+     * @param in stream to read the header from.
+     * @return number of bytes the header occupies.
+     * @throws IOException in case the header is not valid.
+     */
+    private static int readGZipHeader(final InputStream in) throws IOException {
+        if (readUShort(in) != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUByte(in) != Deflater.DEFLATED) {
+            throw new ZipException("Unsupported compression method");
+        }
+        final int flags = readUByte(in);
+        // modification time, extra flags and operating system
+        int count = 4 + skipBytes(in, 6);
+
+        if ((flags & FEXTRA) == FEXTRA) {
+            final int extraLength = readUShort(in);
+            count += 2 + skipBytes(in, extraLength);
+        }
+        if ((flags & FNAME) == FNAME) {
+            count += skipZeroTerminated(in);
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            count += skipZeroTerminated(in);
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            count += skipBytes(in, 2);
+        }
+        return count;
+    }
+
+    private static class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+        private final Pool<Deflater> pool;
+        private boolean closed;
+
+        PooledDeflaterOutputStream(final OutputStream out, final Deflater deflater, final Pool<Deflater> pool) {
+            super(out, deflater, ReaderWriter.BUFFER_SIZE);
+            this.pool = pool;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            ensureOpen();
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            super.finish();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                super.close();
+            } finally {
+                // the deflater must not be touched once it is back in the pool
+                closed = true;
+                release(pool, def);
+            }
+        }
+
+        void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
+
+    private static final class PooledGZipOutputStream extends PooledDeflaterOutputStream {
+
+        private final CRC32 crc = new CRC32();
+
+        PooledGZipOutputStream(final OutputStream out, final Deflater deflater, final Pool<Deflater> pool)
+                throws IOException {
+            super(out, deflater, pool);
+            out.write(GZIP_HEADER);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            if (def.finished()) {
+                return;
+            }
+            super.finish();
+            writeInt(out, crc.getValue());
+            writeInt(out, def.getBytesRead());
+        }
+    }
+
+    private static class PooledInflaterInputStream extends InflaterInputStream {
+
+        private final Pool<Inflater> pool;
+        private boolean closed;
+
+        PooledInflaterInputStream(final InputStream in, final Inflater inflater, final Pool<Inflater> pool) {
+            super(in, inflater, ReaderWriter.BUFFER_SIZE);
+            this.pool = pool;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            ensureOpen();
+            return super.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            ensureOpen();
+            return super.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                super.close();
+            } finally {
+                // the inflater must not be touched once it is back in the pool
+                closed = true;
+                release(pool, inf);
+            }
+        }
+
+        void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
+
+    private static final class PooledGZipInputStream extends PooledInflaterInputStream {
+
+        private final CRC32 crc = new CRC32();
+        private boolean eos;
+
+        PooledGZipInputStream(final InputStream in, final Inflater inflater, final Pool<Inflater> pool)
+                throws IOException {
+            super(in, inflater, pool);
+            readGZipHeader(in);
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            ensureOpen();
+            while (!eos) {
+                final int n = super.read(b, off, len);
+                if (n != -1) {
+                    crc.update(b, off, n);
+                    return n;
+                }
+                eos = readTrailer();
+            }
+            return -1;
+        }
+
+        /**
+         * Read and verify the member trailer and start reading the next member if there is one.
+         *
+         * @return {@code true} if the end of the compressed stream has been reached.
+         * @throws IOException in case the trailer is not valid.
+         */
+        private boolean readTrailer() throws IOException {
+            // part of the trailer (and of any following member) may have already been passed to the inflater
+            final int remaining = inf.getRemaining();
+            InputStream trailer = in;
+            if (remaining > 0) {
+                trailer = new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining),
+                        new FilterInputStream(in) {
+                            @Override
+                            public void close() throws IOException {
+                                // the underlying stream is closed by the enclosing stream
+                            }
+                        });
+            }
+
+            if (readUInt(trailer) != crc.getValue() || readUInt(trailer) != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+
+            // trailer (8 bytes) and the smallest possible member header (10 bytes)
+            if (in.available() == 0 && remaining < 8 + GZIP_HEADER.length) {
+                return true;
+            }
+
+            final int headerLength;
+            try {
+                headerLength = readGZipHeader(trailer);
+            } catch (final IOException e) {
+                // trailing garbage is ignored
+                return true;
+            }
+
+            inf.reset();
+            crc.reset();
+            final int consumed = 8 + headerLength;
+            if (remaining > consumed) {
+                inf.setInput(buf, len - remaining + consumed, remaining - consumed);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Bounded pool of idle instances.
+     */
+    private static final class Pool<T> {
+
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        T poll() {
+            final T instance = idle.poll();
+            if (instance != null) {
+                idleCount.decrementAndGet();
+            }
+            return instance;
+        }
+
+        boolean offer(final T instance) {
+            if (idleCount.incrementAndGet() > POOL_SIZE_LIMIT) {
+                idleCount.decrementAndGet();
+                return false;
+            }
+            idle.offer(instance);
+            return true;
+        }
+    }
+}
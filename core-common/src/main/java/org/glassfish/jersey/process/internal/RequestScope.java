@@ -41,6 +41,7 @@
 package org.glassfish.jersey.process.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -145,6 +146,10 @@ public class RequestScope implements Context<RequestScoped> {
      * A thread local copy of the current scope instance.
      */
     private final ThreadLocal<Instance> currentScopeInstance = new ThreadLocal<Instance>();
+    /**
+     * Dense slot indexes of the request-scoped descriptors shared by all scope instances.
+     */
+    private final Slots slots = new Slots();
     private volatile boolean isActive = true;
 
     @Override
@@ -156,11 +161,12 @@ public class RequestScope implements Context<RequestScoped> {
     public <U> U findOrCreate(ActiveDescriptor<U> activeDescriptor, ServiceHandle<?> root) {
 
         final Instance instance = current();
+        final int slot = instance.slotOf(activeDescriptor);
 
-        U retVal = instance.get(activeDescriptor);
+        U retVal = instance.get(slot, activeDescriptor);
         if (retVal == null) {
             retVal = activeDescriptor.create(root);
-            instance.put(activeDescriptor, retVal);
+            instance.put(slot, activeDescriptor, retVal);
         }
         return retVal;
     }
@@ -294,7 +300,7 @@ public class RequestScope implements Context<RequestScoped> {
      * @return New suspended request scope instance.
      */
     public Instance createInstance() {
-        return new Instance();
+        return new Instance(slots);
     }
 
     /**
@@ -448,6 +454,125 @@ public class RequestScope implements Context<RequestScoped> {
         }
     }
 
+    /**
+     * Dense index assignment of request-scoped descriptors.
+     * <p>
+     * Each descriptor gets its slot index the first time the scope sees it. The slot is kept in a table
+     * indexed by the {@link ActiveDescriptor#getServiceId() service id} the service locator assigned to the
+     * descriptor when it was bound, so resolving the slot of a descriptor is a plain array access and does
+     * not hash the descriptor. Since the set of request-scoped descriptors is fixed once the service locator
+     * is built, the slot count quickly stabilizes and new scope instances are created with a storage array
+     * large enough to hold all the inhabitants.
+     * </p>
+     * <p>
+     * Descriptors without a service id, descriptors whose service id is already taken by another descriptor
+     * (e.g. a descriptor bound in a different service locator) and descriptors registered after the slot
+     * limit has been reached are not indexed and the scope instances store their inhabitants in a fallback map.
+     * </p>
+     */
+    static final class Slots {
+
+        /**
+         * Maximum number of indexed descriptors.
+         */
+        static final int SLOT_LIMIT = 1024;
+        /**
+         * Service ids at or above the limit are not indexed.
+         */
+        private static final int SERVICE_ID_LIMIT = 1 << 16;
+
+        /**
+         * Indexed descriptors by their slot index. Updated before {@link #slotsByServiceId}.
+         */
+        private volatile ActiveDescriptor<?>[] descriptors = new ActiveDescriptor<?>[0];
+        /**
+         * Slot indexes incremented by one ({@code 0} means not indexed) by the descriptor service id.
+         */
+        private volatile int[] slotsByServiceId = new int[0];
+        private int count = 0;
+
+        /**
+         * Get the slot index of the descriptor.
+         *
+         * @param descriptor request-scoped descriptor.
+         * @return slot index or {@code -1} if the descriptor has not been indexed.
+         */
+        int indexOf(final ActiveDescriptor<?> descriptor) {
+            final Long serviceId = descriptor.getServiceId();
+            if (serviceId == null) {
+                return -1;
+            }
+
+            final long id = serviceId;
+            final int[] table = slotsByServiceId;
+            if (id < 0 || id >= table.length) {
+                return -1;
+            }
+            final int slot = table[(int) id] - 1;
+            // the descriptors array is never older than the table read above
+            return slot >= 0 && descriptors[slot] == descriptor ? slot : -1;
+        }
+
+        /**
+         * Get the slot index of the descriptor, assigning a new index if the descriptor has not been indexed yet.
+         *
+         * @param descriptor request-scoped descriptor.
+         * @return slot index or {@code -1} if the descriptor cannot be indexed.
+         */
+        int register(final ActiveDescriptor<?> descriptor) {
+            final int index = indexOf(descriptor);
+            if (index >= 0) {
+                return index;
+            }
+
+            final Long serviceId = descriptor.getServiceId();
+            if (serviceId == null || serviceId < 0 || serviceId >= SERVICE_ID_LIMIT) {
+                return -1;
+            }
+
+            synchronized (this) {
+                final int current = indexOf(descriptor);
+                if (current >= 0) {
+                    return current;
+                }
+
+                final int id = serviceId.intValue();
+                final int[] table = slotsByServiceId;
+                if (count >= SLOT_LIMIT || (id < table.length && table[id] != 0)) {
+                    return -1;
+                }
+
+                final ActiveDescriptor<?>[] updated = Arrays.copyOf(descriptors, count + 1);
+                updated[count] = descriptor;
+                descriptors = updated;
+
+                final int[] updatedTable = Arrays.copyOf(table, Math.max(table.length, id + 1));
+                updatedTable[id] = count + 1;
+                slotsByServiceId = updatedTable;
+                return count++;
+            }
+        }
+
+        /**
+         * Get the descriptor assigned to the slot index.
+         *
+         * @param slot slot index.
+         * @return descriptor indexed by the slot.
+         */
+        ActiveDescriptor<?> descriptorAt(final int slot) {
+            return descriptors[slot];
+        }
+
+        /**
+         * Get the number of currently indexed descriptors.
+         *
+         * @return number of assigned slots.
+         */
+        int size() {
+            return descriptors.length;
+        }
+    }
+
     /**
      * Implementation of the request scope instance.
      */
@@ -461,16 +586,29 @@ public class RequestScope implements Context<RequestScoped> {
 
         private final LazyUid id = new LazyUid();
         /**
-         * A map of injectable instances in this scope.
+         * Marker of a {@code null} inhabitant stored in a slot.
+         */
+        private static final Object NULL = new Object();
+        /**
+         * Slot index assignment of the scope.
+         */
+        private final Slots index;
+        /**
+         * Injectable instances in this scope indexed by the descriptor slot index.
+         */
+        private Object[] store;
+        /**
+         * A map of injectable instances in this scope for descriptors without a slot (lazily created).
          */
-        private final Map<ActiveDescriptor<?>, Object> store;
+        private Map<ActiveDescriptor<?>, Object> fallback;
         /**
          * Holds the number of snapshots of this scope.
          */
         private final AtomicInteger referenceCounter;
 
-        private Instance() {
-            this.store = new HashMap<ActiveDescriptor<?>, Object>();
+        private Instance(final Slots index) {
+            this.index = index;
+            this.store = new Object[index.size()];
             this.referenceCounter = new AtomicInteger(1);
         }
 
@@ -495,9 +633,26 @@ public class RequestScope implements Context<RequestScoped> {
          * @param descriptor inhabitant descriptor.
          * @return matched inhabitant stored in the scope instance or {@code null} if not matched.
          */
-        @SuppressWarnings("unchecked")
         <T> T get(ActiveDescriptor<T> descriptor) {
-            return (T) store.get(descriptor);
+            return get(index.indexOf(descriptor), descriptor);
+        }
+
+        /**
+         * Get the slot index of the descriptor, assigning a new one if the descriptor has not been indexed yet.
+         *
+         * @param descriptor inhabitant descriptor.
+         * @return slot index or {@code -1} if the inhabitant is stored in the fallback map.
+         */
+        private int slotOf(final ActiveDescriptor<?> descriptor) {
+            return index.register(descriptor);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T get(final int slot, final ActiveDescriptor<T> descriptor) {
+            if (slot < 0) {
+                return fallback == null ? null : (T) fallback.get(descriptor);
+            }
+            return slot < store.length ? (T) unmask(store[slot]) : null;
         }
 
         /**
@@ -509,15 +664,37 @@ public class RequestScope implements Context<RequestScoped> {
          * @return old inhabitant previously stored for the given descriptor or
          *         {@code null} if none stored.
          */
-        @SuppressWarnings("unchecked")
         <T> T put(ActiveDescriptor<T> descriptor, T value) {
-            checkState(!store.containsKey(descriptor),
+            return put(slotOf(descriptor), descriptor, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T put(final int slot, final ActiveDescriptor<T> descriptor, final T value) {
+            if (slot < 0) {
+                if (fallback == null) {
+                    fallback = new HashMap<ActiveDescriptor<?>, Object>();
+                }
+                checkState(!fallback.containsKey(descriptor),
+                        "An instance for the descriptor %s was already seeded in this scope. Old instance: %s New instance: %s",
+                        descriptor,
+                        fallback.get(descriptor),
+                        value);
+
+                return (T) fallback.put(descriptor, value);
+            }
+
+            if (slot >= store.length) {
+                // descriptor indexed after this scope instance has been created
+                store = Arrays.copyOf(store, Math.max(slot + 1, index.size()));
+            }
+            checkState(store[slot] == null,
                     "An instance for the descriptor %s was already seeded in this scope. Old instance: %s New instance: %s",
                     descriptor,
-                    store.get(descriptor),
+                    unmask(store[slot]),
                     value);
 
-            return (T) store.put(descriptor, value);
+            store[slot] = value == null ? NULL : value;
+            return null;
         }
 
         /**
@@ -525,16 +702,48 @@ public class RequestScope implements Context<RequestScoped> {
          *
          * @param descriptor key for the value to be removed.
          */
-        @SuppressWarnings("unchecked")
         <T> void remove(ActiveDescriptor<T> descriptor) {
-            final T removed = (T) store.remove(descriptor);
-            if (removed != null) {
-                descriptor.dispose(removed);
+            final Object removed;
+            final int slot = index.indexOf(descriptor);
+            if (slot < 0) {
+                removed = fallback == null ? null : fallback.remove(descriptor);
+            } else if (slot < store.length) {
+                removed = unmask(store[slot]);
+                store[slot] = null;
+            } else {
+                removed = null;
+            }
+
+            dispose(descriptor, removed);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> void dispose(final ActiveDescriptor<T> descriptor, final Object value) {
+            if (value != null) {
+                descriptor.dispose((T) value);
             }
         }
 
         private <T> boolean contains(ActiveDescriptor<T> provider) {
-            return store.containsKey(provider);
+            final int slot = index.indexOf(provider);
+            if (slot < 0) {
+                return fallback != null && fallback.containsKey(provider);
+            }
+            return slot < store.length && store[slot] != null;
+        }
+
+        private static Object unmask(final Object value) {
+            return value == NULL ? null : value;
+        }
+
+        private int size() {
+            int size = fallback == null ? 0 : fallback.size();
+            for (final Object value : store) {
+                if (value != null) {
+                    size++;
+                }
+            }
+            return size;
         }
 
         /**
@@ -545,8 +754,18 @@ public class RequestScope implements Context<RequestScoped> {
         public void release() {
             if (referenceCounter.decrementAndGet() < 1) {
                 try {
-                    for (final ActiveDescriptor<?> descriptor : Sets.newHashSet(store.keySet())) {
-                        remove(descriptor);
+                    final Object[] values = store;
+                    for (int slot = 0; slot < values.length; slot++) {
+                        final Object value = values[slot];
+                        if (value != null) {
+                            values[slot] = null;
+                            dispose(index.descriptorAt(slot), unmask(value));
+                        }
+                    }
+                    if (fallback != null) {
+                        for (final ActiveDescriptor<?> descriptor : Sets.newHashSet(fallback.keySet())) {
+                            remove(descriptor);
+                        }
                     }
                 } finally {
                     logger.debugLog("Released scope instance {0}", this);
@@ -557,7 +776,7 @@ public class RequestScope implements Context<RequestScoped> {
         @Override
         public String toString() {
             return Objects.toStringHelper(this).add("id", id.value()).add("referenceCounter", referenceCounter.get())
-                    .add("store size", store.size()).toString();
+                    .add("store size", size()).toString();
         }
     }
 }
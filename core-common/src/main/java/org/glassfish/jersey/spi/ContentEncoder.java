@@ -40,6 +40,7 @@
 
 package org.glassfish.jersey.spi;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -49,7 +50,11 @@ import java.util.Set;
 
 import javax.ws.rs.Priorities;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.ReaderInterceptor;
 import javax.ws.rs.ext.ReaderInterceptorContext;
 import javax.ws.rs.ext.WriterInterceptor;
@@ -57,6 +62,9 @@ import javax.ws.rs.ext.WriterInterceptorContext;
 
 import javax.annotation.Priority;
 
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.internal.CompressionSettings;
+
 import jersey.repackaged.com.google.common.collect.Sets;
 
 /**
@@ -72,6 +80,10 @@ import jersey.repackaged.com.google.common.collect.Sets;
 public abstract class ContentEncoder implements ReaderInterceptor, WriterInterceptor {
     private final Set<String> supportedEncodings;
 
+    @Context
+    private Configuration configuration;
+    private volatile CompressionSettings compressionSettings;
+
     /**
      * Initializes this encoder implementation with the list of supported content encodings.
      *
@@ -118,6 +130,59 @@ public abstract class ContentEncoder implements ReaderInterceptor, WriterInterce
      */
     public abstract OutputStream encode(String contentEncoding, OutputStream entityStream) throws IOException;
 
+    /**
+     * Take the entity stream, wrap it and return a stream that is encoded using the specified encoding. Implementations
+     * may override this method to tune the encoding according to the media type of the entity.
+     * <p>
+     * The default implementation delegates to {@link #encode(String, java.io.OutputStream)}.
+     * </p>
+     *
+     * @param contentEncoding Encoding to be used to encode the entity - guaranteed to be one of the supported encoding
+     *                        values.
+     * @param mediaType       Media type of the entity, may be {@code null}.
+     * @param entityStream    Entity stream to be encoded.
+     * @return Encoded stream.
+     * @throws java.io.IOException if an IO error arises.
+     * @since 2.17
+     */
+    protected OutputStream encode(String contentEncoding, MediaType mediaType, OutputStream entityStream) throws IOException {
+        return encode(contentEncoding, entityStream);
+    }
+
+    /**
+     * Get the compression level configured for entities of the given media type in the application this encoder is
+     * registered in (see {@link MessageProperties#ENCODING_LEVEL}).
+     *
+     * @param mediaType media type of the entity, may be {@code null}.
+     * @return {@link java.util.zip.Deflater} compression level.
+     * @since 2.17
+     */
+    protected final int getCompressionLevel(final MediaType mediaType) {
+        return getCompressionSettings().getLevel(mediaType);
+    }
+
+    /**
+     * Get the compression strategy configured for entities of the given media type in the application this encoder is
+     * registered in (see {@link MessageProperties#ENCODING_STRATEGY}).
+     *
+     * @param mediaType media type of the entity, may be {@code null}.
+     * @return {@link java.util.zip.Deflater} compression strategy.
+     * @since 2.17
+     */
+    protected final int getCompressionStrategy(final MediaType mediaType) {
+        return getCompressionSettings().getStrategy(mediaType);
+    }
+
+    private CompressionSettings getCompressionSettings() {
+        // no need for synchronization - in case of a race condition, the settings may be read twice
+        CompressionSettings settings = compressionSettings;
+        if (settings == null) {
+            settings = CompressionSettings.from(configuration);
+            compressionSettings = settings;
+        }
+        return settings;
+    }
+
     @Override
     public final Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
         String contentEncoding = context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
@@ -133,8 +198,105 @@ public abstract class ContentEncoder implements ReaderInterceptor, WriterInterce
 
         String contentEncoding = (String) context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
         if (contentEncoding != null && getSupportedEncodings().contains(contentEncoding)) {
-            context.setOutputStream(encode(contentEncoding, context.getOutputStream()));
+            final int minSize = getMinSize(context);
+            if (minSize > 0) {
+                context.setOutputStream(new ThresholdOutputStream(
+                        contentEncoding, context.getMediaType(), context.getHeaders(), context.getOutputStream(), minSize));
+            } else {
+                context.setOutputStream(encode(contentEncoding, context.getMediaType(), context.getOutputStream()));
+            }
         }
         context.proceed();
     }
+
+    private int getMinSize(final WriterInterceptorContext context) {
+        // the minimal size may be overridden for a single message
+        final Object minSize = context.getProperty(MessageProperties.ENCODING_MIN_SIZE);
+        return minSize instanceof Number ? ((Number) minSize).intValue() : getCompressionSettings().getMinSize();
+    }
+
+    /**
+     * Output stream that buffers the beginning of the entity and starts the encoding only once the entity reaches
+     * the minimal size configured via {@link org.glassfish.jersey.message.MessageProperties#ENCODING_MIN_SIZE}.
+     * Smaller entities are written as they are and the {@code Content-Encoding} header is removed. Nothing is written
+     * to the entity stream (and therefore no headers are committed) until the decision is made.
+     */
+    private final class ThresholdOutputStream extends OutputStream {
+
+        private final String contentEncoding;
+        private final MediaType mediaType;
+        private final MultivaluedMap<String, Object> headers;
+        private final OutputStream entityStream;
+        private final int minSize;
+
+        private ByteArrayOutputStream buffer;
+        private OutputStream target;
+        private boolean closed;
+
+        private ThresholdOutputStream(final String contentEncoding,
+                                      final MediaType mediaType,
+                                      final MultivaluedMap<String, Object> headers,
+                                      final OutputStream entityStream,
+                                      final int minSize) {
+            this.contentEncoding = contentEncoding;
+            this.mediaType = mediaType;
+            this.headers = headers;
+            this.entityStream = entityStream;
+            this.minSize = minSize;
+            this.buffer = new ByteArrayOutputStream(Math.min(minSize, 8192));
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (target != null) {
+                target.write(b);
+            } else {
+                buffer.write(b);
+                startEncodingIfNeeded();
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (target != null) {
+                target.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+                startEncodingIfNeeded();
+            }
+        }
+
+        private void startEncodingIfNeeded() throws IOException {
+            if (buffer.size() >= minSize) {
+                target = encode(contentEncoding, mediaType, entityStream);
+                buffer.writeTo(target);
+                buffer = null;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // flushing is postponed until it is decided whether the entity is going to be encoded
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (target == null) {
+                // entity is too small to be encoded
+                headers.remove(HttpHeaders.CONTENT_ENCODING);
+                target = entityStream;
+                buffer.writeTo(target);
+                buffer = null;
+            }
+            target.close();
+        }
+    }
 }
@@ -41,6 +41,7 @@ package org.glassfish.jersey.uri;
 
 import java.net.URI;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
@@ -54,6 +55,8 @@ import java.util.regex.PatternSyntaxException;
 import org.glassfish.jersey.uri.internal.UriTemplateParser;
 
 import jersey.repackaged.com.google.common.base.Preconditions;
+import jersey.repackaged.com.google.common.cache.Cache;
+import jersey.repackaged.com.google.common.cache.CacheBuilder;
 
 /**
  * A URI template.
@@ -156,6 +159,18 @@ public class UriTemplate {
      */
     private static final Pattern TEMPLATE_NAMES_PATTERN = Pattern.compile("\\{([\\w\\?;][-\\w\\.,]*)\\}");
 
+    /**
+     * Maximum number of templates kept in the {@link #COMPILED_TEMPLATE_CACHE shared compiled template cache}.
+     * Least recently used templates are evicted once the limit is reached.
+     */
+    private static final int COMPILED_TEMPLATE_CACHE_SIZE_LIMIT = 1024;
+
+    /**
+     * Compiled URI templates shared by the static URI building methods, keyed by the (not normalized) template.
+     */
+    private static final Cache<String, CompiledTemplate> COMPILED_TEMPLATE_CACHE =
+            CacheBuilder.newBuilder().maximumSize(COMPILED_TEMPLATE_CACHE_SIZE_LIMIT).build();
+
     /**
      * The empty URI template that matches the {@code null} or empty URI path.
      */
@@ -169,6 +184,10 @@ public class UriTemplate {
      * the template variables.
      */
     private final String normalizedTemplate;
+    /**
+     * Lazily compiled normalized template used to create URIs.
+     */
+    private CompiledTemplate compiledTemplate;
     /**
      * The pattern generated from the template.
      */
@@ -571,7 +590,7 @@ public class UriTemplate {
      */
     public final String createURI(final Map<String, String> values) {
         final StringBuilder sb = new StringBuilder();
-        resolveTemplate(normalizedTemplate, sb, new TemplateValueStrategy() {
+        resolveTemplate(getCompiledTemplate(), sb, new TemplateValueStrategy() {
             @Override
             public String valueFor(String templateVariable, String matchedGroup) {
                 return values.get(templateVariable);
@@ -635,36 +654,33 @@ public class UriTemplate {
         };
 
         final StringBuilder sb = new StringBuilder();
-        resolveTemplate(normalizedTemplate, sb, ns);
+        resolveTemplate(getCompiledTemplate(), sb, ns);
         return sb.toString();
     }
 
     /**
      * Build a URI based on the parameters provided by the variable name strategy.
      *
-     * @param normalizedTemplate normalized URI template. A normalized template is a template without any explicit regular
-     *                           expressions.
-     * @param builder            URI string builder to be used.
-     * @param valueStrategy      The template value producer strategy to use.
+     * @param compiledTemplate compiled URI template.
+     * @param builder          URI string builder to be used.
+     * @param valueStrategy    The template value producer strategy to use.
      */
     private static void resolveTemplate(
-            String normalizedTemplate,
+            CompiledTemplate compiledTemplate,
             StringBuilder builder,
             TemplateValueStrategy valueStrategy) {
-        // Find all template variables
-        Matcher m = TEMPLATE_NAMES_PATTERN.matcher(normalizedTemplate);
 
-        int i = 0;
-        while (m.find()) {
-            builder.append(normalizedTemplate, i, m.start());
-            String variableName = m.group(1);
+        final String[] literals = compiledTemplate.literals;
+        for (int v = 0; v < compiledTemplate.variables.length; v++) {
+            builder.append(literals[v]);
+            final String matchedGroup = compiledTemplate.matchedGroups[v];
+            final String[] expandedVariables = compiledTemplate.expandedVariables[v];
             // TODO matrix
-            char firstChar = variableName.charAt(0);
-            if (firstChar == '?' || firstChar == ';') {
+            if (expandedVariables != null) {
                 final char prefix;
                 final char separator;
                 final String emptyValueAssignment;
-                if (firstChar == '?') {
+                if (compiledTemplate.variables[v].charAt(0) == '?') {
                     // query
                     prefix = '?';
                     separator = '&';
@@ -677,10 +693,9 @@ public class UriTemplate {
                 }
 
                 int index = builder.length();
-                String[] variables = variableName.substring(1).split(", ?");
-                for (String variable : variables) {
+                for (String variable : expandedVariables) {
                     try {
-                        String value = valueStrategy.valueFor(variable, m.group());
+                        String value = valueStrategy.valueFor(variable, matchedGroup);
                         if (value != null) {
                             if (index != builder.length()) {
                                 builder.append(separator);
@@ -703,16 +718,105 @@ public class UriTemplate {
                     builder.insert(index, prefix);
                 }
             } else {
-                String value = valueStrategy.valueFor(variableName, m.group());
+                String value = valueStrategy.valueFor(compiledTemplate.variables[v], matchedGroup);
 
                 if (value != null) {
                     builder.append(value);
                 }
             }
+        }
+        builder.append(literals[literals.length - 1]);
+    }
+
+    /**
+     * Normalized URI template split into literal fragments and template variable slots, so that the template can be
+     * repeatedly resolved without any further parsing or regular expression matching.
+     */
+    private static final class CompiledTemplate {
+
+        /**
+         * Literal fragments; the fragment at index {@code i} precedes the variable at index {@code i}, the last fragment
+         * follows the last variable.
+         */
+        private final String[] literals;
+        /**
+         * Template variable expressions (without the curly braces).
+         */
+        private final String[] variables;
+        /**
+         * Template variable declarations as matched in the normalized template (including the curly braces).
+         */
+        private final String[] matchedGroups;
+        /**
+         * Names of the variables of the query ({@code {?x,y}}) and matrix ({@code {;x,y}}) parameter expressions,
+         * {@code null} for simple template variables.
+         */
+        private final String[][] expandedVariables;
+
+        private CompiledTemplate(final List<String> literals, final List<String> variables, final List<String> matchedGroups) {
+            this.literals = literals.toArray(new String[literals.size()]);
+            this.variables = variables.toArray(new String[variables.size()]);
+            this.matchedGroups = matchedGroups.toArray(new String[matchedGroups.size()]);
+            this.expandedVariables = new String[this.variables.length][];
+
+            for (int i = 0; i < this.variables.length; i++) {
+                final char firstChar = this.variables[i].charAt(0);
+                if (firstChar == '?' || firstChar == ';') {
+                    expandedVariables[i] = this.variables[i].substring(1).split(", ?");
+                }
+            }
+        }
+
+        /**
+         * Compile a normalized URI template.
+         *
+         * @param normalizedTemplate normalized URI template. A normalized template is a template without any explicit
+         *                           regular expressions.
+         * @return compiled template.
+         */
+        static CompiledTemplate compile(final String normalizedTemplate) {
+            final List<String> literals = new ArrayList<String>();
+            final List<String> variables = new ArrayList<String>();
+            final List<String> matchedGroups = new ArrayList<String>();
+
+            final Matcher m = TEMPLATE_NAMES_PATTERN.matcher(normalizedTemplate);
+            int i = 0;
+            while (m.find()) {
+                literals.add(normalizedTemplate.substring(i, m.start()));
+                variables.add(m.group(1));
+                matchedGroups.add(m.group());
+                i = m.end();
+            }
+            literals.add(normalizedTemplate.substring(i));
+
+            return new CompiledTemplate(literals, variables, matchedGroups);
+        }
+    }
+
+    /**
+     * Get the compiled form of a (not normalized) URI template from the shared template cache, compiling and caching
+     * the template if necessary.
+     *
+     * @param template URI template.
+     * @return compiled template.
+     */
+    private static CompiledTemplate getCompiledTemplate(final String template) {
+        CompiledTemplate compiled = COMPILED_TEMPLATE_CACHE.getIfPresent(template);
+        if (compiled == null) {
+            compiled = CompiledTemplate.compile(new UriTemplateParser(template).getNormalizedTemplate());
+            COMPILED_TEMPLATE_CACHE.put(template, compiled);
+        }
+        return compiled;
+    }
 
-            i = m.end();
+    private CompiledTemplate getCompiledTemplate() {
+        // Benign race - the compiled template is immutable and may be compiled more than once.
+        CompiledTemplate compiled = compiledTemplate;
+        if (compiled == null) {
+            compiled = CompiledTemplate.compile(normalizedTemplate);
+            compiledTemplate = compiled;
         }
-        builder.append(normalizedTemplate, i, normalizedTemplate.length());
+        return compiled;
     }
 
     @Override
@@ -1001,7 +1105,7 @@ public class UriTemplate {
         }
 
         // Find all template variables
-        template = new UriTemplateParser(template).getNormalizedTemplate();
+        final CompiledTemplate compiledTemplate = getCompiledTemplate(template);
 
 
         class ValuesFromArrayStrategy implements TemplateValueStrategy {
@@ -1027,7 +1131,7 @@ public class UriTemplate {
             }
         }
         ValuesFromArrayStrategy cs = new ValuesFromArrayStrategy();
-        resolveTemplate(template, b, cs);
+        resolveTemplate(compiledTemplate, b, cs);
 
         return cs.offset;
     }
@@ -1058,10 +1162,10 @@ public class UriTemplate {
         final Map<String, Object> mapValues = (Map<String, Object>) _mapValues;
 
         // Find all template variables
-        template = new UriTemplateParser(template).getNormalizedTemplate();
+        final CompiledTemplate compiledTemplate = getCompiledTemplate(template);
 
         StringBuilder sb = new StringBuilder();
-        resolveTemplate(template, sb, new TemplateValueStrategy() {
+        resolveTemplate(compiledTemplate, sb, new TemplateValueStrategy() {
             @Override
             public String valueFor(String templateVariable, String matchedGroup) {
 
@@ -0,0 +1,126 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.internal;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.glassfish.jersey.internal.inject.Injections;
+import org.glassfish.jersey.spi.ExceptionMappers;
+import org.glassfish.jersey.spi.ExtendedExceptionMapper;
+
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Exception mapper factory unit test.
+ */
+public class ExceptionMapperFactoryTest {
+
+    private static class RuntimeExceptionMapper implements ExceptionMapper<RuntimeException> {
+
+        @Override
+        public Response toResponse(final RuntimeException exception) {
+            return Response.serverError().build();
+        }
+    }
+
+    private static class IllegalArgumentExceptionMapper implements ExtendedExceptionMapper<IllegalArgumentException> {
+
+        @Override
+        public boolean isMappable(final IllegalArgumentException exception) {
+            return "mappable".equals(exception.getMessage());
+        }
+
+        @Override
+        public Response toResponse(final IllegalArgumentException exception) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+
+    private static class Binder extends AbstractBinder {
+
+        @Override
+        protected void configure() {
+            bind(RuntimeExceptionMapper.class).to(ExceptionMapper.class);
+            bind(IllegalArgumentExceptionMapper.class).to(ExceptionMapper.class);
+        }
+    }
+
+    private ExceptionMappers mappers;
+
+    public ExceptionMapperFactoryTest() {
+        RuntimeDelegate.setInstance(new TestRuntimeDelegate());
+    }
+
+    @Before
+    public void setUp() {
+        final ServiceLocator locator = Injections.createLocator(new ExceptionMapperFactory.Binder(), new Binder());
+        mappers = locator.getService(ExceptionMappers.class);
+    }
+
+    @Test
+    public void testFindByType() {
+        // repeated look-ups are served from the cache and must give the same answer
+        for (int i = 0; i < 2; i++) {
+            assertTrue(mappers.find(IllegalStateException.class) instanceof RuntimeExceptionMapper);
+            assertTrue(mappers.find(NumberFormatException.class) instanceof IllegalArgumentExceptionMapper);
+            assertNull(mappers.find(Exception.class));
+        }
+    }
+
+    @Test
+    public void testFindMappingEvaluatesInstancePredicate() {
+        for (int i = 0; i < 2; i++) {
+            assertTrue(mappers.findMapping(new IllegalArgumentException("mappable"))
+                    instanceof IllegalArgumentExceptionMapper);
+            assertTrue(mappers.findMapping(new IllegalArgumentException("other")) instanceof RuntimeExceptionMapper);
+            assertTrue(mappers.findMapping(new NumberFormatException("mappable")) instanceof IllegalArgumentExceptionMapper);
+            assertTrue(mappers.findMapping(new NumberFormatException("other")) instanceof RuntimeExceptionMapper);
+            assertNull(mappers.findMapping(new Exception("mappable")));
+        }
+    }
+}
@@ -41,17 +41,24 @@ package org.glassfish.jersey.internal.util.collection;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -489,6 +496,231 @@ public class ByteBufferInputStreamTest {
 
     }
 
+    /**
+     * Test that the demand is suspended above the high watermark and resumed at the low watermark.
+     *
+     * @throws Exception in case of error.
+     */
+    @Test
+    public void testWatermarks() throws Exception {
+        final RecordingDemand demand = new RecordingDemand();
+        final ByteBufferInputStream bbis = new ByteBufferInputStream(demand, 20, 10);
+
+        for (int i = 0; i < 3; i++) {
+            bbis.put(ByteBuffer.wrap(new byte[10]));
+        }
+        assertTrue("Demand should be suspended above the high watermark.", demand.suspended);
+        assertEquals(1, demand.suspends);
+
+        final byte[] buffer = new byte[10];
+        // first buffer dequeued: 20 bytes queued
+        assertEquals(10, bbis.read(buffer));
+        assertTrue("Demand should stay suspended above the low watermark.", demand.suspended);
+
+        // second buffer dequeued: 10 bytes queued
+        assertEquals(10, bbis.read(buffer));
+        assertFalse("Demand should be resumed at the low watermark.", demand.suspended);
+        assertEquals(1, demand.resumes);
+        assertEquals("Consumed buffer should be released.", 1, demand.released.size());
+
+        bbis.put(ByteBuffer.wrap(new byte[15]));
+        assertTrue("Demand should be suspended again.", demand.suspended);
+        assertEquals(2, demand.suspends);
+
+        bbis.close();
+        assertFalse("Demand should be resumed when the stream is closed.", demand.suspended);
+        assertEquals(2, demand.resumes);
+        assertEquals("All buffers should be released.", 3, demand.released.size());
+    }
+
+    /**
+     * Test that consumed buffers are released and that the demand is never suspended for unbounded streams.
+     *
+     * @throws Exception in case of error.
+     */
+    @Test
+    public void testReleaseUnbounded() throws Exception {
+        final RecordingDemand demand = new RecordingDemand();
+        final ByteBufferInputStream bbis = new ByteBufferInputStream(demand, 0, 0);
+
+        final ByteBuffer first = ByteBuffer.wrap(new byte[] {1, 2});
+        final ByteBuffer empty = ByteBuffer.allocate(0);
+        final ByteBuffer last = ByteBuffer.wrap(new byte[] {3});
+        bbis.put(first);
+        bbis.put(empty);
+        bbis.put(last);
+        bbis.closeQueue();
+
+        assertEquals(1, bbis.read());
+        assertEquals(2, bbis.read());
+        assertEquals(3, bbis.read());
+        assertEquals(-1, bbis.read());
+
+        assertEquals(0, demand.suspends);
+        assertEquals(3, demand.released.size());
+        assertSame(first, demand.released.get(0));
+        assertSame(empty, demand.released.get(1));
+        assertSame(last, demand.released.get(2));
+    }
+
+    @Test
+    public void testCloseReleasesPartiallyReadBuffer() throws Exception {
+        final RecordingDemand demand = new RecordingDemand();
+        final ByteBufferInputStream bbis = new ByteBufferInputStream(demand, 0, 0);
+
+        final ByteBuffer first = ByteBuffer.wrap(new byte[] {1, 2});
+        final ByteBuffer second = ByteBuffer.wrap(new byte[] {3});
+        bbis.put(first);
+        bbis.put(second);
+
+        assertEquals(1, bbis.read());
+        bbis.close();
+
+        assertEquals(2, demand.released.size());
+        assertTrue(demand.released.contains(first));
+        assertTrue(demand.released.contains(second));
+    }
+
+    @Test
+    public void testCloseFromOtherThreadLeavesPartiallyReadBufferToReader() throws Exception {
+        final RecordingDemand demand = new RecordingDemand();
+        final ByteBufferInputStream bbis = new ByteBufferInputStream(demand, 0, 0);
+
+        final ByteBuffer first = ByteBuffer.wrap(new byte[] {1, 2});
+        final ByteBuffer second = ByteBuffer.wrap(new byte[] {3});
+        bbis.put(first);
+        bbis.put(second);
+
+        assertEquals(1, bbis.read());
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    bbis.close();
+                    return null;
+                }
+            }).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the reader may still be accessing the partially read buffer
+        assertEquals(1, demand.released.size());
+        assertSame(second, demand.released.get(0));
+
+        try {
+            bbis.read();
+            fail("IOException expected.");
+        } catch (final IOException expected) {
+            // expected
+        }
+        assertEquals(2, demand.released.size());
+        assertSame(first, demand.released.get(1));
+
+        try {
+            bbis.read();
+            fail("IOException expected.");
+        } catch (final IOException expected) {
+            // expected
+        }
+        assertEquals(2, demand.released.size());
+    }
+
+    @Test
+    public void testWatermarksConcurrent() throws Exception {
+        final int total = 200000;
+        final BlockingDemand demand = new BlockingDemand();
+        final ByteBufferInputStream bbis = new ByteBufferInputStream(demand, 4, 2);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> producer = executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    try {
+                        for (int i = 0; i < total; i++) {
+                            bbis.put(ByteBuffer.wrap(new byte[] {(byte) (i % 128)}));
+                            demand.awaitDemand();
+                        }
+                    } finally {
+                        bbis.closeQueue();
+                    }
+                    return null;
+                }
+            });
+
+            int read = 0;
+            while (bbis.read() != -1) {
+                read++;
+            }
+            producer.get(30, TimeUnit.SECONDS);
+            assertEquals(total, read);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Demand callback that blocks the producer while suspended, as the connectors do.
+     */
+    private static class BlockingDemand implements ByteBufferInputStream.DemandCallback {
+        private boolean suspended;
+
+        @Override
+        public synchronized void suspend() {
+            suspended = true;
+        }
+
+        @Override
+        public synchronized void resume() {
+            suspended = false;
+            notifyAll();
+        }
+
+        @Override
+        public void release(final ByteBuffer buffer) {
+        }
+
+        synchronized void awaitDemand() throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (suspended) {
+                final long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new AssertionError("Producer has not been resumed.");
+                }
+                wait(remaining);
+            }
+        }
+    }
+
+    private static class RecordingDemand implements ByteBufferInputStream.DemandCallback {
+        private boolean suspended;
+        private int suspends;
+        private int resumes;
+        private final List<ByteBuffer> released = new ArrayList<ByteBuffer>();
+
+        @Override
+        public void suspend() {
+            assertFalse("Suspend invoked twice.", suspended);
+            suspended = true;
+            suspends++;
+        }
+
+        @Override
+        public void resume() {
+            assertTrue("Resume invoked without suspend.", suspended);
+            suspended = false;
+            resumes++;
+        }
+
+        @Override
+        public void release(final ByteBuffer buffer) {
+            released.add(buffer);
+        }
+    }
+
     private static abstract class Task {
         private final ByteBufferInputStream bbis;
 
@@ -40,6 +40,8 @@
 
 package org.glassfish.jersey.message;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -47,6 +49,8 @@ import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * @author Martin Matula
@@ -96,4 +100,47 @@ public class GZipEncodingTest extends AbstractEncodingTest {
             }
         });
     }
+
+    @Test
+    public void testEncodeDecodeRepeatedly() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            testEncodeDecode();
+        }
+    }
+
+    @Test
+    public void testDecodeConcatenatedMembers() throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (final String part : new String[] {"Hello ", "world", "!"}) {
+            final GZIPOutputStream gzip = new GZIPOutputStream(baos);
+            gzip.write(part.getBytes());
+            gzip.finish();
+        }
+
+        final InputStream decoded = new GZipEncoder().decode("gzip", new ByteArrayInputStream(baos.toByteArray()));
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[3];
+        int read;
+        while ((read = decoded.read(buffer)) != -1) {
+            result.write(buffer, 0, read);
+        }
+        decoded.close();
+
+        assertEquals("Hello world!", result.toString());
+    }
+
+    @Test
+    public void testWriteAfterClose() throws IOException {
+        final OutputStream encoded = new GZipEncoder().encode("gzip", new ByteArrayOutputStream());
+        encoded.write(1);
+        encoded.close();
+        encoded.close();
+
+        try {
+            encoded.write(2);
+            fail("Writing to a closed stream should fail.");
+        } catch (final IOException expected) {
+            // expected
+        }
+    }
 }
@@ -41,8 +41,11 @@
 package org.glassfish.jersey.message.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.util.Map;
 
 import javax.ws.rs.RuntimeType;
@@ -325,6 +328,71 @@ public class CommittingOutputStreamTest {
     }
 
 
+    @Test
+    public void testTransferFromFallback() throws IOException {
+        final File file = createFile(new byte[]{1, 2, 3, 4, 5, 6});
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final Passed passed = new Passed();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final CommittingOutputStream cos = new CommittingOutputStream();
+            // the region size is passed to the stream provider although it exceeds the buffer size
+            setupBufferedStreamProvider(passed, baos, cos, 4);
+
+            ReaderWriter.writeTo(file, raf.getChannel(), 1, 4, cos);
+            checkCommitted(passed, cos);
+            cos.close();
+            check(baos, new byte[]{2, 3, 4, 5});
+        } finally {
+            raf.close();
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testTransferFromRegionOutput() throws IOException {
+        final long[] region = new long[2];
+        final CommittingOutputStream cos = new CommittingOutputStream();
+        cos.setStreamProvider(new OutboundMessageContext.StreamProvider() {
+            @Override
+            public OutputStream getOutputStream(int contentLength) throws IOException {
+                return new RegionOutputStream(region);
+            }
+        });
+        cos.enableBuffering(3);
+
+        assertTrue(cos.transferFrom(null, 10, 20));
+        assertEquals(10, region[0]);
+        assertEquals(20, region[1]);
+        cos.close();
+    }
+
+    private static class RegionOutputStream extends ByteArrayOutputStream implements FileRegionOutput {
+        private final long[] region;
+
+        private RegionOutputStream(final long[] region) {
+            this.region = region;
+        }
+
+        @Override
+        public boolean transferFrom(final File file, final long position, final long count) throws IOException {
+            region[0] = position;
+            region[1] = count;
+            return true;
+        }
+    }
+
+    private static File createFile(final byte[] content) throws IOException {
+        final File file = File.createTempFile("committing", "test");
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
     @Test
     public void testEnableBuffering() {
         CommittingOutputStream cos = new CommittingOutputStream();
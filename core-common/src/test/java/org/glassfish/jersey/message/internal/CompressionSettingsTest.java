@@ -0,0 +1,116 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.zip.Deflater;
+
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.model.internal.CommonConfig;
+import org.glassfish.jersey.model.internal.ComponentBag;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * {@link CompressionSettings} unit tests.
+ */
+public class CompressionSettingsTest {
+
+    private static CommonConfig config() {
+        return new CommonConfig(RuntimeType.SERVER, ComponentBag.INCLUDE_ALL);
+    }
+
+    @Test
+    public void testDefaults() {
+        assertSame(CompressionSettings.DEFAULT, CompressionSettings.from(null));
+        assertSame(CompressionSettings.DEFAULT, CompressionSettings.from(config()));
+
+        assertEquals(0, CompressionSettings.DEFAULT.getMinSize());
+        assertEquals(Deflater.DEFAULT_COMPRESSION, CompressionSettings.DEFAULT.getLevel(MediaType.TEXT_PLAIN_TYPE));
+        assertEquals(Deflater.DEFAULT_STRATEGY, CompressionSettings.DEFAULT.getStrategy(null));
+    }
+
+    @Test
+    public void testGlobalValues() {
+        final CompressionSettings settings = CompressionSettings.from(config()
+                .property(MessageProperties.ENCODING_MIN_SIZE, "1024")
+                .property(MessageProperties.ENCODING_LEVEL, 9)
+                .property(MessageProperties.ENCODING_STRATEGY, "filtered"));
+
+        assertEquals(1024, settings.getMinSize());
+        assertEquals(9, settings.getLevel(MediaType.APPLICATION_JSON_TYPE));
+        assertEquals(9, settings.getLevel(null));
+        assertEquals(Deflater.FILTERED, settings.getStrategy(MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    public void testPerMediaTypeValues() {
+        final CompressionSettings settings = CompressionSettings.from(config()
+                .property(MessageProperties.ENCODING_LEVEL, "image/*=0, 6, image/png=1, text/*=9")
+                .property(MessageProperties.ENCODING_STRATEGY, "application/octet-stream=huffman"));
+
+        assertEquals(0, settings.getLevel(MediaType.valueOf("image/jpeg")));
+        assertEquals(1, settings.getLevel(MediaType.valueOf("image/png")));
+        assertEquals(9, settings.getLevel(MediaType.valueOf("text/html;charset=UTF-8")));
+        assertEquals(6, settings.getLevel(MediaType.APPLICATION_JSON_TYPE));
+        assertEquals(6, settings.getLevel(null));
+
+        assertEquals(Deflater.HUFFMAN_ONLY, settings.getStrategy(MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        assertEquals(Deflater.DEFAULT_STRATEGY, settings.getStrategy(MediaType.TEXT_PLAIN_TYPE));
+    }
+
+    @Test
+    public void testInvalidValuesIgnored() {
+        final CompressionSettings settings = CompressionSettings.from(config()
+                .property(MessageProperties.ENCODING_MIN_SIZE, "-1")
+                .property(MessageProperties.ENCODING_LEVEL, "text/*=10, 3, image/*=fast")
+                .property(MessageProperties.ENCODING_STRATEGY, "unknown"));
+
+        assertEquals(0, settings.getMinSize());
+        assertEquals(3, settings.getLevel(MediaType.TEXT_PLAIN_TYPE));
+        assertEquals(3, settings.getLevel(MediaType.valueOf("image/png")));
+        assertEquals(Deflater.DEFAULT_STRATEGY, settings.getStrategy(MediaType.TEXT_PLAIN_TYPE));
+    }
+}
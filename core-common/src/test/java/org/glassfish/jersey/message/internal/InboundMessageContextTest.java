@@ -45,12 +45,14 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Link;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.ext.ReaderInterceptor;
 import javax.ws.rs.ext.RuntimeDelegate;
 
@@ -60,6 +62,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -223,4 +226,62 @@ public class InboundMessageContextTest {
         assertTrue(allowedMethods.contains("CCC"));
         assertTrue(allowedMethods.contains("DDD"));
     }
+
+    @Test
+    public void testParsedHeadersMemoized() {
+        InboundMessageContext r = createInboundMessageContext();
+        r.header(HttpHeaders.ACCEPT, "text/html, application/json;q=0.8");
+        r.header(HttpHeaders.CONTENT_TYPE, "text/plain");
+
+        final List<AcceptableMediaType> acceptable = r.getQualifiedAcceptableMediaTypes();
+        assertEquals(2, acceptable.size());
+        assertEquals(MediaType.TEXT_HTML_TYPE, acceptable.get(0));
+        assertSame(acceptable, r.getQualifiedAcceptableMediaTypes());
+
+        final MediaType mediaType = r.getMediaType();
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, mediaType);
+        assertSame(mediaType, r.getMediaType());
+    }
+
+    @Test
+    public void testParsedHeadersInvalidatedOnMutation() {
+        InboundMessageContext r = createInboundMessageContext();
+        r.header(HttpHeaders.ACCEPT, "text/html");
+        r.header(HttpHeaders.CONTENT_TYPE, "text/plain");
+        r.header(HttpHeaders.ACCEPT_LANGUAGE, "en");
+
+        assertEquals(1, r.getQualifiedAcceptableMediaTypes().size());
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, r.getMediaType());
+        assertEquals("en", r.getQualifiedAcceptableLanguages().get(0).getTag());
+
+        r.header(HttpHeaders.ACCEPT, "application/json");
+        r.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, "application/xml");
+        r.getHeaders().get(HttpHeaders.ACCEPT_LANGUAGE).set(0, "cs");
+
+        assertEquals(2, r.getQualifiedAcceptableMediaTypes().size());
+        assertEquals(MediaType.APPLICATION_XML_TYPE, r.getMediaType());
+        assertEquals("cs", r.getQualifiedAcceptableLanguages().get(0).getTag());
+
+        r.remove(HttpHeaders.CONTENT_TYPE);
+        assertNull(r.getMediaType());
+    }
+
+    @Test
+    public void testParsedHeadersSharedAcrossMessages() {
+        InboundMessageContext r1 = createInboundMessageContext();
+        r1.header(HttpHeaders.ACCEPT, "application/xml;q=0.9, text/plain");
+        InboundMessageContext r2 = createInboundMessageContext();
+        r2.header(HttpHeaders.ACCEPT, "application/xml;q=0.9, text/plain");
+
+        assertSame(r1.getQualifiedAcceptableMediaTypes(), r2.getQualifiedAcceptableMediaTypes());
+    }
+
+    @Test
+    public void testIfNoneMatchAny() {
+        InboundMessageContext r = createInboundMessageContext();
+        r.header(HttpHeaders.IF_NONE_MATCH, "*");
+
+        assertSame(MatchingEntityTag.ANY_MATCH, r.getIfNoneMatch());
+        assertSame(MatchingEntityTag.ANY_MATCH, r.getIfNoneMatch());
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.message.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.glassfish.jersey.internal.TestRuntimeDelegate;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ReadThroughHeaders} test.
+ */
+public class ReadThroughHeadersTest {
+
+    public ReadThroughHeadersTest() {
+        RuntimeDelegate.setInstance(new TestRuntimeDelegate());
+    }
+
+    private static class MapSource implements ReadThroughHeaders.Source {
+
+        private final Map<String, List<String>> headers = new LinkedHashMap<String, List<String>>();
+        private final List<String> lookups = new ArrayList<String>();
+        private int namesRequested;
+
+        MapSource header(final String name, final String... values) {
+            headers.put(name, Arrays.asList(values));
+            return this;
+        }
+
+        @Override
+        public Iterable<String> getNames() {
+            namesRequested++;
+            return headers.keySet();
+        }
+
+        @Override
+        public List<String> getValues(final String name) {
+            lookups.add(name);
+            for (final Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(name)) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+
+    @Test
+    public void testReadThrough() {
+        final MapSource source = new MapSource().header("Accept", "text/plain", "text/html").header("Host", "localhost");
+        final ReadThroughHeaders headers = new ReadThroughHeaders(source);
+
+        assertEquals(Arrays.asList("text/plain", "text/html"), headers.get("accept"));
+        assertEquals("text/plain", headers.getFirst("ACCEPT"));
+        assertTrue(headers.containsKey("host"));
+        assertFalse(headers.containsKey("Content-Type"));
+        assertNull(headers.get("Content-Type"));
+        assertNull(headers.getFirst("Content-Type"));
+
+        assertFalse(headers.isMaterialized());
+        assertEquals(0, source.namesRequested);
+        // lookups are memoized
+        assertEquals(Arrays.asList("accept", "host", "Content-Type"), source.lookups);
+    }
+
+    @Test
+    public void testCopyOnMutation() {
+        final MapSource source = new MapSource().header("Accept", "text/plain").header("Host", "localhost");
+        final ReadThroughHeaders headers = new ReadThroughHeaders(source);
+
+        final List<String> accept = headers.get("Accept");
+        accept.add("text/html");
+
+        headers.add("X-Custom", "value");
+        assertTrue(headers.isMaterialized());
+        assertEquals(3, headers.size());
+        assertEquals(Arrays.asList("text/plain", "text/html"), headers.get("accept"));
+        assertEquals("localhost", headers.getFirst("host"));
+        assertEquals("value", headers.getFirst("x-custom"));
+
+        // source is not modified
+        assertEquals(Arrays.asList("text/plain"), source.headers.get("Accept"));
+        assertFalse(source.headers.containsKey("X-Custom"));
+    }
+
+    @Test
+    public void testRemove() {
+        final ReadThroughHeaders headers = new ReadThroughHeaders(new MapSource().header("Accept", "text/plain"));
+
+        headers.remove("accept");
+        assertTrue(headers.isEmpty());
+        assertNull(headers.get("Accept"));
+    }
+
+    @Test
+    public void testInboundMessageContext() {
+        final InboundMessageContext context = new InboundMessageContext() {
+            @Override
+            protected Iterable<ReaderInterceptor> getReaderInterceptors() {
+                return Collections.emptyList();
+            }
+        };
+        context.header("X-Before", "1");
+        context.headers(new MapSource().header("Content-Type", "text/plain").header("Content-Length", "10"));
+
+        assertEquals("text/plain", context.getMediaType().toString());
+        assertEquals(10, context.getLength());
+        assertEquals("1", context.getHeaderString("X-Before"));
+    }
+
+    @Test
+    public void testDetach() {
+        final MapSource source = new MapSource().header("Accept", "text/plain").header("Host", "localhost");
+        final ReadThroughHeaders headers = new ReadThroughHeaders(source);
+
+        assertEquals("text/plain", headers.getFirst("Accept"));
+        headers.detach();
+        assertTrue(headers.isMaterialized());
+
+        // the native headers are no longer accessed
+        source.headers.clear();
+        assertEquals("text/plain", headers.getFirst("Accept"));
+        assertEquals("localhost", headers.getFirst("host"));
+        assertEquals(2, headers.size());
+
+        headers.detach();
+        assertEquals(1, source.namesRequested);
+    }
+}
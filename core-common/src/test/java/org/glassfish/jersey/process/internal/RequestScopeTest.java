@@ -40,7 +40,9 @@
 
 package org.glassfish.jersey.process.internal;
 
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.glassfish.hk2.api.ServiceHandle;
 import org.glassfish.hk2.utilities.AbstractActiveDescriptor;
@@ -49,6 +51,8 @@ import org.glassfish.jersey.process.internal.RequestScope.Instance;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import jersey.repackaged.com.google.common.collect.Lists;
+
 /**
  * Test of the {@link RequestScope request scope}.
  *
@@ -183,16 +187,140 @@ public class RequestScopeTest {
         assertNull(instance.get(inhab));
     }
 
+    @Test
+    public void testDescriptorIndexedAfterInstanceCreated() {
+        final RequestScope requestScope = new RequestScope();
+        final Instance early = requestScope.createInstance();
+
+        final Instance instance = requestScope.createInstance();
+        final TestProvider inhab = new TestProvider("a");
+        instance.put(inhab, "1");
+        assertEquals("1", instance.get(inhab));
+
+        assertNull(early.get(inhab));
+        early.put(inhab, "2");
+        assertEquals("2", early.get(inhab));
+        assertEquals("1", instance.get(inhab));
+
+        early.release();
+        assertNull(early.get(inhab));
+        assertEquals("1", instance.get(inhab));
+        instance.release();
+        assertNull(instance.get(inhab));
+    }
+
+    @Test
+    public void testReleaseDisposesInhabitants() {
+        final RequestScope requestScope = new RequestScope();
+        final DisposingProvider inhab = new DisposingProvider();
+        final Instance instance = requestScope.createInstance();
+        instance.put(inhab, "1");
+        assertEquals(0, inhab.disposed);
+
+        instance.release();
+        assertEquals(1, inhab.disposed);
+        assertNull(instance.get(inhab));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPutTwice() {
+        final RequestScope requestScope = new RequestScope();
+        final Instance instance = requestScope.createInstance();
+        final TestProvider inhab = new TestProvider("a");
+        instance.put(inhab, "1");
+        instance.put(inhab, "2");
+    }
+
+    @Test
+    public void testSlotLimitOverflow() {
+        final RequestScope requestScope = new RequestScope();
+        final List<DisposingProvider> inhabs = Lists.newArrayList();
+        for (int i = 0; i < RequestScope.Slots.SLOT_LIMIT + 10; i++) {
+            inhabs.add(new DisposingProvider());
+        }
+
+        final Instance instance = requestScope.createInstance();
+        for (int i = 0; i < inhabs.size(); i++) {
+            instance.put(inhabs.get(i), "value" + i);
+        }
+        final Instance other = requestScope.createInstance();
+        for (int i = 0; i < inhabs.size(); i++) {
+            final DisposingProvider inhab = inhabs.get(i);
+            assertEquals("value" + i, instance.get(inhab));
+            assertNull(other.get(inhab));
+        }
+
+        final DisposingProvider overflown = inhabs.get(inhabs.size() - 1);
+        other.put(overflown, "other");
+        assertEquals("other", other.get(overflown));
+        assertEquals("value" + (inhabs.size() - 1), instance.get(overflown));
+
+        other.remove(overflown);
+        assertEquals(1, overflown.disposed);
+        assertNull(other.get(overflown));
+
+        instance.release();
+        for (final DisposingProvider inhab : inhabs) {
+            assertNull(instance.get(inhab));
+            assertEquals(inhab == overflown ? 2 : 1, inhab.disposed);
+        }
+        other.release();
+    }
+
+    @Test
+    public void testDescriptorWithoutServiceId() {
+        final RequestScope requestScope = new RequestScope();
+        final TestProvider indexed = new TestProvider("a");
+        final TestProvider unbound = new TestProvider("b");
+        unbound.setServiceId(null);
+        final TestProvider clashing = new TestProvider("c");
+        clashing.setServiceId(indexed.getServiceId());
+
+        final Instance instance = requestScope.createInstance();
+        instance.put(indexed, "1");
+        instance.put(unbound, "2");
+        instance.put(clashing, "3");
+
+        assertEquals("1", instance.get(indexed));
+        assertEquals("2", instance.get(unbound));
+        assertEquals("3", instance.get(clashing));
+
+        instance.release();
+        assertNull(instance.get(indexed));
+        assertNull(instance.get(unbound));
+        assertNull(instance.get(clashing));
+    }
+
+    /**
+     * Test request scope inhabitant counting the disposed instances.
+     */
+    public static class DisposingProvider extends TestProvider {
+        private int disposed;
+
+        public DisposingProvider() {
+            super("disposing");
+        }
+
+        @Override
+        public void dispose(String instance) {
+            disposed++;
+        }
+    }
+
     /**
      * Test request scope inhabitant.
      *
      */
     public static class TestProvider extends AbstractActiveDescriptor<String> {
+        private static final AtomicLong serviceIds = new AtomicLong();
+
         private String id;
 
         public TestProvider(String id) {
             super();
             this.id = id;
+            // service id is normally assigned by the service locator when the descriptor is bound
+            setServiceId(serviceIds.getAndIncrement());
         }
 
         @Override
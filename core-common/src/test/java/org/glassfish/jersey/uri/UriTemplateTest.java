@@ -770,6 +770,30 @@ public class UriTemplateTest {
         // TODO assertEncodedPathTemplateExpansion(";semi=%3B;dot=.;comma=%2C", "{;keys*}", keys);
     }
 
+    @Test
+    public void testRepeatedTemplateExpansion() {
+        final String pathTemplate = "/customers/{id: [0-9]+}/orders/{order}{;x,y}";
+        for (int i = 0; i < 3; i++) {
+            final Map<String, Object> values = new HashMap<String, Object>();
+            values.put("id", i);
+            values.put("order", "a b");
+            values.put("x", "1");
+
+            assertEquals("/customers/" + i + "/orders/a%20b;x=1",
+                    UriTemplate.createURI(null, null, null, null, null, pathTemplate, null, null, values, true, false));
+            assertEquals("/customers/" + i + "/orders/a%20b;x=1",
+                    UriTemplate.createURI(null, null, null, null, null, pathTemplate, null, null,
+                            new Object[] {i, "a b", "1"}, true, false));
+            assertEquals("/customers/" + i + "/orders/{order}",
+                    UriTemplate.resolveTemplateValues(UriComponent.Type.PATH, "/customers/{id}/orders/{order}", true,
+                            Collections.singletonMap("id", i)));
+        }
+
+        final UriTemplate template = new UriTemplate(pathTemplate);
+        assertEquals("/customers/1/orders/2;x=3", template.createURI("1", "2", "3"));
+        assertEquals("/customers/4/orders/5;x=6", template.createURI("4", "5", "6"));
+    }
+
     private void assertEncodedPathTemplateExpansion(String expectedExpansion, String pathTemplate, Object... values) {
         assertEquals("Unexpected encoded matrix parameter template expansion result.",
                 expectedExpansion,
@@ -41,9 +41,12 @@
 package org.glassfish.jersey.server;
 
 import java.io.IOException;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -64,6 +67,9 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
     private final ConcurrentLinkedQueue<ChunkedOutput<T>> chunkedOutputs =
             new ConcurrentLinkedQueue<ChunkedOutput<T>>();
 
+    private final boolean serializeOnce;
+    private final Executor executor;
+
     /**
      * Creates a new instance.
      * If this constructor is called by a subclass, it assumes the the reason for the subclass to exist is to implement
@@ -85,6 +91,82 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @see #Broadcaster()
      */
     protected Broadcaster(final Class<? extends Broadcaster> subclass) {
+        this(subclass, false);
+    }
+
+    /**
+     * Creates a new instance with the given broadcast mode.
+     * <p>
+     * If {@code serializeOnce} is {@code true}, every {@link #broadcast(Object) broadcast} chunk is serialized only
+     * once per distinct chunk type, media type and entity annotation set of the registered {@link ChunkedOutput}
+     * instances and the resulting bytes are written to all the matching outputs. Outputs that are not bound to
+     * a response yet, or whose message body writer requires a per-connection entity stream, get the chunk serialized
+     * separately as in the default mode. Note that in this mode {@link ChunkedOutput#write(Object)} is not invoked
+     * for the outputs that receive a pre-serialized chunk.
+     * </p>
+     * The registration of the newly created instance as a listener follows the rules described in
+     * {@link #Broadcaster()}.
+     *
+     * @param serializeOnce if {@code true}, broadcast chunks are serialized once and shared among the outputs.
+     * @since 2.17
+     */
+    public Broadcaster(final boolean serializeOnce) {
+        this(Broadcaster.class, serializeOnce);
+    }
+
+    /**
+     * Can be used by subclasses to override the default functionality of adding self to the set of
+     * {@link BroadcasterListener listeners} and to select the broadcast mode.
+     *
+     * @param subclass      subclass of Broadcaster that should not be registered as a listener - if creating a direct
+     *                      instance of this subclass, this constructor will not register the new instance as a listener.
+     * @param serializeOnce if {@code true}, broadcast chunks are serialized once and shared among the outputs.
+     * @see #Broadcaster(boolean)
+     * @since 2.17
+     */
+    protected Broadcaster(final Class<? extends Broadcaster> subclass, final boolean serializeOnce) {
+        this(subclass, serializeOnce, null);
+    }
+
+    /**
+     * Creates a new instance with the given broadcast mode that writes to the registered outputs in parallel.
+     * <p>
+     * Chunks are queued to each of the registered {@link ChunkedOutput} instances on the broadcasting thread, while
+     * writing the queued chunks to the underlying connections and closing the outputs is done using the supplied
+     * executor. This way a slow client delays neither the broadcasting thread nor the other clients. Combine with
+     * {@link ChunkedOutput#setQueueCapacity(int, ChunkedOutput.OverflowPolicy)} to bound the memory held by the chunks
+     * pending for slow clients. Note that in this mode {@link ChunkedOutput#write(Object)} and
+     * {@link ChunkedOutput#close()} are not invoked on the broadcasting thread.
+     * </p>
+     * The registration of the newly created instance as a listener follows the rules described in
+     * {@link #Broadcaster()}.
+     *
+     * @param serializeOnce if {@code true}, broadcast chunks are serialized once and shared among the outputs.
+     * @param executor      executor used to write to the registered outputs or {@code null} to write to them
+     *                      on the broadcasting thread.
+     * @see #Broadcaster(boolean)
+     * @since 2.17
+     */
+    public Broadcaster(final boolean serializeOnce, final Executor executor) {
+        this(Broadcaster.class, serializeOnce, executor);
+    }
+
+    /**
+     * Can be used by subclasses to override the default functionality of adding self to the set of
+     * {@link BroadcasterListener listeners}, to select the broadcast mode and to set the executor used to write
+     * to the registered outputs.
+     *
+     * @param subclass      subclass of Broadcaster that should not be registered as a listener - if creating a direct
+     *                      instance of this subclass, this constructor will not register the new instance as a listener.
+     * @param serializeOnce if {@code true}, broadcast chunks are serialized once and shared among the outputs.
+     * @param executor      executor used to write to the registered outputs or {@code null} to write to them
+     *                      on the broadcasting thread.
+     * @see #Broadcaster(boolean, Executor)
+     * @since 2.17
+     */
+    protected Broadcaster(final Class<? extends Broadcaster> subclass, final boolean serializeOnce, final Executor executor) {
+        this.serializeOnce = serializeOnce;
+        this.executor = executor;
         if (subclass != getClass()) {
             listeners.add(this);
         }
@@ -148,14 +230,66 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @param chunk chunk to be sent.
      */
     public void broadcast(final T chunk) {
+        if (serializeOnce && chunk != null) {
+            broadcastSerialized(chunk);
+            return;
+        }
+
+        forEachOutput(new Task<ChunkedOutput<T>>() {
+            @Override
+            public void run(final ChunkedOutput<T> cr) throws IOException {
+                write(cr, chunk);
+            }
+        });
+    }
+
+    private void broadcastSerialized(final T chunk) {
+        // encoding key -> serialized chunk (null if the chunk could not be shared for the key)
+        final Map<Object, byte[]> encodedChunks = new HashMap<Object, byte[]>();
+
         forEachOutput(new Task<ChunkedOutput<T>>() {
             @Override
             public void run(final ChunkedOutput<T> cr) throws IOException {
-                cr.write(chunk);
+                final Object key = cr.getEncodingKey();
+                if (key != null) {
+                    byte[] encodedChunk = encodedChunks.get(key);
+                    if (encodedChunk == null && !encodedChunks.containsKey(key)) {
+                        try {
+                            encodedChunk = cr.encode(chunk);
+                        } catch (final IOException | RuntimeException e) {
+                            // let the regular write report the failure for each of the outputs
+                            encodedChunk = null;
+                        }
+                        encodedChunks.put(key, encodedChunk);
+                    }
+                    if (encodedChunk != null) {
+                        writeEncoded(cr, encodedChunk);
+                        return;
+                    }
+                }
+                write(cr, chunk);
             }
         });
     }
 
+    private void write(final ChunkedOutput<T> chunkedOutput, final T chunk) throws IOException {
+        if (executor == null) {
+            chunkedOutput.write(chunk);
+        } else {
+            chunkedOutput.enqueue(chunk);
+            runAsync(chunkedOutput, flushTask);
+        }
+    }
+
+    private void writeEncoded(final ChunkedOutput<T> chunkedOutput, final byte[] encodedChunk) throws IOException {
+        if (executor == null) {
+            chunkedOutput.writeEncoded(encodedChunk);
+        } else {
+            chunkedOutput.enqueueEncoded(encodedChunk);
+            runAsync(chunkedOutput, flushTask);
+        }
+    }
+
     /**
      * Close all registered {@link ChunkedOutput} instances.
      */
@@ -163,7 +297,11 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         forEachOutput(new Task<ChunkedOutput<T>>() {
             @Override
             public void run(final ChunkedOutput<T> cr) throws IOException {
-                cr.close();
+                if (executor == null) {
+                    cr.close();
+                } else {
+                    runAsync(cr, closeTask);
+                }
             }
         });
     }
@@ -196,9 +334,50 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         void run(T parameter) throws IOException;
     }
 
+    private final Task<ChunkedOutput<T>> flushTask = new Task<ChunkedOutput<T>>() {
+        @Override
+        public void run(final ChunkedOutput<T> cr) throws IOException {
+            cr.flushQueue();
+        }
+    };
+
+    private final Task<ChunkedOutput<T>> closeTask = new Task<ChunkedOutput<T>>() {
+        @Override
+        public void run(final ChunkedOutput<T> cr) throws IOException {
+            cr.close();
+        }
+    };
+
+    private void runAsync(final ChunkedOutput<T> chunkedOutput, final Task<ChunkedOutput<T>> t) {
+        final Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    t.run(chunkedOutput);
+                } catch (Exception e) {
+                    fireOnException(chunkedOutput, e);
+                }
+                removeIfClosed(chunkedOutput);
+            }
+        };
+
+        try {
+            executor.execute(runnable);
+        } catch (final RejectedExecutionException e) {
+            // executor is shut down or saturated - write on the broadcasting thread instead
+            runnable.run();
+        }
+    }
+
+    private void removeIfClosed(final ChunkedOutput<T> chunkedOutput) {
+        // the output may get closed concurrently by asynchronous writes - make sure listeners are notified only once
+        if (chunkedOutput.isClosed() && chunkedOutputs.remove(chunkedOutput)) {
+            fireOnClose(chunkedOutput);
+        }
+    }
+
     private void forEachOutput(final Task<ChunkedOutput<T>> t) {
-        for (Iterator<ChunkedOutput<T>> iterator = chunkedOutputs.iterator(); iterator.hasNext(); ) {
-            ChunkedOutput<T> chunkedOutput = iterator.next();
+        for (final ChunkedOutput<T> chunkedOutput : chunkedOutputs) {
             if (!chunkedOutput.isClosed()) {
                 try {
                     t.run(chunkedOutput);
@@ -206,10 +385,7 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
                     fireOnException(chunkedOutput, e);
                 }
             }
-            if (chunkedOutput.isClosed()) {
-                iterator.remove();
-                fireOnClose(chunkedOutput);
-            }
+            removeIfClosed(chunkedOutput);
         }
     }
 
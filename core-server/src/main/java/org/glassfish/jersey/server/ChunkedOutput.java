@@ -39,14 +39,17 @@
  */
 package org.glassfish.jersey.server;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.Callable;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.ws.rs.container.ConnectionCallback;
 import javax.ws.rs.core.GenericType;
@@ -71,10 +74,37 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private static final byte[] ZERO_LENGTH_DELIMITER = new byte[0];
 
-    private final BlockingDeque<T> queue = new LinkedBlockingDeque<>();
+    /**
+     * Policy applied when a chunk is written to a {@code ChunkedOutput} whose queue of pending chunks
+     * has reached its {@link #setQueueCapacity(int, OverflowPolicy) capacity}.
+     *
+     * @since 2.17
+     */
+    public static enum OverflowPolicy {
+        /**
+         * Discard the oldest pending chunk to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Discard the new chunk.
+         */
+        DROP_NEWEST,
+        /**
+         * Discard all the pending chunks, close the output and fail the write with an {@link IOException}.
+         */
+        DISCONNECT
+    }
+
+    // holds either chunk instances or pre-encoded chunks
+    private final BlockingDeque<Object> queue = new LinkedBlockingDeque<>();
     private final byte[] chunkDelimiter;
+    private final AtomicLong droppedChunks = new AtomicLong();
+
+    private volatile int queueCapacity = Integer.MAX_VALUE;
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
 
     private volatile boolean closed = false;
+    // guarded by this
     private boolean flushing = false;
     private volatile RequestScope requestScope;
     private volatile RequestScope.Instance requestScopeInstance;
@@ -169,34 +199,226 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @throws IOException if this response is closed or when encountered any problem during serializing or writing a chunk.
      */
     public void write(final T chunk) throws IOException {
+        enqueue(chunk);
+
+        flushQueue();
+    }
+
+    /**
+     * Write a chunk that has already been serialized by a sibling {@code ChunkedOutput} with an equal
+     * {@link #getEncodingKey() encoding key}. The bytes are written to the entity stream as they are.
+     *
+     * @param encodedChunk serialized chunk bytes. The array must not be modified after it is passed in.
+     * @throws IOException if this response is closed or when encountered any problem during writing a chunk.
+     */
+    void writeEncoded(final byte[] encodedChunk) throws IOException {
+        enqueueEncoded(encodedChunk);
+
+        flushQueue();
+    }
+
+    /**
+     * Add a chunk to the queue of pending chunks without writing it. The chunk gets written by the next
+     * {@link #flushQueue()} invocation.
+     *
+     * @param chunk a chunk instance to be queued.
+     * @throws IOException if this response is closed or it has been closed due to a queue overflow.
+     */
+    void enqueue(final T chunk) throws IOException {
+        if (chunk != null) {
+            offer(chunk);
+        } else if (closed) {
+            throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED());
+        }
+    }
+
+    /**
+     * Add a {@link #writeEncoded(byte[]) serialized chunk} to the queue of pending chunks without writing it.
+     * The chunk gets written by the next {@link #flushQueue()} invocation.
+     *
+     * @param encodedChunk serialized chunk bytes. The array must not be modified after it is passed in.
+     * @throws IOException if this response is closed or it has been closed due to a queue overflow.
+     */
+    void enqueueEncoded(final byte[] encodedChunk) throws IOException {
+        offer(new EncodedChunk(encodedChunk));
+    }
+
+    private void offer(final Object chunk) throws IOException {
         if (closed) {
             throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED());
         }
 
-        if (chunk != null) {
-            queue.add(chunk);
+        final int capacity = queueCapacity;
+        synchronized (queue) {
+            if (queue.size() < capacity) {
+                queue.add(chunk);
+                return;
+            }
+
+            droppedChunks.incrementAndGet();
+            switch (overflowPolicy) {
+                case DROP_OLDEST:
+                    queue.pollFirst();
+                    queue.add(chunk);
+                    return;
+                case DROP_NEWEST:
+                    return;
+                default:
+                    // DISCONNECT - pending chunks will never be delivered
+                    droppedChunks.addAndGet(queue.size());
+                    queue.clear();
+                    closed = true;
+            }
         }
 
-        flushQueue();
+        try {
+            flushQueue();
+        } catch (final IOException | RuntimeException e) {
+            // the output is being closed anyway, report the overflow instead
+        }
+        throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_QUEUE_OVERFLOW(capacity));
+    }
+
+    /**
+     * Limit the number of chunks that may wait in the queue of this output before they get written to the
+     * underlying connection.
+     * <p>
+     * Chunks are queued while the output is not yet bound to a response or while another thread is writing to
+     * the connection, e.g. because the client consumes the response slowly. Once the queue is full, the given
+     * overflow policy decides what happens with a newly written chunk. By default, the queue is not bounded.
+     * </p>
+     *
+     * @param capacity maximum number of pending chunks. Must be positive.
+     * @param policy   policy applied when a chunk is written to a full queue. Must not be {@code null}.
+     * @since 2.17
+     */
+    public void setQueueCapacity(final int capacity, final OverflowPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (policy == null) {
+            throw new NullPointerException("policy");
+        }
+
+        synchronized (queue) {
+            this.queueCapacity = capacity;
+            this.overflowPolicy = policy;
+        }
+    }
+
+    /**
+     * Get the number of chunks currently waiting in the queue of this output to be written.
+     *
+     * @return number of pending chunks.
+     * @since 2.17
+     */
+    public int getQueueDepth() {
+        return queue.size();
     }
 
-    private void flushQueue() throws IOException {
+    /**
+     * Get the number of chunks discarded so far by the {@link OverflowPolicy overflow policy} of this output.
+     *
+     * @return number of dropped chunks.
+     * @since 2.17
+     */
+    public long getDroppedChunkCount() {
+        return droppedChunks.get();
+    }
+
+    /**
+     * Get the key that determines how chunks written to this output are serialized.
+     * <p>
+     * Two outputs with equal keys produce the same bytes for the same chunk, so a chunk serialized
+     * by one of them via {@link #encode(Object)} can be {@link #writeEncoded(byte[]) written} to the other.
+     * </p>
+     *
+     * @return encoding key or {@code null} if this output is not bound to a response yet.
+     */
+    Object getEncodingKey() {
+        final ContainerRequest request = requestContext;
+        final ContainerResponse response = responseContext;
+        if (closed || requestScopeInstance == null || request == null || response == null) {
+            return null;
+        }
+
+        return Arrays.asList(
+                getType(),
+                response.getMediaType(),
+                Arrays.asList(response.getEntityAnnotations()),
+                request.getWorkers());
+    }
+
+    /**
+     * Serialize a chunk into a byte array using the message body workers, media type and entity annotations
+     * of this output, without writing it to the underlying connection.
+     *
+     * @param chunk chunk to be serialized.
+     * @return serialized chunk or {@code null} if the chunk cannot be serialized independently of the connection
+     * (e.g. the output is not bound to a response yet or the message body writer replaces the entity stream).
+     * @throws IOException when encountered any problem during serializing a chunk.
+     */
+    byte[] encode(final T chunk) throws IOException {
+        if (getEncodingKey() == null) {
+            return null;
+        }
+
+        try {
+            return requestScope.runInScope(requestScopeInstance, new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws IOException {
+                    final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    final OutputStream writtenStream = requestContext.getWorkers().writeTo(
+                            chunk,
+                            chunk.getClass(),
+                            getType(),
+                            responseContext.getEntityAnnotations(),
+                            responseContext.getMediaType(),
+                            responseContext.getHeaders(),
+                            requestContext.getPropertiesDelegate(),
+                            buffer,
+                            Collections.<WriterInterceptor>emptyList());
+
+                    // a writer that wraps the stream keeps per-connection state - the chunk has to be written directly
+                    return writtenStream == buffer ? buffer.toByteArray() : null;
+                }
+            });
+        } catch (final IOException | RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Write all the pending chunks to the underlying connection, if this output is already bound to a response
+     * and no other thread is writing them at the moment.
+     * <p>
+     * Only a single thread at a time writes the pending chunks of an output. If the output has been closed,
+     * the underlying response is closed by the thread that writes the last pending chunk.
+     * </p>
+     *
+     * @throws IOException when encountered any problem during serializing or writing a chunk.
+     */
+    void flushQueue() throws IOException {
         if (requestScopeInstance == null || requestContext == null || responseContext == null) {
             return;
         }
 
         Exception ex = null;
+        boolean closeResponse = false;
         try {
-            requestScope.runInScope(requestScopeInstance, new Callable<Void>() {
+            closeResponse = requestScope.runInScope(requestScopeInstance, new Callable<Boolean>() {
                 @Override
-                public Void call() throws IOException {
+                public Boolean call() throws IOException {
                     boolean shouldClose;
-                    T t;
+                    Object t;
 
-                    synchronized (this) {
+                    synchronized (ChunkedOutput.this) {
                         if (flushing) {
                             // if another thread is already flushing the queue, we don't have to do anything
-                            return null;
+                            // (including closing the response - the flushing thread takes care of it)
+                            return false;
                         }
                         // remember the closed flag before polling the queue
                         // (if we did it after, we could miss the last chunk as some other thread may add a chunk
@@ -212,23 +434,32 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                             flushing = true;
                         }
                     }
+                    if (t == null) {
+                        return shouldClose;
+                    }
 
                     while (t != null) {
                         try {
                             final OutputStream origStream = responseContext.getEntityStream();
-                            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
-                                    t,
-                                    t.getClass(),
-                                    getType(),
-                                    responseContext.getEntityAnnotations(),
-                                    responseContext.getMediaType(),
-                                    responseContext.getHeaders(),
-                                    requestContext.getPropertiesDelegate(),
-                                    origStream,
-                                    // The output stream stored in the response context for this chunked output
-                                    // is already intercepted as a whole (if there are any interceptors);
-                                    // no need to intercept the individual chunks.
-                                    Collections.<WriterInterceptor>emptyList());
+                            final OutputStream writtenStream;
+                            if (t instanceof EncodedChunk) {
+                                origStream.write(((EncodedChunk) t).bytes);
+                                writtenStream = origStream;
+                            } else {
+                                writtenStream = requestContext.getWorkers().writeTo(
+                                        t,
+                                        t.getClass(),
+                                        getType(),
+                                        responseContext.getEntityAnnotations(),
+                                        responseContext.getMediaType(),
+                                        responseContext.getHeaders(),
+                                        requestContext.getPropertiesDelegate(),
+                                        origStream,
+                                        // The output stream stored in the response context for this chunked output
+                                        // is already intercepted as a whole (if there are any interceptors);
+                                        // no need to intercept the individual chunks.
+                                        Collections.<WriterInterceptor>emptyList());
+                            }
 
                             //noinspection ArrayEquality
                             if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
@@ -254,7 +485,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                         }
                         t = queue.poll();
                         if (t == null) {
-                            synchronized (this) {
+                            synchronized (ChunkedOutput.this) {
                                 // queue seems empty
                                 // check again in the synchronized block before clearing the flushing flag
                                 // first remember the closed flag (this has to be before polling the queue,
@@ -275,15 +506,16 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                             }
                         }
                     }
-                    return null;
+                    return shouldClose;
                 }
             });
         } catch (final Exception e) {
             closed = true;
+            closeResponse = true;
             // remember the exception (it will get rethrown from finally clause, once it does it's work)
             ex = e;
         } finally {
-            if (closed) {
+            if (closeResponse) {
                 try {
                     responseContext.close();
                 } catch (final Exception e) {
@@ -371,4 +603,16 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         this.asyncContext = asyncContext;
         flushQueue();
     }
+
+    /**
+     * Chunk serialized in advance, written to the entity stream as is.
+     */
+    private static final class EncodedChunk {
+
+        private final byte[] bytes;
+
+        private EncodedChunk(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
 }
@@ -40,7 +40,7 @@
 
 package org.glassfish.jersey.server;
 
-import java.util.ArrayList;
+import java.util.Collections;
 
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseFilter;
@@ -58,6 +58,8 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 
+import jersey.repackaged.com.google.common.collect.Lists;
+
 /**
  * Container filtering stage responsible for execution of request and response filters
  * on each request-response message exchange.
@@ -67,8 +69,9 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
  */
 class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingContext> {
 
-    private final Iterable<RankedProvider<ContainerRequestFilter>> requestFilters;
     private final Iterable<RankedProvider<ContainerResponseFilter>> responseFilters;
+    private final Iterable<ContainerRequestFilter> sortedRequestFilters;
+    private final Iterable<ContainerResponseFilter> sortedResponseFilters;
 
     /**
      * Create a new container filtering stage specifying global request and response filters. This stage class
@@ -78,6 +81,11 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
      * response filters should still be executed. For the post-match filter stage creation, {@code null} is passed
      * to the responseFilters parameter.
      * </p>
+     * <p>
+     * The global filters are sorted once when the stage is created. In the post-matching phase the filter chain
+     * pre-computed for the matched {@link org.glassfish.jersey.server.model.ResourceMethodInvoker resource method}
+     * (if any) is used instead, so that the global and bound filters are not merged and sorted on every request.
+     * </p>
      *
      * @param requestFilters  list of global (unbound) request filters (either pre or post match - depending on the
      *                        stage being created).
@@ -88,8 +96,15 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
             Iterable<RankedProvider<ContainerRequestFilter>> requestFilters,
             Iterable<RankedProvider<ContainerResponseFilter>> responseFilters) {
 
-        this.requestFilters = requestFilters;
         this.responseFilters = responseFilters;
+
+        this.sortedRequestFilters = sort(new RankedComparator<ContainerRequestFilter>(), requestFilters);
+        this.sortedResponseFilters = responseFilters == null ? null
+                : sort(new RankedComparator<ContainerResponseFilter>(RankedComparator.Order.DESCENDING), responseFilters);
+    }
+
+    private static <T> Iterable<T> sort(final RankedComparator<T> comparator, final Iterable<RankedProvider<T>> providers) {
+        return Collections.unmodifiableList(Lists.newArrayList(Providers.sortRankedProviders(comparator, providers)));
     }
 
     @Override
@@ -103,12 +118,11 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
         final TracingLogger tracingLogger = TracingLogger.getInstance(request);
         if (postMatching) {
             // post-matching
-            final ArrayList<Iterable<RankedProvider<ContainerRequestFilter>>> rankedProviders =
-                    new ArrayList<>(2);
-            rankedProviders.add(requestFilters);
-            rankedProviders.add(request.getRequestFilters());
-            sortedRequestFilters = Providers.mergeAndSortRankedProviders(
-                    new RankedComparator<ContainerRequestFilter>(), rankedProviders);
+            sortedRequestFilters = request.getSortedRequestFilters();
+            if (sortedRequestFilters == null) {
+                // no resource method matched - only global filters apply
+                sortedRequestFilters = this.sortedRequestFilters;
+            }
 
             context.monitoringEventBuilder().setContainerRequestFilters(sortedRequestFilters);
             context.triggerEvent(RequestEvent.Type.REQUEST_MATCHED);
@@ -116,8 +130,8 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
         } else {
             // pre-matching (response filter stage is pushed in pre-matching phase, so that if pre-matching filter
             // throws exception, response filters get still invoked)
-            context.push(new ResponseFilterStage(context, responseFilters, tracingLogger));
-            sortedRequestFilters = Providers.sortRankedProviders(new RankedComparator<ContainerRequestFilter>(), requestFilters);
+            context.push(new ResponseFilterStage(context, sortedResponseFilters, tracingLogger));
+            sortedRequestFilters = this.sortedRequestFilters;
         }
 
         final TracingLogger.Event summaryEvent =
@@ -163,11 +177,11 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
     private static class ResponseFilterStage extends AbstractChainableStage<ContainerResponse> {
         // TODO remove the field - processing context should be made available on the response chain directly.
         private final RequestProcessingContext processingContext;
-        private final Iterable<RankedProvider<ContainerResponseFilter>> filters;
+        private final Iterable<ContainerResponseFilter> filters;
         private final TracingLogger tracingLogger;
 
         private ResponseFilterStage(final RequestProcessingContext processingContext,
-                                    final Iterable<RankedProvider<ContainerResponseFilter>> filters,
+                                    final Iterable<ContainerResponseFilter> filters,
                                     final TracingLogger tracingLogger) {
             this.processingContext = processingContext;
             this.filters = filters;
@@ -177,11 +191,12 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
         @Override
         @SuppressWarnings("unchecked")
         public Continuation<ContainerResponse> apply(ContainerResponse responseContext) {
-            final ArrayList<Iterable<RankedProvider<ContainerResponseFilter>>> rankedProviders = new ArrayList<>(2);
-            rankedProviders.add(filters);
-            rankedProviders.add(responseContext.getRequestContext().getResponseFilters());
-            Iterable<ContainerResponseFilter> sortedResponseFilters = Providers.mergeAndSortRankedProviders(
-                    new RankedComparator<ContainerResponseFilter>(RankedComparator.Order.DESCENDING), rankedProviders);
+            Iterable<ContainerResponseFilter> sortedResponseFilters =
+                    responseContext.getRequestContext().getSortedResponseFilters();
+            if (sortedResponseFilters == null) {
+                // no resource method matched - only global filters apply
+                sortedResponseFilters = filters;
+            }
 
             final ContainerRequest request = responseContext.getRequestContext();
             processingContext.monitoringEventBuilder().setContainerResponseFilters(sortedResponseFilters);
@@ -45,7 +45,6 @@ import java.lang.reflect.Type;
 import java.net.URI;
 import java.text.ParseException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -77,7 +76,6 @@ import org.glassfish.jersey.message.internal.InboundMessageContext;
 import org.glassfish.jersey.message.internal.MatchingEntityTag;
 import org.glassfish.jersey.message.internal.TracingAwarePropertiesDelegate;
 import org.glassfish.jersey.message.internal.VariantSelector;
-import org.glassfish.jersey.model.internal.RankedProvider;
 import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
@@ -111,9 +109,15 @@ public class ContainerRequest extends InboundMessageContext
     // Routing context and UriInfo implementation
     private final UriRoutingContext uriRoutingContext;
     // Absolute application root URI (base URI)
-    private URI baseUri;
+    private volatile URI baseUri;
     // Absolute request URI
-    private URI requestUri;
+    private volatile URI requestUri;
+    // Unparsed base URI string supplied by the container, parsed into baseUri on first access
+    private String rawBaseUri;
+    // Unparsed encoded request path supplied by the container, resolved into requestUri on first access
+    private String rawRequestPath;
+    // Unparsed encoded request query supplied by the container
+    private String rawRequestQuery;
     // Lazily computed encoded request path (relative to application root URI)
     private String encodedRelativePath = null;
     // Lazily computed decoded request path (relative to application root URI)
@@ -179,6 +183,54 @@ public class ContainerRequest extends InboundMessageContext
         this.uriRoutingContext = new UriRoutingContext(this);
     }
 
+    /**
+     * Create new Jersey container request context from the raw request URI components.
+     * <p>
+     * Unlike {@link #ContainerRequest(URI, URI, String, SecurityContext, PropertiesDelegate)}, the base and request
+     * {@link URI URIs} are not parsed until they are first requested. Request matching only needs the request
+     * path relative to the base URI, which is computed directly from the supplied strings. Strings that contain
+     * anything but legal ASCII URI characters and valid percent-encoded octets are parsed right away, so that
+     * a malformed request URI is reported when the request is created, as with the parsed URI variant.
+     * </p>
+     *
+     * @param baseUri            encoded absolute base application URI, ending with {@code '/'}.
+     * @param requestPath        encoded absolute path of the request URI (e.g. {@code /context/resource%20name}).
+     * @param requestQuery       encoded query of the request URI, or {@code null} if the request URI has no query.
+     * @param httpMethod         request HTTP method name.
+     * @param securityContext    security context of the current request. Must not be {@code null}.
+     *                           The {@link SecurityContext#getUserPrincipal()} must return
+     *                           {@code null} if the current request has not been authenticated
+     *                           by the container.
+     * @param propertiesDelegate custom {@link PropertiesDelegate properties delegate}
+     *                           to be used by the context.
+     * @throws IllegalArgumentException in case the supplied strings do not form a valid URI.
+     * @since 2.17
+     */
+    public ContainerRequest(
+            String baseUri,
+            String requestPath,
+            String requestQuery,
+            String httpMethod,
+            SecurityContext securityContext,
+            PropertiesDelegate propertiesDelegate) {
+        super(true);
+
+        this.rawBaseUri = baseUri == null ? DEFAULT_BASE_URI.toString() : baseUri;
+        this.rawRequestPath = requestPath;
+        this.rawRequestQuery = requestQuery;
+        if (!isPlainBaseUri(rawBaseUri)
+                || !isPlainUriComponent(requestPath, UriComponent.Type.PATH)
+                || !isPlainUriComponent(requestQuery, UriComponent.Type.QUERY)) {
+            // let the URI parser accept or reject the unusual characters right away
+            getBaseUri();
+            getRequestUri();
+        }
+        this.httpMethod = httpMethod;
+        this.securityContext = securityContext;
+        this.propertiesDelegate = new TracingAwarePropertiesDelegate(propertiesDelegate);
+        this.uriRoutingContext = new UriRoutingContext(this);
+    }
+
     /**
      * Get a custom container extensions initializer for the current request.
      * <p/>
@@ -313,28 +365,27 @@ public class ContainerRequest extends InboundMessageContext
     }
 
     /**
-     * Get all bound request filters applicable to this request.
+     * Get the complete sorted post-matching request filter chain pre-computed for the matched resource method.
      *
-     * @return All bound (dynamically or by name) request filters applicable to the matched inflector (or an empty
-     * collection if no inflector matched yet).
+     * @return All global and bound request filters applicable to the matched resource method sorted in the order
+     * of execution or {@code null} if no resource method has been matched yet.
      */
-    Iterable<RankedProvider<ContainerRequestFilter>> getRequestFilters() {
+    Iterable<ContainerRequestFilter> getSortedRequestFilters() {
         final Inflector<RequestProcessingContext, ContainerResponse> inflector = getInflector();
-        return emptyIfNull(inflector instanceof ResourceMethodInvoker ?
-                ((ResourceMethodInvoker) inflector).getRequestFilters() : null);
+        return inflector instanceof ResourceMethodInvoker ?
+                ((ResourceMethodInvoker) inflector).getSortedRequestFilters() : null;
     }
 
     /**
-     * Get all bound response filters applicable to this request.
-     * This is populated once the right resource method is matched.
+     * Get the complete sorted response filter chain pre-computed for the matched resource method.
      *
-     * @return All bound (dynamically or by name) response filters applicable to the matched inflector (or an empty
-     * collection if no inflector matched yet).
+     * @return All global and bound response filters applicable to the matched resource method sorted in the order
+     * of execution or {@code null} if no resource method has been matched.
      */
-    Iterable<RankedProvider<ContainerResponseFilter>> getResponseFilters() {
+    Iterable<ContainerResponseFilter> getSortedResponseFilters() {
         final Inflector<RequestProcessingContext, ContainerResponse> inflector = getInflector();
-        return emptyIfNull(inflector instanceof ResourceMethodInvoker ?
-                ((ResourceMethodInvoker) inflector).getResponseFilters() : null);
+        return inflector instanceof ResourceMethodInvoker ?
+                ((ResourceMethodInvoker) inflector).getSortedResponseFilters() : null;
     }
 
     /**
@@ -369,17 +420,18 @@ public class ContainerRequest extends InboundMessageContext
         return uriRoutingContext.getEndpoint();
     }
 
-    private static <T> Iterable<T> emptyIfNull(Iterable<T> iterable) {
-        return iterable == null ? Collections.<T>emptyList() : iterable;
-    }
-
     /**
      * Get base request URI.
      *
      * @return base request URI.
      */
     public URI getBaseUri() {
-        return baseUri;
+        URI uri = baseUri;
+        if (uri == null && rawBaseUri != null) {
+            // racing threads parse the same string, the volatile field publishes the result safely
+            uri = baseUri = URI.create(rawBaseUri).normalize();
+        }
+        return uri;
     }
 
     /**
@@ -388,7 +440,12 @@ public class ContainerRequest extends InboundMessageContext
      * @return request URI.
      */
     public URI getRequestUri() {
-        return requestUri;
+        URI uri = requestUri;
+        if (uri == null && rawRequestPath != null) {
+            uri = requestUri = getBaseUri().resolve(
+                    rawRequestQuery == null ? rawRequestPath : rawRequestPath + '?' + rawRequestQuery);
+        }
+        return uri;
     }
 
     /**
@@ -400,7 +457,7 @@ public class ContainerRequest extends InboundMessageContext
     public URI getAbsolutePath() {
         if (absolutePathUri != null) return absolutePathUri;
 
-        return absolutePathUri = new JerseyUriBuilder().uri(requestUri).replaceQuery("").fragment("").build();
+        return absolutePathUri = new JerseyUriBuilder().uri(getRequestUri()).replaceQuery("").fragment("").build();
     }
 
     @Override
@@ -414,6 +471,8 @@ public class ContainerRequest extends InboundMessageContext
         this.absolutePathUri = null;
         this.uriRoutingContext.invalidateUriComponentViews();
 
+        this.rawRequestPath = null;
+        this.rawRequestQuery = null;
         this.requestUri = requestUri;
     }
 
@@ -428,6 +487,9 @@ public class ContainerRequest extends InboundMessageContext
         this.absolutePathUri = null;
         this.uriRoutingContext.invalidateUriComponentViews();
 
+        this.rawBaseUri = null;
+        this.rawRequestPath = null;
+        this.rawRequestQuery = null;
         this.baseUri = baseUri;
         this.requestUri = requestUri;
     }
@@ -457,17 +519,93 @@ public class ContainerRequest extends InboundMessageContext
             return encodedRelativePath;
         }
 
-        String requestUriRawPath = requestUri.getRawPath();
+        final String requestUriRawPath = isNormalizedPath(rawRequestPath) ? rawRequestPath : getRequestUri().getRawPath();
 
-        if (baseUri == null) {
+        final String baseUriRawPath;
+        if (rawBaseUri != null) {
+            final String rawPath = rawPath(rawBaseUri);
+            baseUriRawPath = isNormalizedPath(rawPath) ? rawPath : getBaseUri().getRawPath();
+        } else if (baseUri == null) {
             return encodedRelativePath = requestUriRawPath;
+        } else {
+            baseUriRawPath = baseUri.getRawPath();
         }
 
-        final int baseUriRawPathLength = baseUri.getRawPath().length();
+        final int baseUriRawPathLength = baseUriRawPath.length();
         return encodedRelativePath = baseUriRawPathLength < requestUriRawPath.length() ?
                 requestUriRawPath.substring(baseUriRawPathLength) : "";
     }
 
+    /**
+     * Check whether the raw absolute path would be kept intact by {@link URI} parsing and normalization, i.e.
+     * whether it can be used in place of the raw path of the parsed URI.
+     */
+    private static boolean isNormalizedPath(final String path) {
+        return path != null
+                && path.length() > 0 && path.charAt(0) == '/'
+                && !path.startsWith("//")
+                && !path.contains("/.");
+    }
+
+    /**
+     * Check whether the base URI string consists of plain ASCII URI characters and valid percent-encoded octets.
+     */
+    private static boolean isPlainBaseUri(final String uri) {
+        final int schemeEnd = uri.indexOf("://");
+        if (schemeEnd <= 0) {
+            return false;
+        }
+        final int pathStart = uri.indexOf('/', schemeEnd + 3);
+        return isPlainUriComponent(uri.substring(0, schemeEnd), UriComponent.Type.SCHEME)
+                && isPlainUriComponent(uri.substring(schemeEnd + 3, pathStart < 0 ? uri.length() : pathStart),
+                        UriComponent.Type.AUTHORITY)
+                && (pathStart < 0 || isPlainUriComponent(uri.substring(pathStart), UriComponent.Type.PATH));
+    }
+
+    /**
+     * Check whether the encoded URI component consists of plain ASCII URI characters and valid percent-encoded octets.
+     */
+    private static boolean isPlainUriComponent(final String component, final UriComponent.Type type) {
+        if (component == null) {
+            return true;
+        }
+        if (!UriComponent.valid(component, type)) {
+            return false;
+        }
+        for (int i = component.indexOf('%'); i >= 0; i = component.indexOf('%', i + 1)) {
+            if (i + 2 >= component.length()
+                    || Character.digit(component.charAt(i + 1), 16) < 0
+                    || Character.digit(component.charAt(i + 2), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extract the raw path of an absolute hierarchical URI string.
+     */
+    private static String rawPath(final String uri) {
+        final int schemeEnd = uri.indexOf("://");
+        if (schemeEnd < 0) {
+            return null;
+        }
+        final int pathStart = uri.indexOf('/', schemeEnd + 3);
+        if (pathStart < 0) {
+            return null;
+        }
+        int pathEnd = uri.length();
+        final int queryStart = uri.indexOf('?', pathStart);
+        if (queryStart >= 0) {
+            pathEnd = queryStart;
+        }
+        final int fragmentStart = uri.indexOf('#', pathStart);
+        if (fragmentStart >= 0 && fragmentStart < pathEnd) {
+            pathEnd = fragmentStart;
+        }
+        return uri.substring(pathStart, pathEnd);
+    }
+
     @Override
     public String getMethod() {
         return httpMethod;
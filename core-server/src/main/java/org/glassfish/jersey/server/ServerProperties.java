@@ -691,6 +691,72 @@ public final class ServerProperties {
     public static final String SUBRESOURCE_LOCATOR_CACHE_JERSEY_RESOURCE_ENABLED =
             "jersey.config.server.subresource.cache.jersey.resource.enabled";
 
+    /**
+     * If {@code true} then the request path matching routers are compiled into a literal-prefix index (trie) at
+     * application startup. Only the routes whose literal path prefix matches the request path are then tested
+     * against their regular expressions, so the routing cost grows with the length of the request path rather
+     * than with the number of root resources.
+     * <p>
+     * The routes are still tested in the JAX-RS defined matching order, i.e. the selected resource is the same as when
+     * the index is disabled. The index is bypassed when verbose tracing of path matching is enabled.
+     * </p>
+     * <p>
+     * Type of the property value is {@code boolean}. The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.17
+     */
+    public static final String ROUTING_PATH_INDEX_ENABLED = "jersey.config.server.routing.pathIndex.enabled";
+
+    /**
+     * If {@code true} then the resource methods are invoked using {@link java.lang.invoke.MethodHandle method handles}
+     * created for each resource method when the application model is built, instead of using Java reflection
+     * ({@link java.lang.reflect.Method#invoke(Object, Object...)}) on every request.
+     * <p>
+     * The property affects only the default resource method invocation. Custom
+     * {@link org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider invocation handler providers}
+     * (e.g. EJB integration) take precedence. If a method handle cannot be created for a resource method (e.g. due
+     * to security restrictions) the resource method is invoked using reflection.
+     * </p>
+     * <p>
+     * Type of the property value is {@code boolean}. The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.17
+     */
+    public static final String RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED =
+            "jersey.config.server.resource.methodHandleInvocation.enabled";
+
+    /**
+     * A long value that defines the minimal size (in bytes) of a {@link java.io.File} or {@link java.nio.file.Path}
+     * response entity region that is passed directly to the I/O container instead of being copied into the response
+     * output stream.
+     * <p>
+     * The direct transfer is used only if the I/O container response writer supports it (see
+     * {@link org.glassfish.jersey.server.spi.FileRegionWriter}) and the entity stream has not been wrapped by
+     * a {@link javax.ws.rs.ext.WriterInterceptor writer interceptor}. Copying is usually faster for small files,
+     * therefore the threshold should be set to a value well above the typical response buffer size. Note that some
+     * containers transfer the file content asynchronously or through a memory mapped buffer; in such case the file
+     * should not be truncated while the response is written and (on Windows) may remain locked until the mapping is
+     * released.
+     * </p>
+     * <p>
+     * The direct transfer is disabled by default. A non-positive value disables the direct transfer.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.17
+     */
+    public static final String RESPONSE_FILE_REGION_THRESHOLD = "jersey.config.server.response.fileRegion.threshold";
+
     private ServerProperties() {
         // prevents instantiation
     }
@@ -39,6 +39,7 @@
  */
 package org.glassfish.jersey.server;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
@@ -82,6 +83,7 @@ import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.internal.util.collection.Refs;
 import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.message.internal.FileRegionOutput;
 import org.glassfish.jersey.message.internal.HeaderValueException;
 import org.glassfish.jersey.message.internal.MessageBodyProviderNotFoundException;
 import org.glassfish.jersey.message.internal.OutboundJaxrsResponse;
@@ -108,6 +110,7 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 import org.glassfish.jersey.server.spi.ExternalRequestContext;
+import org.glassfish.jersey.server.spi.FileRegionWriter;
 import org.glassfish.jersey.server.spi.ExternalRequestScope;
 import org.glassfish.jersey.server.spi.ResponseErrorMapper;
 import org.glassfish.jersey.spi.ExceptionMappers;
@@ -147,6 +150,7 @@ public class ServerRuntime {
     private final TracingLogger.Level tracingThreshold;
 
     private final boolean processResponseErrors;
+    private final long fileRegionThreshold;
 
     /*package */ static final ExternalRequestScope<Object> NOOP_EXTERNAL_REQ_SCOPE = new ExternalRequestScope<Object>() {
 
@@ -243,6 +247,8 @@ public class ServerRuntime {
 
         this.processResponseErrors = PropertiesHelper.isProperty(
                 configuration.getProperty(ServerProperties.PROCESSING_RESPONSE_ERRORS_ENABLED));
+        this.fileRegionThreshold = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.RESPONSE_FILE_REGION_THRESHOLD, 0L, Long.class);
     }
 
     /**
@@ -289,7 +295,12 @@ public class ServerRuntime {
                 try {
                     // set base URI into response builder thread-local variable
                     // for later resolving of relative location URIs
-                    OutboundJaxrsResponse.Builder.setBaseUri(request.getBaseUri());
+                    OutboundJaxrsResponse.Builder.setBaseUri(new Value<URI>() {
+                        @Override
+                        public URI get() {
+                            return request.getBaseUri();
+                        }
+                    });
 
                     final Ref<Endpoint> endpointRef = Refs.emptyRef();
                     final RequestProcessingContext data = Stages.process(context, requestProcessingRoot, endpointRef);
@@ -477,6 +488,7 @@ public class ServerRuntime {
                     LOGGER.log(Level.FINE, LocalizationMessages.ERROR_EXCEPTION_MAPPING_THROWN_TO_CONTAINER(), responseError);
 
                     try {
+                        request.detachHeaders();
                         request.getResponseWriter().failure(responseError);
                     } finally {
                         completionCallbackRunner.onComplete(responseError);
@@ -625,6 +637,9 @@ public class ServerRuntime {
         private ContainerResponse writeResponse(final ContainerResponse response) {
             final ContainerRequest request = processingContext.request();
             final ContainerResponseWriter writer = request.getResponseWriter();
+            // containers may recycle the native request once the response is committed, completion callbacks
+            // and request event listeners still need the request headers
+            request.detachHeaders();
             ServerRuntime.ensureAbsolute(response.getLocation(), response.getHeaders(),
                     response.getRequestContext());
 
@@ -650,7 +665,12 @@ public class ServerRuntime {
                         ServerRuntime.ensureAbsolute(response.getLocation(), response.getHeaders(),
                                 response.getRequestContext());
                         final OutputStream outputStream = writer.writeResponseStatusAndHeaders(contentLength, response);
-                        return isHead ? null : outputStream;
+                        if (isHead) {
+                            return null;
+                        }
+                        return writer instanceof FileRegionWriter && outputStream != null && runtime.fileRegionThreshold > 0
+                                ? new FileRegionOutputStream(outputStream, (FileRegionWriter) writer,
+                                runtime.fileRegionThreshold) : outputStream;
                     }
                 });
 
@@ -857,6 +877,8 @@ public class ServerRuntime {
         public boolean suspend() {
             synchronized (stateLock) {
                 if (state == RUNNING) {
+                    // the request may be resumed and completed after the container has recycled the native request
+                    responder.processingContext.request().detachHeaders();
                     if (responder.processingContext.request().getResponseWriter().suspend(
                             AsyncResponse.NO_TIMEOUT, TimeUnit.SECONDS, this)) {
                         state = SUSPENDED;
@@ -1197,4 +1219,59 @@ public class ServerRuntime {
             });
         }
     }
+
+    /**
+     * Response entity output stream that passes file regions to the {@link FileRegionWriter file region capable}
+     * container response writer.
+     *
+     * @see ServerProperties#RESPONSE_FILE_REGION_THRESHOLD
+     */
+    private static final class FileRegionOutputStream extends OutputStream implements FileRegionOutput {
+
+        private final OutputStream outputStream;
+        private final FileRegionWriter writer;
+        private final long threshold;
+
+        private FileRegionOutputStream(final OutputStream outputStream, final FileRegionWriter writer, final long threshold) {
+            this.outputStream = outputStream;
+            this.writer = writer;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public boolean transferFrom(final File file, final long position, final long count) throws IOException {
+            if (count < threshold) {
+                // small regions are copied faster
+                return false;
+            }
+            // the region has to follow the data written so far
+            outputStream.flush();
+            return writer.writeFileRegion(file, position, count);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            outputStream.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b) throws IOException {
+            outputStream.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            outputStream.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+        }
+    }
 }
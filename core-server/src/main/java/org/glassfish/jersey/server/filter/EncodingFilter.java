@@ -57,7 +57,9 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 
+import org.glassfish.jersey.message.MessageProperties;
 import org.glassfish.jersey.message.internal.HttpHeaderReader;
+import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.spi.ContentEncoder;
 
@@ -76,6 +78,9 @@ import jersey.repackaged.com.google.common.collect.Sets;
  * <p>
  *     The filter also ensures Accept-Encoding is added to the Vary header, for proper interaction with web caches.
  * </p>
+ * <p>
+ *     Entities smaller than {@link MessageProperties#ENCODING_MIN_SIZE} are sent without any encoding.
+ * </p>
  *
  * @author Martin Matula
  */
@@ -194,6 +199,12 @@ public final class EncodingFilter implements ContainerResponseFilter {
         // finally set the header - but no need to set for identity encoding
         if (!IDENTITY_ENCODING.equals(contentEncoding)) {
             response.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+
+            if (response instanceof ContainerResponse && ((ContainerResponse) response).isChunked()) {
+                // headers of a chunked response are committed before the first chunk is written,
+                // the encoding can no longer be skipped for small entities
+                request.setProperty(MessageProperties.ENCODING_MIN_SIZE, 0);
+            }
         }
     }
 
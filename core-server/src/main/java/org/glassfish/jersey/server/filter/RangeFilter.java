@@ -0,0 +1,222 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.filter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import javax.annotation.Priority;
+
+/**
+ * Container response filter that supports byte-range requests of {@link File} and {@link Path} entities.
+ * <p>
+ * Successful responses to {@code GET} requests that contain a {@code File} or a {@code Path} entity are marked with
+ * the {@code Accept-Ranges: bytes} header. If such a request contains a {@code Range} header with a single byte range,
+ * the response status is changed to {@code 206 Partial Content} and a {@code Content-Range} header is added. The file
+ * entity providers then write only the requested byte range of the file (directly to the connection if the I/O
+ * container supports it). A range that does not overlap the file content results in
+ * {@code 416 Requested Range Not Satisfiable} response.
+ * </p>
+ * <p>
+ * Requests with multiple byte ranges, with an {@code If-Range} header that does not match the response
+ * {@code ETag} or {@code Last-Modified} header, and responses that are content-encoded are served in full.
+ * The filter runs after the {@link org.glassfish.jersey.server.filter.EncodingFilter} (if registered) so that
+ * the {@code Content-Encoding} header selected by the encoding filter is already known when ranges are evaluated.
+ * </p>
+ * <p>
+ * The filter is not enabled by default; it has to be registered explicitly, e.g. using
+ * {@link org.glassfish.jersey.server.ResourceConfig#register(Class)}.
+ * </p>
+ *
+ * @since 2.17
+ */
+@Priority(Priorities.HEADER_DECORATOR - 100) // must go after EncodingFilter (if present)
+public final class RangeFilter implements ContainerResponseFilter {
+
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String BYTES_UNIT = "bytes";
+
+    @Override
+    public void filter(final ContainerRequestContext request, final ContainerResponseContext response) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod()) || response.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+
+        final long length = getLength(response.getEntity());
+        if (length < 0 || response.getHeaders().containsKey(CONTENT_RANGE)) {
+            return;
+        }
+
+        // ranges of encoded entities would refer to the encoded content
+        if (response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING) != null) {
+            return;
+        }
+        response.getHeaders().putSingle(ACCEPT_RANGES, BYTES_UNIT);
+
+        final String range = request.getHeaderString(RANGE);
+        if (range == null || !isIfRangeSatisfied(request.getHeaderString(IF_RANGE), response)) {
+            return;
+        }
+
+        final long[] byteRange = parseRange(range, length);
+        if (byteRange == null) {
+            return;
+        }
+
+        if (byteRange.length == 0) {
+            response.setStatus(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode());
+            response.getHeaders().putSingle(CONTENT_RANGE, BYTES_UNIT + " */" + length);
+            response.setEntity(null);
+        } else {
+            response.setStatus(Response.Status.PARTIAL_CONTENT.getStatusCode());
+            response.getHeaders().putSingle(CONTENT_RANGE, BYTES_UNIT + " " + byteRange[0] + "-" + byteRange[1] + "/" + length);
+        }
+    }
+
+    /**
+     * Get the length of a file entity.
+     *
+     * @param entity response entity.
+     * @return length of the file or {@code -1} if the entity is not a regular file.
+     */
+    private static long getLength(final Object entity) {
+        if (entity instanceof File) {
+            final File file = (File) entity;
+            return file.isFile() ? file.length() : -1;
+        } else if (entity instanceof Path) {
+            final Path path = (Path) entity;
+            try {
+                return Files.isRegularFile(path) ? Files.size(path) : -1;
+            } catch (final IOException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check whether the {@code If-Range} validator matches the current representation.
+     *
+     * @param ifRange  {@code If-Range} header value, may be {@code null}.
+     * @param response container response.
+     * @return {@code true} if there is no {@code If-Range} header or if it matches the response validator.
+     */
+    private static boolean isIfRangeSatisfied(final String ifRange, final ContainerResponseContext response) {
+        if (ifRange == null) {
+            return true;
+        }
+
+        final String validator = ifRange.trim();
+        if (validator.startsWith("W/")) {
+            // weak entity tags must not be used for ranges
+            return false;
+        } else if (validator.startsWith("\"")) {
+            return validator.equals(response.getHeaderString(HttpHeaders.ETAG));
+        } else {
+            return validator.equals(response.getHeaderString(HttpHeaders.LAST_MODIFIED));
+        }
+    }
+
+    /**
+     * Parse the {@code Range} header value.
+     *
+     * @param range  {@code Range} header value.
+     * @param length length of the complete representation.
+     * @return first and last byte position of the range, an empty array if the range is not satisfiable or {@code null}
+     *         if the header should be ignored (it is malformed, uses other unit than bytes or specifies multiple ranges).
+     */
+    static long[] parseRange(final String range, final long length) {
+        final String value = range.trim();
+        if (!value.startsWith(BYTES_UNIT + "=") || value.indexOf(',') >= 0) {
+            return null;
+        }
+
+        final String spec = value.substring(BYTES_UNIT.length() + 1).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            final String firstValue = spec.substring(0, dash).trim();
+            final String lastValue = spec.substring(dash + 1).trim();
+
+            final long first;
+            final long last;
+            if (firstValue.isEmpty()) {
+                // suffix range: the last N bytes
+                final long suffix = Long.parseLong(lastValue);
+                if (suffix < 0) {
+                    return null;
+                }
+                first = Math.max(0, length - suffix);
+                last = length - 1;
+                if (suffix == 0 || length == 0) {
+                    return new long[0];
+                }
+            } else {
+                first = Long.parseLong(firstValue);
+                last = lastValue.isEmpty() ? length - 1 : Math.min(Long.parseLong(lastValue), length - 1);
+                if (first < 0 || (!lastValue.isEmpty() && Long.parseLong(lastValue) < first)) {
+                    return null;
+                }
+                if (first >= length) {
+                    return new long[0];
+                }
+            }
+            return new long[] {first, last};
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+}
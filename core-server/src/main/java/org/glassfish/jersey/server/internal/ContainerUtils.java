@@ -42,6 +42,8 @@ package org.glassfish.jersey.server.internal;
 import javax.ws.rs.core.UriBuilder;
 import java.net.URI;
 
+import org.glassfish.jersey.uri.UriComponent;
+
 /**
  * Utility methods used by container implementations.
  *
@@ -71,4 +73,34 @@ public class ContainerUtils {
         }
         return originalQueryString;
     }
+
+    /**
+     * Build an encoded absolute hierarchical URI string from the given components.
+     * <p>
+     * The result can be passed to {@link org.glassfish.jersey.server.ContainerRequest} as a base URI string;
+     * unlike {@link URI#URI(String, String, String, int, String, String, String)} the method does not parse
+     * the resulting URI.
+     * </p>
+     *
+     * @param scheme URI scheme.
+     * @param host   host name or IP address, IPv6 address may or may not be enclosed in square brackets.
+     * @param port   port number, or {@code -1} if the port is not defined.
+     * @param path   absolute path, unsafe characters will be percent-encoded.
+     * @return encoded absolute URI string.
+     * @since 2.17
+     */
+    public static String getAbsoluteUri(final String scheme, final String host, final int port, final String path) {
+        final StringBuilder sb = new StringBuilder(scheme.length() + host.length() + path.length() + 16);
+        sb.append(scheme).append("://");
+        if (host.indexOf(':') >= 0 && host.charAt(0) != '[') {
+            sb.append('[').append(host).append(']');
+        } else {
+            sb.append(host);
+        }
+        if (port != -1) {
+            sb.append(':').append(port);
+        }
+        sb.append(UriComponent.contextualEncode(path, UriComponent.Type.PATH));
+        return sb.toString();
+    }
 }
@@ -72,10 +72,10 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @param success True if mappings were successful.
          * @param count Number of mappings.
          */
-        void addMapping(final boolean success, final int count) {
+        void addMapping(final boolean success, final long count) {
             cached = null;
 
-            totalMappings++;
+            totalMappings += count;
             if (success) {
                 successfulMappings += count;
             } else {
@@ -89,7 +89,7 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @param mapper Exception mapper.
          * @param count Number of executions of the {@code mapper}.
          */
-        void addExceptionMapperExecution(final Class<?> mapper, final int count) {
+        void addExceptionMapperExecution(final Class<?> mapper, final long count) {
             cached = null;
 
             Long cnt = exceptionMapperExecutionCount.get(mapper);
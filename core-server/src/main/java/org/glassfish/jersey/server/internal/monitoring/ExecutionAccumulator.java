@@ -0,0 +1,227 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+/**
+ * Lock-striped accumulator of executions of a single monitored target (application, resource method, ...).
+ * <p>
+ * Request processing threads {@link #record(long, long) record} executions into one of several stripes
+ * selected by the current thread, so concurrently processed requests rarely compete for the same stripe.
+ * The {@link MonitoringStatisticsProcessor monitoring processor} periodically {@link #drain() drains} the
+ * accumulated executions of all stripes and merges them into the monitoring statistics. No execution
+ * is ever dropped and the memory used by the accumulator does not depend on the request rate.
+ * </p>
+ */
+final class ExecutionAccumulator {
+
+    private static final int STRIPES = stripeCount();
+
+    private final Executions[] stripes = new Executions[STRIPES];
+
+    /**
+     * Create a new accumulator.
+     */
+    ExecutionAccumulator() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Executions();
+        }
+    }
+
+    private static int stripeCount() {
+        final int processors = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+        return Integer.highestOneBit(Math.max(1, processors - 1)) << 1;
+    }
+
+    /**
+     * Record a single execution.
+     *
+     * @param startTime start time of the execution (Unix timestamp format).
+     * @param duration  duration of the execution in milliseconds.
+     */
+    void record(final long startTime, final long duration) {
+        final Executions stripe = stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+        synchronized (stripe) {
+            stripe.record(startTime, duration);
+        }
+    }
+
+    /**
+     * Remove all executions recorded since the last drain and return them merged together.
+     *
+     * @return merged executions or {@code null} if no execution has been recorded since the last drain.
+     */
+    Executions drain() {
+        Executions result = null;
+        for (final Executions stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.count == 0) {
+                    continue;
+                }
+                if (result == null) {
+                    result = new Executions();
+                }
+                result.add(stripe);
+                stripe.clear();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Aggregated executions of a monitored target.
+     */
+    static final class Executions {
+
+        private long count;
+        private long totalDuration;
+        private long minimumDuration = -1;
+        private long maximumDuration = -1;
+        private long lastStartTime;
+        private LatencyHistogram histogram;
+
+        /**
+         * Add a single execution.
+         *
+         * @param startTime start time of the execution (Unix timestamp format).
+         * @param duration  duration of the execution in milliseconds.
+         */
+        void record(final long startTime, final long duration) {
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+            }
+            histogram.record(duration);
+
+            count++;
+            totalDuration += duration;
+            if (duration < minimumDuration || minimumDuration == -1) {
+                minimumDuration = duration;
+            }
+            if (duration > maximumDuration) {
+                maximumDuration = duration;
+            }
+            if (startTime > lastStartTime) {
+                lastStartTime = startTime;
+            }
+        }
+
+        private void add(final Executions other) {
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+            }
+            histogram.add(other.histogram);
+
+            count += other.count;
+            totalDuration += other.totalDuration;
+            if (other.minimumDuration < minimumDuration || minimumDuration == -1) {
+                minimumDuration = other.minimumDuration;
+            }
+            if (other.maximumDuration > maximumDuration) {
+                maximumDuration = other.maximumDuration;
+            }
+            if (other.lastStartTime > lastStartTime) {
+                lastStartTime = other.lastStartTime;
+            }
+        }
+
+        private void clear() {
+            count = 0;
+            totalDuration = 0;
+            minimumDuration = -1;
+            maximumDuration = -1;
+            lastStartTime = 0;
+            histogram.clear();
+        }
+
+        /**
+         * Get the number of executions.
+         *
+         * @return number of executions.
+         */
+        long getCount() {
+            return count;
+        }
+
+        /**
+         * Get the sum of durations of all executions.
+         *
+         * @return total duration in milliseconds.
+         */
+        long getTotalDuration() {
+            return totalDuration;
+        }
+
+        /**
+         * Get the shortest execution duration.
+         *
+         * @return minimum duration in milliseconds or {@code -1} if there are no executions.
+         */
+        long getMinimumDuration() {
+            return minimumDuration;
+        }
+
+        /**
+         * Get the longest execution duration.
+         *
+         * @return maximum duration in milliseconds or {@code -1} if there are no executions.
+         */
+        long getMaximumDuration() {
+            return maximumDuration;
+        }
+
+        /**
+         * Get the start time of the most recently started execution.
+         *
+         * @return last start time (Unix timestamp format).
+         */
+        long getLastStartTime() {
+            return lastStartTime;
+        }
+
+        /**
+         * Get the histogram of execution durations.
+         *
+         * @return duration histogram or {@code null} if there are no executions.
+         */
+        LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+}
@@ -99,6 +99,19 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
             this.lastStartTime = startTime;
         }
 
+        /**
+         * Add aggregated executions of a target.
+         *
+         * @param executions Executions drained from an {@link ExecutionAccumulator execution accumulator}.
+         */
+        void addExecutions(final ExecutionAccumulator.Executions executions) {
+            for (final TimeWindowStatisticsImpl.Builder statBuilder : intervalStatistics.values()) {
+                statBuilder.addRequests(executions);
+            }
+
+            this.lastStartTime = executions.getLastStartTime();
+        }
+
         /**
          * Build a new instance of execution statistics.
          *
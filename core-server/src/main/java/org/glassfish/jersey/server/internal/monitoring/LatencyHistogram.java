@@ -0,0 +1,264 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-memory log-linear histogram of durations (in milliseconds).
+ * <p>
+ * Durations lower than {@value #SUB_BUCKETS} are counted exactly, every higher power-of-two range is split
+ * into {@value #SUB_BUCKETS} linear sub-buckets. A value reported for a percentile is therefore never lower
+ * than the real value and exceeds it by at most {@code 1/}{@value #SUB_BUCKETS} of the real value. Durations
+ * longer than {@link Integer#MAX_VALUE} milliseconds are counted in the last bucket.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_VALUE = Integer.MAX_VALUE;
+
+    /**
+     * Number of buckets needed to cover values up to {@link #MAX_VALUE}.
+     */
+    static final int BUCKETS = bucketOf(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+
+    /**
+     * Record a single duration.
+     *
+     * @param duration duration in milliseconds.
+     */
+    void record(final long duration) {
+        counts[bucketOf(duration)]++;
+        count++;
+    }
+
+    /**
+     * Add all values recorded in the other histogram to this histogram.
+     *
+     * @param other histogram to be added.
+     */
+    void add(final LatencyHistogram other) {
+        if (other.count == 0) {
+            return;
+        }
+        final long[] otherCounts = other.counts;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += otherCounts[i];
+        }
+        count += other.count;
+    }
+
+    /**
+     * Add all values of the snapshot to this histogram.
+     *
+     * @param snapshot histogram snapshot to be added.
+     */
+    void add(final Snapshot snapshot) {
+        for (int i = 0; i < snapshot.buckets.length; i++) {
+            counts[snapshot.buckets[i]] += snapshot.counts[i];
+        }
+        count += snapshot.count;
+    }
+
+    /**
+     * Remove all values of the snapshot (that has been previously {@link #add(Snapshot) added}) from this histogram.
+     *
+     * @param snapshot histogram snapshot to be removed.
+     */
+    void subtract(final Snapshot snapshot) {
+        for (int i = 0; i < snapshot.buckets.length; i++) {
+            counts[snapshot.buckets[i]] -= snapshot.counts[i];
+        }
+        count -= snapshot.count;
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return number of recorded values.
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Remove all recorded values.
+     */
+    void clear() {
+        if (count != 0) {
+            Arrays.fill(counts, 0);
+            count = 0;
+        }
+    }
+
+    /**
+     * Create an immutable compact snapshot of the histogram.
+     *
+     * @return histogram snapshot.
+     */
+    Snapshot snapshot() {
+        return snapshot(this, null);
+    }
+
+    /**
+     * Create an immutable compact snapshot of the sum of the given histograms.
+     *
+     * @param first  first histogram, may be {@code null}.
+     * @param second second histogram, may be {@code null}.
+     * @return snapshot of the sum of histograms.
+     */
+    static Snapshot snapshot(final LatencyHistogram first, final LatencyHistogram second) {
+        final long total = (first == null ? 0 : first.count) + (second == null ? 0 : second.count);
+        if (total == 0) {
+            return Snapshot.EMPTY;
+        }
+
+        int size = 0;
+        final long[] sum = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            sum[i] = (first == null ? 0 : first.counts[i]) + (second == null ? 0 : second.counts[i]);
+            if (sum[i] != 0) {
+                size++;
+            }
+        }
+
+        final int[] buckets = new int[size];
+        final long[] counts = new long[size];
+        int j = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (sum[i] != 0) {
+                buckets[j] = i;
+                counts[j++] = sum[i];
+            }
+        }
+        return new Snapshot(buckets, counts, total);
+    }
+
+    /**
+     * Get the index of the bucket counting the value.
+     *
+     * @param value duration in milliseconds.
+     * @return bucket index.
+     */
+    static int bucketOf(final long value) {
+        final long v = value < 0 ? 0 : Math.min(value, MAX_VALUE);
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (v >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Get the highest value counted by the bucket.
+     *
+     * @param bucket bucket index.
+     * @return highest value that falls into the bucket.
+     */
+    static long highestValueOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return Math.min(((subBucket + 1) << shift) - 1, MAX_VALUE);
+    }
+
+    /**
+     * Immutable compact snapshot of a histogram containing only the non-empty buckets.
+     */
+    static final class Snapshot {
+
+        /**
+         * Snapshot of an empty histogram.
+         */
+        static final Snapshot EMPTY = new Snapshot(new int[0], new long[0], 0);
+
+        private final int[] buckets;
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(final int[] buckets, final long[] counts, final long count) {
+            this.buckets = buckets;
+            this.counts = counts;
+            this.count = count;
+        }
+
+        /**
+         * Get the number of values in the snapshot.
+         *
+         * @return number of values.
+         */
+        long getCount() {
+            return count;
+        }
+
+        /**
+         * Get the value at the given percentile.
+         *
+         * @param percentile percentile in the range {@code (0, 100]}.
+         * @return (upper bound of the) value at the percentile or {@code -1} if the snapshot is empty.
+         */
+        long getValueAtPercentile(final double percentile) {
+            if (count == 0) {
+                return -1;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return highestValueOf(buckets[i]);
+                }
+            }
+            return highestValueOf(buckets[buckets.length - 1]);
+        }
+    }
+}
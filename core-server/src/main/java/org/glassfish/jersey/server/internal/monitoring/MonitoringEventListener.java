@@ -40,8 +40,12 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Queue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -62,13 +66,17 @@ import org.glassfish.jersey.uri.UriTemplate;
 import org.glassfish.hk2.api.ServiceLocator;
 
 import jersey.repackaged.com.google.common.collect.Lists;
-import jersey.repackaged.com.google.common.collect.Queues;
 
 /**
  * {@link ApplicationEventListener application event listener} that listens to {@link ApplicationEvent application}
  * and {@link RequestEvent request} events and supplies data to {@link MonitoringStatisticsProcessor} which
  * produces {@link org.glassfish.jersey.server.monitoring.MonitoringStatistics monitoring statistics}.
  * <p>
+ * Request events are not handed over to the processor one by one. Instead, they are accumulated in
+ * {@link ExecutionAccumulator striped execution accumulators} and counters, which the processor periodically
+ * drains and merges into the statistics. Hence no event is lost even under high request rates.
+ * </p>
+ * <p>
  * The {@link MonitoringStatisticsProcessor} is started by this class after the first application event
  * comes.
  * </p>
@@ -84,110 +92,100 @@ import jersey.repackaged.com.google.common.collect.Queues;
 public final class MonitoringEventListener implements ApplicationEventListener {
 
     private static final Logger LOGGER = Logger.getLogger(MonitoringEventListener.class.getName());
-    private static final int EVENT_QUEUE_SIZE = 50000;
 
     @Inject
     private ServiceLocator serviceLocator;
 
-    private final Queue<RequestStats> requestQueuedItems = Queues.newArrayBlockingQueue(EVENT_QUEUE_SIZE);
-    private final Queue<Integer> responseStatuses = Queues.newArrayBlockingQueue(EVENT_QUEUE_SIZE);
-    private final Queue<RequestEvent> exceptionMapperEvents = Queues.newArrayBlockingQueue(EVENT_QUEUE_SIZE);
+    private final ExecutionAccumulator requestExecutions = new ExecutionAccumulator();
+    private final ConcurrentMap<MethodKey, MethodExecutions> methodExecutions =
+            new ConcurrentHashMap<MethodKey, MethodExecutions>();
+    private final ConcurrentMap<Integer, AtomicLong> responseStatuses = new ConcurrentHashMap<Integer, AtomicLong>();
+    private volatile Integer lastResponseStatus;
+    private final ConcurrentMap<Class<?>, AtomicLong> exceptionMapperExecutions = new ConcurrentHashMap<Class<?>, AtomicLong>();
+    private final AtomicLong successfulMappings = new AtomicLong();
+    private final AtomicLong unsuccessfulMappings = new AtomicLong();
     private volatile MonitoringStatisticsProcessor monitoringStatisticsProcessor;
 
     /**
-     * Time statistics.
+     * Accumulated executions of a resource method matched by a request uri.
      */
-    static class TimeStats {
+    static final class MethodExecutions {
 
-        private final long duration;
-        private final long startTime;
+        private final String requestUri;
+        private final ResourceMethod method;
+        private final ExecutionAccumulator methodExecutions = new ExecutionAccumulator();
+        private final ExecutionAccumulator requestExecutions = new ExecutionAccumulator();
 
-        private TimeStats(final long startTime, final long requestDuration) {
-            this.duration = requestDuration;
-            this.startTime = startTime;
+        private MethodExecutions(final String requestUri, final ResourceMethod method) {
+            this.requestUri = requestUri;
+            this.method = method;
         }
 
         /**
-         * Get duration.
+         * Get the request uri.
          *
-         * @return Duration in milliseconds.
+         * @return request uri.
          */
-        long getDuration() {
-            return duration;
+        String getRequestUri() {
+            return requestUri;
         }
 
         /**
-         * Get start time.
+         * Get the resource method executed.
          *
-         * @return Start time (Unix timestamp format).
+         * @return resource method.
          */
-        long getStartTime() {
-            return startTime;
+        ResourceMethod getMethod() {
+            return method;
         }
-    }
-
-    /**
-     * Method statistics.
-     */
-    static class MethodStats extends TimeStats {
 
-        private final ResourceMethod method;
-
-        private MethodStats(final ResourceMethod method, final long startTime, final long requestDuration) {
-            super(startTime, requestDuration);
-            this.method = method;
+        /**
+         * Get the accumulated executions of the resource method itself.
+         *
+         * @return resource method executions.
+         */
+        ExecutionAccumulator getMethodExecutions() {
+            return methodExecutions;
         }
 
         /**
-         * Get the resource method executed.
+         * Get the accumulated executions of whole requests matched to the resource method.
          *
-         * @return resource method.
+         * @return request executions.
          */
-        ResourceMethod getMethod() {
-            return method;
+        ExecutionAccumulator getRequestExecutions() {
+            return requestExecutions;
         }
     }
 
     /**
-     * Request statistics.
+     * Key of the {@link MethodExecutions method executions}.
      */
-    static class RequestStats {
+    private static final class MethodKey {
 
-        private final TimeStats requestStats;
-        private final MethodStats methodStats; // might be null if a method was not executed during a request
         private final String requestUri;
+        private final ResourceMethod method;
 
-        private RequestStats(final TimeStats requestStats, final MethodStats methodStats, final String requestUri) {
-            this.requestStats = requestStats;
-            this.methodStats = methodStats;
+        private MethodKey(final String requestUri, final ResourceMethod method) {
             this.requestUri = requestUri;
+            this.method = method;
         }
 
-        /**
-         * Get request statistics.
-         *
-         * @return request statistics.
-         */
-        TimeStats getRequestStats() {
-            return requestStats;
-        }
-
-        /**
-         * Get method statistics.
-         *
-         * @return method statistics.
-         */
-        MethodStats getMethodStats() {
-            return methodStats;
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodKey)) {
+                return false;
+            }
+            final MethodKey other = (MethodKey) o;
+            return method.equals(other.method) && requestUri.equals(other.requestUri);
         }
 
-        /**
-         * Get the request uri.
-         *
-         * @return request uri.
-         */
-        String getRequestUri() {
-            return requestUri;
+        @Override
+        public int hashCode() {
+            return 31 * requestUri.hashCode() + method.hashCode();
         }
     }
 
@@ -244,7 +242,8 @@ public final class MonitoringEventListener implements ApplicationEventListener {
 
         private final long requestTimeStart;
         private volatile long methodTimeStart;
-        private volatile MethodStats methodStats;
+        private volatile long methodDuration;
+        private volatile ResourceMethod method;
 
         public ReqEventListener() {
             this.requestTimeStart = System.currentTimeMillis();
@@ -259,64 +258,136 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                     this.methodTimeStart = now;
                     break;
                 case RESOURCE_METHOD_FINISHED:
-                    final ResourceMethod method = event.getUriInfo().getMatchedResourceMethod();
-                    methodStats = new MethodStats(method, methodTimeStart, now - methodTimeStart);
+                    methodDuration = now - methodTimeStart;
+                    method = event.getUriInfo().getMatchedResourceMethod();
                     break;
                 case EXCEPTION_MAPPING_FINISHED:
-                    if (!exceptionMapperEvents.offer(event)) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_MAPPER());
+                    if (event.getExceptionMapper() != null) {
+                        increment(exceptionMapperExecutions, event.getExceptionMapper().getClass());
+                    }
+                    if (event.isResponseSuccessfullyMapped()) {
+                        successfulMappings.incrementAndGet();
+                    } else {
+                        unsuccessfulMappings.incrementAndGet();
                     }
                     break;
                 case FINISHED:
                     if (event.isResponseWritten()) {
-                        if (!responseStatuses.offer(event.getContainerResponse().getStatus())) {
-                            LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
-                        }
+                        final int status = event.getContainerResponse().getStatus();
+                        increment(responseStatuses, status);
+                        lastResponseStatus = status;
                     }
-                    final StringBuilder sb = new StringBuilder();
-                    final List<UriTemplate> orderedTemplates = Lists.reverse(event.getUriInfo().getMatchedTemplates());
 
-                    for (final UriTemplate uriTemplate : orderedTemplates) {
-                        sb.append(uriTemplate.getTemplate());
-                        if (!uriTemplate.endsWithSlash()) {
-                            sb.append("/");
+                    final long requestDuration = now - requestTimeStart;
+                    requestExecutions.record(requestTimeStart, requestDuration);
+
+                    final ResourceMethod executedMethod = method;
+                    if (executedMethod != null) {
+                        final StringBuilder sb = new StringBuilder();
+                        final List<UriTemplate> orderedTemplates = Lists.reverse(event.getUriInfo().getMatchedTemplates());
+
+                        for (final UriTemplate uriTemplate : orderedTemplates) {
+                            sb.append(uriTemplate.getTemplate());
+                            if (!uriTemplate.endsWithSlash()) {
+                                sb.append("/");
+                            }
+                            sb.setLength(sb.length() - 1);
                         }
-                        sb.setLength(sb.length() - 1);
-                    }
 
-                    if (!requestQueuedItems.offer(new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
-                            methodStats, sb.toString()))) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_REQUEST());
+                        final MethodExecutions executions = getOrCreateMethodExecutions(sb.toString(), executedMethod);
+                        executions.methodExecutions.record(methodTimeStart, methodDuration);
+                        executions.requestExecutions.record(requestTimeStart, requestDuration);
                     }
 
             }
         }
     }
 
+    private MethodExecutions getOrCreateMethodExecutions(final String requestUri, final ResourceMethod method) {
+        final MethodKey key = new MethodKey(requestUri, method);
+        MethodExecutions executions = methodExecutions.get(key);
+        if (executions == null) {
+            final MethodExecutions newExecutions = new MethodExecutions(requestUri, method);
+            executions = methodExecutions.putIfAbsent(key, newExecutions);
+            if (executions == null) {
+                executions = newExecutions;
+            }
+        }
+        return executions;
+    }
+
+    private static <K> void increment(final ConcurrentMap<K, AtomicLong> counters, final K key) {
+        AtomicLong counter = counters.get(key);
+        if (counter == null) {
+            final AtomicLong newCounter = new AtomicLong();
+            counter = counters.putIfAbsent(key, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        counter.incrementAndGet();
+    }
+
     /**
-     * Get the exception mapper event queue.
+     * Get the accumulated global request executions.
      *
-     * @return Exception mapper event queue.
+     * @return Request executions.
      */
-    Queue<RequestEvent> getExceptionMapperEvents() {
-        return exceptionMapperEvents;
+    ExecutionAccumulator getRequestExecutions() {
+        return requestExecutions;
     }
 
     /**
-     * Get the request event queue.
+     * Get the accumulated executions of all resource methods executed so far.
      *
-     * @return Request event queue.
+     * @return Resource method executions.
      */
-    Queue<RequestStats> getRequestQueuedItems() {
-        return requestQueuedItems;
+    Collection<MethodExecutions> getMethodExecutions() {
+        return methodExecutions.values();
     }
 
     /**
-     * Get the queue with response status codes.
+     * Get the counters of response status codes.
      *
-     * @return response status queue.
+     * @return Response status counters.
      */
-    Queue<Integer> getResponseStatuses() {
+    Map<Integer, AtomicLong> getResponseStatuses() {
         return responseStatuses;
     }
+
+    /**
+     * Get the status code of the most recently written response.
+     *
+     * @return Last response status code or {@code null} if no response has been written yet.
+     */
+    Integer getLastResponseStatus() {
+        return lastResponseStatus;
+    }
+
+    /**
+     * Get the counters of exception mapper executions.
+     *
+     * @return Exception mapper execution counters.
+     */
+    Map<Class<?>, AtomicLong> getExceptionMapperExecutions() {
+        return exceptionMapperExecutions;
+    }
+
+    /**
+     * Get the counter of successful exception mappings.
+     *
+     * @return Successful mapping counter.
+     */
+    AtomicLong getSuccessfulMappings() {
+        return successfulMappings;
+    }
+
+    /**
+     * Get the counter of unsuccessful exception mappings.
+     *
+     * @return Unsuccessful mapping counter.
+     */
+    AtomicLong getUnsuccessfulMappings() {
+        return unsuccessfulMappings;
+    }
 }
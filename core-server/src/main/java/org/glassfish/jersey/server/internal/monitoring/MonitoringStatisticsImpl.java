@@ -162,6 +162,18 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             requestStatisticsBuilder.addExecution(startTime, duration);
         }
 
+        /**
+         * Add aggregated global request executions.
+         *
+         * @param executions Request executions.
+         */
+        void addRequestExecutions(final ExecutionAccumulator.Executions executions) {
+            if (requestStatisticsBuilder == null) {
+                requestStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+            }
+            requestStatisticsBuilder.addExecutions(executions);
+        }
+
         /**
          * Add execution of a resource method.
          *
@@ -194,6 +206,33 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
                     .addResourceMethodExecution(methodTime, methodDuration, requestTime, requestDuration);
         }
 
+        /**
+         * Add aggregated executions of a resource method.
+         *
+         * @param uri String uri which was executed.
+         * @param resourceMethod Resource method.
+         * @param methodExecutions Executions of the resource method itself (may be {@code null}).
+         * @param requestExecutions Executions of whole requests matched to the resource method (may be {@code null}).
+         */
+        void addExecutions(final String uri, final ResourceMethod resourceMethod,
+                           final ExecutionAccumulator.Executions methodExecutions,
+                           final ExecutionAccumulator.Executions requestExecutions) {
+            // Uri resource stats.
+            ResourceStatisticsImpl.Builder uriStatsBuilder = uriStatistics.get(uri);
+            if (uriStatsBuilder == null) {
+                uriStatsBuilder = new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory);
+                uriStatistics.put(uri, uriStatsBuilder);
+            }
+            uriStatsBuilder.addExecutions(resourceMethod, methodExecutions, requestExecutions);
+
+            // Class resource stats.
+            final ResourceStatisticsImpl.Builder classStatsBuilder = getOrCreateResourceBuilder(resourceMethod);
+            classStatsBuilder.addExecutions(resourceMethod, methodExecutions, requestExecutions);
+
+            // Resource method stats.
+            methodFactory.getOrCreate(resourceMethod).addResourceMethodExecutions(methodExecutions, requestExecutions);
+        }
+
 
         /**
          * Add a response status code produces by Jersey.
@@ -203,6 +242,23 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             responseStatisticsBuilder.addResponseCode(responseCode);
         }
 
+        /**
+         * Add responses with the same status code produced by Jersey.
+         * @param responseCode Response status code.
+         * @param count Number of responses.
+         */
+        void addResponseCodes(final int responseCode, final long count) {
+            responseStatisticsBuilder.addResponseCodes(responseCode, count);
+        }
+
+        /**
+         * Set the status code of the most recent response produced by Jersey.
+         * @param responseCode Response status code.
+         */
+        void setLastResponseCode(final int responseCode) {
+            responseStatisticsBuilder.setLastResponseCode(responseCode);
+        }
+
 
         /**
          * Build a new instance of monitoring statistics.
@@ -43,9 +43,10 @@ package org.glassfish.jersey.server.internal.monitoring;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -57,17 +58,16 @@ import org.glassfish.jersey.server.ExtendedResourceContext;
 import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.RuntimeExecutorsBinder;
-import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
-import org.glassfish.jersey.server.monitoring.RequestEvent;
 
 import org.glassfish.hk2.api.ServiceLocator;
 
 /**
  * Process events of application and request processing into
  * {@link org.glassfish.jersey.server.monitoring.MonitoringStatistics monitoring statistics}.
- * The {@code MonitoringStatisticsProcessor} starts a new thread which process events in regular intervals
+ * The {@code MonitoringStatisticsProcessor} starts a new thread which in regular intervals drains the executions
+ * accumulated by the {@link MonitoringEventListener}, merges them into the statistics
  * and for each new monitoring statistics it calls registered
  * {@link MonitoringStatisticsListener monitoring statistics event listeners}.
  *
@@ -140,46 +140,57 @@ final class MonitoringStatisticsProcessor {
     }
 
     private void processExceptionMapperEvents() {
-        final Queue<RequestEvent> eventQueue = monitoringEventListener.getExceptionMapperEvents();
-        while (!eventQueue.isEmpty()) {
-            final RequestEvent event = eventQueue.remove();
-            final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
+        final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
 
-            if (event.getExceptionMapper() != null) {
-                mapperStats.addExceptionMapperExecution(event.getExceptionMapper().getClass(), 1);
+        for (final Map.Entry<Class<?>, AtomicLong> entry : monitoringEventListener.getExceptionMapperExecutions().entrySet()) {
+            final long count = entry.getValue().getAndSet(0);
+            if (count > 0) {
+                mapperStats.addExceptionMapperExecution(entry.getKey(), count);
             }
+        }
 
-            mapperStats.addMapping(event.isResponseSuccessfullyMapped(), 1);
+        final long successful = monitoringEventListener.getSuccessfulMappings().getAndSet(0);
+        if (successful > 0) {
+            mapperStats.addMapping(true, successful);
+        }
+        final long unsuccessful = monitoringEventListener.getUnsuccessfulMappings().getAndSet(0);
+        if (unsuccessful > 0) {
+            mapperStats.addMapping(false, unsuccessful);
         }
     }
 
     private void processRequestItems() {
-        final Queue<MonitoringEventListener.RequestStats> requestQueuedItems = monitoringEventListener.getRequestQueuedItems();
-
-        while (!requestQueuedItems.isEmpty()) {
-            final MonitoringEventListener.RequestStats event = requestQueuedItems.remove();
-
-            final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
-            statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
+        final ExecutionAccumulator.Executions requestExecutions = monitoringEventListener.getRequestExecutions().drain();
+        if (requestExecutions != null) {
+            statisticsBuilder.addRequestExecutions(requestExecutions);
+        }
 
-            final MonitoringEventListener.MethodStats methodStat = event.getMethodStats();
-            if (methodStat != null) {
-                final ResourceMethod method = methodStat.getMethod();
-                statisticsBuilder.addExecution(event.getRequestUri(), method,
-                        methodStat.getStartTime(), methodStat.getDuration(),
-                        requestStats.getStartTime(), requestStats.getDuration());
+        for (final MonitoringEventListener.MethodExecutions executions : monitoringEventListener.getMethodExecutions()) {
+            // a request finishing concurrently may be drained from one accumulator only, the other part
+            // of the request is drained in the next run
+            final ExecutionAccumulator.Executions methodExecutions = executions.getMethodExecutions().drain();
+            final ExecutionAccumulator.Executions methodRequestExecutions = executions.getRequestExecutions().drain();
+            if (methodExecutions != null || methodRequestExecutions != null) {
+                statisticsBuilder.addExecutions(executions.getRequestUri(), executions.getMethod(),
+                        methodExecutions, methodRequestExecutions);
             }
         }
     }
 
     private void processResponseCodeEvents() {
-        final Queue<Integer> responseEvents = monitoringEventListener.getResponseStatuses();
-        Integer code;
-        while (!responseEvents.isEmpty()) {
-            code = responseEvents.remove();
-            statisticsBuilder.addResponseCode(code);
+        boolean added = false;
+        for (final Map.Entry<Integer, AtomicLong> entry : monitoringEventListener.getResponseStatuses().entrySet()) {
+            final long count = entry.getValue().getAndSet(0);
+            if (count > 0) {
+                statisticsBuilder.addResponseCodes(entry.getKey(), count);
+                added = true;
+            }
         }
 
+        final Integer lastStatus = monitoringEventListener.getLastResponseStatus();
+        if (added && lastStatus != null) {
+            statisticsBuilder.setLastResponseCode(lastStatus);
+        }
     }
 
     /**
@@ -141,6 +141,31 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
             }
             requestExecutionStatisticsBuilder.addExecution(requestStartTime, requestDuration);
         }
+
+        /**
+         * Add aggregated executions of the resource method to the statistics.
+         *
+         * @param methodExecutions Executions of the resource method itself (may be {@code null}).
+         * @param requestExecutions Executions of whole requests matched to the resource method (may be {@code null}).
+         */
+        void addResourceMethodExecutions(final ExecutionAccumulator.Executions methodExecutions,
+                                         final ExecutionAccumulator.Executions requestExecutions) {
+            cached = null;
+
+            if (methodExecutions != null) {
+                if (resourceMethodExecutionStatisticsBuilder == null) {
+                    resourceMethodExecutionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+                }
+                resourceMethodExecutionStatisticsBuilder.addExecutions(methodExecutions);
+            }
+
+            if (requestExecutions != null) {
+                if (requestExecutionStatisticsBuilder == null) {
+                    requestExecutionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+                }
+                requestExecutionStatisticsBuilder.addExecutions(requestExecutions);
+            }
+        }
     }
 
     private final ExecutionStatistics resourceMethodExecutionStatistics;
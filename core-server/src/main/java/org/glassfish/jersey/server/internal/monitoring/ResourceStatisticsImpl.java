@@ -151,6 +151,34 @@ final class ResourceStatisticsImpl implements ResourceStatistics {
             addMethod(resourceMethod);
         }
 
+        /**
+         * Add aggregated executions of a resource method in the resource.
+         *
+         * @param resourceMethod Resource method executed.
+         * @param methodExecutions Executions of the resource method itself (may be {@code null}).
+         * @param requestExecutions Executions of whole requests matched to the resource method (may be {@code null}).
+         */
+        void addExecutions(final ResourceMethod resourceMethod, final ExecutionAccumulator.Executions methodExecutions,
+                           final ExecutionAccumulator.Executions requestExecutions) {
+            cached = null;
+
+            if (methodExecutions != null) {
+                if (resourceExecutionStatisticsBuilder == null) {
+                    resourceExecutionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+                }
+                resourceExecutionStatisticsBuilder.addExecutions(methodExecutions);
+            }
+
+            if (requestExecutions != null) {
+                if (requestExecutionStatisticsBuilder == null) {
+                    requestExecutionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+                }
+                requestExecutionStatisticsBuilder.addExecutions(requestExecutions);
+            }
+
+            addMethod(resourceMethod);
+        }
+
         /**
          * Add a resource method to the statistics.
          *
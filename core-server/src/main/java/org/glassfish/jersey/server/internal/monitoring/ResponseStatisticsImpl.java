@@ -62,14 +62,35 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
         private ResponseStatisticsImpl cached = null;
 
         void addResponseCode(final int responseCode) {
+            addResponseCodes(responseCode, 1);
+            lastResponseCode = responseCode;
+        }
+
+        /**
+         * Add multiple responses with the same status code. The last response code is not updated.
+         *
+         * @param responseCode Response status code.
+         * @param count Number of responses.
+         */
+        void addResponseCodes(final int responseCode, final long count) {
             cached = null;
 
-            lastResponseCode = responseCode;
             Long currentValue = responseCodes.get(responseCode);
             if (currentValue == null) {
                 currentValue = 0l;
             }
-            responseCodes.put(responseCode, currentValue + 1);
+            responseCodes.put(responseCode, currentValue + count);
+        }
+
+        /**
+         * Set the status code of the most recent response.
+         *
+         * @param responseCode Response status code.
+         */
+        void setLastResponseCode(final int responseCode) {
+            cached = null;
+
+            lastResponseCode = responseCode;
         }
 
         ResponseStatisticsImpl build() {
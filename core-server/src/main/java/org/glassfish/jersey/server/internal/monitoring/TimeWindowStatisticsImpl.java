@@ -45,6 +45,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import org.glassfish.jersey.server.monitoring.TimeWindowPercentileStatistics;
 import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
 /**
@@ -52,7 +53,7 @@ import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
  *
  * @author Miroslav Fuksa
  */
-final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
+final class TimeWindowStatisticsImpl implements TimeWindowPercentileStatistics {
 
     /**
      * Builder of time window statistics.
@@ -107,6 +108,12 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
         private long lastUnitMin = -1;
         private long lastUnitMax = -1;
         private long lastUnitDuration = 0;
+        private LatencyHistogram lastUnitHistogram;
+
+        /**
+         * Histogram of request durations of all units in {@code unitQueue}.
+         */
+        private LatencyHistogram totalHistogram;
 
         /**
          * Oldest unit that is in the queue (first that will be removed).
@@ -119,15 +126,18 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
             private final long minimumDuration;
             private final long maximumDuration;
             private final long duration;
+            private final LatencyHistogram.Snapshot histogram;
 
-            private Unit(final long count, final long minimumDuration, final long maximumDuration, final long duration) {
+            private Unit(final long count, final long minimumDuration, final long maximumDuration, final long duration,
+                         final LatencyHistogram.Snapshot histogram) {
                 this.count = count;
                 this.minimumDuration = minimumDuration;
                 this.maximumDuration = maximumDuration;
                 this.duration = duration;
+                this.histogram = histogram;
             }
 
-            private static Unit EMPTY_UNIT = new Unit(0, -1, -1, 0);
+            private static Unit EMPTY_UNIT = new Unit(0, -1, -1, 0, LatencyHistogram.Snapshot.EMPTY);
         }
 
         /**
@@ -184,6 +194,7 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
 
             lastUnitCount++;
             lastUnitDuration += duration;
+            getLastUnitHistogram().record(duration);
 
             if (duration < lastUnitMin || lastUnitMin == -1) {
                 lastUnitMin = duration;
@@ -194,6 +205,37 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
             }
         }
 
+        /**
+         * Add aggregated request executions. All executions are accounted to the time of the most recently
+         * started execution.
+         *
+         * @param executions Executions to be added.
+         */
+        void addRequests(final ExecutionAccumulator.Executions executions) {
+            closeLastUnitIfNeeded(executions.getLastStartTime());
+
+            lastUnitCount += executions.getCount();
+            lastUnitDuration += executions.getTotalDuration();
+            getLastUnitHistogram().add(executions.getHistogram());
+
+            final long min = executions.getMinimumDuration();
+            if (min < lastUnitMin || lastUnitMin == -1) {
+                lastUnitMin = min;
+            }
+
+            final long max = executions.getMaximumDuration();
+            if (max > lastUnitMax || lastUnitMax == -1) {
+                lastUnitMax = max;
+            }
+        }
+
+        private LatencyHistogram getLastUnitHistogram() {
+            if (lastUnitHistogram == null) {
+                lastUnitHistogram = new LatencyHistogram();
+            }
+            return lastUnitHistogram;
+        }
+
         private void closeLastUnitIfNeeded(final long requestTime) {
             if (interval != 0) {
                 if ((requestTime - lastUnitEnd) > interval + unit) {
@@ -202,7 +244,8 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
                 if (lastUnitEnd < requestTime) {
                     // close the old unit
                     if (lastUnitCount > 0) {
-                        add(new Unit(lastUnitCount, lastUnitMin, lastUnitMax, lastUnitDuration));
+                        add(new Unit(lastUnitCount, lastUnitMin, lastUnitMax, lastUnitDuration,
+                                lastUnitHistogram.snapshot()));
                     } else {
                         add(Unit.EMPTY_UNIT);
                     }
@@ -222,6 +265,9 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
             lastUnitMin = -1;
             lastUnitMax = -1;
             lastUnitDuration = 0;
+            if (lastUnitHistogram != null) {
+                lastUnitHistogram.clear();
+            }
         }
 
         private void add(final Unit unit) {
@@ -232,16 +278,30 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
                 final Unit removedUnit = unitQueue.remove();
                 totalCount -= removedUnit.count;
                 totalDuration -= removedUnit.duration;
+                if (removedUnit.count > 0) {
+                    totalHistogram.subtract(removedUnit.histogram);
+                }
             }
             this.oldestUnit = unitQueue.element();
             totalCount += lastUnitCount;
             totalDuration += lastUnitDuration;
+            if (unit.count > 0) {
+                if (totalHistogram == null) {
+                    totalHistogram = new LatencyHistogram();
+                }
+                totalHistogram.add(unit.histogram);
+            }
         }
 
         private void resetQueue(final long requestTime) {
             this.unitQueue.clear();
             lastUnitEnd = requestTime + unit;
             resetLastUnit();
+            totalCount = 0;
+            totalDuration = 0;
+            if (totalHistogram != null) {
+                totalHistogram.clear();
+            }
 
             // fill with empty unit to keep result consistent
             for (int i = 0; i < unitsPerInterval; i++) {
@@ -275,7 +335,8 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
 
                     return lastUnitCount == 0 ?
                             TimeWindowStatisticsImpl.EMPTY.get(0l) :
-                            new TimeWindowStatisticsImpl(0, requestsPerSecond, lastUnitMin, lastUnitMax, avg, lastUnitCount);
+                            new TimeWindowStatisticsImpl(0, requestsPerSecond, lastUnitMin, lastUnitMax, avg, lastUnitCount,
+                                    lastUnitHistogram.snapshot());
                 }
             }
 
@@ -314,13 +375,15 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
                 return getOrCreateEmptyStats(interval);
             } else {
                 final long avg = adjustedTotalDuration / adjustedTotalCount;
-                return new TimeWindowStatisticsImpl(interval, requestsPerSecond, min, max, avg, adjustedTotalCount);
+                return new TimeWindowStatisticsImpl(interval, requestsPerSecond, min, max, avg, adjustedTotalCount,
+                        LatencyHistogram.snapshot(totalHistogram, lastUnitHistogram));
             }
         }
 
         private TimeWindowStatisticsImpl getOrCreateEmptyStats(final long interval) {
             if (!EMPTY.containsKey(interval)) {
-                EMPTY.putIfAbsent(interval, new TimeWindowStatisticsImpl(interval, 0, -1, -1, -1, 0));
+                EMPTY.putIfAbsent(interval, new TimeWindowStatisticsImpl(interval, 0, -1, -1, -1, 0,
+                        LatencyHistogram.Snapshot.EMPTY));
             }
             return EMPTY.get(interval);
         }
@@ -347,7 +410,7 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
     private final static ConcurrentHashMap<Long, TimeWindowStatisticsImpl> EMPTY = new ConcurrentHashMap<>(6);
 
     static {
-        EMPTY.putIfAbsent(0l, new TimeWindowStatisticsImpl(0, 0, 0, 0, 0, 0));
+        EMPTY.putIfAbsent(0l, new TimeWindowStatisticsImpl(0, 0, 0, 0, 0, 0, LatencyHistogram.Snapshot.EMPTY));
     }
 
     private final long interval;
@@ -359,14 +422,18 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
     private final long totalCount;
     private final double requestsPerSecond;
 
+    private final LatencyHistogram.Snapshot durationHistogram;
+
     private TimeWindowStatisticsImpl(final long interval, final double requestsPerSecond, final long minimumDuration,
-                                     final long maximumDuration, final long averageDuration, final long totalCount) {
+                                     final long maximumDuration, final long averageDuration, final long totalCount,
+                                     final LatencyHistogram.Snapshot durationHistogram) {
         this.interval = interval;
         this.requestsPerSecond = requestsPerSecond;
         this.minimumDuration = minimumDuration;
         this.maximumDuration = maximumDuration;
         this.averageDuration = averageDuration;
         this.totalCount = totalCount;
+        this.durationHistogram = durationHistogram;
     }
 
     @Override
@@ -389,6 +456,19 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
         return maximumDuration;
     }
 
+    @Override
+    public long getDurationPercentile(final double percentile) {
+        final long value = durationHistogram.getValueAtPercentile(percentile);
+        if (value == -1) {
+            return -1;
+        }
+        // histogram buckets are approximate, measured extremes are exact
+        if (maximumDuration != -1 && value > maximumDuration) {
+            return maximumDuration;
+        }
+        return minimumDuration != -1 && value < minimumDuration ? minimumDuration : value;
+    }
+
     @Override
     public long getRequestCount() {
         return totalCount;
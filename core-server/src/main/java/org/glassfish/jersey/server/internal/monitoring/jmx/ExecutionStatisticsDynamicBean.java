@@ -54,6 +54,7 @@ import javax.management.ReflectionException;
 
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
+import org.glassfish.jersey.server.monitoring.TimeWindowPercentileStatistics;
 import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
 import jersey.repackaged.com.google.common.collect.Maps;
@@ -65,6 +66,13 @@ import jersey.repackaged.com.google.common.collect.Maps;
  * @author Miroslav Fuksa
  */
 public class ExecutionStatisticsDynamicBean implements DynamicMBean {
+    /**
+     * Percentiles of request processing time exposed for each time window.
+     */
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"P50", "P90", "P99", "P999"};
+    private static final String[] PERCENTILE_DESCRIPTIONS = {"50th", "90th", "99th", "99.9th"};
+
     private volatile ExecutionStatistics executionStatistics;
     private final Map<String, Value<Object>> attributeValues = Maps.newHashMap();
 
@@ -73,7 +81,7 @@ public class ExecutionStatisticsDynamicBean implements DynamicMBean {
 
     private MBeanInfo initMBeanInfo(final ExecutionStatistics initialStatistics) {
         final Map<Long, TimeWindowStatistics> statsMap = initialStatistics.getTimeWindowStatistics();
-        MBeanAttributeInfo[] attrs = new MBeanAttributeInfo[statsMap.size() * 5];
+        MBeanAttributeInfo[] attrs = new MBeanAttributeInfo[statsMap.size() * (5 + PERCENTILES.length)];
         int i = 0;
         for (final TimeWindowStatistics stats : statsMap.values()) {
             final long interval = stats.getTimeWindow();
@@ -135,6 +143,23 @@ public class ExecutionStatisticsDynamicBean implements DynamicMBean {
                     return executionStatistics.getTimeWindowStatistics().get(interval).getRequestCount();
                 }
             });
+
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                final double percentile = PERCENTILES[p];
+
+                name = PERCENTILE_NAMES[p] + "Time[ms]_" + postfix;
+                attrs[i++] = new MBeanAttributeInfo(name, "long", PERCENTILE_DESCRIPTIONS[p]
+                        + " percentile of request processing time in milliseconds in last " + postfix + ".", true, false, false);
+
+                attributeValues.put(name, new Value<Object>() {
+                    @Override
+                    public Object get() {
+                        final TimeWindowStatistics window = executionStatistics.getTimeWindowStatistics().get(interval);
+                        return window instanceof TimeWindowPercentileStatistics
+                                ? ((TimeWindowPercentileStatistics) window).getDurationPercentile(percentile) : -1L;
+                    }
+                });
+            }
         }
 
         return new MBeanInfo(this.getClass().getName(), "Execution statistics", attrs, null, null, null);
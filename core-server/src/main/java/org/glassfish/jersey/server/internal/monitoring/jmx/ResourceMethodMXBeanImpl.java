@@ -40,16 +40,23 @@
 
 package org.glassfish.jersey.server.internal.monitoring.jmx;
 
+import java.util.concurrent.TimeUnit;
+
 import org.glassfish.jersey.message.internal.MediaTypes;
 import org.glassfish.jersey.server.model.ResourceMethod;
-import org.glassfish.jersey.server.monitoring.ResourceMethodMXBean;
+import org.glassfish.jersey.server.monitoring.ResourceMethodPercentileMXBean;
 import org.glassfish.jersey.server.monitoring.ResourceMethodStatistics;
+import org.glassfish.jersey.server.monitoring.TimeWindowPercentileStatistics;
+import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
 /**
- * MXBean implementing the {@link org.glassfish.jersey.server.monitoring.ResourceMethodMXBean} MXBean interface.
+ * MXBean implementing the {@link org.glassfish.jersey.server.monitoring.ResourceMethodPercentileMXBean} MXBean interface.
  * @author Miroslav Fuksa
  */
-public class ResourceMethodMXBeanImpl implements ResourceMethodMXBean {
+public class ResourceMethodMXBeanImpl implements ResourceMethodPercentileMXBean {
+    private static final long PERCENTILE_TIME_WINDOW = TimeUnit.MINUTES.toMillis(1);
+
+    private volatile ResourceMethodStatistics methodStatistics;
     private volatile ExecutionStatisticsDynamicBean methodExecutionStatisticsMxBean;
     private volatile ExecutionStatisticsDynamicBean requestExecutionStatisticsMxBean;
     private final String path;
@@ -71,6 +78,7 @@ public class ResourceMethodMXBeanImpl implements ResourceMethodMXBean {
                                     MBeanExposer mBeanExposer, String parentName, String methodUniqueId) {
 
         // init mbean name
+        this.methodStatistics = methodStatistics;
         this.resourceMethod = methodStatistics.getResourceMethod();
         final Class<?> handlerClass = resourceMethod.getInvocable().getHandler().getHandlerClass();
         final Class<?>[] paramTypes = resourceMethod.getInvocable().getHandlingMethod().getParameterTypes();
@@ -115,6 +123,7 @@ public class ResourceMethodMXBeanImpl implements ResourceMethodMXBean {
      * @param resourceMethodStatisticsImpl New statistics.
      */
     public void updateResourceMethodStatistics(ResourceMethodStatistics resourceMethodStatisticsImpl) {
+        this.methodStatistics = resourceMethodStatisticsImpl;
         this.methodExecutionStatisticsMxBean.updateExecutionStatistics(resourceMethodStatisticsImpl.getMethodStatistics());
         this.requestExecutionStatisticsMxBean.updateExecutionStatistics(resourceMethodStatisticsImpl.getRequestStatistics());
     }
@@ -149,4 +158,31 @@ public class ResourceMethodMXBeanImpl implements ResourceMethodMXBean {
     public String getMethodName() {
         return name;
     }
+
+    @Override
+    public long getP50Duration() {
+        return getDurationPercentile(50);
+    }
+
+    @Override
+    public long getP90Duration() {
+        return getDurationPercentile(90);
+    }
+
+    @Override
+    public long getP99Duration() {
+        return getDurationPercentile(99);
+    }
+
+    @Override
+    public long getP999Duration() {
+        return getDurationPercentile(99.9);
+    }
+
+    private long getDurationPercentile(double percentile) {
+        final TimeWindowStatistics window = methodStatistics.getMethodStatistics().getTimeWindowStatistics()
+                .get(PERCENTILE_TIME_WINDOW);
+        return window instanceof TimeWindowPercentileStatistics
+                ? ((TimeWindowPercentileStatistics) window).getDurationPercentile(percentile) : -1;
+    }
 }
@@ -76,6 +76,8 @@ import org.glassfish.jersey.server.model.Parameter;
 import org.glassfish.jersey.server.model.ResourceMethod;
 
 import jersey.repackaged.com.google.common.base.Function;
+import jersey.repackaged.com.google.common.cache.Cache;
+import jersey.repackaged.com.google.common.cache.CacheBuilder;
 import jersey.repackaged.com.google.common.collect.Lists;
 import jersey.repackaged.com.google.common.collect.Sets;
 import jersey.repackaged.com.google.common.primitives.Primitives;
@@ -134,11 +136,24 @@ final class MethodSelectingRouter implements Router {
             };
 
 
+    /**
+     * Maximum number of distinct (HTTP method, Content-Type, Accept) combinations for which the method selection
+     * result is cached by a single router. Least recently used selections are evicted once the limit is reached.
+     */
+    private static final int SELECTION_CACHE_SIZE_LIMIT = 64;
+
     private final MessageBodyWorkers workers;
 
     private final Map<String, List<ConsumesProducesAcceptor>> consumesProducesAcceptors;
     private final Router router;
 
+    /**
+     * Cache of method selection results. The cache is bound to this router instance and hence discarded together with
+     * the resource model the router has been built for.
+     */
+    private final Cache<SelectionKey, MethodSelection> selectionCache =
+            CacheBuilder.newBuilder().maximumSize(SELECTION_CACHE_SIZE_LIMIT).build();
+
     /**
      * Create a new {@code MethodSelectingRouter} for all the methods on the same path.
      *
@@ -358,6 +373,118 @@ final class MethodSelectingRouter implements Router {
     }
 
 
+    /**
+     * Key of the method selection cache, i.e. a (HTTP method, Content-Type, Accept) triple. The media types are
+     * compared in their parsed form, so that header values differing only in formatting (white space, letter case,
+     * order of media types with different quality) share the same selection.
+     */
+    private static final class SelectionKey {
+
+        private final String httpMethod;
+        private final MediaType contentType;
+        private final List<AcceptableMediaType> accept;
+        private final int hash;
+
+        SelectionKey(final String httpMethod, final MediaType contentType, final List<AcceptableMediaType> accept) {
+            this.httpMethod = httpMethod;
+            this.contentType = contentType;
+            this.accept = accept;
+
+            int result = httpMethod != null ? httpMethod.hashCode() : 0;
+            result = 31 * result + (contentType != null ? contentType.hashCode() : 0);
+            result = 31 * result + (accept != null ? accept.hashCode() : 0);
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SelectionKey)) {
+                return false;
+            }
+
+            final SelectionKey that = (SelectionKey) o;
+            return hash == that.hash
+                    && (httpMethod != null ? httpMethod.equals(that.httpMethod) : that.httpMethod == null)
+                    && (contentType != null ? contentType.equals(that.contentType) : that.contentType == null)
+                    && (accept != null ? accept.equals(that.accept) : that.accept == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Result of the method selection for a single (HTTP method, Content-Type, Accept) triple. The selection also acts as
+     * the response processing function that sets the effective response media type.
+     */
+    private final class MethodSelection implements Function<ContainerResponse, ContainerResponse> {
+
+        private final RequestSpecificConsumesProducesAcceptor selected;
+        private final List<AcceptableMediaType> acceptableMediaTypes;
+        /**
+         * Response media type that does not depend on the response entity or {@code null} if the media type has to be
+         * determined for each response.
+         */
+        private final MediaType preSelectedResponseType;
+
+        MethodSelection(final RequestSpecificConsumesProducesAcceptor selected,
+                        final List<AcceptableMediaType> acceptableMediaTypes) {
+            this.selected = selected;
+            this.acceptableMediaTypes = acceptableMediaTypes;
+
+            final MediaType produces = selected.produces.combinedType;
+            if (usePreSelectedMediaType(selected, acceptableMediaTypes)
+                    && (!MediaTypes.isWildcard(produces) || isOctetStreamCompatible(produces))) {
+                this.preSelectedResponseType = resolveWildcard(produces);
+            } else {
+                this.preSelectedResponseType = null;
+            }
+        }
+
+        @Override
+        public ContainerResponse apply(final ContainerResponse responseContext) {
+            // we only need to compute and set the effective media type if:
+            // - it hasn't been set already, and
+            // - either there is an entity, or we are responding to a HEAD request
+            if (responseContext.getMediaType() == null &&
+                    ((responseContext.hasEntity()
+                            || HttpMethod.HEAD.equals(responseContext.getRequestContext().getMethod())))) {
+
+                if (preSelectedResponseType != null) {
+                    responseContext.setMediaType(preSelectedResponseType);
+                } else {
+                    responseContext.setMediaType(resolveWildcard(determineResponseMediaType(
+                            responseContext.getEntityClass(),
+                            responseContext.getEntityType(),
+                            selected,
+                            acceptableMediaTypes)));
+                }
+            }
+
+            return responseContext;
+        }
+    }
+
+    private static boolean isOctetStreamCompatible(final MediaType mediaType) {
+        return mediaType.isWildcardType() || "application".equalsIgnoreCase(mediaType.getType());
+    }
+
+    private static MediaType resolveWildcard(final MediaType mediaType) {
+        if (MediaTypes.isWildcard(mediaType)) {
+            if (isOctetStreamCompatible(mediaType)) {
+                return MediaType.APPLICATION_OCTET_STREAM_TYPE;
+            } else {
+                throw new NotAcceptableException();
+            }
+        }
+        return mediaType;
+    }
+
     private Router createInternalRouter() {
         return new Router() {
 
@@ -468,6 +595,23 @@ final class MethodSelectingRouter implements Router {
                     Response.status(Status.METHOD_NOT_ALLOWED).allow(consumesProducesAcceptors.keySet()).build());
         }
 
+        // the parsed media types are memoized by the request (and by the global header caches)
+        final SelectionKey key = new SelectionKey(request.getMethod(),
+                request.getMediaType(),
+                request.getQualifiedAcceptableMediaTypes());
+
+        MethodSelection selection = selectionCache.getIfPresent(key);
+        if (selection == null) {
+            selection = createMethodSelection(request, acceptors);
+            selectionCache.put(key, selection);
+        }
+
+        context.push(selection);
+        return selection.selected.methodRouting.routers;
+    }
+
+    private MethodSelection createMethodSelection(final ContainerRequest request,
+                                                  final List<ConsumesProducesAcceptor> acceptors) {
         final List<ConsumesProducesAcceptor> satisfyingAcceptors = new LinkedList<>();
         final Set<ResourceMethod> differentInvokableMethods = Sets.newIdentityHashSet();
         for (ConsumesProducesAcceptor cpi : acceptors) {
@@ -489,42 +633,11 @@ final class MethodSelectingRouter implements Router {
                 differentInvokableMethods.size() == 1);
 
         if (methodSelector.selected != null) {
-            final RequestSpecificConsumesProducesAcceptor selected = methodSelector.selected;
-
             if (methodSelector.sameFitnessAcceptors != null) {
                 reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected, methodSelector.sameFitnessAcceptors);
             }
 
-            context.push(new Function<ContainerResponse, ContainerResponse>() {
-                @Override
-                public ContainerResponse apply(final ContainerResponse responseContext) {
-                    // we only need to compute and set the effective media type if:
-                    // - it hasn't been set already, and
-                    // - either there is an entity, or we are responding to a HEAD request
-                    if (responseContext.getMediaType() == null &&
-                            ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
-
-                        MediaType effectiveResponseType = determineResponseMediaType(
-                                responseContext.getEntityClass(),
-                                responseContext.getEntityType(),
-                                methodSelector.selected,
-                                acceptableMediaTypes);
-
-                        if (MediaTypes.isWildcard(effectiveResponseType)) {
-                            if (effectiveResponseType.isWildcardType()
-                                    || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
-                                effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-                            } else {
-                                throw new NotAcceptableException();
-                            }
-                        }
-                        responseContext.setMediaType(effectiveResponseType);
-                    }
-
-                    return responseContext;
-                }
-            });
-            return selected.methodRouting.routers;
+            return new MethodSelection(methodSelector.selected, acceptableMediaTypes);
         }
 
         throw new NotAcceptableException();
@@ -0,0 +1,261 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.MatchResult;
+
+import org.glassfish.jersey.message.internal.TracingLogger;
+import org.glassfish.jersey.server.internal.ServerTraceEvent;
+import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
+import org.glassfish.jersey.uri.PathPattern;
+
+/**
+ * Matches the un-matched right-hand request path to the configured collection of path pattern matching routes
+ * using a literal-prefix index (trie) compiled from the route patterns.
+ * <p>
+ * Every route is indexed by the literal prefix of its routing pattern regular expression, i.e. by the characters
+ * a path has to start with in order to be matched by the pattern. When a request path is being matched, the index
+ * is walked along the path characters and only the routes whose literal prefix has been reached are tested
+ * against their patterns. The candidate routes are tested in the same order as they were registered, so the result
+ * is always the same as the one produced by the sequential {@link PathMatchingRouter}.
+ * </p>
+ */
+final class PathIndexMatchingRouter implements Router {
+
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}%";
+    private static final String REGEX_QUANTIFIERS = "?*+{";
+
+    private final Route[] routes;
+    private final Node root;
+    private final int maxCandidates;
+    /**
+     * Sequential router used whenever the detailed path matching information has to be traced.
+     */
+    private final PathMatchingRouter sequentialRouter;
+
+    /**
+     * Create new literal-prefix indexed path matching router.
+     *
+     * @param routes next-level request routers to be returned in case the router matching
+     *               the built router is successful.
+     */
+    PathIndexMatchingRouter(final List<Route> routes) {
+        this.routes = routes.toArray(new Route[routes.size()]);
+        this.sequentialRouter = new PathMatchingRouter(routes);
+
+        final Node.Builder rootBuilder = new Node.Builder();
+        for (int i = 0; i < this.routes.length; i++) {
+            final String prefix = literalPrefix(this.routes[i].routingPattern().getRegex());
+
+            Node.Builder current = rootBuilder;
+            for (int j = 0; j < prefix.length(); j++) {
+                current = current.child(prefix.charAt(j));
+            }
+            current.routes.add(i);
+        }
+
+        this.root = rootBuilder.build();
+        this.maxCandidates = rootBuilder.maxCandidates();
+    }
+
+    /**
+     * Get the literal prefix of a routing pattern regular expression.
+     * <p>
+     * The literal prefix is the longest string every input matched by the regular expression must start with
+     * that can be determined without interpreting the regular expression constructs. Percent-encoded characters
+     * are not included in the prefix as the hexadecimal digits are matched case-insensitively.
+     * </p>
+     *
+     * @param regex routing pattern regular expression.
+     * @return literal prefix of the regular expression, possibly empty.
+     */
+    static String literalPrefix(final String regex) {
+        if (regex == null) {
+            return "";
+        }
+
+        final StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // character class or other escape construct
+                    break;
+                }
+                prefix.append(regex.charAt(++i));
+            } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                if (REGEX_QUANTIFIERS.indexOf(c) >= 0 && prefix.length() > 0) {
+                    // the last literal character is quantified and thus optional
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            } else {
+                prefix.append(c);
+            }
+        }
+        return prefix.toString();
+    }
+
+    @Override
+    public Router.Continuation apply(final RequestProcessingContext context) {
+        final TracingLogger tracingLogger = TracingLogger.getInstance(context.request());
+        if (tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_NOT_MATCHED)) {
+            // all the patterns have to be reported
+            return sequentialRouter.apply(context);
+        }
+
+        final RoutingContext rc = context.routingContext();
+        // Peek at matching information to obtain path to match
+        final String path = rc.getFinalMatchingGroup();
+        if (path == null) {
+            return sequentialRouter.apply(context);
+        }
+
+        tracingLogger.log(ServerTraceEvent.MATCH_PATH_FIND, path);
+
+        final int[] candidates = new int[maxCandidates];
+        int count = 0;
+
+        Node node = root;
+        int position = 0;
+        while (node != null) {
+            for (final int route : node.routes) {
+                candidates[count++] = route;
+            }
+            node = position < path.length() ? node.child(path.charAt(position++)) : null;
+        }
+
+        // keep the JAX-RS defined matching order
+        Arrays.sort(candidates, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            final Route acceptedRoute = routes[candidates[i]];
+            final PathPattern routePattern = acceptedRoute.routingPattern();
+            final MatchResult m = routePattern.match(path);
+            if (m != null) {
+                // Push match result information and rest of path to match
+                rc.pushMatchResult(m);
+
+                //tracing
+                tracingLogger.log(ServerTraceEvent.MATCH_PATH_SELECTED, routePattern.getRegex());
+                return Router.Continuation.of(context, acceptedRoute.next());
+            }
+        }
+
+        // No match
+        return Router.Continuation.of(context);
+    }
+
+    /**
+     * Immutable literal-prefix index node.
+     */
+    private static final class Node {
+
+        private static final int[] NO_ROUTES = new int[0];
+
+        private final char[] keys;
+        private final Node[] children;
+        private final int[] routes;
+
+        private Node(final char[] keys, final Node[] children, final int[] routes) {
+            this.keys = keys;
+            this.children = children;
+            this.routes = routes;
+        }
+
+        private Node child(final char c) {
+            final int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+        /**
+         * Mutable index node builder.
+         */
+        private static final class Builder {
+
+            private final Map<Character, Builder> children = new TreeMap<>();
+            private final List<Integer> routes = new ArrayList<>();
+
+            private Builder child(final char c) {
+                Builder child = children.get(c);
+                if (child == null) {
+                    child = new Builder();
+                    children.put(c, child);
+                }
+                return child;
+            }
+
+            /**
+             * Get the maximum number of routes that can be collected on any path from this node down to a leaf.
+             */
+            private int maxCandidates() {
+                int max = 0;
+                for (final Builder child : children.values()) {
+                    max = Math.max(max, child.maxCandidates());
+                }
+                return routes.size() + max;
+            }
+
+            private Node build() {
+                final char[] keys = new char[children.size()];
+                final Node[] nodes = new Node[children.size()];
+
+                int i = 0;
+                // TreeMap keeps the keys sorted as required by the binary search
+                for (final Map.Entry<Character, Builder> entry : children.entrySet()) {
+                    keys[i] = entry.getKey();
+                    nodes[i++] = entry.getValue().build();
+                }
+
+                final int[] routeIndexes = routes.isEmpty() ? NO_ROUTES : new int[routes.size()];
+                for (int j = 0; j < routeIndexes.length; j++) {
+                    routeIndexes[j] = routes.get(j);
+                }
+
+                return new Node(keys, nodes, routeIndexes);
+            }
+        }
+    }
+}
@@ -115,4 +115,14 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
         return new PathMatchingRouter(acceptedRoutes());
     }
 
+    /**
+     * Build a {@link org.glassfish.jersey.server.internal.routing.Router hierarchical request path matching processor}
+     * that uses a literal-prefix index of the routing patterns to select the candidate routes.
+     *
+     * @return hierarchical request path matching processor (i.e. router) backed by a path index.
+     */
+    public PathIndexMatchingRouter buildIndexed() {
+        return new PathIndexMatchingRouter(acceptedRoutes());
+    }
+
 }
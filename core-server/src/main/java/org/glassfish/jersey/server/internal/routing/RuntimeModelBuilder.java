@@ -48,6 +48,7 @@ import javax.ws.rs.core.Configuration;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.JerseyResourceContext;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.process.Endpoint;
@@ -73,6 +74,7 @@ final class RuntimeModelBuilder {
     private final ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
     private final MessageBodyWorkers workers;
     private final ProcessingProviders processingProviders;
+    private final boolean pathIndexEnabled;
 
     // SubResourceLocator Model Builder.
     private final Value<RuntimeLocatorModelBuilder> locatorBuilder;
@@ -98,6 +100,8 @@ final class RuntimeModelBuilder {
         this.resourceMethodInvokerBuilder = resourceMethodInvokerBuilder;
         this.workers = workers;
         this.processingProviders = processingProviders;
+        this.pathIndexEnabled = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.ROUTING_PATH_INDEX_ENABLED, Boolean.FALSE, Boolean.class);
 
         this.locatorBuilder = Values.lazy(new Value<RuntimeLocatorModelBuilder>() {
             @Override
@@ -134,7 +138,7 @@ final class RuntimeModelBuilder {
     private Router createRootRouter(final PathMatchingRouterBuilder lastRoutedBuilder, final boolean subResourceMode) {
         final Router routingRoot;
         if (lastRoutedBuilder != null) {
-            routingRoot = lastRoutedBuilder.build();
+            routingRoot = buildPathRouter(lastRoutedBuilder);
         } else {
             /**
              * Create an empty routing root that accepts any request, does not do
@@ -232,7 +236,7 @@ final class RuntimeModelBuilder {
             }
 
             if (srRoutedBuilder != null) {
-                final Router methodRouter = srRoutedBuilder.build();
+                final Router methodRouter = buildPathRouter(srRoutedBuilder);
 
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.OPEN_ROOT_PATH_PATTERN)
@@ -312,6 +316,10 @@ final class RuntimeModelBuilder {
         return methodRoutings.isEmpty() ? Collections.<MethodRouting>emptyList() : methodRoutings;
     }
 
+    private Router buildPathRouter(final PathMatchingRouterBuilder routerBuilder) {
+        return pathIndexEnabled ? routerBuilder.buildIndexed() : routerBuilder.build();
+    }
+
     private PathToRouterBuilder startNextRoute(final PathMatchingRouterBuilder currentRouterBuilder, PathPattern routingPattern) {
         return currentRouterBuilder == null ?
                 PathMatchingRouterBuilder.newRoute(routingPattern) : currentRouterBuilder.route(routingPattern);
@@ -43,6 +43,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -110,6 +111,8 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
     private final Class<?> resourceClass;
     private final List<RankedProvider<ContainerRequestFilter>> requestFilters = Lists.newArrayList();
     private final List<RankedProvider<ContainerResponseFilter>> responseFilters = Lists.newArrayList();
+    private final Iterable<ContainerRequestFilter> sortedRequestFilters;
+    private final Iterable<ContainerResponseFilter> sortedResponseFilters;
     private final Iterable<ReaderInterceptor> readerInterceptors;
     private final Iterable<WriterInterceptor> writerInterceptors;
 
@@ -251,6 +254,13 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
         this.requestFilters.addAll(_requestFilters);
         this.responseFilters.addAll(_responseFilters);
 
+        // pre-compute & cache the complete post-matching filter chains
+        this.sortedRequestFilters = mergeAndSort(new RankedComparator<ContainerRequestFilter>(),
+                processingProviders.getGlobalRequestFilters(), _requestFilters);
+        this.sortedResponseFilters = mergeAndSort(
+                new RankedComparator<ContainerResponseFilter>(RankedComparator.Order.DESCENDING),
+                processingProviders.getGlobalResponseFilters(), _responseFilters);
+
         // pre-compute & cache invocation properties
         this.methodAnnotations = invocable.getHandlingMethod().getDeclaredAnnotations();
         this.invocableResponseType = invocable.getResponseType();
@@ -262,6 +272,17 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
 
     }
 
+    private static <T> List<T> mergeAndSort(final RankedComparator<T> comparator,
+                                            final Iterable<RankedProvider<T>> globalProviders,
+                                            final Iterable<RankedProvider<T>> boundProviders) {
+        final List<Iterable<RankedProvider<T>>> rankedProviders = new ArrayList<>(2);
+        rankedProviders.add(globalProviders);
+        rankedProviders.add(boundProviders);
+
+        return Collections.unmodifiableList(Lists.newArrayList(
+                Providers.mergeAndSortRankedProviders(comparator, rankedProviders)));
+    }
+
     private <T> void addNameBoundProviders(
             final Collection<RankedProvider<T>> targetCollection,
             final NameBound nameBound,
@@ -420,6 +441,38 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
         return responseFilters;
     }
 
+    /**
+     * Get all post-matching request filters applicable to the {@link #getResourceMethod() resource method}
+     * wrapped by this invoker, i.e. the global request filters merged with the bound request filters, sorted
+     * in the order of execution.
+     * <p>
+     * The filter chain is computed once when the invoker is built.
+     * </p>
+     *
+     * @return All global and bound request filters applicable to the {@link #getResourceMethod() resource method},
+     * sorted by priority.
+     * @since 2.17
+     */
+    public Iterable<ContainerRequestFilter> getSortedRequestFilters() {
+        return sortedRequestFilters;
+    }
+
+    /**
+     * Get all response filters applicable to the {@link #getResourceMethod() resource method}
+     * wrapped by this invoker, i.e. the global response filters merged with the bound response filters, sorted
+     * in the order of execution.
+     * <p>
+     * The filter chain is computed once when the invoker is built.
+     * </p>
+     *
+     * @return All global and bound response filters applicable to the {@link #getResourceMethod() resource method},
+     * sorted by (descending) priority.
+     * @since 2.17
+     */
+    public Iterable<ContainerResponseFilter> getSortedResponseFilters() {
+        return sortedResponseFilters;
+    }
+
     /**
      * Get all reader interceptors applicable to the {@link #getResourceMethod() resource method}
      * wrapped by this invoker.
@@ -0,0 +1,200 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jersey.repackaged.com.google.common.primitives.Primitives;
+
+/**
+ * Resource method {@link InvocationHandler invocation handler} that invokes the resource Java method using
+ * a {@link MethodHandle method handle} prepared in advance for a single resource method.
+ * <p>
+ * The method handle is adapted to accept the resource instance and the array of the resource method argument values,
+ * so that the invocation does not go through the reflective access checks and argument processing of
+ * {@link Method#invoke(Object, Object...)}. To preserve the contract of the reflective invocation, the resource
+ * instance and the argument values are checked the same way as by {@code Method.invoke} before the method handle
+ * is invoked: argument mismatches are reported as {@link IllegalArgumentException} and only the exceptions thrown
+ * by the invoked method are wrapped into an {@link InvocationTargetException}.
+ * </p>
+ */
+final class MethodHandleInvocationHandler implements InvocationHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInvocationHandler.class.getName());
+
+    private final Method method;
+    private final MethodHandle methodHandle;
+    private final Class<?>[] parameterTypes;
+    private final boolean isStatic;
+
+    /**
+     * Create a method handle based invocation handler for the given Java method.
+     *
+     * @param method Java method to be invoked by the handler.
+     * @return new method handle invocation handler or {@code null} if a method handle cannot be created
+     * for the method.
+     */
+    static InvocationHandler create(final Method method) {
+        try {
+            AccessController.doPrivileged(new PrivilegedAction<Object>() {
+                @Override
+                public Object run() {
+                    if (!method.isAccessible()) {
+                        method.setAccessible(true);
+                    }
+                    return null;
+                }
+            });
+
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                // ignore the resource instance
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            final int parameterCount = method.getParameterTypes().length;
+            handle = handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                    .asSpreader(Object[].class, parameterCount);
+
+            return new MethodHandleInvocationHandler(method, handle);
+        } catch (final IllegalAccessException | SecurityException e) {
+            LOGGER.log(Level.FINE, "Unable to create a method handle for " + method + ", reflection will be used.", e);
+            return null;
+        }
+    }
+
+    private MethodHandleInvocationHandler(final Method method, final MethodHandle methodHandle) {
+        this.method = method;
+        this.methodHandle = methodHandle;
+        this.parameterTypes = method.getParameterTypes();
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+    }
+
+    @Override
+    public Object invoke(final Object target, final Method method, final Object[] args)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        if (!this.method.equals(method)) {
+            // not the method the handle has been created for
+            return method.invoke(target, args);
+        }
+
+        checkArguments(target, args);
+        try {
+            return (Object) methodHandle.invokeExact(target, args);
+        } catch (final Throwable t) {
+            // the arguments have been checked, i.e. the throwable has been thrown by the invoked method
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Check the resource instance and the argument values the same way as {@link Method#invoke(Object, Object...)} does,
+     * so that the method handle adaptations ({@code asType} casts and unboxing, {@code asSpreader}) can not fail.
+     *
+     * @param target resource instance.
+     * @param args   resource method argument values.
+     * @throws NullPointerException     if the target is {@code null} and the method is an instance method.
+     * @throws IllegalArgumentException if the target is not an instance of the declaring class or the arguments
+     *                                  do not match the method parameters.
+     */
+    private void checkArguments(final Object target, final Object[] args) {
+        if (!isStatic) {
+            if (target == null) {
+                throw new NullPointerException();
+            }
+            if (!method.getDeclaringClass().isInstance(target)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+            }
+        }
+
+        final int count = args == null ? 0 : args.length;
+        if (count != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+        for (int i = 0; i < count; i++) {
+            if (!isAssignable(parameterTypes[i], args[i])) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+    }
+
+    private static boolean isAssignable(final Class<?> parameterType, final Object value) {
+        if (!parameterType.isPrimitive()) {
+            return value == null || parameterType.isInstance(value);
+        }
+        if (value == null || !Primitives.isWrapperType(value.getClass())) {
+            return false;
+        }
+        return isWidening(Primitives.unwrap(value.getClass()), parameterType);
+    }
+
+    /**
+     * Check whether a value of the primitive type {@code from} can be converted to the primitive type {@code to}
+     * by an identity or a widening primitive conversion.
+     */
+    private static boolean isWidening(final Class<?> from, final Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+        if (from == byte.class) {
+            return to == short.class || to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        if (from == short.class || from == char.class) {
+            return to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        if (from == int.class) {
+            return to == long.class || to == float.class || to == double.class;
+        }
+        if (from == long.class) {
+            return to == float.class || to == double.class;
+        }
+        return from == float.class && to == double.class;
+    }
+}
@@ -46,10 +46,13 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.ws.rs.core.Configuration;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.glassfish.jersey.internal.inject.Providers;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.Invocable;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
@@ -67,6 +70,10 @@ import org.glassfish.hk2.api.ServiceLocator;
  * invocation handler} instance retrieved from the providers. If no custom providers
  * are available, or if none of the providers returns a non-null invocation handler,
  * in such case a default invocation handler provided by the factory is returned.
+ * <p />
+ * The default invocation handler uses Java reflection to invoke the resource method, unless
+ * the {@link ServerProperties#RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED} property is enabled, in which case
+ * a {@link java.lang.invoke.MethodHandle method handle} based invocation handler is created for each resource method.
  *
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
@@ -83,10 +90,15 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
     };
     private static final Logger LOGGER = Logger.getLogger(ResourceMethodInvocationHandlerFactory.class.getName());
     private final Set<ResourceMethodInvocationHandlerProvider> providers;
+    private final boolean methodHandlesEnabled;
 
     @Inject
     ResourceMethodInvocationHandlerFactory(ServiceLocator locator) {
         providers = Providers.getProviders(locator, ResourceMethodInvocationHandlerProvider.class);
+
+        final Configuration config = locator.getService(Configuration.class);
+        methodHandlesEnabled = config != null && ServerProperties.getValue(config.getProperties(),
+                ServerProperties.RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED, Boolean.FALSE, Boolean.class);
     }
 
     // ResourceMethodInvocationHandlerProvider
@@ -105,6 +117,13 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
             }
         }
 
+        if (methodHandlesEnabled) {
+            final InvocationHandler handler = MethodHandleInvocationHandler.create(resourceMethod.getDefinitionMethod());
+            if (handler != null) {
+                return handler;
+            }
+        }
+
         return DEFAULT_HANDLER;
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * {@link TimeWindowStatistics Time window statistics} that provide also percentiles of the request processing
+ * durations measured in the time window.
+ * <p/>
+ * The time window statistics provided by Jersey runtime implement this interface. Custom implementations
+ * of {@code TimeWindowStatistics} may not, therefore the statistics should be checked using {@code instanceof}
+ * before the percentiles are retrieved.
+ *
+ * @see TimeWindowStatistics
+ * @since 2.17
+ */
+public interface TimeWindowPercentileStatistics extends TimeWindowStatistics {
+
+    /**
+     * Returns the duration (processing time) in milliseconds of the request processing at the given percentile
+     * of all durations measured in the time window. For example {@code getDurationPercentile(99)} returns the
+     * duration that was not exceeded by 99% of the requests.
+     * <p/>
+     * Durations are recorded in a histogram with a fixed memory footprint, therefore the returned value is
+     * an approximation: it is never lower than the exact value and exceeds it by at most 12.5%.
+     *
+     * @param percentile Percentile in the range {@code (0, 100]} (e.g. {@code 50}, {@code 90}, {@code 99}
+     *                   or {@code 99.9}).
+     * @return Processing time of the request at the given percentile or -1 if no request has been processed.
+     */
+    public long getDurationPercentile(double percentile);
+}
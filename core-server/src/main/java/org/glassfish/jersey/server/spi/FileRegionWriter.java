@@ -0,0 +1,80 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.spi;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Optional {@link ContainerResponseWriter container response writer} capability of writing a region
+ * of a {@link File file} as the response entity directly to the connection.
+ * <p>
+ * Response writers of I/O containers that are able to transfer file content without copying it through
+ * intermediate byte arrays (e.g. using {@link java.nio.channels.FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel) transferTo}) may implement this interface in addition to the
+ * {@code ContainerResponseWriter} interface. Jersey runtime uses the capability to write {@link java.io.File} and
+ * {@link java.nio.file.Path} entities unless the entity stream has been wrapped by a
+ * {@link javax.ws.rs.ext.WriterInterceptor writer interceptor}. The capability is used only for regions larger than
+ * the {@link org.glassfish.jersey.server.ServerProperties#RESPONSE_FILE_REGION_THRESHOLD configured threshold}.
+ * </p>
+ *
+ * @since 2.17
+ */
+public interface FileRegionWriter {
+
+    /**
+     * Write the region of the file to the response entity.
+     * <p>
+     * The method is invoked only after the {@link ContainerResponseWriter#writeResponseStatusAndHeaders(long,
+     * org.glassfish.jersey.server.ContainerResponse) response status and headers have been written}. The region is
+     * written after any data already written into the response output stream and forms the remaining part of the
+     * response entity.
+     * </p>
+     *
+     * @param file     file to transfer the region from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes in the region.
+     * @return {@code true} if the region has been written, {@code false} if the writer can not write the region directly.
+     *         In such case nothing must have been written and the region content is written into the response
+     *         output stream instead.
+     * @throws IOException in case of an I/O error.
+     */
+    public boolean writeFileRegion(File file, long position, long count) throws IOException;
+}
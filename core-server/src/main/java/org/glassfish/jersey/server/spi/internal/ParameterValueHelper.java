@@ -67,6 +67,8 @@ import org.glassfish.hk2.api.ServiceLocator;
  */
 public final class ParameterValueHelper {
 
+    private static final Object[] NO_PARAMETER_VALUES = new Object[0];
+
     /**
      * Get the array of parameter values.
      *
@@ -74,6 +76,10 @@ public final class ParameterValueHelper {
      * @return array of parameter values provided by the value providers.
      */
     public static Object[] getParameterValues(List<Factory<?>> valueProviders) {
+        if (valueProviders.isEmpty()) {
+            return NO_PARAMETER_VALUES;
+        }
+
         final Object[] params = new Object[valueProviders.size()];
         try {
             int index = 0;
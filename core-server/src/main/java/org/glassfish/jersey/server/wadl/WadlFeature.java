@@ -49,6 +49,7 @@ import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.model.ModelProcessor;
 import org.glassfish.jersey.server.wadl.internal.WadlApplicationContextImpl;
+import org.glassfish.jersey.server.wadl.internal.WadlCache;
 import org.glassfish.jersey.server.wadl.processor.WadlModelProcessor;
 
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -76,6 +77,7 @@ public class WadlFeature implements Feature {
             @Override
             protected void configure() {
                 bind(WadlApplicationContextImpl.class).to(WadlApplicationContext.class).in(Singleton.class);
+                bindAsContract(WadlCache.class).in(Singleton.class);
             }
         });
 
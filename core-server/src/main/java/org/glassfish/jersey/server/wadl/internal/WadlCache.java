@@ -0,0 +1,225 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.wadl.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import jersey.repackaged.com.google.common.cache.Cache;
+import jersey.repackaged.com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of WADL documents rendered into their serialized XML form.
+ * <p>
+ * Documents are cached per base URI, absolute request path, detail level and (for the {@code OPTIONS} WADL of
+ * a particular resource) the described resource. The WADL of a resource is cached only if the request path
+ * does not contain any path parameter values, i.e. there is at most one cached document per resource, base URI
+ * and detail level. The cache is bound as an application singleton and is therefore discarded together with
+ * the rest of the application when the {@link org.glassfish.jersey.server.ApplicationHandler} is reloaded.
+ * Cached documents can be served concurrently without any locking.
+ * </p>
+ *
+ * @since 2.17
+ */
+public final class WadlCache {
+
+    /**
+     * Maximum number of cached documents. Least recently used documents are evicted once the limit is reached.
+     */
+    static final int CACHE_SIZE_LIMIT = 256;
+
+    private final Cache<Key, RenderedWadl> cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE_LIMIT).build();
+
+    /**
+     * Get a cached rendered WADL document.
+     *
+     * @param uriInfo      URI info of the request the WADL is generated for.
+     * @param resource     resource described by the WADL or {@code null} if the WADL describes the whole application.
+     * @param detailedWadl {@code true} if the detailed WADL has been requested.
+     * @return cached WADL document or {@code null} if no document has been cached yet.
+     */
+    public RenderedWadl get(final UriInfo uriInfo, final Object resource, final boolean detailedWadl) {
+        return cache.getIfPresent(new Key(uriInfo, resource, detailedWadl));
+    }
+
+    /**
+     * Render the WADL application into its XML form and cache the result.
+     *
+     * @param uriInfo      URI info of the request the WADL is generated for.
+     * @param resource     resource described by the WADL or {@code null} if the WADL describes the whole application.
+     * @param detailedWadl {@code true} if the detailed WADL has been requested.
+     * @param jaxbContext  JAXB context used to marshal the WADL application.
+     * @param application  WADL application to be rendered.
+     * @return rendered WADL document. If the document has been cached concurrently, the previously cached document
+     * is returned.
+     */
+    public RenderedWadl render(final UriInfo uriInfo, final Object resource, final boolean detailedWadl,
+                               final JAXBContext jaxbContext, final Object application) {
+        final RenderedWadl rendered = new RenderedWadl(marshal(jaxbContext, application));
+        if (resource != null && !uriInfo.getPathParameters().isEmpty()) {
+            // every concrete path of a resource template would produce a separate document
+            return rendered;
+        }
+
+        final RenderedWadl cached = cache.asMap().putIfAbsent(new Key(uriInfo, resource, detailedWadl), rendered);
+        return cached == null ? rendered : cached;
+    }
+
+    private static byte[] marshal(final JAXBContext jaxbContext, final Object application) {
+        try {
+            final Marshaller marshaller = jaxbContext.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            final ByteArrayOutputStream os = new ByteArrayOutputStream();
+            marshaller.marshal(application, os);
+            os.close();
+            return os.toByteArray();
+        } catch (final Exception e) {
+            throw new ProcessingException("Could not marshal the wadl Application.", e);
+        }
+    }
+
+    /**
+     * WADL document rendered into its XML form.
+     */
+    public static final class RenderedWadl {
+
+        private final byte[] bytes;
+        private final EntityTag entityTag;
+        private final String lastModified;
+
+        private RenderedWadl(final byte[] bytes) {
+            this.bytes = bytes;
+            this.entityTag = new EntityTag(digest(bytes));
+            this.lastModified = new SimpleDateFormat(WadlResource.HTTPDATEFORMAT).format(new Date());
+        }
+
+        private static String digest(final byte[] bytes) {
+            try {
+                return String.format("%040x", new BigInteger(1, MessageDigest.getInstance("SHA-1").digest(bytes)));
+            } catch (final Exception e) {
+                throw new ProcessingException("Could not compute the wadl entity tag.", e);
+            }
+        }
+
+        /**
+         * Get the serialized WADL document.
+         * <p>
+         * The returned array is shared by all requests served from the cache and must not be modified.
+         * </p>
+         *
+         * @return serialized WADL document.
+         */
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Get strong entity tag of the serialized WADL document.
+         *
+         * @return entity tag of the document.
+         */
+        public EntityTag getEntityTag() {
+            return entityTag;
+        }
+
+        /**
+         * Get the HTTP date at which the document has been rendered.
+         *
+         * @return formatted {@code Last-modified} header value.
+         */
+        public String getLastModified() {
+            return lastModified;
+        }
+    }
+
+    private static final class Key {
+
+        private final URI baseUri;
+        private final URI absolutePath;
+        private final Object resource;
+        private final boolean detailedWadl;
+        private final int hash;
+
+        private Key(final UriInfo uriInfo, final Object resource, final boolean detailedWadl) {
+            this.baseUri = uriInfo.getBaseUri();
+            this.absolutePath = uriInfo.getAbsolutePath();
+            this.resource = resource;
+            this.detailedWadl = detailedWadl;
+
+            int h = baseUri.hashCode();
+            h = 31 * h + absolutePath.hashCode();
+            h = 31 * h + (resource == null ? 0 : resource.hashCode());
+            this.hash = 31 * h + (detailedWadl ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash
+                    && detailedWadl == other.detailedWadl
+                    && baseUri.equals(other.baseUri)
+                    && absolutePath.equals(other.absolutePath)
+                    && (resource == null ? other.resource == null : resource.equals(other.resource));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
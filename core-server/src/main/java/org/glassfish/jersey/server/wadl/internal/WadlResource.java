@@ -40,30 +40,22 @@
 
 package org.glassfish.jersey.server.wadl.internal;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.net.URI;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
 import javax.inject.Singleton;
-import javax.xml.bind.Marshaller;
 
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.ExtendedResource;
 import org.glassfish.jersey.server.wadl.WadlApplicationContext;
 
-import com.sun.research.ws.wadl.Application;
-
 /**
  *
  * @author Paul Sandoz
@@ -75,56 +67,37 @@ public final class WadlResource {
 
     public static final String HTTPDATEFORMAT = "EEE, dd MMM yyyy HH:mm:ss zzz";
 
-    private volatile URI lastBaseUri;
-    private volatile boolean lastDetailedWadl;
-
-    private byte[] wadlXmlRepresentation;
-    private String lastModified;
-
     @Context
     private WadlApplicationContext wadlContext;
 
-
-    public WadlResource() {
-        this.lastModified = new SimpleDateFormat(HTTPDATEFORMAT).format(new Date());
-    }
-
-    private boolean isCached(UriInfo uriInfo, boolean detailedWadl) {
-        return (lastBaseUri != null && lastBaseUri.equals(uriInfo.getBaseUri()) && lastDetailedWadl == detailedWadl);
-    }
+    @Context
+    private WadlCache wadlCache;
 
     @Produces({"application/vnd.sun.wadl+xml", "application/xml"})
     @GET
-    public synchronized Response getWadl(@Context UriInfo uriInfo) {
+    public Response getWadl(@Context UriInfo uriInfo, @Context Request request) {
         try {
             if (!wadlContext.isWadlGenerationEnabled()) {
                 return Response.status(Response.Status.NOT_FOUND).build();
             }
 
             final boolean detailedWadl = WadlUtils.isDetailedWadlRequested(uriInfo);
-            if ((wadlXmlRepresentation == null) || (!isCached(uriInfo, detailedWadl))) {
-                this.lastBaseUri = uriInfo.getBaseUri();
-                lastDetailedWadl = detailedWadl;
-                this.lastModified = new SimpleDateFormat(HTTPDATEFORMAT).format(new Date());
-
-                ApplicationDescription applicationDescription = wadlContext.getApplication(uriInfo,
-                        detailedWadl);
-
-                Application application = applicationDescription.getApplication();
-
-                try {
-                    final Marshaller marshaller = wadlContext.getJAXBContext().createMarshaller();
-                    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-                    final ByteArrayOutputStream os = new ByteArrayOutputStream();
-                    marshaller.marshal(application, os);
-                    wadlXmlRepresentation = os.toByteArray();
-                    os.close();
-                } catch (Exception e) {
-                    throw new ProcessingException("Could not marshal the wadl Application.", e);
-                }
+            WadlCache.RenderedWadl wadl = wadlCache.get(uriInfo, null, detailedWadl);
+            if (wadl == null) {
+                final ApplicationDescription applicationDescription = wadlContext.getApplication(uriInfo, detailedWadl);
+                wadl = wadlCache.render(uriInfo, null, detailedWadl,
+                        wadlContext.getJAXBContext(), applicationDescription.getApplication());
             }
 
-            return Response.ok(new ByteArrayInputStream(wadlXmlRepresentation)).header("Last-modified", lastModified).build();
+            final Response.ResponseBuilder notModified = request.evaluatePreconditions(wadl.getEntityTag());
+            if (notModified != null) {
+                return notModified.header("Last-modified", wadl.getLastModified()).build();
+            }
+
+            return Response.ok(wadl.getBytes())
+                    .tag(wadl.getEntityTag())
+                    .header("Last-modified", wadl.getLastModified())
+                    .build();
         } catch (Exception e) {
             throw new ProcessingException("Error generating /application.wadl.", e);
         }
@@ -134,7 +107,7 @@ public final class WadlResource {
     @Produces({"application/xml"})
     @GET
     @Path("{path}")
-    public synchronized Response geExternalGrammar(
+    public Response geExternalGrammar(
             @Context UriInfo uriInfo,
             @PathParam("path") String path) {
         try {
@@ -39,13 +39,9 @@
  */
 package org.glassfish.jersey.server.wadl.processor;
 
-import java.io.ByteArrayOutputStream;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.List;
 
 import javax.ws.rs.HttpMethod;
-import javax.ws.rs.ProcessingException;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
@@ -55,7 +51,6 @@ import javax.ws.rs.core.UriInfo;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
-import javax.xml.bind.Marshaller;
 
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.message.internal.MediaTypes;
@@ -68,6 +63,7 @@ import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.model.RuntimeResource;
 import org.glassfish.jersey.server.model.internal.ModelProcessorUtil;
 import org.glassfish.jersey.server.wadl.WadlApplicationContext;
+import org.glassfish.jersey.server.wadl.internal.WadlCache;
 import org.glassfish.jersey.server.wadl.internal.WadlResource;
 import org.glassfish.jersey.server.wadl.internal.WadlUtils;
 
@@ -117,8 +113,6 @@ public class WadlModelProcessor implements ModelProcessor {
     }
 
     public static class OptionsHandler implements Inflector<ContainerRequestContext, Response> {
-        private final String lastModified =
-                new SimpleDateFormat(WadlResource.HTTPDATEFORMAT).format(new Date());
 
         @Inject
         private ExtendedUriInfo extendedUriInfo;
@@ -126,41 +120,41 @@ public class WadlModelProcessor implements ModelProcessor {
         @Context
         private WadlApplicationContext wadlApplicationContext;
 
+        @Context
+        private WadlCache wadlCache;
+
 
         @Override
         public Response apply(ContainerRequestContext containerRequestContext) {
 
             final RuntimeResource resource = extendedUriInfo.getMatchedRuntimeResources().get(0);
             // TODO: support multiple resources, see ignored tests in WadlResourceTest.Wadl8Test
+            final Resource modelResource = resource.getResources().get(0);
             final UriInfo uriInfo = containerRequestContext.getUriInfo();
+            final boolean detailedWadl = WadlUtils.isDetailedWadlRequested(uriInfo);
 
-            final Application wadlApplication = wadlApplicationContext.getApplication(uriInfo,
-                    resource.getResources().get(0), WadlUtils.isDetailedWadlRequested(uriInfo));
+            WadlCache.RenderedWadl wadl = wadlCache.get(uriInfo, modelResource, detailedWadl);
+            if (wadl == null) {
+                final Application wadlApplication = wadlApplicationContext.getApplication(uriInfo,
+                        modelResource, detailedWadl);
 
-            if (wadlApplication == null) {
-                // wadlApplication can be null if limited WADL is requested and all content
-                // of wadlApplication is invisible in limited WADL
-                return Response.status(Response.Status.NOT_FOUND).build();
+                if (wadlApplication == null) {
+                    // wadlApplication can be null if limited WADL is requested and all content
+                    // of wadlApplication is invisible in limited WADL
+                    return Response.status(Response.Status.NOT_FOUND).build();
 
-            }
+                }
 
-            byte[] bytes;
-            try {
-                final Marshaller marshaller = wadlApplicationContext.getJAXBContext().createMarshaller();
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-                final ByteArrayOutputStream os = new ByteArrayOutputStream();
-                marshaller.marshal(wadlApplication, os);
-                bytes = os.toByteArray();
-                os.close();
-            } catch (Exception e) {
-                throw new ProcessingException("Could not marshal the wadl Application.", e);
+                wadl = wadlCache.render(uriInfo, modelResource, detailedWadl,
+                        wadlApplicationContext.getJAXBContext(), wadlApplication);
             }
 
             return Response.ok()
                     .type(MediaTypes.WADL_TYPE)
                     .allow(ModelProcessorUtil.getAllowedMethods(resource))
-                    .header("Last-modified", lastModified)
-                    .entity(bytes)
+                    .header("Last-modified", wadl.getLastModified())
+                    .tag(wadl.getEntityTag())
+                    .entity(wadl.getBytes())
                     .build();
         }
     }
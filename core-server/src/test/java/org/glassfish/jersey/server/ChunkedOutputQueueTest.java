@@ -0,0 +1,180 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import jersey.repackaged.com.google.common.collect.Lists;
+
+/**
+ * Tests bounded {@link ChunkedOutput} queues and asynchronous {@link Broadcaster} writes.
+ * <p>
+ * Chunks written to an output that is not bound to a response yet stay in its queue, which
+ * is used here to simulate a client that does not consume the chunks.
+ * </p>
+ */
+public class ChunkedOutputQueueTest {
+
+    @Test
+    public void testDropOldest() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<String>(String.class);
+        output.setQueueCapacity(2, ChunkedOutput.OverflowPolicy.DROP_OLDEST);
+
+        output.write("a");
+        output.write("b");
+        output.write("c");
+
+        assertEquals(2, output.getQueueDepth());
+        assertEquals(1, output.getDroppedChunkCount());
+        assertFalse(output.isClosed());
+    }
+
+    @Test
+    public void testDropNewest() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<String>(String.class);
+        output.setQueueCapacity(1, ChunkedOutput.OverflowPolicy.DROP_NEWEST);
+
+        output.write("a");
+        output.write("b");
+        output.write("c");
+
+        assertEquals(1, output.getQueueDepth());
+        assertEquals(2, output.getDroppedChunkCount());
+        assertFalse(output.isClosed());
+    }
+
+    @Test
+    public void testDisconnect() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<String>(String.class);
+        output.setQueueCapacity(2, ChunkedOutput.OverflowPolicy.DISCONNECT);
+
+        output.write("a");
+        output.write("b");
+        try {
+            output.write("c");
+            fail("IOException expected.");
+        } catch (final IOException expected) {
+            // expected
+        }
+
+        assertTrue(output.isClosed());
+        assertEquals(0, output.getQueueDepth());
+        assertEquals(3, output.getDroppedChunkCount());
+    }
+
+    @Test
+    public void testUnboundedByDefault() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<String>(String.class);
+        for (int i = 0; i < 100; i++) {
+            output.write("chunk");
+        }
+
+        assertEquals(100, output.getQueueDepth());
+        assertEquals(0, output.getDroppedChunkCount());
+    }
+
+    @Test
+    public void testAsyncBroadcast() {
+        final List<Runnable> tasks = Lists.newArrayList();
+        final Executor executor = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                tasks.add(command);
+            }
+        };
+
+        final List<ChunkedOutput<String>> closed = Lists.newArrayList();
+        final List<Exception> exceptions = Lists.newArrayList();
+        final Broadcaster<String> broadcaster = new Broadcaster<String>(false, executor) {
+            @Override
+            public void onException(final ChunkedOutput<String> chunkedOutput, final Exception exception) {
+                exceptions.add(exception);
+            }
+
+            @Override
+            public void onClose(final ChunkedOutput<String> chunkedOutput) {
+                closed.add(chunkedOutput);
+            }
+        };
+
+        final ChunkedOutput<String> slow = new ChunkedOutput<String>(String.class);
+        slow.setQueueCapacity(1, ChunkedOutput.OverflowPolicy.DISCONNECT);
+        final ChunkedOutput<String> fast = new ChunkedOutput<String>(String.class);
+        broadcaster.add(slow);
+        broadcaster.add(fast);
+
+        broadcaster.broadcast("a");
+
+        // chunks are queued on the broadcasting thread, writes are left to the executor
+        assertEquals(2, tasks.size());
+        assertEquals(1, slow.getQueueDepth());
+        assertEquals(1, fast.getQueueDepth());
+
+        broadcaster.broadcast("b");
+
+        assertEquals(1, exceptions.size());
+        assertEquals(1, closed.size());
+        assertTrue(closed.contains(slow));
+        assertEquals(2, fast.getQueueDepth());
+
+        for (final Runnable task : tasks) {
+            task.run();
+        }
+
+        // the disconnected output must not be reported as closed twice
+        assertEquals(1, closed.size());
+
+        broadcaster.closeAll();
+        for (final Runnable task : tasks) {
+            task.run();
+        }
+
+        assertTrue(fast.isClosed());
+        assertEquals(2, closed.size());
+    }
+}
@@ -133,6 +133,62 @@ public class ContainerRequestTest {
         assertEquals(r.getRequestUri(), URI.create("http://example.org/app/resource"));
     }
 
+    @Test
+    public void testRawUri() {
+        ContainerRequest r = new ContainerRequest(
+                "http://example.org/app/", "/app/resource%20name", "a=b",
+                "GET", SECURITY_CONTEXT, new MapPropertiesDelegate());
+        assertEquals("resource%20name", r.getPath(false));
+        assertEquals("resource name", r.getPath(true));
+        assertEquals(URI.create("http://example.org/app/"), r.getBaseUri());
+        assertEquals(URI.create("http://example.org/app/resource%20name?a=b"), r.getRequestUri());
+        assertEquals(URI.create("http://example.org/app/resource%20name"), r.getAbsolutePath());
+        assertEquals("b", r.getUriInfo().getQueryParameters().getFirst("a"));
+    }
+
+    @Test
+    public void testRawUriNormalized() {
+        ContainerRequest r = new ContainerRequest(
+                "http://example.org/app/./", "/app/x/../resource", null,
+                "GET", SECURITY_CONTEXT, new MapPropertiesDelegate());
+        assertEquals("resource", r.getPath(false));
+        assertEquals(URI.create("http://example.org/app/resource"), r.getRequestUri());
+    }
+
+    @Test
+    public void testRawUriSetRequestUri() {
+        ContainerRequest r = new ContainerRequest(
+                "http://example.org/app/", "/app/resource", null,
+                "GET", SECURITY_CONTEXT, new MapPropertiesDelegate());
+        r.setRequestUri(URI.create("http://example.org/app/other"));
+        assertEquals("other", r.getPath(false));
+        assertEquals(URI.create("http://example.org/app/other"), r.getRequestUri());
+        assertEquals(URI.create("http://example.org/app/"), r.getBaseUri());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRawUriInvalidPercentEncoding() {
+        new ContainerRequest(
+                "http://example.org/app/", "/app/resource", "a=%zz",
+                "GET", SECURITY_CONTEXT, new MapPropertiesDelegate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRawUriInvalidHost() {
+        new ContainerRequest(
+                "http://example org/app/", "/app/resource", null,
+                "GET", SECURITY_CONTEXT, new MapPropertiesDelegate());
+    }
+
+    @Test
+    public void testRawUriNonAsciiQuery() {
+        ContainerRequest r = new ContainerRequest(
+                "http://[::1]:8080/app/", "/app/resource", "a=\u00e9",
+                "GET", SECURITY_CONTEXT, new MapPropertiesDelegate());
+        assertEquals("resource", r.getPath(false));
+        assertEquals("\u00e9", r.getUriInfo().getQueryParameters().getFirst("a"));
+    }
+
     @Test
     public void testSelectVariant() {
         ContainerRequest r = new ContainerRequest(
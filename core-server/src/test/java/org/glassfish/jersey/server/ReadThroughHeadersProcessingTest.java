@@ -0,0 +1,175 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.message.internal.ReadThroughHeaders;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that request headers read through to a container-native header source remain available
+ * once the container recycles the native request after the response has been committed.
+ */
+public class ReadThroughHeadersProcessingTest {
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    /**
+     * Header source that becomes invalid once the response status and headers have been written.
+     */
+    private static class RecyclableSource implements ReadThroughHeaders.Source {
+
+        private volatile boolean recycled;
+
+        @Override
+        public Iterable<String> getNames() {
+            return recycled ? Collections.<String>emptyList() : Collections.singletonList("X-Test");
+        }
+
+        @Override
+        public List<String> getValues(final String name) {
+            return recycled || !"X-Test".equalsIgnoreCase(name) ? null : Collections.singletonList("value");
+        }
+    }
+
+    private static class RecyclingWriter implements ContainerResponseWriter {
+
+        private final RecyclableSource source;
+        private volatile boolean committed;
+
+        private RecyclingWriter(final RecyclableSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public OutputStream writeResponseStatusAndHeaders(final long contentLength, final ContainerResponse responseContext) {
+            source.recycled = true;
+            return new ByteArrayOutputStream();
+        }
+
+        @Override
+        public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
+            return true;
+        }
+
+        @Override
+        public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void commit() {
+            committed = true;
+        }
+
+        @Override
+        public void failure(final Throwable error) {
+            committed = true;
+        }
+
+        @Override
+        public boolean enableResponseBuffering() {
+            return false;
+        }
+    }
+
+    private static class FinishedListener implements ApplicationEventListener {
+
+        private volatile String header;
+
+        @Override
+        public void onEvent(final ApplicationEvent event) {
+        }
+
+        @Override
+        public RequestEventListener onRequest(final RequestEvent requestEvent) {
+            return new RequestEventListener() {
+                @Override
+                public void onEvent(final RequestEvent event) {
+                    if (event.getType() == RequestEvent.Type.FINISHED) {
+                        header = event.getContainerRequest().getHeaderString("X-Test");
+                    }
+                }
+            };
+        }
+    }
+
+    @Test
+    public void testHeadersAvailableAfterCommit() {
+        final FinishedListener listener = new FinishedListener();
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class).register(listener));
+
+        final RecyclableSource source = new RecyclableSource();
+        final RecyclingWriter writer = new RecyclingWriter(source);
+        final ContainerRequest request = new ContainerRequest("http://localhost/", "/resource", null,
+                "GET", null, new MapPropertiesDelegate());
+        request.headers(source);
+        request.setWriter(writer);
+
+        handler.handle(request);
+
+        assertTrue(writer.committed);
+        assertTrue(source.recycled);
+        assertEquals("value", listener.header);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.filter;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NameBinding;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+
+import javax.annotation.Priority;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the filter chains pre-computed for resource methods keep global and name-bound filters
+ * ordered by their priorities.
+ */
+public class BoundFilterChainOrderingTest {
+
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    public static @interface Bound {
+    }
+
+    public abstract static class RecordingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) throws IOException {
+            calls(requestContext).add("request-" + getClass().getSimpleName());
+        }
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext)
+                throws IOException {
+            calls(requestContext).add("response-" + getClass().getSimpleName());
+            responseContext.getHeaders().putSingle("calls", calls(requestContext).toString());
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<String> calls(final ContainerRequestContext requestContext) {
+            List<String> calls = (List<String>) requestContext.getProperty("calls");
+            if (calls == null) {
+                calls = new ArrayList<>();
+                requestContext.setProperty("calls", calls);
+            }
+            return calls;
+        }
+    }
+
+    @Priority(100)
+    public static class GlobalFirst extends RecordingFilter {
+    }
+
+    @Bound
+    @Priority(200)
+    public static class BoundSecond extends RecordingFilter {
+    }
+
+    @Priority(300)
+    public static class GlobalThird extends RecordingFilter {
+    }
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        @Bound
+        public String bound() {
+            return "bound";
+        }
+
+        @GET
+        @Path("unbound")
+        public String unbound() {
+            return "unbound";
+        }
+    }
+
+    private ApplicationHandler createApplication() {
+        return new ApplicationHandler(new ResourceConfig(Resource.class, GlobalThird.class, BoundSecond.class,
+                GlobalFirst.class));
+    }
+
+    @Test
+    public void testBoundMethod() throws Exception {
+        final ApplicationHandler handler = createApplication();
+
+        // repeated requests reuse the same pre-computed chains
+        for (int i = 0; i < 2; i++) {
+            final ContainerResponse response = handler.apply(RequestContextBuilder.from("/resource", "GET").build()).get();
+            assertEquals(200, response.getStatus());
+            assertEquals("[request-GlobalFirst, request-BoundSecond, request-GlobalThird, "
+                            + "response-GlobalThird, response-BoundSecond, response-GlobalFirst]",
+                    response.getHeaderString("calls"));
+        }
+    }
+
+    @Test
+    public void testUnboundMethod() throws Exception {
+        final ContainerResponse response = createApplication()
+                .apply(RequestContextBuilder.from("/resource/unbound", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+        assertEquals("[request-GlobalFirst, request-GlobalThird, response-GlobalThird, response-GlobalFirst]",
+                response.getHeaderString("calls"));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        final ContainerResponse response = createApplication()
+                .apply(RequestContextBuilder.from("/not-found", "GET").build()).get();
+        assertEquals(404, response.getStatus());
+        assertEquals("[response-GlobalThird, response-GlobalFirst]", response.getHeaderString("calls"));
+    }
+}
@@ -40,16 +40,25 @@
 
 package org.glassfish.jersey.server.filter;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 import org.glassfish.jersey.message.GZipEncoder;
+import org.glassfish.jersey.message.MessageProperties;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
@@ -156,6 +165,55 @@ public class EncodingFilterTest {
         assertNull(response.getHeaders().getFirst(HttpHeaders.VARY));
     }
 
+    @Path("sized")
+    public static class SizedEntityResource {
+
+        @GET
+        @Produces("text/plain")
+        public String get(@QueryParam("size") final int size) {
+            final char[] entity = new char[size];
+            Arrays.fill(entity, 'a');
+            return new String(entity);
+        }
+    }
+
+    @Test
+    public void testEntityBelowMinSizeNotEncoded() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = applyWithMinSize(100, 99, out);
+
+        assertNull(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaderString(HttpHeaders.VARY));
+        assertEquals(99, out.size());
+    }
+
+    @Test
+    public void testEntityAboveMinSizeEncoded() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = applyWithMinSize(100, 10000, out);
+
+        assertEquals("gzip", response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+
+        final InputStream decoded = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()));
+        int length = 0;
+        while (decoded.read() != -1) {
+            length++;
+        }
+        assertEquals(10000, length);
+    }
+
+    private ContainerResponse applyWithMinSize(final int minSize, final int entitySize, final OutputStream out)
+            throws Exception {
+        final ResourceConfig rc = new ResourceConfig(SizedEntityResource.class)
+                .property(MessageProperties.ENCODING_MIN_SIZE, minSize);
+        EncodingFilter.enableFor(rc, GZipEncoder.class);
+
+        final ContainerRequest request = RequestContextBuilder.from("/sized?size=" + entitySize, "GET")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+        return new ApplicationHandler(rc).apply(request, out).get();
+    }
+
     @SuppressWarnings("unchecked")
     private EncodingFilter initializeAndGetFilter() {
         ResourceConfig rc = new ResourceConfig();
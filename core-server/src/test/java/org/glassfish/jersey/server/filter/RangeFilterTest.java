@@ -0,0 +1,215 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import org.glassfish.jersey.message.GZipEncoder;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * {@link RangeFilter} unit tests.
+ */
+public class RangeFilterTest {
+
+    private static File file;
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("file")
+        @Produces("application/octet-stream")
+        public File getFile() {
+            return file;
+        }
+
+        @GET
+        @Path("path")
+        @Produces("application/octet-stream")
+        public java.nio.file.Path getPath() {
+            return file.toPath();
+        }
+    }
+
+    @BeforeClass
+    public static void createFile() throws IOException {
+        file = File.createTempFile("range", "test");
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write("0123456789".getBytes());
+        } finally {
+            out.close();
+        }
+    }
+
+    @AfterClass
+    public static void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void testNoRange() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = apply("/file", null, null, out);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeaderString("Accept-Ranges"));
+        assertNull(response.getHeaderString("Content-Range"));
+        assertEquals("0123456789", out.toString());
+    }
+
+    @Test
+    public void testRange() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = apply("/file", "bytes=2-4", null, out);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-4/10", response.getHeaderString("Content-Range"));
+        assertEquals("234", out.toString());
+    }
+
+    @Test
+    public void testOpenRange() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = apply("/path", "bytes=7-", null, out);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 7-9/10", response.getHeaderString("Content-Range"));
+        assertEquals("789", out.toString());
+    }
+
+    @Test
+    public void testSuffixRange() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = apply("/path", "bytes=-3", null, out);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 7-9/10", response.getHeaderString("Content-Range"));
+        assertEquals("789", out.toString());
+    }
+
+    @Test
+    public void testUnsatisfiableRange() throws Exception {
+        final ContainerResponse response = apply("/file", "bytes=10-20", null, new ByteArrayOutputStream());
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeaderString("Content-Range"));
+    }
+
+    @Test
+    public void testMultipleRangesIgnored() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = apply("/file", "bytes=0-1,5-6", null, out);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", out.toString());
+    }
+
+    @Test
+    public void testIfRangeMismatch() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = apply("/file", "bytes=2-4", "\"etag\"", out);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", out.toString());
+    }
+
+    @Test
+    public void testEncodedResponseServedInFull() throws Exception {
+        final ResourceConfig resourceConfig = new ResourceConfig(Resource.class, RangeFilter.class);
+        EncodingFilter.enableFor(resourceConfig, GZipEncoder.class);
+        final ContainerRequest request = RequestContextBuilder.from("/file", "GET")
+                .header("Range", "bytes=2-4")
+                .header("Accept-Encoding", "gzip")
+                .build();
+        final ContainerResponse response = new ApplicationHandler(resourceConfig)
+                .apply(request, new ByteArrayOutputStream()).get();
+
+        assertEquals(200, response.getStatus());
+        assertEquals("gzip", response.getHeaderString("Content-Encoding"));
+        assertNull(response.getHeaderString("Accept-Ranges"));
+        assertNull(response.getHeaderString("Content-Range"));
+    }
+
+    @Test
+    public void testParseRange() {
+        assertArrayEquals(new long[] {0, 9}, RangeFilter.parseRange("bytes=0-", 10));
+        assertArrayEquals(new long[] {5, 9}, RangeFilter.parseRange("bytes=5-100", 10));
+        assertArrayEquals(new long[] {0, 9}, RangeFilter.parseRange("bytes=-20", 10));
+        assertArrayEquals(new long[0], RangeFilter.parseRange("bytes=-0", 10));
+        assertNull(RangeFilter.parseRange("bytes=5-2", 10));
+        assertNull(RangeFilter.parseRange("items=0-1", 10));
+        assertNull(RangeFilter.parseRange("bytes=a-b", 10));
+    }
+
+    private static ContainerResponse apply(final String uri,
+                                           final String range,
+                                           final String ifRange,
+                                           final ByteArrayOutputStream out) throws Exception {
+        final RequestContextBuilder builder = RequestContextBuilder.from(uri, "GET");
+        if (range != null) {
+            builder.header("Range", range);
+        }
+        if (ifRange != null) {
+            builder.header("If-Range", ifRange);
+        }
+        final ContainerRequest request = builder.build();
+        return new ApplicationHandler(new ResourceConfig(Resource.class, RangeFilter.class)).apply(request, out).get();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link LatencyHistogram} unit tests.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        int lastBucket = -1;
+        for (long value = 0; value < 100000; value++) {
+            final int bucket = LatencyHistogram.bucketOf(value);
+            Assert.assertTrue("Buckets are not monotonic at " + value, bucket == lastBucket || bucket == lastBucket + 1);
+            Assert.assertTrue(LatencyHistogram.highestValueOf(bucket) >= value);
+            Assert.assertTrue(LatencyHistogram.highestValueOf(bucket) <= value + value / 8);
+            lastBucket = bucket;
+        }
+
+        Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        Assert.assertEquals(0, LatencyHistogram.bucketOf(-5));
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 7; i++) {
+            histogram.record(i);
+        }
+        histogram.record(5000);
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(8, snapshot.getCount());
+        Assert.assertEquals(0, snapshot.getValueAtPercentile(1));
+        Assert.assertEquals(3, snapshot.getValueAtPercentile(50));
+        Assert.assertEquals(6, snapshot.getValueAtPercentile(87.5));
+        Assert.assertTrue(snapshot.getValueAtPercentile(99) >= 5000);
+        Assert.assertEquals(-1, LatencyHistogram.Snapshot.EMPTY.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testAddAndSubtract() {
+        final LatencyHistogram first = new LatencyHistogram();
+        first.record(1);
+        first.record(2);
+        final LatencyHistogram second = new LatencyHistogram();
+        second.record(100);
+
+        final LatencyHistogram total = new LatencyHistogram();
+        total.add(first.snapshot());
+        total.add(second.snapshot());
+        Assert.assertEquals(3, total.getCount());
+        Assert.assertEquals(3, LatencyHistogram.snapshot(first, second).getCount());
+        Assert.assertTrue(total.snapshot().getValueAtPercentile(100) >= 100);
+
+        total.subtract(second.snapshot());
+        Assert.assertEquals(2, total.getCount());
+        Assert.assertEquals(2, total.snapshot().getValueAtPercentile(100));
+
+        total.clear();
+        Assert.assertEquals(0, total.getCount());
+        Assert.assertSame(LatencyHistogram.Snapshot.EMPTY, total.snapshot());
+    }
+}
@@ -160,6 +160,61 @@ public class TimeWindowStatisticsImplTest {
         }
     }
 
+    @Test
+    public void testPercentiles() {
+        final long now = 0;
+        TimeWindowStatisticsImpl.Builder builder = new TimeWindowStatisticsImpl.Builder(10, TimeUnit.SECONDS, now);
+        for (int i = 1; i <= 100; i++) {
+            builder.addRequest(now + i * 10, i);
+        }
+
+        TimeWindowStatisticsImpl stat = builder.build(now + 2000);
+        Assert.assertEquals(100, stat.getRequestCount());
+        assertPercentile(50, stat.getDurationPercentile(50));
+        assertPercentile(90, stat.getDurationPercentile(90));
+        assertPercentile(99, stat.getDurationPercentile(99));
+        Assert.assertEquals(100, stat.getDurationPercentile(99.9));
+        Assert.assertEquals(100, stat.getDurationPercentile(100));
+
+        // the first second drops out of the window
+        builder.addRequest(now + 10500, 1000);
+        stat = builder.build(now + 11500);
+        Assert.assertEquals(1, stat.getRequestCount());
+        Assert.assertEquals(1000, stat.getDurationPercentile(50));
+    }
+
+    @Test
+    public void testPercentilesEmpty() {
+        TimeWindowStatisticsImpl.Builder builder = new TimeWindowStatisticsImpl.Builder(1, TimeUnit.MINUTES, 0);
+        Assert.assertEquals(-1, builder.build(30000).getDurationPercentile(99));
+
+        builder = new TimeWindowStatisticsImpl.Builder(0, TimeUnit.MILLISECONDS, 0);
+        Assert.assertEquals(-1, builder.build(30000).getDurationPercentile(99));
+    }
+
+    @Test
+    public void testAddRequests() {
+        final ExecutionAccumulator accumulator = new ExecutionAccumulator();
+        accumulator.record(0, 30);
+        accumulator.record(300, 100);
+        accumulator.record(600, 150);
+        accumulator.record(800, 15);
+        accumulator.record(999, 60);
+        accumulator.record(1000, 95);
+
+        TimeWindowStatisticsImpl.Builder builder = new TimeWindowStatisticsImpl.Builder(1000, TimeUnit.MILLISECONDS, 0);
+        builder.addRequests(accumulator.drain());
+        Assert.assertNull(accumulator.drain());
+
+        check(builder, 1000, 6, 15, 150, 75, 6);
+        assertPercentile(60, builder.build(1000).getDurationPercentile(50));
+    }
+
+    private void assertPercentile(long expected, long actual) {
+        Assert.assertTrue("Percentile " + actual + " lower than " + expected, actual >= expected);
+        Assert.assertTrue("Percentile " + actual + " too far from " + expected, actual <= expected + expected / 8);
+    }
+
     @Test
     public void testUnlimited() {
         TimeWindowStatisticsImpl.Builder builder = new TimeWindowStatisticsImpl.Builder(0, TimeUnit.MILLISECONDS, 0);
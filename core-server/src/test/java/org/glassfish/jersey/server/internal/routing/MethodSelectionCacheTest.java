@@ -0,0 +1,148 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.internal.routing;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests that the cached method selection in {@link MethodSelectingRouter} produces the same results as the uncached one
+ * for repeated requests.
+ */
+public class MethodSelectionCacheTest {
+
+    @Path("negotiate")
+    public static class Resource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String text() {
+            return "text";
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_HTML)
+        public String html() {
+            return "html";
+        }
+
+        @GET
+        @Path("entity")
+        @Produces({"application/xml", "application/*"})
+        public Response entity() {
+            return Response.ok("entity").build();
+        }
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        public String post(final String entity) {
+            return entity;
+        }
+    }
+
+    private final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class));
+
+    private ContainerResponse get(final String path, final String accept) throws Exception {
+        final RequestContextBuilder builder = RequestContextBuilder.from(path, "GET");
+        if (accept != null) {
+            builder.accept(accept);
+        }
+        return handler.apply(builder.build()).get();
+    }
+
+    @Test
+    public void testRepeatedNegotiation() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            ContainerResponse response = get("/negotiate", "text/html");
+            assertThat(response.getStatus(), equalTo(200));
+            assertThat(response.getEntity(), equalTo((Object) "html"));
+            assertThat(response.getMediaType(), equalTo(MediaType.TEXT_HTML_TYPE));
+
+            response = get("/negotiate", "text/plain");
+            assertThat(response.getStatus(), equalTo(200));
+            assertThat(response.getEntity(), equalTo((Object) "text"));
+            assertThat(response.getMediaType(), equalTo(MediaType.TEXT_PLAIN_TYPE));
+
+            response = get("/negotiate", "image/png");
+            assertThat(response.getStatus(), equalTo(406));
+        }
+    }
+
+    @Test
+    public void testRepeatedEntityDependentMediaType() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            ContainerResponse response = get("/negotiate/entity", "application/xml");
+            assertThat(response.getStatus(), equalTo(200));
+            assertThat(response.getMediaType(), equalTo(MediaType.APPLICATION_XML_TYPE));
+
+            response = get("/negotiate/entity", "application/json");
+            assertThat(response.getStatus(), equalTo(200));
+            assertThat(response.getMediaType(), equalTo(MediaType.APPLICATION_JSON_TYPE));
+        }
+    }
+
+    @Test
+    public void testRepeatedUnsupportedContentType() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            ContainerResponse response = handler.apply(RequestContextBuilder.from("/negotiate", "POST")
+                    .entity("entity").type(MediaType.TEXT_PLAIN).build()).get();
+            assertThat(response.getStatus(), equalTo(200));
+            assertThat(response.getEntity(), equalTo((Object) "entity"));
+
+            response = handler.apply(RequestContextBuilder.from("/negotiate", "POST")
+                    .entity("entity").type(MediaType.APPLICATION_XML).build()).get();
+            assertThat(response.getStatus(), equalTo(415));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.internal.routing;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.uri.PathPattern;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests literal-prefix indexed request path matching ({@link PathIndexMatchingRouter}).
+ */
+public class PathIndexMatchingRouterTest {
+
+    @Path("a")
+    public static class AResource {
+
+        @GET
+        public String get() {
+            return "a";
+        }
+
+        @GET
+        @Path("b")
+        public String getB() {
+            return "a/b";
+        }
+
+        @GET
+        @Path("{id}")
+        public String getId(@PathParam("id") final String id) {
+            return "a/{id}:" + id;
+        }
+
+        @Path("locator")
+        public SubResource locator() {
+            return new SubResource();
+        }
+    }
+
+    @Path("{any}")
+    public static class AnyResource {
+
+        @GET
+        public String get(@PathParam("any") final String any) {
+            return "{any}:" + any;
+        }
+    }
+
+    @Path("numbers/{n: [0-9]+}")
+    public static class NumberResource {
+
+        @GET
+        public String get(@PathParam("n") final String n) {
+            return "numbers:" + n;
+        }
+    }
+
+    @Path("a.b")
+    public static class DotResource {
+
+        @GET
+        public String get() {
+            return "a.b";
+        }
+    }
+
+    public static class SubResource {
+
+        @GET
+        public String get() {
+            return "sub";
+        }
+
+        @GET
+        @Path("{x}")
+        public String getX(@PathParam("x") final String x) {
+            return "sub/{x}:" + x;
+        }
+    }
+
+    @Test
+    public void testLiteralPrefix() {
+        assertEquals("/foo/bar", PathIndexMatchingRouter.literalPrefix(new PathPattern("/foo/bar").getRegex()));
+        assertEquals("/foo/", PathIndexMatchingRouter.literalPrefix(new PathPattern("/foo/{id}").getRegex()));
+        assertEquals("/a.b", PathIndexMatchingRouter.literalPrefix(new PathPattern("a.b").getRegex()));
+        assertEquals("/foo", PathIndexMatchingRouter.literalPrefix(
+                PathPattern.asClosed(new PathPattern("/foo/")).getRegex()));
+        assertEquals("/a", PathIndexMatchingRouter.literalPrefix(new PathPattern("/a%20b").getRegex()));
+        assertEquals("", PathIndexMatchingRouter.literalPrefix(new PathPattern("{any}").getRegex()));
+        assertEquals("", PathIndexMatchingRouter.literalPrefix(PathPattern.END_OF_PATH_PATTERN.getRegex()));
+        assertEquals("", PathIndexMatchingRouter.literalPrefix(PathPattern.OPEN_ROOT_PATH_PATTERN.getRegex()));
+        assertEquals("ab", PathIndexMatchingRouter.literalPrefix("abc?"));
+        assertEquals("", PathIndexMatchingRouter.literalPrefix("\\d+"));
+    }
+
+    @Test
+    public void testSameMatchingAsSequentialRouter() throws Exception {
+        final ApplicationHandler sequential = createApplication(false);
+        final ApplicationHandler indexed = createApplication(true);
+
+        final String[] paths = {"/a", "/a/", "/a/b", "/a/c", "/b", "/a.b", "/axb", "/numbers/42", "/numbers/x",
+                "/a/locator", "/a/locator/x", "/a/b/c", "/", "/a%20b"};
+        for (final String path : paths) {
+            final ContainerResponse expected = sequential.apply(RequestContextBuilder.from(path, "GET").build()).get();
+            final ContainerResponse actual = indexed.apply(RequestContextBuilder.from(path, "GET").build()).get();
+
+            assertEquals(path, expected.getStatus(), actual.getStatus());
+            assertEquals(path, expected.getEntity(), actual.getEntity());
+        }
+    }
+
+    private static ApplicationHandler createApplication(final boolean indexed) {
+        return new ApplicationHandler(new ResourceConfig(AResource.class, AnyResource.class, NumberResource.class,
+                DotResource.class).property(ServerProperties.ROUTING_PATH_INDEX_ENABLED, indexed));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.GenericEntity;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests resource method invocation using method handles
+ * ({@link ServerProperties#RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED}).
+ */
+public class MethodHandleInvocationTest {
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("string")
+        public String string(@QueryParam("value") final String value) {
+            return "string:" + value;
+        }
+
+        @GET
+        @Path("primitive")
+        public String primitive(@QueryParam("value") final int value) {
+            return "primitive:" + (value + 1);
+        }
+
+        @GET
+        @Path("response")
+        public Response response() {
+            return Response.status(202).entity("response").build();
+        }
+
+        @GET
+        @Path("generic")
+        public Object generic() {
+            return new GenericEntity<List<String>>(Collections.singletonList("generic")) {
+            };
+        }
+
+        @POST
+        @Path("void")
+        public void voidMethod() {
+        }
+
+        @GET
+        @Path("web-application-exception")
+        public String webApplicationException() {
+            throw new NotFoundException();
+        }
+    }
+
+    private static ContainerResponse apply(final String uri, final String method) throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED, true));
+        return handler.apply(RequestContextBuilder.from(uri, method).build()).get();
+    }
+
+    @Test
+    public void testStringReturnType() throws Exception {
+        assertEquals("string:foo", apply("/string?value=foo", "GET").getEntity());
+    }
+
+    @Test
+    public void testPrimitiveParameter() throws Exception {
+        assertEquals("primitive:42", apply("/primitive?value=41", "GET").getEntity());
+    }
+
+    @Test
+    public void testResponseReturnType() throws Exception {
+        final ContainerResponse response = apply("/response", "GET");
+        assertEquals(202, response.getStatus());
+        assertEquals("response", response.getEntity());
+    }
+
+    @Test
+    public void testGenericEntityReturnType() throws Exception {
+        assertEquals(Collections.singletonList("generic"), apply("/generic", "GET").getEntity());
+    }
+
+    @Test
+    public void testVoidReturnType() throws Exception {
+        assertEquals(204, apply("/void", "POST").getStatus());
+    }
+
+    @Test
+    public void testWebApplicationException() throws Exception {
+        assertEquals(404, apply("/web-application-exception", "GET").getStatus());
+    }
+
+    @Test
+    public void testStaticAndNonPublicMethods() throws Throwable {
+        final Method method = MethodHandleInvocationTest.class.getDeclaredMethod("concat", String.class,
+                String.class);
+        assertEquals("ab", MethodHandleInvocationHandler.create(method).invoke(null, method, new Object[] {"a", "b"}));
+    }
+
+    @Test
+    public void testArgumentMismatch() throws Throwable {
+        final Method method = MethodHandleInvocationTest.class.getDeclaredMethod("increment", long.class);
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        // widening primitive conversion
+        assertEquals(2L, handler.invoke(null, method, new Object[] {1}));
+
+        for (final Object[] args : Arrays.asList(new Object[] {"a"}, new Object[] {null}, new Object[] {1.0},
+                new Object[0], null)) {
+            try {
+                handler.invoke(null, method, args);
+                fail("IllegalArgumentException expected for " + Arrays.toString(args));
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testTargetMismatch() throws Throwable {
+        final Method method = Resource.class.getMethod("response");
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        try {
+            handler.invoke(new Object(), method, new Object[0]);
+            fail("IllegalArgumentException expected.");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testTargetException() throws Throwable {
+        final Method method = Resource.class.getMethod("webApplicationException");
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        try {
+            handler.invoke(new Resource(), method, new Object[0]);
+            fail("InvocationTargetException expected.");
+        } catch (final InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof NotFoundException);
+        }
+    }
+
+    private static String concat(final String a, final String b) {
+        return a + b;
+    }
+
+    private static long increment(final long value) {
+        return value + 1;
+    }
+}
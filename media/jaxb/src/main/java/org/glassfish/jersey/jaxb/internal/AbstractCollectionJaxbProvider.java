@@ -279,6 +279,7 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             }
             setHeader(m, annotations);
             writeList(elementType, c, mediaType, charset, m, entityStream);
+            releaseMarshaller(m);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
         }
@@ -375,6 +376,8 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
                 }
             }
 
+            releaseUnmarshaller(u);
+
             return (type.isArray())
                     ? createArray(l, jaxbElement ? JAXBElement.class : elementType)
                     : l;
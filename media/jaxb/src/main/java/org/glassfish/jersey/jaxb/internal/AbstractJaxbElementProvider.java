@@ -121,7 +121,10 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
         final Class ta = (Class) pt.getActualTypeArguments()[0];
 
         try {
-            return readFrom(ta, mediaType, getUnmarshaller(ta, mediaType), entityStream);
+            final Unmarshaller u = getUnmarshaller(ta, mediaType);
+            final JAXBElement<?> entity = readFrom(ta, mediaType, u, entityStream);
+            releaseUnmarshaller(u);
+            return entity;
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
@@ -149,6 +152,7 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
             }
             setHeader(m, annotations);
             writeTo(t, mediaType, c, m, entityStream);
+            releaseMarshaller(m);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
         }
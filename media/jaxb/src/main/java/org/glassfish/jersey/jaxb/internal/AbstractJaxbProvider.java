@@ -42,8 +42,11 @@ package org.glassfish.jersey.jaxb.internal;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.ref.WeakReference;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -70,6 +73,8 @@ import org.glassfish.jersey.message.internal.AbstractMessageReaderWriterProvider
 
 import org.xml.sax.InputSource;
 
+import jersey.repackaged.com.google.common.collect.MapMaker;
+
 /**
  * A base class for implementing JAXB-based readers and writers.
  *
@@ -79,7 +84,13 @@ import org.xml.sax.InputSource;
  */
 public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWriterProvider<T> {
 
-    private static final Map<Class<?>, WeakReference<JAXBContext>> jaxbContexts = new WeakHashMap<>();
+    /**
+     * Maximum number of JAXB contexts for which the marshaller and unmarshaller pools are maintained.
+     */
+    private static final int MAX_POOLED_CONTEXTS = 64;
+
+    private static final ConcurrentMap<Class<?>, WeakReference<JAXBContext>> jaxbContexts =
+            new MapMaker().weakKeys().makeMap();
     private final Providers ps;
     private final boolean fixedMediaType;
     private final Value<ContextResolver<JAXBContext>> mtContext;
@@ -87,6 +98,15 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
     private final Value<ContextResolver<Marshaller>> mtMarshaller;
     private Value<Boolean> formattedOutput = Values.of(Boolean.FALSE);
     private Value<Boolean> xmlRootElementProcessing = Values.of(Boolean.FALSE);
+    private Value<Integer> poolSize = Values.of(0);
+
+    private final ConcurrentMap<JAXBContext, InstancePool<Marshaller>> marshallerPools = new ConcurrentHashMap<>();
+    private final ConcurrentMap<JAXBContext, InstancePool<Unmarshaller>> unmarshallerPools = new ConcurrentHashMap<>();
+    /**
+     * Pool membership of the instances created by this provider while pooling is enabled. Instances that are not
+     * present in the map (e.g. those supplied by a context resolver) are never returned to a pool.
+     */
+    private final ConcurrentMap<Object, InstancePool<?>> pooledInstances = new MapMaker().weakKeys().makeMap();
 
     public AbstractJaxbProvider(final Providers ps) {
         this(ps, null);
@@ -143,6 +163,15 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
                 return PropertiesHelper.isProperty(config.getProperty(MessageProperties.JAXB_PROCESS_XML_ROOT_ELEMENT));
             }
         });
+
+        poolSize = Values.lazy(new Value<Integer>() {
+
+            @Override
+            public Integer get() {
+                return PropertiesHelper.getValue(config.getProperties(), MessageProperties.JAXB_MARSHALLER_POOL_SIZE,
+                        0, Integer.class, null);
+            }
+        });
     }
 
     protected boolean isSupported(MediaType m) {
@@ -163,7 +192,7 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
         }
 
         final JAXBContext ctx = getJAXBContext(type, mt);
-        return (ctx == null) ? null : ctx.createUnmarshaller();
+        return (ctx == null) ? null : createUnmarshaller(ctx);
     }
 
     private Unmarshaller getUnmarshaller(Class type) throws JAXBException {
@@ -176,7 +205,7 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
         }
 
         final JAXBContext ctx = getJAXBContext(type);
-        return (ctx == null) ? null : ctx.createUnmarshaller();
+        return (ctx == null) ? null : createUnmarshaller(ctx);
     }
 
     protected final Marshaller getMarshaller(Class type, MediaType mt) throws JAXBException {
@@ -193,16 +222,7 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
         }
 
         final JAXBContext ctx = getJAXBContext(type, mt);
-        if (ctx == null) {
-            return null;
-        }
-
-        Marshaller m = ctx.createMarshaller();
-        if (formattedOutput.get()) {
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput.get());
-        }
-        return m;
-
+        return (ctx == null) ? null : createMarshaller(ctx);
     }
 
     private Marshaller getMarshaller(Class type) throws JAXBException {
@@ -215,17 +235,116 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
         }
 
         final JAXBContext ctx = getJAXBContext(type);
-        if (ctx == null) {
-            return null;
+        return (ctx == null) ? null : createMarshaller(ctx);
+    }
+
+    /**
+     * Return a marshaller obtained from {@link #getMarshaller(Class, javax.ws.rs.core.MediaType)} once it is no longer
+     * used so that it can be reused for processing of another entity.
+     * <p>
+     * The marshaller is returned to the pool only if pooling is enabled via
+     * {@link MessageProperties#JAXB_MARSHALLER_POOL_SIZE} and the marshaller has been created by this provider.
+     * Marshaller encoding and fragment properties are reset before the instance is pooled; a marshaller with any other
+     * state modified must not be released.
+     * </p>
+     *
+     * @param m marshaller to be released, may be {@code null}.
+     */
+    protected final void releaseMarshaller(final Marshaller m) {
+        if (m == null) {
+            return;
         }
 
-        Marshaller m = ctx.createMarshaller();
+        @SuppressWarnings("unchecked")
+        final InstancePool<Marshaller> pool = (InstancePool<Marshaller>) pooledInstances.get(m);
+        if (pool == null) {
+            return;
+        }
+
+        try {
+            m.setProperty(Marshaller.JAXB_FRAGMENT, false);
+            m.setProperty(Marshaller.JAXB_ENCODING, UTF8.name());
+        } catch (PropertyException e) {
+            pooledInstances.remove(m);
+            return;
+        }
+        pool.offer(m);
+    }
+
+    /**
+     * Return an unmarshaller obtained from {@link #getUnmarshaller(Class, javax.ws.rs.core.MediaType)} once it is no
+     * longer used so that it can be reused for processing of another entity.
+     * <p>
+     * The unmarshaller is returned to the pool only if pooling is enabled via
+     * {@link MessageProperties#JAXB_MARSHALLER_POOL_SIZE} and the unmarshaller has been created by this provider.
+     * </p>
+     *
+     * @param u unmarshaller to be released, may be {@code null}.
+     */
+    protected final void releaseUnmarshaller(final Unmarshaller u) {
+        if (u == null) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final InstancePool<Unmarshaller> pool = (InstancePool<Unmarshaller>) pooledInstances.get(u);
+        if (pool != null) {
+            pool.offer(u);
+        }
+    }
+
+    private Marshaller createMarshaller(final JAXBContext ctx) throws JAXBException {
+        final InstancePool<Marshaller> pool = getPool(marshallerPools, ctx);
+        if (pool != null) {
+            final Marshaller pooled = pool.poll();
+            if (pooled != null) {
+                return pooled;
+            }
+        }
+
+        final Marshaller m = ctx.createMarshaller();
         if (formattedOutput.get()) {
             m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput.get());
         }
+        if (pool != null) {
+            pooledInstances.put(m, pool);
+        }
         return m;
     }
 
+    private Unmarshaller createUnmarshaller(final JAXBContext ctx) throws JAXBException {
+        final InstancePool<Unmarshaller> pool = getPool(unmarshallerPools, ctx);
+        if (pool != null) {
+            final Unmarshaller pooled = pool.poll();
+            if (pooled != null) {
+                return pooled;
+            }
+        }
+
+        final Unmarshaller u = ctx.createUnmarshaller();
+        if (pool != null) {
+            pooledInstances.put(u, pool);
+        }
+        return u;
+    }
+
+    private <M> InstancePool<M> getPool(final ConcurrentMap<JAXBContext, InstancePool<M>> pools, final JAXBContext ctx) {
+        final int size = poolSize.get();
+        if (size <= 0) {
+            return null;
+        }
+
+        InstancePool<M> pool = pools.get(ctx);
+        if (pool == null && pools.size() < MAX_POOLED_CONTEXTS) {
+            final InstancePool<M> created = new InstancePool<>(size);
+            pool = pools.putIfAbsent(ctx, created);
+            if (pool == null) {
+                pool = created;
+            }
+        }
+        return pool;
+    }
+
     private JAXBContext getJAXBContext(Class type, MediaType mt) throws JAXBException {
         final ContextResolver<JAXBContext> cr = ps.getContextResolver(JAXBContext.class, mt);
         if (cr != null) {
@@ -251,15 +370,14 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
     }
 
     protected JAXBContext getStoredJaxbContext(Class type) throws JAXBException {
-        synchronized (jaxbContexts) {
-            final WeakReference<JAXBContext> ref = jaxbContexts.get(type);
-            JAXBContext c = (ref != null) ? ref.get() : null;
-            if (c == null) {
-                c = JAXBContext.newInstance(type);
-                jaxbContexts.put(type, new WeakReference(c));
-            }
-            return c;
+        final WeakReference<JAXBContext> ref = jaxbContexts.get(type);
+        JAXBContext c = (ref != null) ? ref.get() : null;
+        if (c == null) {
+            // concurrent callers may create the context more than once, the last one stored wins
+            c = JAXBContext.newInstance(type);
+            jaxbContexts.put(type, new WeakReference<>(c));
         }
+        return c;
     }
 
     protected static SAXSource getSAXSource(SAXParserFactory spf,
@@ -284,6 +402,8 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
     protected void setHeader(Marshaller m, Annotation[] annotations) throws PropertyException {
         for (Annotation a : annotations) {
             if (a instanceof XmlHeader) {
+                // the header cannot be reliably reset, the marshaller must not be pooled anymore
+                pooledInstances.remove(m);
                 try {
                     // standalone jaxb ri
                     m.setProperty("com.sun.xml.bind.xmlHeaders", ((XmlHeader) a).value());
@@ -301,4 +421,34 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
             }
         }
     }
+
+    /**
+     * Bounded pool of idle instances.
+     */
+    private static final class InstancePool<M> {
+
+        private final Queue<M> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final int capacity;
+
+        private InstancePool(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        M poll() {
+            final M instance = idle.poll();
+            if (instance != null) {
+                idleCount.decrementAndGet();
+            }
+            return instance;
+        }
+
+        void offer(final M instance) {
+            if (idleCount.incrementAndGet() > capacity) {
+                idleCount.decrementAndGet();
+                return;
+            }
+            idle.offer(instance);
+        }
+    }
 }
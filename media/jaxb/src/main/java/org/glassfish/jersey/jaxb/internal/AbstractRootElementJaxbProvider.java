@@ -120,7 +120,10 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             if (entityStream.isEmpty()) {
                 throw new NoContentException(LocalizationMessages.ERROR_READING_ENTITY_MISSING());
             }
-            return readFrom(type, mediaType, getUnmarshaller(type, mediaType), entityStream);
+            final Unmarshaller u = getUnmarshaller(type, mediaType);
+            final Object entity = readFrom(type, mediaType, u, entityStream);
+            releaseUnmarshaller(u);
+            return entity;
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
@@ -167,6 +170,7 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             }
             setHeader(m, annotations);
             writeTo(t, mediaType, c, m, entityStream);
+            releaseMarshaller(m);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
         }
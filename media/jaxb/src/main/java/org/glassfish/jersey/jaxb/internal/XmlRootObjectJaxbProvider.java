@@ -143,8 +143,13 @@ public abstract class XmlRootObjectJaxbProvider extends AbstractJaxbProvider<Obj
 
     @Override
     public boolean isReadable(Class<?> type, Type genericType, Annotation annotations[], MediaType mediaType) {
+        if (Object.class != type || !isSupported(mediaType)) {
+            return false;
+        }
         try {
-            return Object.class == type && isSupported(mediaType) && getUnmarshaller(type, mediaType) != null;
+            final Unmarshaller u = getUnmarshaller(type, mediaType);
+            releaseUnmarshaller(u);
+            return u != null;
         } catch (JAXBException cause) {
             throw new RuntimeException(LocalizationMessages.ERROR_UNMARSHALLING_JAXB(type), cause);
         }
@@ -165,8 +170,10 @@ public abstract class XmlRootObjectJaxbProvider extends AbstractJaxbProvider<Obj
         }
 
         try {
-            return getUnmarshaller(type, mediaType).
-                    unmarshal(getSAXSource(spf.provide(), entityStream));
+            final Unmarshaller u = getUnmarshaller(type, mediaType);
+            final Object entity = u.unmarshal(getSAXSource(spf.provide(), entityStream));
+            releaseUnmarshaller(u);
+            return entity;
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
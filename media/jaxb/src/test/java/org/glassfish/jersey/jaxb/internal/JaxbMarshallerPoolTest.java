@@ -0,0 +1,231 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.jaxb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.XmlHeader;
+import org.glassfish.jersey.model.internal.CommonConfig;
+import org.glassfish.jersey.model.internal.ComponentBag;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests pooling of marshallers and unmarshallers in JAXB providers.
+ */
+public class JaxbMarshallerPoolTest {
+
+    @XmlRootElement
+    public static class Bean {
+
+        public String value;
+    }
+
+    @Test
+    public void testMarshallersNotPooledByDefault() throws Exception {
+        final RecordingProvider provider = createProvider(null);
+
+        write(provider, new Annotation[0]);
+        write(provider, new Annotation[0]);
+
+        assertEquals(2, provider.marshallers.size());
+        assertNotSame(provider.marshallers.get(0), provider.marshallers.get(1));
+    }
+
+    @Test
+    public void testMarshallerReused() throws Exception {
+        final RecordingProvider provider = createProvider(4);
+
+        write(provider, new Annotation[0]);
+        write(provider, new Annotation[0]);
+
+        assertSame(provider.marshallers.get(0), provider.marshallers.get(1));
+    }
+
+    @Test
+    public void testReusedMarshallerIsReset() throws Exception {
+        final RecordingProvider provider = createProvider(4);
+
+        write(provider, new Annotation[0], MediaType.valueOf("application/xml;charset=ISO-8859-1"));
+        final String output = write(provider, new Annotation[0]);
+
+        assertSame(provider.marshallers.get(0), provider.marshallers.get(1));
+        assertEquals("UTF-8", provider.marshallers.get(1).getProperty(Marshaller.JAXB_ENCODING));
+        assertTrue(output.contains("encoding=\"UTF-8\""));
+    }
+
+    @Test
+    public void testMarshallerWithHeaderNotReused() throws Exception {
+        final RecordingProvider provider = createProvider(4);
+
+        final Annotation header = JaxbMarshallerPoolTest.class.getDeclaredMethod("annotated").getAnnotation(XmlHeader.class);
+        write(provider, new Annotation[] {header});
+        write(provider, new Annotation[0]);
+
+        assertNotSame(provider.marshallers.get(0), provider.marshallers.get(1));
+    }
+
+    @Test
+    public void testUnmarshallerReused() throws Exception {
+        final RecordingProvider provider = createProvider(4);
+        final String xml = write(provider, new Annotation[0]);
+
+        read(provider, xml);
+        read(provider, xml);
+
+        assertSame(provider.unmarshallers.get(0), provider.unmarshallers.get(1));
+    }
+
+    @XmlHeader("<!-- header -->")
+    private static void annotated() {
+    }
+
+    private static RecordingProvider createProvider(final Integer poolSize) {
+        final CommonConfig config = new CommonConfig(RuntimeType.SERVER, ComponentBag.INCLUDE_ALL);
+        if (poolSize != null) {
+            config.property(MessageProperties.JAXB_MARSHALLER_POOL_SIZE, poolSize);
+        }
+
+        final RecordingProvider provider = new RecordingProvider();
+        provider.setConfiguration(config);
+        return provider;
+    }
+
+    private static String write(final RecordingProvider provider, final Annotation[] annotations) throws Exception {
+        return write(provider, annotations, MediaType.APPLICATION_XML_TYPE);
+    }
+
+    private static String write(final RecordingProvider provider, final Annotation[] annotations, final MediaType mediaType)
+            throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Bean bean = new Bean();
+        bean.value = "value";
+        provider.writeTo(bean, Bean.class, Bean.class, annotations, mediaType, null, out);
+        return out.toString(getCharsetName(mediaType));
+    }
+
+    private static String getCharsetName(final MediaType mediaType) {
+        final String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null ? "UTF-8" : charset;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void read(final RecordingProvider provider, final String xml) throws Exception {
+        final Object bean = provider.readFrom((Class) Bean.class, Bean.class, new Annotation[0],
+                MediaType.APPLICATION_XML_TYPE, null, new ByteArrayInputStream(xml.getBytes("UTF-8")));
+        assertEquals("value", ((Bean) bean).value);
+    }
+
+    private static class RecordingProvider extends AbstractRootElementJaxbProvider {
+
+        private final List<Marshaller> marshallers = new ArrayList<>();
+        private final List<Unmarshaller> unmarshallers = new ArrayList<>();
+
+        RecordingProvider() {
+            super(new NoProviders());
+        }
+
+        @Override
+        protected Object readFrom(final Class<Object> type, final MediaType mediaType, final Unmarshaller u,
+                                  final InputStream entityStream) throws JAXBException {
+            unmarshallers.add(u);
+            return super.readFrom(type, mediaType, u, entityStream);
+        }
+
+        @Override
+        protected void writeTo(final Object t, final MediaType mediaType, final Charset c, final Marshaller m,
+                               final OutputStream entityStream) throws JAXBException {
+            marshallers.add(m);
+            super.writeTo(t, mediaType, c, m, entityStream);
+        }
+    }
+
+    private static class NoProviders implements Providers {
+
+        @Override
+        public <T> MessageBodyReader<T> getMessageBodyReader(final Class<T> type, final Type genericType,
+                                                             final Annotation[] annotations, final MediaType mediaType) {
+            return null;
+        }
+
+        @Override
+        public <T> MessageBodyWriter<T> getMessageBodyWriter(final Class<T> type, final Type genericType,
+                                                             final Annotation[] annotations, final MediaType mediaType) {
+            return null;
+        }
+
+        @Override
+        public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(final Class<T> type) {
+            return null;
+        }
+
+        @Override
+        public <T> ContextResolver<T> getContextResolver(final Class<T> contextType, final MediaType mediaType) {
+            return null;
+        }
+    }
+}
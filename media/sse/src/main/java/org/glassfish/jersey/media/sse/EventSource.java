@@ -48,17 +48,21 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.ServiceUnavailableException;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 
 /**
@@ -126,6 +130,17 @@ import org.glassfish.jersey.internal.util.ExtendedLogger;
  * HTTP connections, you may do so by invoking the {@link Builder#usePersistentConnections() usePersistentConnections()} method
  * on an event source builder prior to creating a new event source instance.
  * </p>
+ * <h3>Sharing a scheduler among many event sources</h3>
+ * <p>
+ * By default, each event source creates its own single-threaded {@link ScheduledExecutorService scheduled executor service}
+ * that is shut down when the event source is closed. Applications that open a large number of event sources may instead
+ * supply a shared scheduler via the {@link Builder#scheduler(ScheduledExecutorService)} method. In such case the event
+ * processing tasks as well as reconnect timers of all the event sources are managed by the shared scheduler, so
+ * reconnecting event sources do not hold any thread and the total number of threads is bounded by the scheduler
+ * configuration. Note that reading events from an open connection is still a blocking operation that occupies a scheduler
+ * thread for as long as the connection is open. If all the scheduler threads are busy, {@link #open()} does not wait
+ * for a thread indefinitely, see {@link Builder#scheduler(ScheduledExecutorService)}.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  * @author Marek Potociar (marek.potociar at oracle.com)
@@ -139,6 +154,12 @@ public class EventSource implements EventListener {
      */
     public static final long RECONNECT_DEFAULT = 500;
 
+    /**
+     * Time [milliseconds] {@link #open()} waits for the executor to start connecting to the SSE endpoint if no
+     * {@link ClientProperties#CONNECT_TIMEOUT connect timeout} is configured.
+     */
+    private static final long START_TIMEOUT_DEFAULT = 30000;
+
     private static enum State {
         READY, OPEN, CLOSED
     }
@@ -162,6 +183,19 @@ public class EventSource implements EventListener {
      * Incoming SSE event processing task executor.
      */
     private final ScheduledExecutorService executor;
+    /**
+     * {@code true} if the executor has been supplied by the user and may be shared with other event sources,
+     * {@code false} if the executor is owned (and shut down) by this event source.
+     */
+    private final boolean sharedExecutor;
+    /**
+     * The most recently submitted event processing task (used to stop processing in the shared executor mode).
+     */
+    private volatile EventProcessor activeProcessor;
+    /**
+     * Signal that the event processing has terminated (used in the shared executor mode).
+     */
+    private final CountDownLatch terminated = new CountDownLatch(1);
     /**
      * Event source internal state.
      */
@@ -198,6 +232,7 @@ public class EventSource implements EventListener {
         private long reconnect = EventSource.RECONNECT_DEFAULT;
         private String name = null;
         private boolean disableKeepAlive = true;
+        private ScheduledExecutorService scheduler = null;
 
         private Builder(final WebTarget endpoint) {
             this.endpoint = endpoint;
@@ -253,6 +288,35 @@ public class EventSource implements EventListener {
             return this;
         }
 
+        /**
+         * Set a (possibly shared) scheduled executor service to be used by the event source to process incoming events
+         * and to schedule reconnect attempts.
+         * <p>
+         * By default, each event source creates its own single-threaded scheduled executor service. A scheduler supplied
+         * by this method may be shared by many event sources, which lets applications bound the number of threads used
+         * by all their event sources and manage reconnect timers centrally. The supplied scheduler is not shut down when
+         * the event source is {@link EventSource#close() closed}; it is the responsibility of the caller to shut it down
+         * once it is no longer used.
+         * </p>
+         * <p>
+         * As every open connection occupies a scheduler thread, the scheduler may be saturated by the connections of other
+         * event sources. {@link EventSource#open()} therefore waits for the scheduler to start connecting to the SSE endpoint
+         * at most for the {@link ClientProperties#CONNECT_TIMEOUT connect timeout} configured on the web target (or 30 seconds
+         * if no connect timeout is configured). If the connection attempt has not been started in time, which also happens
+         * when {@code open()} is invoked from the only available scheduler thread, the event source is closed and
+         * {@code open()} fails with a {@link ProcessingException}.
+         * </p>
+         *
+         * @param scheduler scheduled executor service to be used by the event source. If {@code null}, the default
+         *                  event source specific single-threaded scheduler will be used.
+         * @return updated event source builder instance.
+         * @since 2.17
+         */
+        public Builder scheduler(final ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
         /**
          * Build new SSE event source pointing at a SSE streaming {@link WebTarget web target}.
          * <p>
@@ -271,7 +335,7 @@ public class EventSource implements EventListener {
          * @see #open()
          */
         public EventSource build() {
-            return new EventSource(endpoint, name, reconnect, disableKeepAlive, false);
+            return new EventSource(endpoint, name, reconnect, disableKeepAlive, scheduler, false);
         }
 
         /**
@@ -292,7 +356,7 @@ public class EventSource implements EventListener {
          */
         public EventSource open() {
             // opening directly in the constructor is just plain ugly...
-            final EventSource source = new EventSource(endpoint, name, reconnect, disableKeepAlive, false);
+            final EventSource source = new EventSource(endpoint, name, reconnect, disableKeepAlive, scheduler, false);
             source.open();
             return source;
         }
@@ -363,13 +427,14 @@ public class EventSource implements EventListener {
      * @throws NullPointerException in case the supplied web target is {@code null}.
      */
     public EventSource(final WebTarget endpoint, final boolean open) {
-        this(endpoint, null, RECONNECT_DEFAULT, true, open);
+        this(endpoint, null, RECONNECT_DEFAULT, true, null, open);
     }
 
     private EventSource(final WebTarget target,
                         final String name,
                         final long reconnectDelay,
                         final boolean disableKeepAlive,
+                        final ScheduledExecutorService scheduler,
                         final boolean open) {
         if (target == null) {
             throw new NullPointerException("Web target is 'null'.");
@@ -378,13 +443,19 @@ public class EventSource implements EventListener {
         this.reconnectDelay = reconnectDelay;
         this.disableKeepAlive = disableKeepAlive;
 
-        final String esName = (name == null) ? createDefaultName(target) : name;
-        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
-            @Override
-            public Thread newThread(Runnable r) {
-                return new Thread(r, esName);
-            }
-        });
+        if (scheduler != null) {
+            this.executor = scheduler;
+            this.sharedExecutor = true;
+        } else {
+            final String esName = (name == null) ? createDefaultName(target) : name;
+            this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, esName);
+                }
+            });
+            this.sharedExecutor = false;
+        }
 
         if (open) {
             open();
@@ -400,6 +471,9 @@ public class EventSource implements EventListener {
      * {@link InboundEvent events}.
      *
      * @throws IllegalStateException in case the event source has already been opened earlier.
+     * @throws ProcessingException   in case the executor has not started connecting to the SSE endpoint in time
+     *                               (see {@link Builder#scheduler(ScheduledExecutorService)}), in which case the event
+     *                               source is closed.
      */
     public void open() {
         if (!state.compareAndSet(State.READY, State.OPEN)) {
@@ -412,10 +486,21 @@ public class EventSource implements EventListener {
         }
 
         EventProcessor processor = new EventProcessor(reconnectDelay, null);
-        executor.submit(processor);
+        submit(processor, 0);
 
         // return only after the first request to the SSE endpoint has been made
-        processor.awaitFirstContact();
+        processor.awaitFirstContact(getStartTimeout());
+    }
+
+    /**
+     * Get the time [milliseconds] to wait for the executor to start connecting to the SSE endpoint.
+     *
+     * @return connect timeout configured on the web target or the default start timeout.
+     */
+    private long getStartTimeout() {
+        final int connectTimeout = ClientProperties.getValue(target.getConfiguration().getProperties(),
+                ClientProperties.CONNECT_TIMEOUT, 0, Integer.class);
+        return connectTimeout > 0 ? connectTimeout : START_TIMEOUT_DEFAULT;
     }
 
     /**
@@ -524,7 +609,9 @@ public class EventSource implements EventListener {
     public boolean close(final long timeout, final TimeUnit unit) {
         shutdown();
         try {
-            if (!executor.awaitTermination(timeout, unit)) {
+            final boolean finished = sharedExecutor
+                    ? terminated.await(timeout, unit) : executor.awaitTermination(timeout, unit);
+            if (!finished) {
                 LOGGER.log(CONNECTION_ERROR_LEVEL,
                         LocalizationMessages.EVENT_SOURCE_SHUTDOWN_TIMEOUT(target.getUri().toString()));
                 return false;
@@ -542,7 +629,62 @@ public class EventSource implements EventListener {
         if (state.getAndSet(State.CLOSED) != State.CLOSED) {
             // shut down only if has not been shut down before
             LOGGER.debugLog("Shutting down event processing.");
-            executor.shutdownNow();
+            if (sharedExecutor) {
+                stopActiveProcessor();
+            } else {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Stop the active event processing task without shutting down the shared executor.
+     */
+    private void stopActiveProcessor() {
+        final EventProcessor processor = activeProcessor;
+        if (processor == null || processor.claim()) {
+            // the event source has not been opened or the processor has not started yet and never will
+            if (processor != null) {
+                if (processor.future != null) {
+                    processor.future.cancel(false);
+                }
+                if (processor.firstContactSignal != null) {
+                    // do not keep the open() caller waiting for a contact that will never be made
+                    processor.firstContactSignal.countDown();
+                }
+            }
+            terminated.countDown();
+        } else {
+            // unblock the processor waiting for new events; the processor signals termination once finished
+            final EventInput input = processor.eventInput;
+            if (input != null) {
+                input.close();
+            }
+            final Future<?> future = processor.future;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Submit a new event processing task to the executor.
+     *
+     * @param processor event processor to be submitted.
+     * @param delay     delay [milliseconds] after which the processor should be run. If zero or negative, the processor
+     *                  is submitted for an immediate execution.
+     */
+    private void submit(final EventProcessor processor, final long delay) {
+        activeProcessor = processor;
+        if (delay > 0) {
+            processor.future = executor.schedule(processor, delay, TimeUnit.MILLISECONDS);
+        } else {
+            processor.future = executor.submit(processor);
+        }
+
+        if (sharedExecutor && state.get() == State.CLOSED) {
+            // the event source has been closed concurrently - make sure the new processor is stopped as well
+            stopActiveProcessor();
         }
     }
 
@@ -563,6 +705,18 @@ public class EventSource implements EventListener {
          * Re-connect delay.
          */
         private long reconnectDelay;
+        /**
+         * Flag indicating that the processor has been claimed either for running or for cancellation.
+         */
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        /**
+         * Future representing the submitted processor task.
+         */
+        private volatile Future<?> future;
+        /**
+         * Event input the processor is currently reading from.
+         */
+        private volatile EventInput eventInput;
 
         public EventProcessor(final long reconnectDelay, final String lastEventId) {
             /**
@@ -582,8 +736,22 @@ public class EventSource implements EventListener {
             this.lastEventId = that.lastEventId;
         }
 
+        /**
+         * Claim the processor for running or for cancellation.
+         *
+         * @return {@code true} if the processor has been successfully claimed, {@code false} if it has been claimed
+         * before.
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
         @Override
         public void run() {
+            if (!claim()) {
+                // cancelled before it got a chance to run
+                return;
+            }
             LOGGER.debugLog("Listener task started.");
 
             EventInput eventInput = null;
@@ -593,6 +761,7 @@ public class EventSource implements EventListener {
                     if (state.get() == State.OPEN) { // attempt to connect only if even source is open
                         LOGGER.debugLog("Connecting...");
                         eventInput = request.get(EventInput.class);
+                        this.eventInput = eventInput;
                         LOGGER.debugLog("Connected!");
                     }
                 } finally {
@@ -636,6 +805,9 @@ public class EventSource implements EventListener {
                 if (eventInput != null && !eventInput.isClosed()) {
                     eventInput.close();
                 }
+                if (state.get() == State.CLOSED) {
+                    terminated.countDown();
+                }
                 LOGGER.debugLog("Listener task finished.");
             }
         }
@@ -713,12 +885,7 @@ public class EventSource implements EventListener {
             }
 
             // propagate the current reconnectDelay, but schedule based on the delay parameter
-            final EventProcessor processor = new EventProcessor(this);
-            if (delay > 0) {
-                executor.schedule(processor, delay, TimeUnit.MILLISECONDS);
-            } else {
-                executor.submit(processor);
-            }
+            submit(new EventProcessor(this), delay);
         }
 
         private Invocation.Builder prepareHandshakeRequest() {
@@ -734,8 +901,15 @@ public class EventSource implements EventListener {
 
         /**
          * Await the initial contact with the SSE endpoint.
+         * <p>
+         * If the processor has not been started within the specified timeout, the event source is closed. Once
+         * the processor has started, the method waits until the connection attempt completes.
+         * </p>
+         *
+         * @param startTimeout time [milliseconds] to wait for the processor to start.
+         * @throws ProcessingException in case the processor has not been started in time.
          */
-        public void awaitFirstContact() {
+        public void awaitFirstContact(final long startTimeout) {
             LOGGER.debugLog("Awaiting first contact signal.");
             try {
                 if (firstContactSignal == null) {
@@ -743,6 +917,14 @@ public class EventSource implements EventListener {
                 }
 
                 try {
+                    if (!firstContactSignal.await(startTimeout, TimeUnit.MILLISECONDS) && !claimed.get()) {
+                        // all the executor threads are busy (e.g. reading the streams of other event sources
+                        // sharing the scheduler) or this is the only executor thread - do not wait indefinitely
+                        EventSource.this.shutdown();
+                        throw new ProcessingException(LocalizationMessages.EVENT_SOURCE_OPEN_TIMEOUT(
+                                target.getUri().toString(), startTimeout));
+                    }
+                    // the connection attempt is in progress and is bounded by the client timeouts
                     firstContactSignal.await();
                 } catch (InterruptedException ex) {
                     LOGGER.log(CONNECTION_ERROR_LEVEL, LocalizationMessages.EVENT_SOURCE_OPEN_CONNECTION_INTERRUPTED(), ex);
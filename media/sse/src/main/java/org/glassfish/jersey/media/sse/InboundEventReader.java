@@ -39,12 +39,12 @@
  */
 package org.glassfish.jersey.media.sse;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -70,16 +70,11 @@ import org.glassfish.jersey.message.MessageUtils;
 class InboundEventReader implements MessageBodyReader<InboundEvent> {
     private static final Logger LOGGER = Logger.getLogger(InboundEventReader.class.getName());
     private static final byte[] EOL_DATA = new byte[]{'\n'};
+    private static final int MIN_BUFFER_SIZE = 128;
 
     @Inject
     private Provider<MessageBodyWorkers> messageBodyWorkers;
 
-    private static enum State {
-        NEW_LINE,
-        COMMENT,
-        FIELD,
-    }
-
     @Override
     public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
                               final MediaType mediaType) {
@@ -99,97 +94,162 @@ class InboundEventReader implements MessageBodyReader<InboundEvent> {
          * http://dev.w3.org/html5/eventsource/
          * last editors draft from 13 March 2012
          */
-        final ByteArrayOutputStream tokenData = new ByteArrayOutputStream();
         final InboundEvent.Builder eventBuilder =
                 new InboundEvent.Builder(messageBodyWorkers.get(), annotations, mediaType, headers);
+        final Charset charset = MessageUtils.getCharset(mediaType);
+
+        final EventData data = readEventData(entityStream);
+        final byte[] bytes = data.bytes;
+        final int length = data.length;
 
-        int b = -1;
-        State currentState = State.NEW_LINE;
-        loop:
-        do {
-            switch (currentState) {
-                case NEW_LINE:
-                    b = entityStream.read();
-                    if (b == '\n' || b == -1) {
-                        break loop;
-                    }
-
-                    if (b == ':') {
-                        currentState = State.COMMENT;
-                    } else {
-                        tokenData.write(b);
-                        currentState = State.FIELD;
-                    }
-                    break;
-                case COMMENT:
-                    // skipping comment data
-                    b = readLineUntil(entityStream, '\n', null);
-                    currentState = State.NEW_LINE;
-                    break;
-                case FIELD:
-                    // read field name
-                    b = readLineUntil(entityStream, ':', tokenData);
-                    final String fieldName = tokenData.toString(MessageUtils.getCharset(mediaType).name());
-                    tokenData.reset();
-
-                    if (b == ':') {
-                        // read field value
-                        b = entityStream.read();
-                        if (b == ' ') {
-                            // first space in value has to be skipped
-                            b = entityStream.read();
-                        }
-
-                        if (b != '\n' && b != -1) {
-                            tokenData.write(b);
-                            b = readLineUntil(entityStream, '\n', tokenData);
-                        }
-                    }
-
-                    processField(eventBuilder, fieldName, mediaType, tokenData.toByteArray());
-                    tokenData.reset();
-
-                    currentState = State.NEW_LINE;
-                    break;
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = indexOf(bytes, (byte) '\n', lineStart, length);
+            if (lineEnd == -1) {
+                lineEnd = length;
             }
-        } while (b != -1);
+            if (lineEnd == lineStart) {
+                // empty line - end of event
+                break;
+            }
+
+            if (bytes[lineStart] != ':') { // lines starting with ':' are comments
+                final int colon = indexOf(bytes, (byte) ':', lineStart, lineEnd);
+                final int nameEnd = colon == -1 ? lineEnd : colon;
+                final String fieldName = new String(bytes, lineStart, nameEnd - lineStart, charset);
+
+                int valueStart = colon == -1 ? lineEnd : colon + 1;
+                if (valueStart < lineEnd && bytes[valueStart] == ' ') {
+                    // first space in value has to be skipped
+                    valueStart++;
+                }
+
+                processField(eventBuilder, fieldName, charset, bytes, valueStart, lineEnd - valueStart);
+            }
+
+            lineStart = lineEnd + 1;
+        }
 
         return eventBuilder.build();
     }
 
     /**
-     * Read input stream until a delimiter or {@code EOL ('\n')} or {@code EOF} is reached
-     * and write the read data to the supplied output stream if not {@code null}, or discard
-     * the data if the output stream is {@code null}.
+     * Raw data of a single event.
+     */
+    private static final class EventData {
+
+        private final byte[] bytes;
+        private final int length;
+
+        private EventData(final byte[] bytes, final int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Read the data of a single event, i.e. the data up to and including the first empty line, or up to {@code EOF}.
+     * <p>
+     * The data are read in bulk if the input stream supports {@link InputStream#mark(int) marking}, in which case any data
+     * read beyond the end of the event are returned back to the stream. Otherwise the stream is read byte by byte so that
+     * no data following the event are consumed.
+     * </p>
      *
-     * @param in        input stream to be read.
-     * @param delimiter delimiter to break the read (apart from {@code EOL ('\n')} or {@code EOF}).
-     * @param out       output stream to write the read data to. May be {@code null}, in which case the
-     *                  read data are silently discarded.
-     * @return value of the last byte read.
-     * @throws IOException in case the reading or writing of the data failed.
+     * @param in input stream to be read.
+     * @return event data.
+     * @throws IOException in case the reading of the data failed.
      */
-    private int readLineUntil(final InputStream in, final int delimiter, final OutputStream out) throws IOException {
-        int b;
-        while ((b = in.read()) != -1) {
-            if (b == delimiter || b == '\n') {
-                break;
-            } else if (out != null) {
-                out.write(b);
+    private static EventData readEventData(final InputStream in) throws IOException {
+        final boolean bulkRead = in.markSupported();
+
+        byte[] bytes = new byte[Math.max(in.available() + 1, MIN_BUFFER_SIZE)];
+        int length = 0;
+        while (true) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+
+            final int read;
+            if (bulkRead) {
+                in.mark(bytes.length - length);
+                read = in.read(bytes, length, bytes.length - length);
+            } else {
+                final int b = in.read();
+                if (b != -1) {
+                    bytes[length] = (byte) b;
+                }
+                read = b == -1 ? -1 : 1;
             }
+            if (read == -1) {
+                return new EventData(bytes, length);
+            }
+
+            final int eventEnd = findEventEnd(bytes, length, length + read);
+            if (eventEnd != -1) {
+                if (bulkRead) {
+                    // return the data following the event back to the stream
+                    in.reset();
+                    skipFully(in, eventEnd - length);
+                }
+                return new EventData(bytes, eventEnd);
+            }
+            length += read;
         }
+    }
 
-        return b;
+    /**
+     * Find the end of an event, i.e. the position right after the first empty line terminator.
+     *
+     * @param bytes event data.
+     * @param from  position to start the search at (inclusive); all the preceding data have been searched already.
+     * @param to    position to end the search at (exclusive).
+     * @return position right after the end of the event or {@code -1} if the end of the event has not been found.
+     */
+    private static int findEventEnd(final byte[] bytes, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n' && (i == 0 || bytes[i - 1] == '\n')) {
+                return i + 1;
+            }
+        }
+        return -1;
     }
 
-    private void processField(final InboundEvent.Builder inboundEventBuilder, final String name,
-                              final MediaType mediaType, final byte[] value) {
-        final String valueString = new String(value, MessageUtils.getCharset(mediaType));
+    private static int indexOf(final byte[] bytes, final byte b, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void skipFully(final InputStream in, long count) throws IOException {
+        while (count > 0) {
+            final long skipped = in.skip(count);
+            if (skipped <= 0) {
+                // skip is not guaranteed to make progress - fall back to reading
+                if (in.read() == -1) {
+                    return;
+                }
+                count--;
+            } else {
+                count -= skipped;
+            }
+        }
+    }
+
+    private void processField(final InboundEvent.Builder inboundEventBuilder, final String name, final Charset charset,
+                              final byte[] bytes, final int valueOffset, final int valueLength) {
+        if ("data".equals(name)) {
+            // data are copied directly from the buffer, no need to decode them
+            inboundEventBuilder.write(bytes, valueOffset, valueLength);
+            inboundEventBuilder.write(EOL_DATA);
+            return;
+        }
+
+        final String valueString = new String(bytes, valueOffset, valueLength, charset);
         if ("event".equals(name)) {
             inboundEventBuilder.name(valueString);
-        } else if ("data".equals(name)) {
-            inboundEventBuilder.write(value);
-            inboundEventBuilder.write(EOL_DATA);
         } else if ("id".equals(name)) {
             inboundEventBuilder.id(valueString);
         } else if ("retry".equals(name)) {
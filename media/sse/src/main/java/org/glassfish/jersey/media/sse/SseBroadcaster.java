@@ -40,6 +40,8 @@
 
 package org.glassfish.jersey.media.sse;
 
+import java.util.concurrent.Executor;
+
 import org.glassfish.jersey.server.Broadcaster;
 
 /**
@@ -74,4 +76,67 @@ public class SseBroadcaster extends Broadcaster<OutboundEvent> {
     protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass) {
         super(subclass);
     }
+
+    /**
+     * Creates a new instance with the given broadcast mode.
+     * <p>
+     * If {@code serializeOnce} is {@code true}, each broadcast {@link OutboundEvent event} is serialized only once
+     * per distinct media type and annotation set of the registered {@link EventOutput event outputs} and the resulting
+     * bytes are shared among them.
+     * </p>
+     *
+     * @param serializeOnce if {@code true}, broadcast events are serialized once and shared among the event outputs.
+     * @see org.glassfish.jersey.server.Broadcaster#Broadcaster(boolean)
+     * @since 2.17
+     */
+    public SseBroadcaster(final boolean serializeOnce) {
+        this(SseBroadcaster.class, serializeOnce);
+    }
+
+    /**
+     * Can be used by subclasses to override the default functionality of adding self to the set of
+     * {@link org.glassfish.jersey.server.BroadcasterListener listeners} and to select the broadcast mode.
+     *
+     * @param subclass      subclass of SseBroadcaster that should not be registered as a listener - if creating a direct
+     *                      instance of this subclass, this constructor will not register the new instance as a listener.
+     * @param serializeOnce if {@code true}, broadcast events are serialized once and shared among the event outputs.
+     * @see #SseBroadcaster(boolean)
+     * @since 2.17
+     */
+    protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass, final boolean serializeOnce) {
+        super(subclass, serializeOnce);
+    }
+
+    /**
+     * Creates a new instance with the given broadcast mode that writes to the registered event outputs in parallel
+     * using the supplied executor.
+     *
+     * @param serializeOnce if {@code true}, broadcast events are serialized once and shared among the event outputs.
+     * @param executor      executor used to write to the registered event outputs or {@code null} to write to them
+     *                      on the broadcasting thread.
+     * @see org.glassfish.jersey.server.Broadcaster#Broadcaster(boolean, Executor)
+     * @since 2.17
+     */
+    public SseBroadcaster(final boolean serializeOnce, final Executor executor) {
+        this(SseBroadcaster.class, serializeOnce, executor);
+    }
+
+    /**
+     * Can be used by subclasses to override the default functionality of adding self to the set of
+     * {@link org.glassfish.jersey.server.BroadcasterListener listeners}, to select the broadcast mode and to set
+     * the executor used to write to the registered event outputs.
+     *
+     * @param subclass      subclass of SseBroadcaster that should not be registered as a listener - if creating a direct
+     *                      instance of this subclass, this constructor will not register the new instance as a listener.
+     * @param serializeOnce if {@code true}, broadcast events are serialized once and shared among the event outputs.
+     * @param executor      executor used to write to the registered event outputs or {@code null} to write to them
+     *                      on the broadcasting thread.
+     * @see #SseBroadcaster(boolean, Executor)
+     * @since 2.17
+     */
+    protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass,
+                             final boolean serializeOnce,
+                             final Executor executor) {
+        super(subclass, serializeOnce, executor);
+    }
 }
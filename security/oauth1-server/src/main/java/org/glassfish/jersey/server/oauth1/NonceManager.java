@@ -40,24 +40,37 @@
 
 package org.glassfish.jersey.server.oauth1;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Tracks the nonces for a given consumer key and/or token. Automagically
  * ensures timestamp is monotonically increasing and tracks all nonces
  * for a given timestamp.
+ * <p>
+ * Nonces are kept in segments selected by the hash of the key, each segment holding the nonces
+ * in buckets per timestamp, so that concurrent verifications do not contend with each other and
+ * expired nonces are discarded a bucket at a time.
+ * </p>
  *
  * @author Paul C. Bryan
  * @author Martin Matula
  * @author Thomas Meire
  */
-final class NonceManager {
+final class NonceManager implements OAuth1NonceStore {
+
+    private static final int STORED = 1;
+    private static final int DUPLICATE = 0;
+    private static final int EXPIRED = -1;
+
     /**
      * The maximum valid age of a nonce timestamp, in milliseconds.
      */
@@ -71,18 +84,23 @@ final class NonceManager {
     /**
      * Counts number of verification requests performed to schedule garbage collection.
      */
-    private int gcCounter = 0;
+    private final AtomicInteger gcCounter = new AtomicInteger();
+
+    /**
+     * Set while a garbage collection is running; other threads do not wait for it to finish.
+     */
+    private final AtomicBoolean collecting = new AtomicBoolean();
 
     private final TimeUnit timestampUnit;
 
     private final long maximumMapSize;
 
     /**
-     * Maps timestamps to key-nonce pairs.
+     * Key-striped segments mapping timestamps to key-nonce pairs.
      */
-    private final SortedMap<Long, Map<String, Set<String>>> tsToKeyNoncePairs = new TreeMap<>();
+    private final Segment[] segments;
 
-    private volatile long mapSize = 0;
+    private final AtomicLong mapSize = new AtomicLong();
 
     /**
      * Create a new nonce manager configured with maximum age, old nonce cleaning period and a time
@@ -96,6 +114,23 @@ final class NonceManager {
      *                         {@link #verify(String, String, String)} will return {@code false}.
      */
     public NonceManager(final long maxAge, final int gcPeriod, final TimeUnit timestampUnit, final long maximumCacheSize) {
+        this(maxAge, gcPeriod, timestampUnit, maximumCacheSize, null);
+    }
+
+    /**
+     * Create a new nonce manager configured with maximum age, old nonce cleaning period, a time
+     * unit of timestamps and a scheduler used to periodically collect old nonces in the background.
+     *
+     * @param maxAge   the maximum valid age of a nonce timestamp, in milliseconds.
+     * @param gcPeriod number of verifications to be performed on average before performing garbage collection
+     *                 of old nonces.
+     * @param timestampUnit unit in which timestamps are passed to {@link #verify(String, String, String)} method.
+     * @param maximumCacheSize maximum size of the cache that keeps nonces. If the cache exceeds the method
+     *                         {@link #verify(String, String, String)} will return {@code false}.
+     * @param scheduler scheduler used to collect old nonces in the background, may be {@code null}.
+     */
+    public NonceManager(final long maxAge, final int gcPeriod, final TimeUnit timestampUnit, final long maximumCacheSize,
+                        final ScheduledExecutorService scheduler) {
         if (maxAge <= 0 || gcPeriod <= 0) {
             throw new IllegalArgumentException();
         }
@@ -104,6 +139,26 @@ final class NonceManager {
         this.gcPeriod = gcPeriod;
         this.timestampUnit = timestampUnit;
         this.maximumMapSize = maximumCacheSize;
+
+        int segmentCount = 1;
+        while (segmentCount < 2 * Runtime.getRuntime().availableProcessors() && segmentCount < 64) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+
+        if (scheduler != null) {
+            // nonces older than max. age are refused anyway, collecting them a bit later than possible is fine
+            final long delay = Math.max(1000, maxAge / 10);
+            scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    gc(System.currentTimeMillis());
+                }
+            }, delay, delay, TimeUnit.MILLISECONDS);
+        }
     }
 
 
@@ -120,13 +175,13 @@ final class NonceManager {
      * @param now       current time in milliseconds
      * @return true if the timestamp/nonce are valid.
      */
-    synchronized boolean verify(final String key, final String timestamp, final String nonce, final long now) {
+    boolean verify(final String key, final String timestamp, final String nonce, final long now) {
         // convert timestamp to milliseconds since epoch to deal with uniformly
         final long stamp = timestampUnit.toMillis(longValue(timestamp));
 
-        if (mapSize + 1 > maximumMapSize) {
+        if (!reserve()) {
             gc(now);
-            if (mapSize + 1 > maximumMapSize) {
+            if (!reserve()) {
                 // cannot keep another nonce (prevents exhausting memory)
                 return false;
             }
@@ -134,33 +189,23 @@ final class NonceManager {
 
         // invalid timestamp supplied; automatically invalid
         if (stamp + maxAge < now || stamp - maxAge > now) {
+            mapSize.decrementAndGet();
             return false;
         }
 
-        Map<String, Set<String>> keyToNonces = tsToKeyNoncePairs.get(stamp);
-        if (keyToNonces == null) {
-            keyToNonces = new HashMap<>();
-            tsToKeyNoncePairs.put(stamp, keyToNonces);
-        }
-
-        Set<String> nonces = keyToNonces.get(key);
-        if (nonces == null) {
-            nonces = new HashSet<>();
-            keyToNonces.put(key, nonces);
-        }
-
-        final boolean result = nonces.add(nonce);
-        if (result) {
-            mapSize++;
+        final int result = segments[segmentIndex(key)].add(stamp, key, nonce);
+        if (result != STORED) {
+            // nonce not kept, release the reserved place
+            mapSize.decrementAndGet();
         }
 
         // perform garbage collection if counter is up to established number of passes
-        if (++gcCounter >= gcPeriod) {
+        if (gcCounter.incrementAndGet() >= gcPeriod) {
             gc(now);
         }
 
         // returns false if nonce already encountered for given timestamp
-        return result;
+        return result != DUPLICATE;
     }
 
     /**
@@ -172,7 +217,8 @@ final class NonceManager {
      * @param nonce     the oauth_nonce value for a given consumer request.
      * @return true if the timestamp/nonce are valid.
      */
-    public synchronized boolean verify(final String key, final String timestamp, final String nonce) {
+    @Override
+    public boolean verify(final String key, final String timestamp, final String nonce) {
         return verify(key, timestamp, nonce, System.currentTimeMillis());
     }
 
@@ -183,15 +229,19 @@ final class NonceManager {
      * @param now milliseconds since epoch representing "now"
      */
     void gc(final long now) {
-        gcCounter = 0;
-        final SortedMap<Long, Map<String, Set<String>>> headMap = tsToKeyNoncePairs.headMap(now - maxAge);
-        for (final Map.Entry<Long, Map<String, Set<String>>> entry : headMap.entrySet()) {
-            for (final Map.Entry<String, Set<String>> timeEntry : entry.getValue().entrySet()) {
-                mapSize -= timeEntry.getValue().size();
-            }
+        if (!collecting.compareAndSet(false, true)) {
+            // another thread is already collecting
+            return;
         }
 
-        headMap.clear();
+        try {
+            gcCounter.set(0);
+            for (final Segment segment : segments) {
+                mapSize.addAndGet(-segment.expire(now - maxAge));
+            }
+        } finally {
+            collecting.set(false);
+        }
     }
 
     /**
@@ -200,11 +250,30 @@ final class NonceManager {
      */
     long checkAndGetSize() {
         long size = 0;
-        for (final Map<String, Set<String>> keyToNonces : tsToKeyNoncePairs.values()) {
-            size += keyToNonces.values().size();
+        for (final Segment segment : segments) {
+            for (final Bucket bucket : segment.buckets.values()) {
+                size += bucket.nonces.size();
+            }
         }
-        assert mapSize == size;
-        return mapSize;
+        assert mapSize.get() == size;
+        return mapSize.get();
+    }
+
+    private boolean reserve() {
+        for (;;) {
+            final long size = mapSize.get();
+            if (size + 1 > maximumMapSize) {
+                return false;
+            }
+            if (mapSize.compareAndSet(size, size + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private int segmentIndex(final String key) {
+        final int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (segments.length - 1);
     }
 
     private static long longValue(final String value) {
@@ -214,5 +283,108 @@ final class NonceManager {
             return -1;
         }
     }
-}
 
+    /**
+     * Nonces of the keys belonging to the segment, bucketed by timestamp.
+     */
+    private static final class Segment {
+
+        private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+        /**
+         * Add the key-nonce pair to the bucket of the timestamp.
+         *
+         * @return {@link #STORED} if the pair has been stored, {@link #DUPLICATE} if it is already known or
+         * {@link #EXPIRED} if the bucket has been expired concurrently and the pair is not tracked anymore.
+         */
+        int add(final long stamp, final String key, final String nonce) {
+            Bucket bucket = buckets.get(stamp);
+            if (bucket == null) {
+                final Bucket newBucket = new Bucket();
+                bucket = buckets.putIfAbsent(stamp, newBucket);
+                if (bucket == null) {
+                    bucket = newBucket;
+                }
+            }
+
+            if (!bucket.nonces.add(new KeyNonce(key, nonce))) {
+                return DUPLICATE;
+            }
+            return bucket.count() ? STORED : EXPIRED;
+        }
+
+        /**
+         * Remove buckets of timestamps lower than the given limit.
+         *
+         * @return number of removed stored key-nonce pairs.
+         */
+        long expire(final long limit) {
+            long removed = 0;
+            Map.Entry<Long, Bucket> entry;
+            while ((entry = buckets.firstEntry()) != null && entry.getKey() < limit) {
+                removed += entry.getValue().expire();
+                buckets.remove(entry.getKey(), entry.getValue());
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Key-nonce pairs received with a single timestamp.
+     */
+    private static final class Bucket {
+
+        private static final int EXPIRED_SIZE = -1;
+
+        private final Set<KeyNonce> nonces = Collections.newSetFromMap(new ConcurrentHashMap<KeyNonce, Boolean>());
+        /**
+         * Number of stored pairs, {@link #EXPIRED_SIZE} once the bucket has been expired.
+         */
+        private final AtomicInteger size = new AtomicInteger();
+
+        boolean count() {
+            for (;;) {
+                final int current = size.get();
+                if (current == EXPIRED_SIZE) {
+                    return false;
+                }
+                if (size.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        int expire() {
+            final int stored = size.getAndSet(EXPIRED_SIZE);
+            return stored == EXPIRED_SIZE ? 0 : stored;
+        }
+    }
+
+    private static final class KeyNonce {
+
+        private final String key;
+        private final String nonce;
+
+        private KeyNonce(final String key, final String nonce) {
+            this.key = key;
+            this.nonce = nonce;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof KeyNonce)) {
+                return false;
+            }
+            final KeyNonce other = (KeyNonce) o;
+            return key.equals(other.key) && nonce.equals(other.nonce);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + nonce.hashCode();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.server.oauth1;
+
+import org.glassfish.jersey.spi.Contract;
+
+/**
+ * Contract for a store that keeps track of the nonces received with OAuth requests in order to
+ * detect replayed requests.
+ * <p>
+ * By default, the {@link OAuth1ServerFeature OAuth 1 server support} uses an in-memory store configured
+ * by {@link OAuth1ServerProperties#MAX_AGE}, {@link OAuth1ServerProperties#GC_PERIOD},
+ * {@link OAuth1ServerProperties#TIMESTAMP_UNIT} and {@link OAuth1ServerProperties#MAX_NONCE_CACHE_SIZE}
+ * properties. A custom implementation, e.g. one backed by an external key-value store shared by
+ * several servers, can be registered as a standard provider.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ *
+ * @since 2.17
+ */
+@Contract
+public interface OAuth1NonceStore {
+
+    /**
+     * Evaluate the timestamp/nonce combination for validity and remember the nonce, so that
+     * a subsequent request with the same key, timestamp and nonce is refused.
+     *
+     * @param key       the key the nonce is tracked for, derived from the {@code oauth_consumer_key} or
+     *                  the {@code oauth_token} value of the request.
+     * @param timestamp the {@code oauth_timestamp} value of the request.
+     * @param nonce     the {@code oauth_nonce} value of the request.
+     * @return {@code true} if the timestamp/nonce combination is valid and has not been used before,
+     * {@code false} otherwise.
+     */
+    boolean verify(String key, String timestamp, String nonce);
+}
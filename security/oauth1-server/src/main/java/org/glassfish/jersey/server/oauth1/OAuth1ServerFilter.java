@@ -45,6 +45,7 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -64,8 +65,11 @@ import org.glassfish.jersey.oauth1.signature.OAuth1Secrets;
 import org.glassfish.jersey.oauth1.signature.OAuth1Signature;
 import org.glassfish.jersey.oauth1.signature.OAuth1SignatureException;
 import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.internal.BackgroundScheduler;
 import org.glassfish.jersey.server.oauth1.internal.OAuthServerRequest;
 
+import org.glassfish.hk2.api.ServiceLocator;
+
 
 /**
  * OAuth request filter that filters all requests indicating in the Authorization
@@ -84,7 +88,7 @@ class OAuth1ServerFilter implements ContainerRequestFilter {
     private OAuth1Provider provider;
 
     /** Manages and validates incoming nonces. */
-    private final NonceManager nonces;
+    private final OAuth1NonceStore nonces;
 
     /** Value to return in www-authenticate header when 401 response returned. */
     private final String wwwAuthenticateHeader;
@@ -107,9 +111,12 @@ class OAuth1ServerFilter implements ContainerRequestFilter {
     /**
      * Create a new filter.
      * @param rc Resource config.
+     * @param locator Service locator used to look up a custom {@link OAuth1NonceStore nonce store}.
+     * @param scheduler Scheduler used to collect expired nonces of the default nonce store in the background.
      */
     @Inject
-    public OAuth1ServerFilter(Configuration rc) {
+    public OAuth1ServerFilter(Configuration rc, ServiceLocator locator,
+                              @BackgroundScheduler ScheduledExecutorService scheduler) {
         // establish supported OAuth protocol versions
         HashSet<String> v = new HashSet<String>();
         v.add(null);
@@ -133,7 +140,8 @@ class OAuth1ServerFilter implements ContainerRequestFilter {
         final int maxCacheSize = OAuth1ServerProperties.getValue(rc.getProperties(), OAuth1ServerProperties.MAX_NONCE_CACHE_SIZE,
                 2000000);
 
-        nonces = new NonceManager(maxAge, gcPeriod, timeUnit, maxCacheSize);
+        final OAuth1NonceStore customNonces = locator.getService(OAuth1NonceStore.class);
+        nonces = customNonces != null ? customNonces : new NonceManager(maxAge, gcPeriod, timeUnit, maxCacheSize, scheduler);
 
         // www-authenticate header for the life of the object
         wwwAuthenticateHeader = "OAuth realm=\"" + realm + "\"";
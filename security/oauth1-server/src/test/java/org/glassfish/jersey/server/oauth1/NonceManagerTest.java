@@ -41,6 +41,12 @@
 package org.glassfish.jersey.server.oauth1;
 
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
@@ -206,4 +212,41 @@ public class NonceManagerTest {
         assertFalse(nonces.verify("a", "1", "1", 300000));
         assertEquals(3, nonces.checkAndGetSize());
     }
+
+    @Test
+    public void testConcurrentVerification() throws Exception {
+        final NonceManager nonces = new NonceManager(100000, 100, TimeUnit.SECONDS, 2000000);
+        final String stamp = stamp();
+        final int threads = 8;
+        final int perThread = 1000;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int accepted = 0;
+                        for (int i = 0; i < perThread; i++) {
+                            // every thread tries the same nonces - each one must be accepted exactly once
+                            if (nonces.verify("key-" + (i % 10), stamp, Integer.toString(i))) {
+                                accepted++;
+                            }
+                        }
+                        return accepted;
+                    }
+                }));
+            }
+
+            int accepted = 0;
+            for (final Future<Integer> result : results) {
+                accepted += result.get();
+            }
+            assertEquals(perThread, accepted);
+            assertEquals(perThread, nonces.checkAndGetSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,261 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.spi.ExceptionMappers;
+import org.glassfish.jersey.spi.ExtendedExceptionMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link ExceptionMappers exception mapper} look-up for exceptions with shallow and deep class hierarchies
+ * in an application with a number of registered exception mappers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 8, time = 1)
+@State(Scope.Benchmark)
+public class ExceptionMapperBenchmark {
+
+    public static class DeepException0 extends RuntimeException {
+
+        public DeepException0(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException1 extends DeepException0 {
+
+        public DeepException1(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException2 extends DeepException1 {
+
+        public DeepException2(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException3 extends DeepException2 {
+
+        public DeepException3(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException4 extends DeepException3 {
+
+        public DeepException4(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException5 extends DeepException4 {
+
+        public DeepException5(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException6 extends DeepException5 {
+
+        public DeepException6(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException7 extends DeepException6 {
+
+        public DeepException7(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException8 extends DeepException7 {
+
+        public DeepException8(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException9 extends DeepException8 {
+
+        public DeepException9(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException10 extends DeepException9 {
+
+        public DeepException10(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException11 extends DeepException10 {
+
+        public DeepException11(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException12 extends DeepException11 {
+
+        public DeepException12(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException13 extends DeepException12 {
+
+        public DeepException13(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException14 extends DeepException13 {
+
+        public DeepException14(final String message) {
+            super(message);
+        }
+    }
+
+    public static class DeepException15 extends DeepException14 {
+
+        public DeepException15(final String message) {
+            super(message);
+        }
+    }
+
+    public static class RuntimeExceptionMapper implements ExceptionMapper<RuntimeException> {
+
+        @Override
+        public Response toResponse(final RuntimeException exception) {
+            return Response.serverError().build();
+        }
+    }
+
+    public static class NotFoundMapper implements ExceptionMapper<NotFoundException> {
+
+        @Override
+        public Response toResponse(final NotFoundException exception) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+    }
+
+    public static class DeepExceptionMapper implements ExceptionMapper<DeepException0> {
+
+        @Override
+        public Response toResponse(final DeepException0 exception) {
+            return Response.status(Response.Status.CONFLICT).build();
+        }
+    }
+
+    public static class MiddleExceptionMapper implements ExtendedExceptionMapper<DeepException8> {
+
+        @Override
+        public boolean isMappable(final DeepException8 exception) {
+            return "mappable".equals(exception.getMessage());
+        }
+
+        @Override
+        public Response toResponse(final DeepException8 exception) {
+            return Response.status(Response.Status.GONE).build();
+        }
+    }
+
+    private static final NotFoundException NOT_FOUND = new NotFoundException();
+    private static final DeepException15 DEEP_MAPPABLE = new DeepException15("mappable");
+    private static final DeepException15 DEEP_NOT_MAPPABLE = new DeepException15("other");
+    private static final IllegalStateException UNRELATED = new IllegalStateException();
+
+    private ExceptionMappers mappers;
+
+    @Setup
+    public void setUp() {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(
+                RuntimeExceptionMapper.class,
+                NotFoundMapper.class,
+                DeepExceptionMapper.class,
+                MiddleExceptionMapper.class));
+        mappers = handler.getServiceLocator().getService(ExceptionMappers.class);
+    }
+
+    @Benchmark
+    public ExceptionMapper<?> shallowHierarchy() {
+        return mappers.findMapping(NOT_FOUND);
+    }
+
+    @Benchmark
+    public ExceptionMapper<?> unrelatedException() {
+        return mappers.findMapping(UNRELATED);
+    }
+
+    @Benchmark
+    public ExceptionMapper<?> deepHierarchy() {
+        return mappers.findMapping(DEEP_NOT_MAPPABLE);
+    }
+
+    @Benchmark
+    public ExceptionMapper<?> deepHierarchyExtendedMapper() {
+        return mappers.findMapping(DEEP_MAPPABLE);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.benchmarks;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NameBinding;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of global and name-bound request and response filter chains.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 8, time = 1)
+@State(Scope.Benchmark)
+public class FilterChainBenchmark {
+
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    public static @interface Bound {
+    }
+
+    @Path("filtered")
+    public static class Resource {
+
+        @GET
+        public String global() {
+            return "get";
+        }
+
+        @GET
+        @Path("bound")
+        @Bound
+        public String bound() {
+            return "bound";
+        }
+    }
+
+    public abstract static class CountingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) throws IOException {
+            requestContext.setProperty(getClass().getName(), Boolean.TRUE);
+        }
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext)
+                throws IOException {
+            responseContext.getHeaders().add("X-Filter", requestContext.getProperty(getClass().getName()));
+        }
+    }
+
+    public static class Filter1 extends CountingFilter {
+    }
+
+    public static class Filter2 extends CountingFilter {
+    }
+
+    public static class Filter3 extends CountingFilter {
+    }
+
+    public static class Filter4 extends CountingFilter {
+    }
+
+    @Bound
+    public static class BoundFilter1 extends CountingFilter {
+    }
+
+    @Bound
+    public static class BoundFilter2 extends CountingFilter {
+    }
+
+    @Bound
+    public static class BoundFilter3 extends CountingFilter {
+    }
+
+    @Bound
+    public static class BoundFilter4 extends CountingFilter {
+    }
+
+    private static final Class<?>[] GLOBAL_FILTERS = {Filter1.class, Filter2.class, Filter3.class, Filter4.class};
+    private static final Class<?>[] BOUND_FILTERS = {BoundFilter1.class, BoundFilter2.class, BoundFilter3.class,
+            BoundFilter4.class};
+
+    private static final URI BASE_URI = URI.create("http://localhost/");
+    private static final URI GLOBAL_URI = URI.create("http://localhost/filtered");
+    private static final URI BOUND_URI = URI.create("http://localhost/filtered/bound");
+
+    @Param({"0", "1", "4"})
+    private int filters;
+
+    private ApplicationHandler handler;
+
+    @Setup
+    public void setUp() {
+        final ResourceConfig config = new ResourceConfig(Resource.class);
+        for (int i = 0; i < filters; i++) {
+            config.register(GLOBAL_FILTERS[i]);
+            config.register(BOUND_FILTERS[i]);
+        }
+        handler = new ApplicationHandler(config);
+    }
+
+    @Benchmark
+    public ContainerResponse globalFilters() throws Exception {
+        return handler.apply(new ContainerRequest(BASE_URI, GLOBAL_URI, "GET", null, new MapPropertiesDelegate())).get();
+    }
+
+    @Benchmark
+    public ContainerResponse globalAndBoundFilters() throws Exception {
+        return handler.apply(new ContainerRequest(BASE_URI, BOUND_URI, "GET", null, new MapPropertiesDelegate())).get();
+    }
+}
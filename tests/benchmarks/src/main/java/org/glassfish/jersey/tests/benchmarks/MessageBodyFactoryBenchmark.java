@@ -0,0 +1,115 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link MessageBodyWorkers message body reader and writer} lookup for common entity types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 8, time = 1)
+@State(Scope.Benchmark)
+public class MessageBodyFactoryBenchmark {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+    private static final GenericType<List<String>> LIST_TYPE = new GenericType<List<String>>() {};
+
+    private MessageBodyWorkers workers;
+
+    @Setup
+    public void setUp() {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig());
+        workers = handler.getServiceLocator().getService(MessageBodyWorkers.class);
+    }
+
+    @Benchmark
+    public MessageBodyWriter<String> stringWriter() {
+        return workers.getMessageBodyWriter(String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Benchmark
+    public MessageBodyReader<String> stringReader() {
+        return workers.getMessageBodyReader(String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Benchmark
+    public MessageBodyWriter<byte[]> byteArrayWriter() {
+        return workers.getMessageBodyWriter(byte[].class, byte[].class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_OCTET_STREAM_TYPE);
+    }
+
+    @Benchmark
+    public MessageBodyWriter<Object> wildcardWriter() {
+        return workers.getMessageBodyWriter(Object.class, Object.class, NO_ANNOTATIONS, MediaType.WILDCARD_TYPE);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public MessageBodyWriter<List<String>> missingWriter() {
+        return workers.getMessageBodyWriter((Class<List<String>>) LIST_TYPE.getRawType(), LIST_TYPE.getType(),
+                NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.container.ContainerRequestContext;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the request routing overhead in an application with a configurable number of resources,
+ * with and without the literal-prefix path index ({@link ServerProperties#ROUTING_PATH_INDEX_ENABLED}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 8, time = 1)
+@State(Scope.Benchmark)
+public class RoutingBenchmark {
+
+    private static final URI BASE_URI = URI.create("http://localhost/");
+
+    @Param({"10", "100", "1000"})
+    private int resources;
+
+    @Param({"false", "true"})
+    private boolean pathIndex;
+
+    private ApplicationHandler handler;
+    private URI firstUri;
+    private URI lastUri;
+    private URI notFoundUri;
+
+    @Setup
+    public void setUp() {
+        final Inflector<ContainerRequestContext, String> inflector = new Inflector<ContainerRequestContext, String>() {
+            @Override
+            public String apply(final ContainerRequestContext requestContext) {
+                return "get";
+            }
+        };
+
+        final ResourceConfig config = new ResourceConfig()
+                .property(ServerProperties.ROUTING_PATH_INDEX_ENABLED, pathIndex);
+        for (int i = 0; i < resources; i++) {
+            final Resource.Builder builder = Resource.builder("resource" + i);
+            builder.addMethod("GET").produces("text/plain").handledBy(inflector);
+            builder.addChildResource("{id}").addMethod("GET").produces("text/plain").handledBy(inflector);
+            config.registerResources(builder.build());
+        }
+        handler = new ApplicationHandler(config);
+
+        firstUri = URI.create("http://localhost/resource0/42");
+        lastUri = URI.create("http://localhost/resource" + (resources - 1) + "/42");
+        notFoundUri = URI.create("http://localhost/missing/42");
+    }
+
+    @Benchmark
+    public ContainerResponse firstResource() throws Exception {
+        return handler.apply(new ContainerRequest(BASE_URI, firstUri, "GET", null, new MapPropertiesDelegate())).get();
+    }
+
+    @Benchmark
+    public ContainerResponse lastResource() throws Exception {
+        return handler.apply(new ContainerRequest(BASE_URI, lastUri, "GET", null, new MapPropertiesDelegate())).get();
+    }
+
+    @Benchmark
+    public ContainerResponse notFound() throws Exception {
+        return handler.apply(new ContainerRequest(BASE_URI, notFoundUri, "GET", null, new MapPropertiesDelegate())).get();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Future;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.message.internal.OutboundMessageContext;
+
+import jersey.repackaged.com.google.common.util.concurrent.MoreExecutors;
+
+/**
+ * Provider of stub {@link Connector connectors} that do not perform any I/O. The connectors consume the request entity
+ * and return a fixed in-memory response. Benchmarks use the stub connectors to measure the client-side processing
+ * overhead without the network latency.
+ */
+public class StubConnectorProvider implements ConnectorProvider {
+
+    private final String contentType;
+    private final byte[] entity;
+
+    /**
+     * Create a provider of stub connectors that respond with {@code 200 OK} and the given entity.
+     *
+     * @param contentType content type of the response entity.
+     * @param entity      response entity bytes; the array is not copied.
+     */
+    public StubConnectorProvider(final String contentType, final byte[] entity) {
+        this.contentType = contentType;
+        this.entity = entity;
+    }
+
+    @Override
+    public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+        return new StubConnector();
+    }
+
+    private class StubConnector implements Connector {
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            if (request.hasEntity()) {
+                request.setStreamProvider(new OutboundMessageContext.StreamProvider() {
+                    @Override
+                    public OutputStream getOutputStream(final int contentLength) throws IOException {
+                        return new ByteArrayOutputStream();
+                    }
+                });
+                try {
+                    request.writeEntity();
+                } catch (final IOException e) {
+                    throw new ProcessingException(e);
+                }
+            }
+
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.header(HttpHeaders.CONTENT_TYPE, contentType);
+            // the stream does not support marking, same as the network streams provided by real connectors
+            response.setEntityStream(new FilterInputStream(new ByteArrayInputStream(entity)) {
+                @Override
+                public boolean markSupported() {
+                    return false;
+                }
+            });
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            return MoreExecutors.sameThreadExecutor().submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        callback.response(apply(request));
+                    } catch (final Throwable t) {
+                        callback.failure(t);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public String getName() {
+            return "stub-connector";
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+}
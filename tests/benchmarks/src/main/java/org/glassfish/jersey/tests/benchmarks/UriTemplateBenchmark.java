@@ -0,0 +1,122 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.benchmarks;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.uri.UriTemplate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link UriTemplate} parsing, matching and URI building.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 8, time = 1)
+@State(Scope.Benchmark)
+public class UriTemplateBenchmark {
+
+    private static final String TEMPLATE = "/customers/{customerId}/orders/{orderId: [0-9]+}/items/{item}";
+    private static final String PATH = "/customers/jdoe/orders/1234/items/book";
+
+    private UriTemplate template;
+    private Map<String, String> values;
+
+    @Setup
+    public void setUp() {
+        template = new UriTemplate(TEMPLATE);
+        values = new HashMap<>();
+        values.put("customerId", "jdoe");
+        values.put("orderId", "1234");
+        values.put("item", "book");
+    }
+
+    @Benchmark
+    public UriTemplate parse() {
+        return new UriTemplate(TEMPLATE);
+    }
+
+    @Benchmark
+    public Map<String, String> matchToMap() {
+        final Map<String, String> result = new HashMap<>();
+        template.match(PATH, result);
+        return result;
+    }
+
+    @Benchmark
+    public List<String> matchToList() {
+        final List<String> result = new ArrayList<>();
+        template.match(PATH, result);
+        return result;
+    }
+
+    @Benchmark
+    public String buildFromMap() {
+        return template.createURI(values);
+    }
+
+    @Benchmark
+    public String buildFromValues() {
+        return template.createURI("jdoe", "1234", "book");
+    }
+
+    @Benchmark
+    public URI buildStatic() {
+        return URI.create(UriTemplate.createURI("http", null, null, "localhost", "8080", TEMPLATE, null, null, values,
+                true, false));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.e2e.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.server.Broadcaster;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+import jersey.repackaged.com.google.common.collect.Lists;
+
+/**
+ * Tests {@link Broadcaster} writing to the registered outputs using an executor: chunks broadcast in a quick
+ * succession must not get interleaved or reordered even though the writes of a single output are requested
+ * from multiple executor threads.
+ */
+public class AsyncBroadcasterTest extends JerseyTest {
+
+    private static final int CHUNK_COUNT = 500;
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private static final Broadcaster<Message> broadcaster = new Broadcaster<Message>(false, executor);
+
+    public static class Message {
+
+        private final String text;
+
+        public Message(final String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Writes the message byte by byte to give concurrent writes a chance to interleave.
+     */
+    public static class MessageWriter implements MessageBodyWriter<Message> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return type == Message.class;
+        }
+
+        @Override
+        public long getSize(final Message message, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType) {
+            return -1;
+        }
+
+        @Override
+        public void writeTo(final Message message, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType,
+                            final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream)
+                throws IOException, WebApplicationException {
+            for (final byte b : message.text.getBytes()) {
+                entityStream.write(b);
+                Thread.yield();
+            }
+        }
+    }
+
+    @Path("/test")
+    public static class MyResource {
+
+        @GET
+        @Produces("text/plain")
+        public ChunkedOutput<Message> get() {
+            final ChunkedOutput<Message> result = new ChunkedOutput<Message>(Message.class, "\n");
+
+            // write something to ensure the client does not get blocked on waiting for the first byte
+            try {
+                result.write(new Message("first"));
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+
+            broadcaster.add(result);
+            return result;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(MyResource.class, MessageWriter.class);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testChunksIntactAndInOrder() throws IOException {
+        final InputStream is1 = getChunkStream();
+        final InputStream is2 = getChunkStream();
+
+        final List<String> expected = Lists.newArrayList("first");
+        for (int i = 0; i < CHUNK_COUNT; i++) {
+            final String text = "message-" + i + "-abcdefghijklmnopqrstuvwxyz";
+            expected.add(text);
+            broadcaster.broadcast(new Message(text));
+        }
+        broadcaster.closeAll();
+
+        assertEquals(expected, readLines(is1));
+        assertEquals(expected, readLines(is2));
+    }
+
+    private InputStream getChunkStream() {
+        return target("test").request().get(InputStream.class);
+    }
+
+    private static List<String> readLines(final InputStream is) throws IOException {
+        final List<String> lines = Lists.newArrayList();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(is));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } finally {
+            reader.close();
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.e2e.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.jdkhttp.JdkHttpServerProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.simple.SimpleContainerFactory;
+import org.glassfish.jersey.simple.SimpleServer;
+import org.glassfish.jersey.test.DeploymentContext;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.jdkhttp.JdkHttpServerTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainer;
+import org.glassfish.jersey.test.spi.TestContainerException;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests asynchronous request suspension in the JDK HTTP and Simple containers. Both containers are configured to use
+ * a single worker thread, so that a suspended request must release its worker thread for other requests to be served.
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ContainerAsyncTest.JdkHttpContainerTest.class, ContainerAsyncTest.SimpleContainerTest.class})
+public class ContainerAsyncTest {
+
+    @Path("async")
+    public static class AsyncResource {
+
+        private static final BlockingQueue<AsyncResponse> SUSPENDED = new LinkedBlockingQueue<AsyncResponse>();
+
+        @GET
+        public void suspend(@Suspended final AsyncResponse asyncResponse) {
+            SUSPENDED.add(asyncResponse);
+        }
+
+        @POST
+        public String resume(final String message) throws InterruptedException {
+            final AsyncResponse asyncResponse = SUSPENDED.poll(10, TimeUnit.SECONDS);
+            asyncResponse.resume(message);
+            return "resumed";
+        }
+
+        @GET
+        @Path("timeout")
+        public void timeout(@Suspended final AsyncResponse asyncResponse) {
+            asyncResponse.setTimeout(200, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public abstract static class AbstractContainerTest extends JerseyTest {
+
+        @Override
+        protected Application configure() {
+            return new ResourceConfig(AsyncResource.class);
+        }
+
+        @Test
+        public void testSuspendResume() throws Exception {
+            final Future<Response> suspended = target("async").request().async().get();
+            final Response resumed = target("async").request().post(Entity.text("hello"));
+
+            assertEquals("resumed", resumed.readEntity(String.class));
+            final Response response = suspended.get(10, TimeUnit.SECONDS);
+            assertEquals(200, response.getStatus());
+            assertEquals("hello", response.readEntity(String.class));
+        }
+
+        @Test
+        public void testTimeout() throws Exception {
+            assertEquals(503, target("async/timeout").request().get().getStatus());
+        }
+    }
+
+    public static class JdkHttpContainerTest extends AbstractContainerTest {
+
+        @Override
+        protected Application configure() {
+            return new ResourceConfig(AsyncResource.class).property(JdkHttpServerProperties.MAX_THREADS, 1);
+        }
+
+        @Override
+        protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
+            return new JdkHttpServerTestContainerFactory();
+        }
+    }
+
+    public static class SimpleContainerTest extends AbstractContainerTest {
+
+        @Override
+        protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
+            return new TestContainerFactory() {
+                @Override
+                public TestContainer create(final URI baseUri, final DeploymentContext context) {
+                    return new SingleWorkerSimpleContainer(baseUri, context);
+                }
+            };
+        }
+    }
+
+    /**
+     * Simple test container with a single worker thread.
+     */
+    private static class SingleWorkerSimpleContainer implements TestContainer {
+
+        private final DeploymentContext context;
+        private URI baseUri;
+        private SimpleServer server;
+
+        private SingleWorkerSimpleContainer(final URI baseUri, final DeploymentContext context) {
+            this.baseUri = baseUri;
+            this.context = context;
+        }
+
+        @Override
+        public ClientConfig getClientConfig() {
+            return null;
+        }
+
+        @Override
+        public URI getBaseUri() {
+            return baseUri;
+        }
+
+        @Override
+        public void start() {
+            server = SimpleContainerFactory.create(baseUri, context.getResourceConfig(), 1, 1);
+            if (baseUri.getPort() == 0) {
+                baseUri = UriBuilder.fromUri(baseUri).port(server.getPort()).build();
+            }
+        }
+
+        @Override
+        public void stop() {
+            try {
+                server.close();
+            } catch (final IOException e) {
+                throw new TestContainerException(e);
+            }
+        }
+    }
+}
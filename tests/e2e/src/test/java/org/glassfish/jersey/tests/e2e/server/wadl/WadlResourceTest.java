@@ -65,7 +65,9 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Form;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 import javax.xml.XMLConstants;
@@ -116,6 +118,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import com.sun.research.ws.wadl.Method;
@@ -384,6 +388,38 @@ public class WadlResourceTest {
             assertTrue(r.getHeaders().containsKey("Last-modified"));
         }
 
+        @Test
+        public void testEntityTagGET() {
+            final WebTarget target = target("/application.wadl");
+
+            final Response first = target.request().get();
+            final EntityTag tag = first.getEntityTag();
+            assertNotNull(tag);
+            assertFalse(tag.isWeak());
+
+            final Response second = target.request().get();
+            assertEquals(tag, second.getEntityTag());
+            assertEquals(first.readEntity(String.class), second.readEntity(String.class));
+
+            final Response notModified = target.request().header(HttpHeaders.IF_NONE_MATCH, tag).get();
+            assertEquals(304, notModified.getStatus());
+
+            final Response detailed = target.queryParam(WadlUtils.DETAILED_WADL_QUERY_PARAM, "true").request().get();
+            assertFalse(tag.equals(detailed.getEntityTag()));
+        }
+
+        @Test
+        public void testEntityTagOPTIONS() {
+            final Response first = target("/widgets/3/verbose").request(MediaTypes.WADL_TYPE).options();
+            final Response second = target("/widgets/3/verbose").request(MediaTypes.WADL_TYPE).options();
+            final Response other = target("/widgets/4/verbose").request(MediaTypes.WADL_TYPE).options();
+
+            assertNotNull(first.getEntityTag());
+            assertEquals(first.getEntityTag(), second.getEntityTag());
+            assertEquals(first.readEntity(String.class), second.readEntity(String.class));
+            assertFalse(first.getEntityTag().equals(other.getEntityTag()));
+        }
+
         @Test
         public void testOptionsResourceWadl() throws ParserConfigurationException, XPathExpressionException, IOException,
                 SAXException {
@@ -0,0 +1,223 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package org.glassfish.jersey.tests.e2e.sse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.media.sse.EventListener;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.EventSource;
+import org.glassfish.jersey.media.sse.InboundEvent;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.Test;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link EventSource event sources} sharing a single {@link EventSource.Builder#scheduler(ScheduledExecutorService)
+ * scheduler}.
+ */
+public class EventSourceSharedSchedulerTest extends JerseyTest {
+
+    private static final int SOURCE_COUNT = 3;
+    private static final int MSG_COUNT = 5;
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(SseResource.class, SseFeature.class);
+    }
+
+    @Path("events")
+    public static class SseResource {
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public EventOutput getServerSentEvents() {
+            final EventOutput eventOutput = new EventOutput();
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < MSG_COUNT; i++) {
+                            eventOutput.write(new OutboundEvent.Builder()
+                                    .mediaType(MediaType.TEXT_PLAIN_TYPE)
+                                    .data(Integer.class, i)
+                                    .build());
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException("Error when writing the event.", e);
+                    } finally {
+                        try {
+                            eventOutput.close();
+                        } catch (IOException ioClose) {
+                            throw new RuntimeException("Error when closing the event output.", ioClose);
+                        }
+                    }
+                }
+            }).start();
+            return eventOutput;
+        }
+    }
+
+    @Test
+    public void testSharedScheduler() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(SOURCE_COUNT);
+        try {
+            final List<EventSource> sources = new ArrayList<>();
+            final List<CountDownLatch> latches = new ArrayList<>();
+            for (int i = 0; i < SOURCE_COUNT; i++) {
+                final CountDownLatch latch = new CountDownLatch(MSG_COUNT);
+                final EventSource source = EventSource.target(target().path("events"))
+                        .scheduler(scheduler)
+                        .reconnectingEvery(1, TimeUnit.MINUTES)
+                        .build();
+                source.register(new EventListener() {
+                    @Override
+                    public void onEvent(final InboundEvent inboundEvent) {
+                        latch.countDown();
+                    }
+                });
+                sources.add(source);
+                latches.add(latch);
+            }
+
+            for (final EventSource source : sources) {
+                source.open();
+            }
+            for (final CountDownLatch latch : latches) {
+                assertTrue("Not all events received.", latch.await(5 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+            }
+
+            // the event sources are waiting for a scheduled reconnect now
+            for (final EventSource source : sources) {
+                assertTrue("Event source not closed in time.", source.close(5, TimeUnit.SECONDS));
+                assertFalse(source.isOpen());
+            }
+            assertFalse("Shared scheduler must not be shut down by event sources.", scheduler.isShutdown());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOpenFailsOnSaturatedScheduler() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            // occupy the only scheduler thread as an open connection of another event source would do
+            scheduler.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    release.await();
+                    return null;
+                }
+            });
+
+            final EventSource source = EventSource.target(eventsTarget()).scheduler(scheduler).build();
+            final long start = System.currentTimeMillis();
+            try {
+                source.open();
+                fail("ProcessingException expected.");
+            } catch (final ProcessingException expected) {
+                // expected
+            }
+            assertTrue("Opening the event source has not failed fast.",
+                    System.currentTimeMillis() - start < 5000 * getAsyncTimeoutMultiplier());
+            assertFalse(source.isOpen());
+
+            release.countDown();
+            assertTrue("Event source not closed in time.", source.close(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOpenFromSchedulerThread() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        try {
+            final EventSource source = EventSource.target(eventsTarget()).scheduler(scheduler).build();
+
+            // the event source cannot start connecting until the only scheduler thread is released
+            final Exception exception = scheduler.submit(new Callable<Exception>() {
+                @Override
+                public Exception call() throws Exception {
+                    try {
+                        source.open();
+                        return null;
+                    } catch (final ProcessingException e) {
+                        return e;
+                    }
+                }
+            }).get(5 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS);
+
+            assertTrue("ProcessingException expected.", exception instanceof ProcessingException);
+            assertFalse(source.isOpen());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private WebTarget eventsTarget() {
+        return target().path("events").property(ClientProperties.CONNECT_TIMEOUT, 500);
+    }
+}